@@ -0,0 +1,81 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell.bench;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import backtype.storm.multilang.ISerializer;
+import backtype.storm.task.TopologyContext;
+
+import com.github.jsgilmore.protoshell.ProtoShellConfig;
+
+/**
+ * Time taken by the Context/Pid handshake for topologies of different sizes.
+ * After the first invocation, the protoshell serialiser takes the shared part
+ * of the Context from its cache by the identity of the conf and task mapping,
+ * as all but the first task of an executor do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConnectBenchmark {
+	@Param({ShellStreams.PROTO, ShellStreams.JSON})
+	public String serializer;
+
+	@Param({"10", "1000"})
+	public int tasks;
+
+	@Param({"false", "true"})
+	public boolean compactTasks;
+
+	private Map<String, Object> conf;
+	private TopologyContext context;
+	private byte[] pid;
+
+	@Setup
+	public void setUp() throws Exception {
+		conf = ShellStreams.conf();
+		for (int i = 0; i < 100; i++) {
+			conf.put("bench.conf." + i, "value-" + i);
+		}
+		conf.put(ProtoShellConfig.COMPACT_TASK_MAPPINGS, compactTasks);
+		context = ShellStreams.topologyContext(conf, tasks);
+		pid = ShellStreams.pid(serializer);
+	}
+
+	@Benchmark
+	public Number connect() throws Exception {
+		ISerializer shell = ShellStreams.newSerializer(serializer);
+		shell.initialize(new ShellStreams.DiscardOutputStream(), new ByteArrayInputStream(pid));
+		return shell.connect(conf, context);
+	}
+}
@@ -0,0 +1,84 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell.bench;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import backtype.storm.multilang.ISerializer;
+import backtype.storm.multilang.SpoutMsg;
+
+/**
+ * Throughput of the control messages: spout polls and acks, and the task ids
+ * sent back after an emit.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ControlBenchmark {
+	@Param({ShellStreams.PROTO, ShellStreams.JSON})
+	public String serializer;
+
+	private ISerializer writer;
+	private SpoutMsg next;
+	private SpoutMsg ack;
+	private List<Integer> taskIds;
+
+	@Setup
+	public void setUp() throws Exception {
+		writer = ShellStreams.connect(serializer, ShellStreams.conf(), new ShellStreams.DiscardOutputStream(), new byte[] {0});
+
+		// ShellSpout polls with an empty id
+		next = new SpoutMsg();
+		next.setCommand("next");
+		next.setId("");
+		ack = new SpoutMsg();
+		ack.setCommand("ack");
+		ack.setId("8142387741532543452");
+		taskIds = Arrays.asList(4, 5, 6);
+	}
+
+	@Benchmark
+	public void writeSpoutNext() throws IOException {
+		writer.writeSpoutMsg(next);
+	}
+
+	@Benchmark
+	public void writeSpoutAck() throws IOException {
+		writer.writeSpoutMsg(ack);
+	}
+
+	@Benchmark
+	public void writeTaskIds() throws IOException {
+		writer.writeTaskIds(taskIds);
+	}
+}
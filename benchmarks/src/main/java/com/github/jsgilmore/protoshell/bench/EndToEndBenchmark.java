@@ -0,0 +1,164 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell.bench;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import backtype.storm.multilang.BoltMsg;
+import backtype.storm.multilang.NoOutputException;
+import backtype.storm.multilang.ShellMsg;
+import backtype.storm.multilang.SpoutMsg;
+
+import com.github.jsgilmore.protoshell.ProtoSerializer;
+import com.github.jsgilmore.protoshell.ProtoShellConfig;
+
+/**
+ * Round trips through a FakeShell, on a thread or in a child JVM. Each bolt
+ * invocation writes a window of tuples and reads back the emit and ack for
+ * every one of them, the way ShellBolt's writer and reader threads would.
+ * Spout invocations poll for one emit, once with a next/sync round trip and
+ * once from a spout streaming against SPOUT_CREDITS.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EndToEndBenchmark {
+	@Param({"thread", "process"})
+	public String shell;
+
+	@Param({"16", "1024"})
+	public int payloadSize;
+
+	@Param({"1", "16"})
+	public int window;
+
+	@Param({"false", "true"})
+	public boolean batch;
+
+	private ProtoSerializer bolt;
+	private ProtoSerializer spout;
+	private ProtoSerializer creditedSpout;
+	private boolean creditedPolling;
+	private List<Process> processes = new ArrayList<Process>();
+	private BoltMsg boltMsg;
+	private SpoutMsg next;
+
+	@Setup
+	public void setUp() throws Exception {
+		Map<String, Object> conf = ShellStreams.conf();
+		conf.put(ProtoShellConfig.BOLT_BATCH, batch);
+		conf.put(ProtoShellConfig.SHELL_BATCH, batch);
+		// A full window is flushed at once rather than after the linger time
+		conf.put(ProtoShellConfig.BOLT_BATCH_MAX_TUPLES, window);
+
+		bolt = new ProtoSerializer();
+		start(new FakeShell(FakeShell.Mode.BOLT).payloadSize(payloadSize), bolt);
+		bolt.connect(conf, ShellStreams.topologyContext(conf, 16));
+		spout = new ProtoSerializer();
+		start(new FakeShell(FakeShell.Mode.SPOUT).payloadSize(payloadSize), spout);
+		spout.connect(conf, ShellStreams.topologyContext(conf, 16));
+		Map<String, Object> creditConf = new HashMap<String, Object>(conf);
+		creditConf.put(ProtoShellConfig.SPOUT_CREDITS, true);
+		creditedSpout = new ProtoSerializer();
+		start(new FakeShell(FakeShell.Mode.SPOUT).payloadSize(payloadSize), creditedSpout);
+		creditedSpout.connect(creditConf, ShellStreams.topologyContext(creditConf, 16));
+
+		List<Object> tuple = new ArrayList<Object>();
+		tuple.add(new byte[payloadSize]);
+		boltMsg = new BoltMsg();
+		boltMsg.setId("-8142387741532543452");
+		boltMsg.setComp("spout");
+		boltMsg.setStream("default");
+		boltMsg.setTask(3);
+		boltMsg.setTuple(tuple);
+		next = new SpoutMsg();
+		next.setCommand("next");
+		next.setId("");
+	}
+
+	private void start(FakeShell fakeShell, ProtoSerializer serializer) throws IOException {
+		if ("process".equals(shell)) {
+			processes.add(fakeShell.startProcess(serializer));
+		} else {
+			fakeShell.startThread(serializer);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		for (Process process : processes) {
+			process.destroy();
+		}
+	}
+
+	@Benchmark
+	public ShellMsg boltRoundTrip() throws IOException, NoOutputException {
+		for (int i = 0; i < window; i++) {
+			bolt.writeBoltMsg(boltMsg);
+		}
+		ShellMsg last = null;
+		for (int i = 0; i < 2 * window; i++) {
+			last = bolt.readShellMsg();
+		}
+		return last;
+	}
+
+	@Benchmark
+	public ShellMsg spoutNext() throws IOException, NoOutputException {
+		spout.writeSpoutMsg(next);
+		ShellMsg msg;
+		do {
+			msg = spout.readShellMsg();
+		} while (!"sync".equals(msg.getCommand()));
+		return msg;
+	}
+
+	@Benchmark
+	public ShellMsg creditedSpoutNext() throws IOException, NoOutputException {
+		// Each invocation takes one emit, polling again whenever a poll is synced
+		while (true) {
+			if (!creditedPolling) {
+				creditedSpout.writeSpoutMsg(next);
+				creditedPolling = true;
+			}
+			ShellMsg msg = creditedSpout.readShellMsg();
+			if (!"sync".equals(msg.getCommand())) {
+				return msg;
+			}
+			creditedPolling = false;
+		}
+	}
+}
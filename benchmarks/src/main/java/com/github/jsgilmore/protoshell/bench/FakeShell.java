@@ -0,0 +1,388 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell.bench;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import backtype.storm.multilang.ISerializer;
+
+import com.github.jsgilmore.protoshell.ShellMessages;
+import com.google.protobuf.ByteString;
+
+/**
+ * A shell component that speaks the protoshell protocol, for end-to-end runs
+ * without a real multilang binary. It reads the Context, replies with a Pid,
+ * and then either answers each bolt tuple with an anchored emit and an ack,
+ * or answers each spout "next" with an emit and a sync. With SPOUT_CREDITS, the
+ * spout instead streams an emit for every credit it is granted.
+ *
+ * The shell runs on a thread connected to the serialiser through pipes, or as
+ * a child JVM over the process's stdin and stdout:
+ *
+ *	java -cp ... com.github.jsgilmore.protoshell.bench.FakeShell bolt 1024 4 50000
+ */
+public class FakeShell implements Runnable {
+	public enum Mode {
+		BOLT, SPOUT
+	}
+
+	private static final int PIPE_SIZE = 1 << 20;
+
+	private final Mode mode;
+	private int payloadSize = 16;
+	private int fields = 1;
+	private long emitsPerSecond;
+	private EnumSet<ShellMessages.Capability> accepted = EnumSet.of(ShellMessages.Capability.BOLT_BATCH,
+			ShellMessages.Capability.SHELL_BATCH, ShellMessages.Capability.INTERNED_STRINGS,
+			ShellMessages.Capability.NUMERIC_IDS, ShellMessages.Capability.ACK_BATCH,
+			ShellMessages.Capability.SPOUT_CREDITS);
+
+	private InputStream in;
+	private OutputStream out;
+	private EnumSet<ShellMessages.Capability> capabilities = EnumSet.noneOf(ShellMessages.Capability.class);
+	private List<ByteString> contents;
+	private Map<String, Integer> dictionary = new HashMap<String, Integer>();
+	private long nextEmitNanos;
+	private long spoutIds;
+	private volatile Throwable error;
+
+	public FakeShell(Mode mode) {
+		this.mode = mode;
+	}
+
+	/**
+	 * The size in bytes of each emitted tuple field.
+	 */
+	public FakeShell payloadSize(int payloadSize) {
+		this.payloadSize = payloadSize;
+		return this;
+	}
+
+	/**
+	 * The number of fields in each emitted tuple.
+	 */
+	public FakeShell fields(int fields) {
+		this.fields = fields;
+		return this;
+	}
+
+	/**
+	 * The maximum emit rate, or 0 to emit as fast as possible.
+	 */
+	public FakeShell emitsPerSecond(long emitsPerSecond) {
+		this.emitsPerSecond = emitsPerSecond;
+		return this;
+	}
+
+	/**
+	 * The capabilities accepted if offered. BOLT_BATCH, SHELL_BATCH,
+	 * INTERNED_STRINGS, NUMERIC_IDS, ACK_BATCH and SPOUT_CREDITS by default.
+	 */
+	public FakeShell accept(ShellMessages.Capability... capabilities) {
+		accepted = EnumSet.noneOf(ShellMessages.Capability.class);
+		for (ShellMessages.Capability capability : capabilities) {
+			accepted.add(capability);
+		}
+		return this;
+	}
+
+	/**
+	 * The error that stopped the shell, if any.
+	 */
+	public Throwable getError() {
+		return error;
+	}
+
+	/**
+	 * Connects the serialiser to this shell over pipes and starts the shell
+	 * on a daemon thread. The serialiser's connect() is left to the caller.
+	 */
+	public Thread startThread(ISerializer serializer) throws IOException {
+		PipedInputStream shellIn = new PipedInputStream(PIPE_SIZE);
+		PipedInputStream workerIn = new PipedInputStream(PIPE_SIZE);
+		serializer.initialize(new PipedOutputStream(shellIn), workerIn);
+		this.in = shellIn;
+		this.out = new PipedOutputStream(workerIn);
+
+		Thread thread = new Thread(this, "fake-shell-" + mode.name().toLowerCase());
+		thread.setDaemon(true);
+		thread.start();
+		return thread;
+	}
+
+	/**
+	 * Connects the serialiser to this shell running in a child JVM, started
+	 * with the current JVM's class path. The serialiser's connect() is left
+	 * to the caller.
+	 */
+	public Process startProcess(ISerializer serializer) throws IOException {
+		String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+		ProcessBuilder builder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+				FakeShell.class.getName(), mode.name().toLowerCase(),
+				Integer.toString(payloadSize), Integer.toString(fields), Long.toString(emitsPerSecond));
+		builder.redirectError(ProcessBuilder.Redirect.INHERIT);
+		Process process = builder.start();
+		serializer.initialize(process.getOutputStream(), process.getInputStream());
+		return process;
+	}
+
+	public void run() {
+		try {
+			serve(in, out);
+		} catch (Throwable e) {
+			error = e;
+		}
+	}
+
+	/**
+	 * Speaks the shell side of the protocol until the worker closes the stream.
+	 */
+	public void serve(InputStream in, OutputStream out) throws IOException {
+		in = new BufferedInputStream(in);
+		out = new BufferedOutputStream(out);
+		contents = new ArrayList<ByteString>();
+		for (int i = 0; i < fields; i++) {
+			contents.add(ByteString.copyFrom(new byte[payloadSize]));
+		}
+
+		ShellMessages.Context context = ShellMessages.Context.parseDelimitedFrom(in);
+		if (context == null) {
+			return;
+		}
+		for (ShellMessages.Capability capability : context.getCapabilitiesList()) {
+			if (accepted.contains(capability)) {
+				capabilities.add(capability);
+			}
+		}
+		if (capabilities.contains(ShellMessages.Capability.INTERNED_STRINGS)) {
+			for (int i = 0; i < context.getDictionaryCount(); i++) {
+				dictionary.put(context.getDictionary(i), i);
+			}
+		}
+		ShellMessages.Pid.newBuilder()
+				.setPid(pid())
+				.addAllCapabilities(capabilities)
+				.build().writeDelimitedTo(out);
+		out.flush();
+
+		nextEmitNanos = System.nanoTime();
+		if (mode == Mode.BOLT) {
+			serveBolt(in, out);
+		} else {
+			serveSpout(in, out);
+		}
+	}
+
+	private void serveBolt(InputStream in, OutputStream out) throws IOException {
+		List<ShellMessages.ShellMsgProto> replies = new ArrayList<ShellMessages.ShellMsgProto>();
+		while (true) {
+			List<ShellMessages.BoltMsgProto> tuples;
+			if (capabilities.contains(ShellMessages.Capability.BOLT_BATCH)) {
+				ShellMessages.BoltMsgBatch batch = ShellMessages.BoltMsgBatch.parseDelimitedFrom(in);
+				if (batch == null) {
+					return;
+				}
+				tuples = batch.getBoltMsgsList();
+			} else {
+				ShellMessages.BoltMsgProto tuple = ShellMessages.BoltMsgProto.parseDelimitedFrom(in);
+				if (tuple == null) {
+					return;
+				}
+				tuples = Collections.singletonList(tuple);
+			}
+
+			// With ACK_BATCH, the acks for a frame follow its emits in one AckBatch
+			boolean batchAcks = capabilities.contains(ShellMessages.Capability.ACK_BATCH);
+			ShellMessages.AckBatch.Builder acks = ShellMessages.AckBatch.newBuilder();
+			for (ShellMessages.BoltMsgProto tuple : tuples) {
+				ShellMessages.BoltMsgMeta meta = tuple.getBoltMsgMeta();
+				if ("__heartbeat".equals(meta.getStream())) {
+					replies.add(reply(command("sync")));
+					continue;
+				}
+				pace();
+				ShellMessages.ShellMsgMeta.Builder emit = emit();
+				ShellMessages.ShellMsgMeta.Builder ack = command("ack");
+				if (meta.hasNumId()) {
+					emit.addNumAnchors(meta.getNumId());
+					ack.setNumId(meta.getNumId());
+					acks.addNumAckIds(meta.getNumId());
+				} else {
+					emit.addAnchors(meta.getId());
+					ack.setId(meta.getId());
+					acks.addAckIds(meta.getId());
+				}
+				replies.add(tuple(emit));
+				if (!batchAcks) {
+					replies.add(reply(ack));
+				}
+			}
+			if (batchAcks && (acks.getNumAckIdsCount() > 0 || acks.getAckIdsCount() > 0)) {
+				replies.add(ShellMessages.ShellMsgProto.newBuilder().setAckBatch(acks).build());
+			}
+			writeReplies(replies, out);
+			replies.clear();
+		}
+	}
+
+	private void serveSpout(InputStream in, OutputStream out) throws IOException {
+		List<ShellMessages.ShellMsgProto> replies = new ArrayList<ShellMessages.ShellMsgProto>();
+		while (true) {
+			ShellMessages.SpoutMsg msg = ShellMessages.SpoutMsg.parseDelimitedFrom(in);
+			if (msg == null) {
+				return;
+			}
+			if (capabilities.contains(ShellMessages.Capability.SPOUT_CREDITS)) {
+				// Credits are spent without waiting for polls, and nothing is synced
+				for (int i = 0; i < msg.getCredits(); i++) {
+					replies.add(spoutEmit());
+					if (replies.size() == 100) {
+						writeReplies(replies, out);
+						replies.clear();
+					}
+				}
+				if (!replies.isEmpty()) {
+					writeReplies(replies, out);
+					replies.clear();
+				}
+				continue;
+			}
+			if ("next".equals(msg.getCommand())) {
+				replies.add(spoutEmit());
+			}
+			replies.add(reply(command("sync")));
+			writeReplies(replies, out);
+			replies.clear();
+		}
+	}
+
+	private ShellMessages.ShellMsgProto spoutEmit() {
+		pace();
+		ShellMessages.ShellMsgMeta.Builder emit = emit();
+		if (capabilities.contains(ShellMessages.Capability.NUMERIC_IDS)) {
+			emit.setNumId(++spoutIds);
+		} else {
+			emit.setId(Long.toString(++spoutIds));
+		}
+		return tuple(emit);
+	}
+
+	private ShellMessages.ShellMsgMeta.Builder emit() {
+		ShellMessages.ShellMsgMeta.Builder meta = command("emit").setNeedTaskIds(false);
+		Integer streamId = dictionary.get("default");
+		if (streamId == null) {
+			meta.setStream("default");
+		} else {
+			meta.setStreamId(streamId);
+		}
+		return meta;
+	}
+
+	private ShellMessages.ShellMsgMeta.Builder command(String command) {
+		ShellMessages.ShellMsgMeta.Builder meta = ShellMessages.ShellMsgMeta.newBuilder();
+		Integer commandId = dictionary.get(command);
+		if (commandId == null) {
+			meta.setCommand(command);
+		} else {
+			meta.setCommandId(commandId);
+		}
+		return meta;
+	}
+
+	private static ShellMessages.ShellMsgProto reply(ShellMessages.ShellMsgMeta.Builder meta) {
+		return ShellMessages.ShellMsgProto.newBuilder().setShellMsgMeta(meta).build();
+	}
+
+	private ShellMessages.ShellMsgProto tuple(ShellMessages.ShellMsgMeta.Builder meta) {
+		return ShellMessages.ShellMsgProto.newBuilder()
+				.setShellMsgMeta(meta)
+				.addAllContents(contents)
+				.build();
+	}
+
+	private void writeReplies(List<ShellMessages.ShellMsgProto> replies, OutputStream out) throws IOException {
+		if (capabilities.contains(ShellMessages.Capability.SHELL_BATCH)) {
+			ShellMessages.ShellMsgBatch.newBuilder().addAllShellMsgs(replies).build().writeDelimitedTo(out);
+		} else {
+			for (ShellMessages.ShellMsgProto reply : replies) {
+				reply.writeDelimitedTo(out);
+			}
+		}
+		out.flush();
+	}
+
+	/**
+	 * Holds each emit back until it is due at the configured rate.
+	 */
+	private void pace() {
+		if (emitsPerSecond <= 0) {
+			return;
+		}
+		long now = System.nanoTime();
+		if (nextEmitNanos - now > 0) {
+			LockSupport.parkNanos(nextEmitNanos - now);
+		} else if (now - nextEmitNanos > TimeUnit.SECONDS.toNanos(1)) {
+			// Don't burst to catch up after a long stall
+			nextEmitNanos = now;
+		}
+		nextEmitNanos += TimeUnit.SECONDS.toNanos(1) / emitsPerSecond;
+	}
+
+	private static int pid() {
+		String name = ManagementFactory.getRuntimeMXBean().getName();
+		try {
+			return Integer.parseInt(name.substring(0, name.indexOf('@')));
+		} catch (RuntimeException e) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Usage: FakeShell bolt|spout [payloadSize] [fields] [emitsPerSecond]
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length < 1) {
+			System.err.println("Usage: FakeShell bolt|spout [payloadSize] [fields] [emitsPerSecond]");
+			System.exit(1);
+		}
+		FakeShell shell = new FakeShell(Mode.valueOf(args[0].toUpperCase()));
+		if (args.length > 1) {
+			shell.payloadSize(Integer.parseInt(args[1]));
+		}
+		if (args.length > 2) {
+			shell.fields(Integer.parseInt(args[2]));
+		}
+		if (args.length > 3) {
+			shell.emitsPerSecond(Long.parseLong(args[3]));
+		}
+		shell.serve(System.in, System.out);
+	}
+}
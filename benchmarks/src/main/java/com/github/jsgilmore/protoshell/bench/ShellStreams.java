@@ -0,0 +1,187 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell.bench;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import backtype.storm.multilang.ISerializer;
+import backtype.storm.multilang.JsonSerializer;
+import backtype.storm.task.TopologyContext;
+
+import com.github.jsgilmore.protoshell.ProtoSerializer;
+import com.github.jsgilmore.protoshell.ShellMessages;
+import com.google.protobuf.ByteString;
+
+/**
+ * In-memory stand-ins for a shell process's streams, for the protoshell and
+ * the Storm JSON serialisers.
+ */
+public class ShellStreams {
+	public static final String PROTO = "proto";
+	public static final String JSON = "json";
+
+	/**
+	 * Plays back a prefix once and then repeats a frame forever.
+	 */
+	public static class ReplayInputStream extends InputStream {
+		private final byte[] prefix;
+		private final byte[] frame;
+		private long position;
+
+		public ReplayInputStream(byte[] prefix, byte[] frame) {
+			this.prefix = prefix;
+			this.frame = frame;
+		}
+
+		@Override
+		public int read() {
+			byte[] b = new byte[1];
+			read(b, 0, 1);
+			return b[0] & 0xff;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) {
+			byte[] source;
+			int index;
+			if (position < prefix.length) {
+				source = prefix;
+				index = (int)position;
+			} else {
+				source = frame;
+				index = (int)((position - prefix.length) % frame.length);
+			}
+			int n = Math.min(len, source.length - index);
+			System.arraycopy(source, index, b, off, n);
+			position += n;
+			return n;
+		}
+	}
+
+	/**
+	 * Discards everything written to it.
+	 */
+	public static class DiscardOutputStream extends OutputStream {
+		@Override
+		public void write(int b) {
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+		}
+	}
+
+	public static ISerializer newSerializer(String type) {
+		if (PROTO.equals(type)) {
+			return new ProtoSerializer();
+		} else if (JSON.equals(type)) {
+			return new JsonSerializer();
+		}
+		throw new IllegalArgumentException("Unknown serializer " + type);
+	}
+
+	public static TopologyContext topologyContext(Map conf, int tasks) {
+		Map<Integer, String> taskToComponent = new HashMap<Integer, String>();
+		List<Integer> workerTasks = new ArrayList<Integer>();
+		for (int task = 1; task <= tasks; task++) {
+			// Storm numbers each component's tasks consecutively
+			taskToComponent.put(task, "component-" + ((task - 1) * 10 / tasks));
+			workerTasks.add(task);
+		}
+		return new TopologyContext(null, conf, taskToComponent, null, null, "bench-1-1", null,
+				System.getProperty("java.io.tmpdir"), 1, 6700, workerTasks, null, null, null, null, null);
+	}
+
+	public static Map<String, Object> conf() {
+		Map<String, Object> conf = new HashMap<String, Object>();
+		conf.put("topology.name", "bench");
+		conf.put("topology.workers", 1);
+		return conf;
+	}
+
+	/**
+	 * The shell's reply to the Context.
+	 */
+	public static byte[] pid(String type) throws IOException {
+		if (PROTO.equals(type)) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			ShellMessages.Pid.newBuilder().setPid(1234).build().writeDelimitedTo(out);
+			return out.toByteArray();
+		}
+		return "{\"pid\": 1234}\nend\n".getBytes("UTF-8");
+	}
+
+	/**
+	 * An anchored emit as the shell would send it.
+	 */
+	public static byte[] emit(String type, int fields, int payloadSize) throws IOException {
+		if (PROTO.equals(type)) {
+			ShellMessages.ShellMsgProto.Builder emit = ShellMessages.ShellMsgProto.newBuilder()
+					.setShellMsgMeta(ShellMessages.ShellMsgMeta.newBuilder()
+							.setCommand("emit")
+							.setStream("default")
+							.addAnchors("-8142387741532543452"));
+			for (int i = 0; i < fields; i++) {
+				emit.addContents(ByteString.copyFrom(payload(payloadSize)));
+			}
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			emit.build().writeDelimitedTo(out);
+			return out.toByteArray();
+		}
+		StringBuilder json = new StringBuilder("{\"command\": \"emit\", \"stream\": \"default\", \"anchors\": [\"-8142387741532543452\"], \"tuple\": [");
+		for (int i = 0; i < fields; i++) {
+			json.append(i == 0 ? "\"" : ", \"").append(textPayload(payloadSize)).append('"');
+		}
+		return json.append("]}\nend\n").toString().getBytes("UTF-8");
+	}
+
+	/**
+	 * A tuple field of the given size, as each serialiser expects it.
+	 */
+	public static Object field(String type, int payloadSize) {
+		return PROTO.equals(type) ? payload(payloadSize) : textPayload(payloadSize);
+	}
+
+	private static byte[] payload(int size) {
+		byte[] payload = new byte[size];
+		Arrays.fill(payload, (byte)'a');
+		return payload;
+	}
+
+	private static String textPayload(int size) {
+		char[] payload = new char[size];
+		Arrays.fill(payload, 'a');
+		return new String(payload);
+	}
+
+	/**
+	 * A serialiser that has completed the handshake and then reads the given
+	 * shell output forever.
+	 */
+	public static ISerializer connect(String type, Map conf, OutputStream processIn, byte[] shellOutput) throws Exception {
+		ISerializer serializer = newSerializer(type);
+		serializer.initialize(processIn, new ReplayInputStream(pid(type), shellOutput));
+		serializer.connect(conf, topologyContext(conf, 16));
+		return serializer;
+	}
+}
@@ -0,0 +1,90 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell.bench;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import backtype.storm.multilang.BoltMsg;
+import backtype.storm.multilang.ISerializer;
+import backtype.storm.multilang.NoOutputException;
+import backtype.storm.multilang.ShellMsg;
+
+/**
+ * Throughput of the tuple paths: writing a bolt tuple to the shell and
+ * reading an emitted tuple back, for a range of field counts and sizes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TupleBenchmark {
+	@Param({ShellStreams.PROTO, ShellStreams.JSON})
+	public String serializer;
+
+	@Param({"1", "4", "16"})
+	public int fields;
+
+	@Param({"16", "1024", "65536"})
+	public int payloadSize;
+
+	private ISerializer writer;
+	private ISerializer reader;
+	private BoltMsg boltMsg;
+
+	@Setup
+	public void setUp() throws Exception {
+		writer = ShellStreams.connect(serializer, ShellStreams.conf(), new ShellStreams.DiscardOutputStream(), new byte[] {0});
+		reader = ShellStreams.connect(serializer, ShellStreams.conf(), new ShellStreams.DiscardOutputStream(),
+				ShellStreams.emit(serializer, fields, payloadSize));
+
+		List<Object> tuple = new ArrayList<Object>();
+		for (int i = 0; i < fields; i++) {
+			tuple.add(ShellStreams.field(serializer, payloadSize));
+		}
+		boltMsg = new BoltMsg();
+		boltMsg.setId("-8142387741532543452");
+		boltMsg.setComp("spout");
+		boltMsg.setStream("default");
+		boltMsg.setTask(3);
+		boltMsg.setTuple(tuple);
+	}
+
+	@Benchmark
+	public void writeBoltMsg() throws IOException {
+		writer.writeBoltMsg(boltMsg);
+	}
+
+	@Benchmark
+	public ShellMsg readShellMsg() throws IOException, NoOutputException {
+		return reader.readShellMsg();
+	}
+}
@@ -0,0 +1,173 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.log4j.Logger;
+
+import com.google.protobuf.Message;
+
+/**
+ * Writes frames to the shell on a dedicated thread. Storm's threads only
+ * enqueue messages, and block while the queued messages exceed the message or
+ * byte budget. The writer thread writes whatever is queued without flushing in
+ * between, and flushes whenever the queue runs empty, so messages that queue
+ * up behind a slow shell are coalesced into fewer, larger writes.
+ *
+ * Once a write fails, or the serialiser closes the writer because the shell
+ * process is gone, the writer thread stops, and the error is rethrown to
+ * every caller from then on.
+ */
+class AsyncWriter implements Runnable {
+	public static Logger LOG = Logger.getLogger(AsyncWriter.class);
+
+	private final ProtoSerializer serializer;
+	private final SerializerMetrics metrics;
+	private final int maxMessages;
+	private final long maxBytes;
+	private final Thread thread;
+
+	private final ConcurrentLinkedQueue<Object> queue = new ConcurrentLinkedQueue<Object>();
+	private final AtomicInteger queuedMessages = new AtomicInteger();
+	private final AtomicLong queuedBytes = new AtomicLong();
+	private final Object budgetLock = new Object();
+	private volatile int waiting;
+	private volatile IOException error;
+	private volatile boolean closed;
+
+	AsyncWriter(ProtoSerializer serializer, SerializerMetrics metrics, String name, int maxMessages, long maxBytes) {
+		this.serializer = serializer;
+		this.metrics = metrics;
+		this.maxMessages = Math.max(1, maxMessages);
+		this.maxBytes = Math.max(1, maxBytes);
+		this.thread = new Thread(this, name);
+		thread.setDaemon(true);
+	}
+
+	void start() {
+		thread.start();
+	}
+
+	/**
+	 * Stops the writer thread, dropping whatever is still queued. Callers
+	 * blocked on the budget, and later ones, get an IOException.
+	 */
+	void close() {
+		if (error == null) {
+			error = new IOException("Shell component closed");
+		}
+		closed = true;
+		LockSupport.unpark(thread);
+		synchronized (budgetLock) {
+			budgetLock.notifyAll();
+		}
+	}
+
+	Thread getThread() {
+		return thread;
+	}
+
+	/**
+	 * Queues a BoltMsgEncoder, ConstantFrame or Message, blocking while the queue is over budget.
+	 */
+	void enqueue(Object msg) throws IOException {
+		checkError();
+		queuedMessages.incrementAndGet();
+		queuedBytes.addAndGet(size(msg));
+		queue.add(msg);
+		LockSupport.unpark(thread);
+
+		if (overBudget()) {
+			awaitBudget();
+		}
+	}
+
+	private void awaitBudget() throws IOException {
+		long start = System.nanoTime();
+		synchronized (budgetLock) {
+			waiting++;
+			try {
+				while (overBudget() && error == null) {
+					budgetLock.wait();
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while waiting for the shell writer");
+			} finally {
+				waiting--;
+			}
+		}
+		if (metrics != null) {
+			metrics.add(SerializerMetrics.WRITE_BLOCKED_NANOS, System.nanoTime() - start);
+		}
+		checkError();
+	}
+
+	private boolean overBudget() {
+		return queuedMessages.get() > maxMessages || queuedBytes.get() > maxBytes;
+	}
+
+	private static int size(Object msg) {
+		if (msg instanceof BoltMsgEncoder) {
+			return ((BoltMsgEncoder)msg).getSerializedSize();
+		} else if (msg instanceof ConstantFrame) {
+			return ((ConstantFrame)msg).getFrame().length;
+		}
+		return ((Message)msg).getSerializedSize();
+	}
+
+	private void checkError() throws IOException {
+		if (error != null) {
+			throw error;
+		}
+	}
+
+	public void run() {
+		try {
+			while (!closed) {
+				Object msg = queue.poll();
+				if (msg == null) {
+					serializer.flushFrames();
+					// An enqueue after the poll leaves a permit, so nothing is missed
+					LockSupport.park(this);
+					continue;
+				}
+				serializer.writeFrame(msg);
+				queuedMessages.decrementAndGet();
+				queuedBytes.addAndGet(-size(msg));
+				if (waiting > 0 && !overBudget()) {
+					synchronized (budgetLock) {
+						budgetLock.notifyAll();
+					}
+				}
+			}
+		} catch (IOException e) {
+			LOG.error("Could not write to shell component", e);
+			error = e;
+		} catch (RuntimeException e) {
+			LOG.error("Could not write to shell component", e);
+			error = new IOException("Shell writer failed", e);
+		}
+		synchronized (budgetLock) {
+			budgetLock.notifyAll();
+		}
+	}
+}
@@ -0,0 +1,117 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Groups consecutive bolt tuples into BoltMsgBatch frames. A batch is written
+ * once it holds maxTuples tuples or maxBytes bytes, once its oldest tuple has
+ * waited lingerMicros, or when the serialiser flushes it before writing any
+ * other message. All methods must be called while holding the serialiser's
+ * monitor, which is also the lock the linger timer takes.
+ *
+ * With a lingerMicros of 0 there is no timer, and partially filled batches
+ * wait for flush(). The asynchronous writer flushes whenever it runs out of
+ * messages to write, and only it may call the batcher then.
+ */
+class BoltMsgBatcher {
+	public static Logger LOG = Logger.getLogger(BoltMsgBatcher.class);
+
+	private static final ScheduledExecutorService lingerTimer = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "protoshell-batch-linger");
+			thread.setDaemon(true);
+			return thread;
+		}
+	});
+
+	private final ProtoSerializer serializer;
+	private final int maxTuples;
+	private final int maxBytes;
+	private final long lingerMicros;
+
+	private List<BoltMsgEncoder> batch = new ArrayList<BoltMsgEncoder>();
+	private int batchBytes;
+	private long batchSeq;
+	private IOException lingerError;
+
+	BoltMsgBatcher(ProtoSerializer serializer, int maxTuples, int maxBytes, long lingerMicros) {
+		this.serializer = serializer;
+		this.maxTuples = Math.max(1, maxTuples);
+		this.maxBytes = Math.max(1, maxBytes);
+		this.lingerMicros = Math.max(0, lingerMicros);
+	}
+
+	void add(BoltMsgEncoder tuple) throws IOException {
+		checkLingerError();
+		int size = tuple.getSerializedSize();
+		if (!batch.isEmpty() && batchBytes + size > maxBytes) {
+			flush();
+		}
+		batch.add(tuple);
+		batchBytes += size;
+		if (batch.size() == 1 && lingerMicros > 0) {
+			scheduleLinger(batchSeq);
+		}
+		if (batch.size() >= maxTuples || batchBytes >= maxBytes) {
+			flush();
+		}
+	}
+
+	void flush() throws IOException {
+		checkLingerError();
+		if (batch.isEmpty()) {
+			return;
+		}
+		List<BoltMsgEncoder> tuples = batch;
+		batch = new ArrayList<BoltMsgEncoder>();
+		batchBytes = 0;
+		batchSeq++;
+		serializer.writeBoltMsgBatch(tuples);
+	}
+
+	private void scheduleLinger(final long seq) {
+		lingerTimer.schedule(new Runnable() {
+			public void run() {
+				synchronized (serializer) {
+					if (seq != batchSeq) {
+						return;
+					}
+					try {
+						flush();
+					} catch (IOException e) {
+						LOG.error("Could not write lingering bolt batch", e);
+						lingerError = e;
+					}
+				}
+			}
+		}, lingerMicros, TimeUnit.MICROSECONDS);
+	}
+
+	private void checkLingerError() throws IOException {
+		if (lingerError != null) {
+			throw lingerError;
+		}
+	}
+}
@@ -0,0 +1,141 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.IOException;
+import java.util.List;
+
+import backtype.storm.multilang.BoltMsg;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+/**
+ * Encodes a Storm BoltMsg in the BoltMsgProto wire format without building a
+ * BoltMsgProto. The tuple's byte[] or ByteString fields are written straight
+ * from the tuple into the output, so payloads are never copied on the heap.
+ */
+class BoltMsgEncoder {
+	private static final int META_FIELD = ShellMessages.BoltMsgProto.BOLTMSGMETA_FIELD_NUMBER;
+	private static final int CONTENTS_FIELD = ShellMessages.BoltMsgProto.CONTENTS_FIELD_NUMBER;
+	private static final int BATCH_FIELD = ShellMessages.BoltMsgBatch.BOLTMSGS_FIELD_NUMBER;
+
+	private final ShellMessages.BoltMsgMeta meta;
+	private final List<Object> tuple;
+	private final int serializedSize;
+	private final int gatheredSize;
+
+	/**
+	 * With a dictionary, the Comp and Stream names found in it are sent as
+	 * CompId and StreamId instead. With tuple ids, numeric ids are sent as
+	 * NumId instead of Id.
+	 */
+	BoltMsgEncoder(BoltMsg boltMsg, StringDictionary dictionary, TupleIds ids) {
+		ShellMessages.BoltMsgMeta.Builder metaBuilder = ShellMessages.BoltMsgMeta.newBuilder()
+				.setTask(boltMsg.getTask());
+		long numId = ids == null ? TupleIds.NOT_NUMERIC : ids.track(boltMsg.getId());
+		if (numId == TupleIds.NOT_NUMERIC) {
+			metaBuilder.setId(boltMsg.getId());
+		} else {
+			metaBuilder.setNumId(numId);
+		}
+		int compId = dictionary == null ? -1 : dictionary.indexOf(boltMsg.getComp());
+		if (compId < 0) {
+			metaBuilder.setComp(boltMsg.getComp());
+		} else {
+			metaBuilder.setCompId(compId);
+		}
+		int streamId = dictionary == null ? -1 : dictionary.indexOf(boltMsg.getStream());
+		if (streamId < 0) {
+			metaBuilder.setStream(boltMsg.getStream());
+		} else {
+			metaBuilder.setStreamId(streamId);
+		}
+		meta = metaBuilder.build();
+		tuple = boltMsg.getTuple();
+
+		int size = CodedOutputStream.computeMessageSize(META_FIELD, meta);
+		int gathered = 0;
+		for (Object field : tuple) {
+			int length = field instanceof ByteString ? ((ByteString)field).size() : ((byte[])field).length;
+			size += CodedOutputStream.computeTagSize(CONTENTS_FIELD)
+					+ CodedOutputStream.computeRawVarint32Size(length)
+					+ length;
+			if (FrameWriter.isGathered(length)) {
+				gathered += length;
+			}
+		}
+		serializedSize = size;
+		gatheredSize = gathered;
+	}
+
+	/**
+	 * The size of the encoded BoltMsgProto, without a length prefix.
+	 */
+	int getSerializedSize() {
+		return serializedSize;
+	}
+
+	/**
+	 * The number of payload bytes that FrameWriter writes straight from the tuple.
+	 */
+	int getGatheredSize() {
+		return gatheredSize;
+	}
+
+	/**
+	 * Writes the BoltMsgProto, without a length prefix.
+	 */
+	void writeTo(FrameWriter out) throws IOException {
+		out.coded().writeMessage(META_FIELD, meta);
+		for (Object field : tuple) {
+			out.coded().writeTag(CONTENTS_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+			if (field instanceof ByteString) {
+				ByteString bytes = (ByteString)field;
+				out.coded().writeRawVarint32(bytes.size());
+				out.writePayload(bytes);
+			} else {
+				byte[] bytes = (byte[])field;
+				out.coded().writeRawVarint32(bytes.length);
+				out.writePayload(bytes);
+			}
+		}
+	}
+
+	/**
+	 * The size of a BoltMsgBatch holding the given tuples, without a length prefix.
+	 */
+	static int batchSize(List<BoltMsgEncoder> tuples) {
+		int size = 0;
+		for (BoltMsgEncoder tuple : tuples) {
+			size += CodedOutputStream.computeTagSize(BATCH_FIELD)
+					+ CodedOutputStream.computeRawVarint32Size(tuple.serializedSize)
+					+ tuple.serializedSize;
+		}
+		return size;
+	}
+
+	/**
+	 * Writes a BoltMsgBatch holding the given tuples, without a length prefix.
+	 */
+	static void writeBatchTo(FrameWriter out, List<BoltMsgEncoder> tuples) throws IOException {
+		for (BoltMsgEncoder tuple : tuples) {
+			out.coded().writeTag(BATCH_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+			out.coded().writeRawVarint32(tuple.serializedSize);
+			tuple.writeTo(out);
+		}
+	}
+}
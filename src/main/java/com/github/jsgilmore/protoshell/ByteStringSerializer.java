@@ -0,0 +1,56 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.IOException;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.KryoException;
+import com.esotericsoftware.kryo.Serializer;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.ProtoShellByteString;
+
+/**
+ * A Kryo serializer for protocol buffer ByteStrings, so that tuples carrying
+ * ByteString fields can be sent between workers. The bytes are written
+ * straight from the ByteString and read into an array that is wrapped without
+ * a further copy.
+ *
+ * Use ProtoShellConfig.registerSerializations to register it for every
+ * ByteString implementation class.
+ */
+public class ByteStringSerializer extends Serializer<ByteString> {
+	public ByteStringSerializer() {
+		setImmutable(true);
+	}
+
+	@Override
+	public void write(Kryo kryo, Output output, ByteString bytes) {
+		output.writeInt(bytes.size(), true);
+		try {
+			bytes.writeTo(output);
+		} catch (IOException e) {
+			throw new KryoException(e);
+		}
+	}
+
+	@Override
+	public ByteString read(Kryo kryo, Input input, Class<ByteString> type) {
+		int size = input.readInt(true);
+		return ProtoShellByteString.wrap(input.readBytes(size), 0, size);
+	}
+}
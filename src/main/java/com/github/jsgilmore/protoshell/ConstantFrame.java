@@ -0,0 +1,52 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import com.google.protobuf.Message;
+
+/**
+ * A message that is always encoded the same way, encoded once with its length
+ * prefix. The encoded frame is shared by every serialiser in the worker and
+ * written as it is, so it must never be modified.
+ */
+class ConstantFrame {
+	private final Message message;
+	private final byte[] frame;
+
+	ConstantFrame(Message message) {
+		this.message = message;
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try {
+			message.writeDelimitedTo(out);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+		this.frame = out.toByteArray();
+	}
+
+	Message getMessage() {
+		return message;
+	}
+
+	/**
+	 * The encoded frame, including its length prefix.
+	 */
+	byte[] getFrame() {
+		return frame;
+	}
+}
@@ -0,0 +1,76 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A codec for the zlib format, at the fastest compression level.
+ */
+class DeflateCodec implements FrameCodec {
+	static final String NAME = "deflate";
+
+	private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+	private final Inflater inflater = new Inflater();
+
+	public String getName() {
+		return NAME;
+	}
+
+	public int maxCompressedLength(int length) {
+		// zlib's compressBound
+		return length + (length >> 12) + (length >> 14) + (length >> 25) + 13;
+	}
+
+	public int compress(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+		deflater.reset();
+		deflater.setInput(src, srcOffset, length);
+		deflater.finish();
+		int op = dstOffset;
+		int dstEnd = dstOffset + maxCompressedLength(length);
+		while (!deflater.finished()) {
+			int n = deflater.deflate(dst, op, dstEnd - op);
+			if (n == 0 && op == dstEnd) {
+				throw new IllegalStateException("Deflated data exceeds its bound");
+			}
+			op += n;
+		}
+		return op - dstOffset;
+	}
+
+	public void decompress(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset, int uncompressedLength) throws IOException {
+		inflater.reset();
+		inflater.setInput(src, srcOffset, length);
+		int op = dstOffset;
+		int dstEnd = dstOffset + uncompressedLength;
+		try {
+			while (!inflater.finished()) {
+				int n = inflater.inflate(dst, op, dstEnd - op);
+				if (n == 0 && (inflater.needsInput() || inflater.needsDictionary() || op == dstEnd)) {
+					break;
+				}
+				op += n;
+			}
+		} catch (DataFormatException e) {
+			throw new IOException("Malformed deflate block", e);
+		}
+		if (!inflater.finished() || op != dstEnd) {
+			throw new IOException("Malformed deflate block");
+		}
+	}
+}
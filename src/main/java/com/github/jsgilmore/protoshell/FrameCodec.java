@@ -0,0 +1,50 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.IOException;
+
+/**
+ * A block compression codec for CompressedFrames. Besides the built-in "lz4"
+ * and "deflate" codecs, any class implementing this interface with a public
+ * no-argument constructor can be listed in protoshell.compression.codecs.
+ *
+ * Each connection creates one instance for writing and one for reading, so
+ * implementations need not be thread safe.
+ */
+public interface FrameCodec {
+	/**
+	 * The name the codec is offered under in the Context and chosen by in the Pid.
+	 */
+	String getName();
+
+	/**
+	 * An upper bound on the compressed size of length bytes.
+	 */
+	int maxCompressedLength(int length);
+
+	/**
+	 * Compresses src[srcOffset, srcOffset + length) into dst at dstOffset,
+	 * which has room for at least maxCompressedLength(length) bytes, and
+	 * returns the compressed size.
+	 */
+	int compress(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset);
+
+	/**
+	 * Decompresses src[srcOffset, srcOffset + length) into exactly
+	 * uncompressedLength bytes at dst[dstOffset].
+	 */
+	void decompress(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset, int uncompressedLength) throws IOException;
+}
@@ -0,0 +1,128 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Parser;
+import com.google.protobuf.WireFormat;
+
+/**
+ * Reads varint delimited frames through a single buffered CodedInputStream,
+ * instead of setting up a new stream and parser state for every message.
+ *
+ * With a codec, every frame is read into an array first, and
+ * CompressedFrames are decompressed before they are parsed.
+ *
+ * With metrics, every frame's size and the time spent waiting for it to
+ * start are recorded.
+ *
+ * The reader buffers ahead, so it must be the only reader of its stream.
+ */
+class FrameReader {
+	private static final int SIZE_TAG = (ShellMessages.CompressedFrame.SIZE_FIELD_NUMBER << 3) | WireFormat.WIRETYPE_VARINT;
+	private static final int DATA_TAG = (ShellMessages.CompressedFrame.DATA_FIELD_NUMBER << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+
+	private final CodedInputStream in;
+	private FrameCodec codec;
+	private SerializerMetrics metrics;
+	private long frameStart;
+
+	FrameReader(InputStream in) {
+		this.in = CodedInputStream.newInstance(in);
+	}
+
+	void setCodec(FrameCodec codec) {
+		this.codec = codec;
+	}
+
+	void setMetrics(SerializerMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * When the size of the last frame was read, with metrics.
+	 */
+	long getFrameStart() {
+		return frameStart;
+	}
+
+	/**
+	 * Parses the next frame as a message of the given type.
+	 */
+	<T> T readMessage(Parser<T> parser) throws IOException {
+		if (codec != null) {
+			return parser.parseFrom(readFrame());
+		}
+		int limit = in.pushLimit(readFrameSize());
+		T message = parser.parseFrom(in);
+		in.popLimit(limit);
+		// The size limit counts every byte ever read, so it is reset per frame
+		in.resetSizeCounter();
+		return message;
+	}
+
+	/**
+	 * Reads the next frame into a new array.
+	 */
+	byte[] readFrame() throws IOException {
+		byte[] frame = in.readRawBytes(readFrameSize());
+		in.resetSizeCounter();
+		// Only a CompressedFrame starts with a byte that has its high bit set
+		if (codec != null && frame.length > 0 && frame[0] < 0) {
+			return decompress(frame);
+		}
+		return frame;
+	}
+
+	private byte[] decompress(byte[] frame) throws IOException {
+		CodedInputStream compressed = CodedInputStream.newInstance(frame);
+		int size = 0;
+		int dataOffset = 0;
+		int dataLength = 0;
+		int tag;
+		while ((tag = compressed.readTag()) != 0) {
+			if (tag == SIZE_TAG) {
+				size = compressed.readUInt32();
+			} else if (tag == DATA_TAG) {
+				dataLength = compressed.readRawVarint32();
+				dataOffset = compressed.getTotalBytesRead();
+				compressed.skipRawBytes(dataLength);
+			} else if (!compressed.skipField(tag)) {
+				break;
+			}
+		}
+		byte[] decompressed = new byte[size];
+		codec.decompress(frame, dataOffset, dataLength, decompressed, 0, size);
+		return decompressed;
+	}
+
+	private int readFrameSize() throws IOException {
+		long start = metrics == null ? 0 : System.nanoTime();
+		if (in.isAtEnd()) {
+			throw new RuntimeException("Shell process died");
+		}
+		int size = in.readRawVarint32();
+		if (metrics != null) {
+			frameStart = System.nanoTime();
+			metrics.add(SerializerMetrics.READ_WAIT_NANOS, frameStart - start);
+			metrics.frameRead(CodedOutputStream.computeRawVarint32Size(size) + size);
+		}
+		return size;
+	}
+}
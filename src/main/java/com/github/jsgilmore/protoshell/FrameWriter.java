@@ -0,0 +1,256 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.WireFormat;
+
+/**
+ * Writes varint delimited frames. Each frame's size is computed once, and the
+ * length prefix and body are encoded into a single pooled buffer of the right
+ * size, which is then handed to the output in one write before flushing.
+ *
+ * Tuple payload fields of at least GATHER_THRESHOLD bytes are not copied into
+ * the buffer. The frame is instead written as consecutive slices of the
+ * buffer with those payloads in between, straight from the tuple.
+ *
+ * With a codec, frames of at least the compression threshold are encoded
+ * whole, without gathering, and written as a CompressedFrame if that turns
+ * out smaller.
+ *
+ * With metrics, every frame's size and the time spent encoding and flushing
+ * it are recorded.
+ *
+ * The writer is not thread safe; the serialiser only uses it while holding
+ * its monitor.
+ */
+class FrameWriter {
+	static final int GATHER_THRESHOLD = 32 * 1024;
+
+	// Buffers larger than this are not kept between frames
+	private static final int MAX_POOLED_SIZE = 1 << 20;
+
+	// Room in front of compressed data for the frame and CompressedFrame headers
+	private static final int COMPRESSED_HEADER_ROOM = 20;
+	private static final int SIZE_FIELD = ShellMessages.CompressedFrame.SIZE_FIELD_NUMBER;
+	private static final int DATA_FIELD = ShellMessages.CompressedFrame.DATA_FIELD_NUMBER;
+
+	private final OutputStream out;
+	private byte[] pooled = new byte[4096];
+	private byte[] buffer;
+	private CodedOutputStream coded;
+	private int limit;
+	private int written;
+	private int frameOffset;
+
+	private boolean flushEachFrame = true;
+	private FrameCodec codec;
+	private int compressionThreshold;
+	private boolean compressing;
+	private byte[] pooledCompressed = new byte[0];
+
+	private SerializerMetrics metrics;
+	private int frameBytes;
+	private long frameStart;
+
+	FrameWriter(OutputStream out) {
+		this.out = out;
+	}
+
+	/**
+	 * Whether each frame is flushed once written. Without this, the frames
+	 * pile up in the output until flush() is called.
+	 */
+	void setFlushEachFrame(boolean flushEachFrame) {
+		this.flushEachFrame = flushEachFrame;
+	}
+
+	void flush() throws IOException {
+		if (metrics == null) {
+			out.flush();
+			return;
+		}
+		long start = System.nanoTime();
+		out.flush();
+		metrics.add(SerializerMetrics.FLUSH_NANOS, System.nanoTime() - start);
+	}
+
+	void setMetrics(SerializerMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	void setCodec(FrameCodec codec, int compressionThreshold) {
+		this.codec = codec;
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	static boolean isGathered(int payloadSize) {
+		return payloadSize >= GATHER_THRESHOLD;
+	}
+
+	void writeMessage(MessageLite msg) throws IOException {
+		int size = msg.getSerializedSize();
+		startFrame(size, 0);
+		msg.writeTo(coded);
+		endFrame();
+	}
+
+	/**
+	 * Writes a frame that was encoded in advance, length prefix included.
+	 */
+	void writeFrame(byte[] frame) throws IOException {
+		out.write(frame);
+		if (metrics != null) {
+			metrics.frameWritten(frame.length);
+		}
+		if (flushEachFrame) {
+			flush();
+		}
+	}
+
+	void writeBoltMsg(BoltMsgEncoder tuple) throws IOException {
+		startFrame(tuple.getSerializedSize(), tuple.getGatheredSize());
+		tuple.writeTo(this);
+		endFrame();
+	}
+
+	void writeBoltMsgBatch(List<BoltMsgEncoder> tuples) throws IOException {
+		int gathered = 0;
+		for (BoltMsgEncoder tuple : tuples) {
+			gathered += tuple.getGatheredSize();
+		}
+		startFrame(BoltMsgEncoder.batchSize(tuples), gathered);
+		BoltMsgEncoder.writeBatchTo(this, tuples);
+		endFrame();
+	}
+
+	/**
+	 * The stream that encodes into the current frame's buffer.
+	 */
+	CodedOutputStream coded() {
+		return coded;
+	}
+
+	void writePayload(byte[] payload) throws IOException {
+		if (!compressing && isGathered(payload.length)) {
+			writeBuffered();
+			out.write(payload);
+		} else {
+			coded.writeRawBytes(payload);
+		}
+	}
+
+	void writePayload(ByteString payload) throws IOException {
+		if (!compressing && isGathered(payload.size())) {
+			writeBuffered();
+			payload.writeTo(out);
+		} else {
+			coded.writeRawBytes(payload);
+		}
+	}
+
+	private void startFrame(int size, int gathered) throws IOException {
+		if (metrics != null) {
+			frameStart = System.nanoTime();
+		}
+		compressing = codec != null && size >= compressionThreshold;
+		if (compressing) {
+			gathered = 0;
+		}
+		int buffered = CodedOutputStream.computeRawVarint32Size(size) + size - gathered;
+		if (buffered <= pooled.length) {
+			buffer = pooled;
+		} else if (buffered <= MAX_POOLED_SIZE) {
+			pooled = new byte[Integer.highestOneBit(buffered - 1) << 1];
+			buffer = pooled;
+		} else {
+			buffer = new byte[buffered];
+		}
+		coded = CodedOutputStream.newInstance(buffer, 0, buffered);
+		limit = buffered;
+		written = 0;
+		coded.writeRawVarint32(size);
+		frameOffset = limit - coded.spaceLeft();
+		frameBytes = frameOffset + size;
+	}
+
+	private void endFrame() throws IOException {
+		if (!compressing || !writeCompressed()) {
+			writeBuffered();
+		}
+		coded.checkNoSpaceLeft();
+		buffer = null;
+		coded = null;
+		if (metrics != null) {
+			metrics.add(SerializerMetrics.ENCODE_NANOS, System.nanoTime() - frameStart);
+			metrics.frameWritten(frameBytes);
+		}
+		if (flushEachFrame) {
+			flush();
+		}
+	}
+
+	/**
+	 * Compresses the frame body in the buffer and writes it as a
+	 * CompressedFrame, unless that would not be smaller.
+	 */
+	private boolean writeCompressed() throws IOException {
+		int size = limit - frameOffset;
+		int maxLength = COMPRESSED_HEADER_ROOM + codec.maxCompressedLength(size);
+		byte[] compressed = pooledCompressed;
+		if (maxLength > compressed.length) {
+			compressed = new byte[maxLength];
+			if (maxLength <= MAX_POOLED_SIZE) {
+				pooledCompressed = compressed;
+			}
+		}
+		int length = codec.compress(buffer, frameOffset, size, compressed, COMPRESSED_HEADER_ROOM);
+
+		int body = CodedOutputStream.computeUInt32Size(SIZE_FIELD, size)
+				+ CodedOutputStream.computeTagSize(DATA_FIELD)
+				+ CodedOutputStream.computeRawVarint32Size(length)
+				+ length;
+		if (body >= size) {
+			return false;
+		}
+		int header = CodedOutputStream.computeRawVarint32Size(body) + body - length;
+		CodedOutputStream headerOut = CodedOutputStream.newInstance(compressed, COMPRESSED_HEADER_ROOM - header, header);
+		headerOut.writeRawVarint32(body);
+		headerOut.writeUInt32(SIZE_FIELD, size);
+		headerOut.writeTag(DATA_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+		headerOut.writeRawVarint32(length);
+		headerOut.checkNoSpaceLeft();
+		out.write(compressed, COMPRESSED_HEADER_ROOM - header, header + length);
+		frameBytes = header + length;
+		return true;
+	}
+
+	/**
+	 * Writes whatever has been encoded into the buffer since the last write.
+	 */
+	private void writeBuffered() throws IOException {
+		int position = limit - coded.spaceLeft();
+		if (position > written) {
+			out.write(buffer, written, position - written);
+			written = position;
+		}
+	}
+}
@@ -0,0 +1,119 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A log-linear histogram of nanosecond latencies, in the manner of
+ * HdrHistogram. Every power of two range is split into SUB_BUCKETS linear
+ * buckets, so each recorded value is kept to within 1/SUB_BUCKETS of itself,
+ * from single nanoseconds up to several hours. Recording only increments an
+ * array slot, and may happen on any thread.
+ */
+class LatencyHistogram {
+	static final int SUB_BUCKET_BITS = 4;
+	static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	// Values from 2^(MAX_EXPONENT+1), over nine hours, are counted as the largest value
+	private static final int MAX_EXPONENT = 45;
+	private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+	static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+	private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+	private static final String[] PERCENTILE_NAMES = {"p50.micros", "p90.micros", "p99.micros", "p999.micros"};
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+	void record(long nanos) {
+		counts.incrementAndGet(index(nanos));
+	}
+
+	/**
+	 * Values below SUB_BUCKETS get a bucket each. Above that, a value whose
+	 * highest set bit is bit e falls into one of the SUB_BUCKETS buckets for
+	 * 2^e to 2^(e+1), picked by the SUB_BUCKET_BITS bits below bit e.
+	 */
+	static int index(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int)Math.max(0, value);
+		}
+		value = Math.min(value, MAX_VALUE);
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKETS + (int)(value >>> shift) - SUB_BUCKETS;
+	}
+
+	/**
+	 * The smallest value counted in a bucket.
+	 */
+	static long lowestValue(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		return (long)(index % SUB_BUCKETS + SUB_BUCKETS) << shift;
+	}
+
+	/**
+	 * The largest value counted in a bucket.
+	 */
+	static long highestValue(int index) {
+		return index == BUCKETS - 1 ? MAX_VALUE : lowestValue(index + 1) - 1;
+	}
+
+	/**
+	 * The count, mean, extremes and percentiles of the values recorded since
+	 * the last call, in microseconds, or null if there were none. Values
+	 * recorded meanwhile end up in this report or the next.
+	 */
+	Map<String, Object> getValueAndReset() {
+		long[] snapshot = new long[BUCKETS];
+		long total = 0;
+		double sum = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			snapshot[i] = counts.getAndSet(i, 0);
+			total += snapshot[i];
+			sum += snapshot[i] * ((lowestValue(i) + highestValue(i)) / 2.0);
+		}
+		if (total == 0) {
+			return null;
+		}
+
+		Map<String, Object> values = new HashMap<String, Object>();
+		values.put("count", total);
+		values.put("mean.micros", sum / total / 1000);
+		long seen = 0;
+		int percentile = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			if (snapshot[i] == 0) {
+				continue;
+			}
+			if (seen == 0) {
+				values.put("min.micros", lowestValue(i) / 1000.0);
+			}
+			seen += snapshot[i];
+			while (percentile < PERCENTILES.length && seen >= Math.ceil(total * PERCENTILES[percentile] / 100)) {
+				values.put(PERCENTILE_NAMES[percentile++], highestValue(i) / 1000.0);
+			}
+			if (seen == total) {
+				values.put("max.micros", highestValue(i) / 1000.0);
+				break;
+			}
+		}
+		return values;
+	}
+}
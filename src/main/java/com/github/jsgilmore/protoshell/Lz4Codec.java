@@ -0,0 +1,176 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A pure Java codec for the LZ4 block format, so that shell components can
+ * use any standard LZ4 library. Compression is a single greedy pass with a
+ * hash table of recent 4 byte sequences, which favours speed over ratio.
+ */
+class Lz4Codec implements FrameCodec {
+	static final String NAME = "lz4";
+
+	private static final int MIN_MATCH = 4;
+	// The format requires the last 5 bytes to be literals, and the last match
+	// to start at least 12 bytes before the end of the block
+	private static final int LAST_LITERALS = 5;
+	private static final int MF_LIMIT = 12;
+	private static final int MAX_OFFSET = 65535;
+	private static final int HASH_LOG = 12;
+
+	// Positions are stored plus one, so that zero marks an empty slot
+	private final int[] hashTable = new int[1 << HASH_LOG];
+
+	public String getName() {
+		return NAME;
+	}
+
+	public int maxCompressedLength(int length) {
+		return length + length / 255 + 16;
+	}
+
+	public int compress(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+		int srcEnd = srcOffset + length;
+		int matchLimit = srcEnd - LAST_LITERALS;
+		int mfLimit = srcEnd - MF_LIMIT;
+		int anchor = srcOffset;
+		int ip = srcOffset;
+		int op = dstOffset;
+
+		Arrays.fill(hashTable, 0);
+		while (ip < mfLimit) {
+			int sequence = readInt(src, ip);
+			int h = hash(sequence);
+			int ref = hashTable[h] - 1;
+			hashTable[h] = ip + 1;
+			if (ref < srcOffset || ip - ref > MAX_OFFSET || readInt(src, ref) != sequence) {
+				ip++;
+				continue;
+			}
+
+			while (ip > anchor && ref > srcOffset && src[ip - 1] == src[ref - 1]) {
+				ip--;
+				ref--;
+			}
+			int matchLength = MIN_MATCH;
+			while (ip + matchLength < matchLimit && src[ref + matchLength] == src[ip + matchLength]) {
+				matchLength++;
+			}
+
+			op = writeLiterals(src, anchor, ip - anchor, matchLength - MIN_MATCH, dst, op);
+			dst[op++] = (byte)(ip - ref);
+			dst[op++] = (byte)((ip - ref) >>> 8);
+			if (matchLength - MIN_MATCH >= 15) {
+				op = writeLength(matchLength - MIN_MATCH - 15, dst, op);
+			}
+			ip += matchLength;
+			anchor = ip;
+		}
+		op = writeLiterals(src, anchor, srcEnd - anchor, 0, dst, op);
+		return op - dstOffset;
+	}
+
+	/**
+	 * Writes a sequence's token, literal length and literals.
+	 */
+	private static int writeLiterals(byte[] src, int offset, int length, int matchLength, byte[] dst, int op) {
+		dst[op++] = (byte)((Math.min(length, 15) << 4) | Math.min(matchLength, 15));
+		if (length >= 15) {
+			op = writeLength(length - 15, dst, op);
+		}
+		System.arraycopy(src, offset, dst, op, length);
+		return op + length;
+	}
+
+	private static int writeLength(int length, byte[] dst, int op) {
+		while (length >= 255) {
+			dst[op++] = (byte)255;
+			length -= 255;
+		}
+		dst[op++] = (byte)length;
+		return op;
+	}
+
+	public void decompress(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset, int uncompressedLength) throws IOException {
+		int ip = srcOffset;
+		int srcEnd = srcOffset + length;
+		int op = dstOffset;
+		int dstEnd = dstOffset + uncompressedLength;
+
+		while (ip < srcEnd) {
+			int token = src[ip++] & 0xff;
+			int literals = token >>> 4;
+			if (literals == 15) {
+				int b;
+				do {
+					checkBounds(ip < srcEnd);
+					b = src[ip++] & 0xff;
+					literals += b;
+				} while (b == 255);
+			}
+			checkBounds(literals <= srcEnd - ip && literals <= dstEnd - op);
+			System.arraycopy(src, ip, dst, op, literals);
+			ip += literals;
+			op += literals;
+			if (ip == srcEnd) {
+				break;
+			}
+
+			checkBounds(srcEnd - ip >= 2);
+			int offset = (src[ip] & 0xff) | ((src[ip + 1] & 0xff) << 8);
+			ip += 2;
+			checkBounds(offset > 0 && offset <= op - dstOffset);
+			int matchLength = token & 0x0f;
+			if (matchLength == 15) {
+				int b;
+				do {
+					checkBounds(ip < srcEnd);
+					b = src[ip++] & 0xff;
+					matchLength += b;
+				} while (b == 255);
+			}
+			matchLength += MIN_MATCH;
+			checkBounds(matchLength <= dstEnd - op);
+			int ref = op - offset;
+			if (offset >= matchLength) {
+				System.arraycopy(dst, ref, dst, op, matchLength);
+				op += matchLength;
+			} else {
+				// Overlapping matches repeat the bytes they have just written
+				for (int i = 0; i < matchLength; i++) {
+					dst[op++] = dst[ref++];
+				}
+			}
+		}
+		checkBounds(op == dstEnd);
+	}
+
+	private static void checkBounds(boolean valid) throws IOException {
+		if (!valid) {
+			throw new IOException("Malformed LZ4 block");
+		}
+	}
+
+	private static int readInt(byte[] b, int i) {
+		return (b[i] & 0xff) | ((b[i + 1] & 0xff) << 8) | ((b[i + 2] & 0xff) << 16) | ((b[i + 3] & 0xff) << 24);
+	}
+
+	private static int hash(int sequence) {
+		return (sequence * -1640531535) >>> (32 - HASH_LOG);
+	}
+}
@@ -0,0 +1,178 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import sun.misc.Unsafe;
+
+/**
+ * A single-producer/single-consumer byte ring buffer in a memory-mapped file,
+ * shared between the worker and a shell process.
+ *
+ * The file starts with a 128 byte header, followed by the data area. The
+ * header holds two little-endian 64 bit counters, each on its own cache line:
+ * head at offset 0 is the total number of bytes consumed and is only written
+ * by the consumer, tail at offset 64 is the total number of bytes produced and
+ * is only written by the producer. Byte n of the stream lives at offset
+ * 128 + (n % capacity), where capacity is a power of two.
+ *
+ * The counters are read and written with Unsafe volatile accesses on the
+ * mapped address, so the data written before a counter is published is
+ * visible to whoever reads that counter, and a counter is published before
+ * the other one is read. Those accesses are in native byte order, so rings
+ * can only be created on little-endian hardware. The shell side must order
+ * its own accesses in the same way. The protocol has only been exercised on
+ * x86, whose total store order gives the release and acquire ordering it
+ * needs for free; other hardware relies on the shell's explicit barriers.
+ */
+class MappedRingBuffer {
+	static final int HEADER_SIZE = 128;
+	private static final int HEAD_OFFSET = 0;
+	private static final int TAIL_OFFSET = 64;
+
+	private final File file;
+	private final MappedByteBuffer buffer;
+	private final int capacity;
+	private final int mask;
+	private final long address;
+
+	private static final Unsafe UNSAFE;
+	static {
+		Unsafe unsafe = null;
+		try {
+			Field field = Unsafe.class.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+			unsafe = (Unsafe)field.get(null);
+		} catch (Exception e) {
+			// Rings cannot be created, and the pipes are used instead
+		}
+		UNSAFE = unsafe;
+	}
+
+	private MappedRingBuffer(File file, MappedByteBuffer buffer, int capacity) throws IOException {
+		if (UNSAFE == null || ByteOrder.nativeOrder() != ByteOrder.LITTLE_ENDIAN) {
+			throw new IOException("Shared memory rings need sun.misc.Unsafe on little-endian hardware");
+		}
+		this.file = file;
+		this.buffer = buffer;
+		this.capacity = capacity;
+		this.mask = capacity - 1;
+		this.address = ((sun.nio.ch.DirectBuffer)buffer).address();
+	}
+
+	/**
+	 * Creates, or truncates, the ring buffer file with room for at least
+	 * capacity bytes of data and maps it into memory.
+	 */
+	static MappedRingBuffer create(File file, int capacity) throws IOException {
+		int size = Integer.highestOneBit(Math.max(capacity, 4096) - 1) << 1;
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+		try {
+			raf.setLength(0);
+			raf.setLength(HEADER_SIZE + size);
+			MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + size);
+			return new MappedRingBuffer(file, buffer, size);
+		} finally {
+			raf.close();
+		}
+	}
+
+	/**
+	 * Maps an existing ring buffer file, as created by the other side.
+	 */
+	static MappedRingBuffer open(File file) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+		try {
+			long length = raf.length();
+			MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, length);
+			return new MappedRingBuffer(file, buffer, (int)(length - HEADER_SIZE));
+		} finally {
+			raf.close();
+		}
+	}
+
+	File getFile() {
+		return file;
+	}
+
+	int capacity() {
+		return capacity;
+	}
+
+	long head() {
+		return UNSAFE.getLongVolatile(null, address + HEAD_OFFSET);
+	}
+
+	long tail() {
+		return UNSAFE.getLongVolatile(null, address + TAIL_OFFSET);
+	}
+
+	/**
+	 * Publishes the consumer position. All reads of the data area up to head
+	 * happen before the producer can see it, and it is visible before the
+	 * tail is read again.
+	 */
+	void publishHead(long head) {
+		UNSAFE.putLongVolatile(null, address + HEAD_OFFSET, head);
+	}
+
+	/**
+	 * Publishes the producer position. All writes to the data area up to tail
+	 * happen before the consumer can see it, and it is visible before the
+	 * head is read again.
+	 */
+	void publishTail(long tail) {
+		UNSAFE.putLongVolatile(null, address + TAIL_OFFSET, tail);
+	}
+
+	void put(long position, byte[] bytes, int offset, int length) {
+		int index = (int)(position & mask);
+		int first = Math.min(length, capacity - index);
+		copyIn(index, bytes, offset, first);
+		copyIn(0, bytes, offset + first, length - first);
+	}
+
+	void get(long position, byte[] bytes, int offset, int length) {
+		int index = (int)(position & mask);
+		int first = Math.min(length, capacity - index);
+		copyOut(index, bytes, offset, first);
+		copyOut(0, bytes, offset + first, length - first);
+	}
+
+	byte get(long position) {
+		return buffer.get(HEADER_SIZE + (int)(position & mask));
+	}
+
+	private void copyIn(int index, byte[] bytes, int offset, int length) {
+		if (length > 0) {
+			buffer.position(HEADER_SIZE + index);
+			buffer.put(bytes, offset, length);
+		}
+	}
+
+	private void copyOut(int index, byte[] bytes, int offset, int length) {
+		if (length > 0) {
+			buffer.position(HEADER_SIZE + index);
+			buffer.get(bytes, offset, length);
+		}
+	}
+}
@@ -15,15 +15,23 @@
 package com.github.jsgilmore.protoshell;
 
 import java.io.DataOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.log4j.Logger;
 
+import backtype.storm.Config;
 import backtype.storm.multilang.ShellMsg;
 import backtype.storm.multilang.ISerializer;
 import backtype.storm.multilang.BoltMsg;
@@ -37,116 +45,666 @@ import com.google.protobuf.Parser;
 
 public class ProtoSerializer implements ISerializer {
     public static Logger LOG = Logger.getLogger(ProtoSerializer.class);
+
+    /**
+     * The protocol version sent in the Context. Shell components written
+     * before versioning see no ProtocolVersion and no Capabilities at all.
+     */
+    public static final int PROTOCOL_VERSION = 1;
+
+    /**
+     * The name of the metric registered with ProtoShellConfig.METRICS.
+     */
+    public static final String METRIC_NAME = "protoshell";
+
+    /**
+     * The name of the metric registered with ProtoShellConfig.LATENCY.
+     */
+    public static final String LATENCY_METRIC_NAME = "protoshell-latency";
+
+    // The type BoltMsgEncoders are counted as, after the message they encode
+    private static final String BOLT_MSG_TYPE = ShellMessages.BoltMsgProto.getDescriptor().getName();
+
+    // Spouts are polled with the same "next" over and over, and tuples sent
+    // to no task get the same empty TaskIds, so those are only encoded once
+    private static final ConstantFrame NEXT = new ConstantFrame(
+    		ShellMessages.SpoutMsg.newBuilder().setCommand("next").build());
+    private static final ConstantFrame NO_TASK_IDS = new ConstantFrame(
+    		ShellMessages.TaskIds.getDefaultInstance());
+
+    // Ends ShellSpout's wait for the answer to a SpoutMsg with SPOUT_CREDITS,
+    // which only reads its command
+    private static final ShellMsg SYNC = new ShellMsg();
+    static {
+    	SYNC.setCommand("sync");
+    }
+
 	private DataOutputStream processIn;
+	private FrameWriter frameWriter;
 	private InputStream processOut;
+	private FrameReader frameReader;
+	private EnumSet<ShellMessages.Capability> capabilities = EnumSet.noneOf(ShellMessages.Capability.class);
+	private BoltMsgBatcher boltBatcher;
+	private AsyncWriter asyncWriter;
+	private ReadAheadReader readAhead;
+	private boolean shellBatch;
+	private boolean aliasedReads;
+	private boolean tupleByteStrings;
+	private StringDictionary dictionary;
+	private TupleIds tupleIds;
+	private SerializerMetrics metrics;
+	private ShellLatency latency;
+	private Map topologyConf;
+	// Only used by the spout's thread, with SPOUT_CREDITS
+	private int spoutCreditWindow;
+	private int spoutCredits;
+	private boolean spoutCreditsOverspent;
+	private boolean syncPending;
+	private final ArrayDeque<ShellMsg> pendingShellMsgs = new ArrayDeque<ShellMsg>();
 
 	public void initialize(OutputStream processIn, InputStream processOut) {
 		this.processIn = new DataOutputStream(processIn);
+		this.frameWriter = new FrameWriter(this.processIn);
         this.processOut = processOut;
 	}
 
 	public Number connect(Map conf, TopologyContext context) throws IOException, NoOutputException {
+        EnumSet<ShellMessages.Capability> offered = offeredCapabilities(conf);
+        ShellRouter router = null;
+        boolean primary = false;
+        if (offered.contains(ShellMessages.Capability.MULTIPLEX)) {
+        	// Only the first task's process is offered MULTIPLEX, and the
+        	// others wait for it to accept or refuse
+        	router = ShellRouter.forComponent(context, ProtoShellConfig.getInt(conf, ProtoShellConfig.MULTIPLEX_CAPACITY, 1024));
+        	primary = router.claim();
+        	if (!primary) {
+        		offered.remove(ShellMessages.Capability.MULTIPLEX);
+        		Number sharedPid = router.awaitStart();
+        		if (sharedPid != null) {
+        			shareProcess(context, router, sharedPid);
+        		}
+        	}
+        }
         ShellMessages.Context.Builder setupInfo = ShellMessages.Context.newBuilder()
-        		.setPidDir(context.getPIDDir());
-
-        Set<Map.Entry> entries = conf.entrySet();
-        ShellMessages.Conf.Builder confRecBuilder = ShellMessages.Conf.newBuilder();
-        for (Map.Entry entry : entries)
-        {
-        	if (entry.getValue() != null) {
-	        	ShellMessages.Conf confRec = confRecBuilder
-	            		.setKey(entry.getKey().toString())
-	            		.setValue(entry.getValue().toString())
-	            		.build();
-	            setupInfo.addConfs(confRec);
+        		.setPidDir(context.getPIDDir())
+        		.setProtocolVersion(PROTOCOL_VERSION)
+        		.addAllCapabilities(offered);
+
+        // Everything but the task's own fields is shared with the worker's other tasks
+        SharedContext shared = SharedContext.forTask(conf, context, offered);
+        setupInfo.setTopology(ShellMessages.Topology.newBuilder().setTaskId(context.getThisTaskId()));
+
+        MappedRingBuffer toShell = null;
+        MappedRingBuffer fromShell = null;
+        if (offered.contains(ShellMessages.Capability.SHARED_MEMORY)) {
+        	int capacity = ProtoShellConfig.getInt(conf, ProtoShellConfig.SHARED_MEMORY_CAPACITY, 1 << 22);
+        	String prefix = "protoshell-" + context.getThisTaskId();
+        	try {
+        		toShell = MappedRingBuffer.create(new File(context.getPIDDir(), prefix + "-to-shell.ring"), capacity);
+        		fromShell = MappedRingBuffer.create(new File(context.getPIDDir(), prefix + "-from-shell.ring"), capacity);
+        		setupInfo.setSharedMemory(ShellMessages.SharedMemory.newBuilder()
+        				.setToShellPath(toShell.getFile().getAbsolutePath())
+        				.setFromShellPath(fromShell.getFile().getAbsolutePath())
+        				.setCapacity(toShell.capacity()));
+        	} catch (IOException e) {
+        		LOG.warn("Could not create shared memory ring buffers, using pipes", e);
+        		deleteRingBuffers(toShell, fromShell);
+        		toShell = null;
+        		fromShell = null;
+        		offered.remove(ShellMessages.Capability.SHARED_MEMORY);
+        		setupInfo.clearCapabilities().addAllCapabilities(offered);
         	}
         }
 
-        ShellMessages.Topology.Builder topologyBuilder = ShellMessages.Topology.newBuilder()
-        		.setTaskId(context.getThisTaskId());
-        ShellMessages.TaskComponentMapping.Builder mappingBuilder = ShellMessages.TaskComponentMapping.newBuilder();
-        for (Map.Entry<Integer, String> entry : context.getTaskToComponent().entrySet()) {
-        	ShellMessages.TaskComponentMapping mapping = mappingBuilder
-        			.setTask(entry.getKey().toString())
-        			.setComponent(entry.getValue())
-        			.build();
-        	topologyBuilder.addTaskComponentMappings(mapping);
+        ShellMessages.Pid pidMsg = null;
+        try {
+        	LOG.info("Writing configuration to shell component");
+        	frameWriter.writeFrame(shared.frame(setupInfo.build()));
+
+        	LOG.info("Waiting for pid from component");
+        	pidMsg = (ShellMessages.Pid)readMessage(ShellMessages.Pid.PARSER);
+        	LOG.info("Shell component connection established.");
+        } finally {
+        	if (primary) {
+        		startRouter(router, context, pidMsg);
+        	}
         }
-        setupInfo.setTopology(topologyBuilder.build());
 
-        ShellMessages.Context setupMsg = setupInfo.build();
-        LOG.info("Writing configuration to shell component");
-        writeMessage(setupMsg);
+        // Only capabilities that were offered may be used, whatever the shell claims
+        for (ShellMessages.Capability capability : pidMsg.getCapabilitiesList()) {
+        	if (offered.contains(capability)) {
+        		capabilities.add(capability);
+        	}
+        }
+        LOG.info("Shell component accepted capabilities " + capabilities);
+
+        if (capabilities.contains(ShellMessages.Capability.SHARED_MEMORY)) {
+        	// From here on the pipes only carry wake-ups
+        	toShell.getFile().deleteOnExit();
+        	fromShell.getFile().deleteOnExit();
+        	processIn = new DataOutputStream(new RingBufferOutputStream(toShell, processIn));
+        	frameWriter = new FrameWriter(processIn);
+        	processOut = new RingBufferInputStream(fromShell, processOut);
+        } else {
+        	deleteRingBuffers(toShell, fromShell);
+        }
 
-        LOG.info("Waiting for pid from component");
-        ShellMessages.Pid pidMsg = (ShellMessages.Pid)readMessage(ShellMessages.Pid.PARSER);
-        LOG.info("Shell component connection established.");
+        boolean asyncWrites = ProtoShellConfig.getBoolean(conf, ProtoShellConfig.ASYNC_WRITE, false);
+        if (capabilities.contains(ShellMessages.Capability.BOLT_BATCH)) {
+        	// The asynchronous writer flushes batches itself, whenever it runs out of tuples
+        	int lingerMicros = ProtoShellConfig.getInt(conf, ProtoShellConfig.BOLT_BATCH_LINGER_MICROS, 1000);
+        	boltBatcher = new BoltMsgBatcher(this,
+        			ProtoShellConfig.getInt(conf, ProtoShellConfig.BOLT_BATCH_MAX_TUPLES, 100),
+        			ProtoShellConfig.getInt(conf, ProtoShellConfig.BOLT_BATCH_MAX_BYTES, 65536),
+        			asyncWrites ? 0 : Math.max(1, lingerMicros));
+        	LOG.info("Batching bolt tuples into BoltMsgBatch frames");
+        }
+        if (capabilities.contains(ShellMessages.Capability.INTERNED_STRINGS)) {
+        	dictionary = shared.getDictionary();
+        }
+        if (capabilities.contains(ShellMessages.Capability.NUMERIC_IDS)) {
+        	tupleIds = new TupleIds();
+        }
+        if (capabilities.contains(ShellMessages.Capability.GET_CONF)) {
+        	topologyConf = conf;
+        }
+        shellBatch = capabilities.contains(ShellMessages.Capability.SHELL_BATCH);
+        aliasedReads = ProtoShellConfig.getBoolean(conf, ProtoShellConfig.READ_ALIASED, false);
+        tupleByteStrings = ProtoShellConfig.getBoolean(conf, ProtoShellConfig.TUPLE_BYTESTRING, false);
+
+        // The handshake is read unbuffered, so that nothing after the Pid is
+        // consumed before the final input stream is known
+        frameReader = new FrameReader(processOut);
+        if (capabilities.contains(ShellMessages.Capability.COMPRESSION)) {
+        	int chosen = shared.getCodecNames().indexOf(pidMsg.getCodec());
+        	if (chosen < 0) {
+        		LOG.warn("Shell component accepted compression without choosing an offered codec");
+        		capabilities.remove(ShellMessages.Capability.COMPRESSION);
+        	} else {
+        		// Codecs keep state, so each direction gets its own
+        		frameWriter.setCodec(ProtoShellConfig.newCodec(shared.getCodecs().get(chosen)),
+        				ProtoShellConfig.getInt(conf, ProtoShellConfig.COMPRESSION_THRESHOLD, 1024));
+        		frameReader.setCodec(ProtoShellConfig.newCodec(shared.getCodecs().get(chosen)));
+        		LOG.info("Compressing frames with " + pidMsg.getCodec());
+        	}
+        }
+
+        if (ProtoShellConfig.getBoolean(conf, ProtoShellConfig.METRICS, false)) {
+        	metrics = new SerializerMetrics();
+        	frameWriter.setMetrics(metrics);
+        	frameReader.setMetrics(metrics);
+        	context.registerMetric(METRIC_NAME, metrics,
+        			ProtoShellConfig.getInt(conf, ProtoShellConfig.METRICS_BUCKET_SECS, 60));
+        }
+        if (ProtoShellConfig.getBoolean(conf, ProtoShellConfig.LATENCY, false)) {
+        	// Storm fails tuples that are not acked within the message timeout anyway
+        	latency = new ShellLatency(ProtoShellConfig.getInt(conf, ProtoShellConfig.LATENCY_MAX_PENDING, 100000),
+        			TimeUnit.SECONDS.toNanos(ProtoShellConfig.getInt(conf, Config.TOPOLOGY_MESSAGE_TIMEOUT_SECS, 30)));
+        	context.registerMetric(LATENCY_METRIC_NAME, latency,
+        			ProtoShellConfig.getInt(conf, ProtoShellConfig.METRICS_BUCKET_SECS, 60));
+        }
+        if (asyncWrites) {
+        	frameWriter.setFlushEachFrame(false);
+        	asyncWriter = new AsyncWriter(this, metrics, "protoshell-writer-" + context.getThisTaskId(),
+        			ProtoShellConfig.getInt(conf, ProtoShellConfig.ASYNC_WRITE_MAX_MESSAGES, 10000),
+        			ProtoShellConfig.getInt(conf, ProtoShellConfig.ASYNC_WRITE_MAX_BYTES, 1 << 22));
+        	asyncWriter.start();
+        	LOG.info("Writing to shell component asynchronously");
+        }
+        if (capabilities.contains(ShellMessages.Capability.SPOUT_CREDITS)) {
+        	// Emits that have already arrived can only be told apart from
+        	// ones that have not with a read-ahead thread
+        	spoutCreditWindow = Math.max(1, ProtoShellConfig.getInt(conf, ProtoShellConfig.SPOUT_CREDITS_WINDOW, 1000));
+        	LOG.info("Granting the shell spout " + spoutCreditWindow + " credits");
+        }
+        if (spoutCreditWindow > 0 || ProtoShellConfig.getBoolean(conf, ProtoShellConfig.READ_AHEAD, false)) {
+        	readAhead = new ReadAheadReader(this, metrics, "protoshell-reader-" + context.getThisTaskId(),
+        			ProtoShellConfig.getInt(conf, ProtoShellConfig.READ_AHEAD_CAPACITY, 1024));
+        	readAhead.start();
+        	LOG.info("Reading from shell component ahead");
+        }
         return (Number)pidMsg.getPid();
 	}
 
+	private EnumSet<ShellMessages.Capability> offeredCapabilities(Map conf) {
+		EnumSet<ShellMessages.Capability> offered = EnumSet.noneOf(ShellMessages.Capability.class);
+		if (ProtoShellConfig.getBoolean(conf, ProtoShellConfig.BOLT_BATCH, true)) {
+			offered.add(ShellMessages.Capability.BOLT_BATCH);
+		}
+		if (ProtoShellConfig.getBoolean(conf, ProtoShellConfig.SHELL_BATCH, true)) {
+			offered.add(ShellMessages.Capability.SHELL_BATCH);
+		}
+		if (ProtoShellConfig.getBoolean(conf, ProtoShellConfig.INTERNED_STRINGS, true)) {
+			offered.add(ShellMessages.Capability.INTERNED_STRINGS);
+		}
+		if (ProtoShellConfig.getBoolean(conf, ProtoShellConfig.NUMERIC_IDS, true)) {
+			offered.add(ShellMessages.Capability.NUMERIC_IDS);
+		}
+		if (ProtoShellConfig.getBoolean(conf, ProtoShellConfig.ACK_BATCH, true)) {
+			offered.add(ShellMessages.Capability.ACK_BATCH);
+		}
+		if (ProtoShellConfig.getBoolean(conf, ProtoShellConfig.GET_CONF, true)) {
+			offered.add(ShellMessages.Capability.GET_CONF);
+		}
+		if (ProtoShellConfig.getBoolean(conf, ProtoShellConfig.SPOUT_CREDITS, false)) {
+			offered.add(ShellMessages.Capability.SPOUT_CREDITS);
+		}
+		if (ProtoShellConfig.getBoolean(conf, ProtoShellConfig.COMPRESSION, false)) {
+			offered.add(ShellMessages.Capability.COMPRESSION);
+		}
+		if (ProtoShellConfig.getBoolean(conf, ProtoShellConfig.SHARED_MEMORY, false)) {
+			offered.add(ShellMessages.Capability.SHARED_MEMORY);
+		} else if (ProtoShellConfig.getBoolean(conf, ProtoShellConfig.MULTIPLEX, false)) {
+			offered.add(ShellMessages.Capability.MULTIPLEX);
+		}
+		return offered;
+	}
+
+	/**
+	 * Tells this task's own process to exit, and connects through the
+	 * component's shared process instead.
+	 */
+	private void shareProcess(TopologyContext context, ShellRouter router, Number sharedPid) throws IOException {
+		LOG.info("Sharing shell process " + sharedPid);
+		frameWriter.writeMessage(ShellMessages.Context.newBuilder()
+				.setPidDir(context.getPIDDir())
+				.setProtocolVersion(PROTOCOL_VERSION)
+				.setMultiplexedBy(sharedPid.intValue())
+				.build());
+		readMessage(ShellMessages.Pid.PARSER);
+		routeThrough(router, context.getThisTaskId());
+	}
+
+	/**
+	 * Lets the component's other tasks share this task's process if it
+	 * accepted MULTIPLEX, or has them use their own if it did not or the
+	 * handshake failed.
+	 */
+	private void startRouter(ShellRouter router, TopologyContext context, ShellMessages.Pid pidMsg) {
+		if (pidMsg == null || !pidMsg.getCapabilitiesList().contains(ShellMessages.Capability.MULTIPLEX)) {
+			router.start(null, null, null);
+			return;
+		}
+		router.start(processIn, processOut, pidMsg.getPid());
+		routeThrough(router, context.getThisTaskId());
+	}
+
+	private void routeThrough(ShellRouter router, int task) {
+		processIn = new DataOutputStream(router.output(task));
+		frameWriter = new FrameWriter(processIn);
+		processOut = router.input(task);
+	}
+
+	private static void deleteRingBuffers(MappedRingBuffer... rings) {
+		for (MappedRingBuffer ring : rings) {
+			if (ring != null) {
+				ring.getFile().delete();
+			}
+		}
+	}
+
 	public ShellMsg readShellMsg() throws IOException, NoOutputException {
-		ShellMessages.ShellMsgProto emissionProto = (ShellMessages.ShellMsgProto)readMessage(ShellMessages.ShellMsgProto.PARSER);
+		ShellMsg shellMsg = spoutCreditWindow > 0 ? nextCreditedShellMsg() : nextShellMsg();
+		if (latency != null) {
+			latency.received(shellMsg);
+		}
+		return shellMsg;
+	}
+
+	private ShellMsg nextShellMsg() throws IOException {
+		if (readAhead != null) {
+			return readAhead.take();
+		}
+		// Messages from a ShellMsgBatch are handed to Storm one at a time.
+		// Empty batches are skipped rather than reported as missing output.
+		while (pendingShellMsgs.isEmpty()) {
+			readShellMsgs(pendingShellMsgs);
+		}
+		return pendingShellMsgs.poll();
+	}
+
+	/**
+	 * With SPOUT_CREDITS, ShellSpout is handed whatever the shell has sent so
+	 * far, and then a sync, instead of waiting for the shell to answer. The
+	 * shell's own syncs carry no meaning then, and are dropped. Emits that
+	 * arrive after the synthetic sync wait in the read-ahead queue and are
+	 * handed over on the next poll.
+	 */
+	private ShellMsg nextCreditedShellMsg() throws IOException {
+		ShellMsg shellMsg;
+		do {
+			if (!syncPending) {
+				shellMsg = readAhead.take();
+				break;
+			}
+			shellMsg = readAhead.poll();
+			if (shellMsg == null) {
+				syncPending = false;
+				return SYNC;
+			}
+		} while ("sync".equals(shellMsg.getCommand()));
+		if ("emit".equals(shellMsg.getCommand())) {
+			spendSpoutCredit();
+		}
+		return shellMsg;
+	}
+
+	/**
+	 * Spent credits are only granted again when Storm polls, which it stops
+	 * doing at topology.max.spout.pending. A shell that emits past its
+	 * credits is not trusted to count them, and is granted no more than the
+	 * window the next time.
+	 */
+	private void spendSpoutCredit() {
+		if (spoutCredits > 0) {
+			spoutCredits--;
+		} else if (!spoutCreditsOverspent) {
+			spoutCreditsOverspent = true;
+			LOG.warn("Shell spout emitted past its " + spoutCreditWindow + " credits");
+		}
+	}
+
+	/**
+	 * Reads the next frame and adds the messages in it to out, which must be
+	 * empty.
+	 */
+	void readShellMsgs(Queue<ShellMsg> out) throws IOException {
+		try {
+			decodeShellMsgs(out);
+		} catch (IOException e) {
+			shellEnded();
+			throw e;
+		} catch (RuntimeException e) {
+			shellEnded();
+			throw e;
+		}
+		if (topologyConf != null) {
+			answerConfRequests(out);
+		}
+		if (metrics != null) {
+			metrics.add(SerializerMetrics.DECODE_NANOS, System.nanoTime() - frameReader.getFrameStart());
+			for (ShellMsg shellMsg : out) {
+				metrics.read(shellMsg.getCommand());
+			}
+		}
+	}
+
+	/**
+	 * Stops the writer thread once nothing more can be read from the shell,
+	 * since Storm has no way to close the serialiser.
+	 */
+	private void shellEnded() {
+		if (asyncWriter != null) {
+			asyncWriter.close();
+		}
+	}
+
+	AsyncWriter getAsyncWriter() {
+		return asyncWriter;
+	}
+
+	/**
+	 * Answers the getConf requests among the messages read, which Storm
+	 * would not understand, and removes them.
+	 */
+	private void answerConfRequests(Queue<ShellMsg> out) throws IOException {
+		for (Iterator<ShellMsg> iterator = out.iterator(); iterator.hasNext();) {
+			ShellMsg shellMsg = iterator.next();
+			if ("getConf".equals(shellMsg.getCommand())) {
+				iterator.remove();
+				writeConfReply(shellMsg.getMsg() == null ? "" : shellMsg.getMsg());
+			}
+		}
+	}
+
+	private synchronized void writeConfReply(String key) throws IOException {
+		ShellMessages.ConfReply.Builder reply = ShellMessages.ConfReply.newBuilder().setKey(key);
+		List<String> patterns = Collections.singletonList(key);
+		for (Object o : topologyConf.entrySet()) {
+			Map.Entry entry = (Map.Entry)o;
+			if (entry.getValue() != null && ProtoShellConfig.matchesKey(patterns, entry.getKey().toString())) {
+				reply.addConfs(ShellMessages.Conf.newBuilder()
+						.setKey(entry.getKey().toString())
+						.setValue(entry.getValue().toString()));
+			}
+		}
+		send(reply.build());
+	}
+
+	private void decodeShellMsgs(Queue<ShellMsg> out) throws IOException {
+		if (aliasedReads) {
+			byte[] frame = frameReader.readFrame();
+			if (shellBatch) {
+				ShellMsgDecoder.decodeBatch(frame, 0, frame.length, this, out);
+			} else {
+				ShellMsgDecoder.decode(frame, 0, frame.length, this, out);
+			}
+		} else if (shellBatch) {
+			ShellMessages.ShellMsgBatch batch = frameReader.readMessage(ShellMessages.ShellMsgBatch.PARSER);
+			for (ShellMessages.ShellMsgProto emissionProto : batch.getShellMsgsList()) {
+				addShellMsg(emissionProto, out);
+			}
+		} else {
+			addShellMsg(frameReader.readMessage(ShellMessages.ShellMsgProto.PARSER), out);
+		}
+	}
+
+	private void addShellMsg(ShellMessages.ShellMsgProto emissionProto, Queue<ShellMsg> out) {
+		if (!emissionProto.hasAckBatch()) {
+			out.add(toShellMsg(emissionProto));
+			return;
+		}
+		ShellMessages.AckBatch acks = emissionProto.getAckBatch();
+		for (int i = 0; i < acks.getAckIdsCount(); i++) {
+			out.add(ackMsg("ack", acks.getAckIds(i)));
+		}
+		for (int i = 0; i < acks.getNumAckIdsCount(); i++) {
+			out.add(ackMsg("ack", releaseTupleId(acks.getNumAckIds(i))));
+		}
+		for (int i = 0; i < acks.getFailIdsCount(); i++) {
+			out.add(ackMsg("fail", acks.getFailIds(i)));
+		}
+		for (int i = 0; i < acks.getNumFailIdsCount(); i++) {
+			out.add(ackMsg("fail", releaseTupleId(acks.getNumFailIds(i))));
+		}
+	}
+
+	/**
+	 * An ack or fail expanded from an AckBatch. ShellBolt only reads the
+	 * command and id of these.
+	 */
+	static ShellMsg ackMsg(String command, String id) {
 		ShellMsg shellMsg = new ShellMsg();
-		ShellMessages.ShellMsgMeta meta = emissionProto.getShellMsgMeta();
+		shellMsg.setCommand(command);
+		shellMsg.setId(id);
+		return shellMsg;
+	}
+
+	String releaseTupleId(long numId) {
+		return tupleIds == null ? Long.toString(numId) : tupleIds.release(numId);
+	}
+
+	private ShellMsg toShellMsg(ShellMessages.ShellMsgProto emissionProto) {
+		ShellMsg shellMsg = new ShellMsg();
+		setMeta(shellMsg, emissionProto.getShellMsgMeta());
+
+		// Java protocol buffers encode bytes in their ByteString format.
+		// Kryo can only serialise ByteStrings once ByteStringSerializer has
+		// been registered, so they are copied to byte[] unless asked otherwise.
+		for (ByteString o: emissionProto.getContentsList()) {
+			if (tupleByteStrings) {
+				shellMsg.addTuple(o);
+			} else {
+				shellMsg.addTuple(o.toByteArray());
+			}
+		}
+		return shellMsg;
+	}
 
-		shellMsg.setAnchors(meta.getAnchorsList());
-		shellMsg.setCommand(meta.getCommand());
-		shellMsg.setId(meta.getId());
+	void setMeta(ShellMsg shellMsg, ShellMessages.ShellMsgMeta meta) {
 		shellMsg.setMsg(meta.getMsg());
-		shellMsg.setStream(meta.getStream());
+		if (dictionary == null) {
+			shellMsg.setCommand(meta.getCommand());
+			shellMsg.setStream(meta.getStream());
+		} else {
+			// Storm gets the dictionary's instances, whose hash codes are already cached
+			shellMsg.setCommand(meta.hasCommandId() ? dictionary.get(meta.getCommandId()) : dictionary.canonical(meta.getCommand()));
+			shellMsg.setStream(meta.hasStreamId() ? dictionary.get(meta.getStreamId()) : dictionary.canonical(meta.getStream()));
+		}
+
+		if (tupleIds == null || (!meta.hasNumId() && meta.getNumAnchorsCount() == 0)) {
+			shellMsg.setAnchors(meta.getAnchorsList());
+			shellMsg.setId(meta.getId());
+		} else {
+			setNumericIds(shellMsg, meta);
+		}
 		shellMsg.setTask(meta.getTask());
         shellMsg.setNeedTaskIds(meta.getNeedTaskIds());
+	}
 
-		// Java protocol buffers encode bytes in their ByteStrong format
-		// Kryo cannot serialize ByteStrings
-		// TODO Get Kryo to serialise ByteStrings
-		for (ByteString o: emissionProto.getContentsList()) {
-		    shellMsg.addTuple(o.toByteArray());
+	private void setNumericIds(ShellMsg shellMsg, ShellMessages.ShellMsgMeta meta) {
+		List<String> anchors = new ArrayList<String>(meta.getAnchorsCount() + meta.getNumAnchorsCount());
+		anchors.addAll(meta.getAnchorsList());
+		for (int i = 0; i < meta.getNumAnchorsCount(); i++) {
+			anchors.add(tupleIds.get(meta.getNumAnchors(i)));
+		}
+		shellMsg.setAnchors(anchors);
+
+		if (!meta.hasNumId()) {
+			shellMsg.setId(meta.getId());
+		} else if ("emit".equals(shellMsg.getCommand())) {
+			// Only spouts emit with an id, which is their own message id
+			shellMsg.setId(meta.getNumId());
+		} else if ("ack".equals(shellMsg.getCommand()) || "fail".equals(shellMsg.getCommand())) {
+			shellMsg.setId(releaseTupleId(meta.getNumId()));
+		} else {
+			shellMsg.setId(tupleIds.get(meta.getNumId()));
 		}
-		return shellMsg;
 	}
 
-	public void writeBoltMsg(BoltMsg boltMsg) throws IOException {
-		ShellMessages.BoltMsgMeta meta = ShellMessages.BoltMsgMeta.newBuilder()
-    			.setId(boltMsg.getId())
-    			.setComp(boltMsg.getComp())
-    			.setStream(boltMsg.getStream())
-    			.setTask(boltMsg.getTask())
-    			.build();
-    	ShellMessages.BoltMsgProto.Builder tupleBuilder = ShellMessages.BoltMsgProto.newBuilder()
-    			.setBoltMsgMeta(meta);
-    	for (Object object: boltMsg.getTuple()) {
-    	    ByteString byteString = ByteString.copyFrom((byte[])object);
-            tupleBuilder.addContents(byteString);
-    	}
-        writeMessage(tupleBuilder.build());
-	}
-
-	public void writeSpoutMsg(SpoutMsg msg) throws IOException {
-		ShellMessages.SpoutMsg.Builder spoutProto = ShellMessages.SpoutMsg.newBuilder();
-		if (msg.getCommand() == "next") {
-			spoutProto.setCommand("next");
-			spoutProto.clearId();
+	public synchronized void writeBoltMsg(BoltMsg boltMsg) throws IOException {
+		if (latency != null) {
+			latency.sent(boltMsg);
+		}
+		// The tuple's fields are streamed into the output as they are,
+		// without copying them into a BoltMsgProto first
+		send(new BoltMsgEncoder(boltMsg, dictionary, tupleIds));
+	}
+
+	public synchronized void writeSpoutMsg(SpoutMsg msg) throws IOException {
+		if (spoutCreditWindow > 0) {
+			syncPending = true;
+			if ("next".equals(msg.getCommand())) {
+				grantSpoutCredits();
+				return;
+			}
+		} else if ("next".equals(msg.getCommand())) {
+			send(NEXT);
+			return;
+		}
+		ShellMessages.SpoutMsg.Builder spoutProto = ShellMessages.SpoutMsg.newBuilder()
+				.setCommand(msg.getCommand());
+		// Message ids the shell emitted as NumId come back as Longs
+		if (tupleIds != null && msg.getId() instanceof Long) {
+			spoutProto.setNumId((Long)msg.getId());
 		} else {
-			spoutProto.setCommand(msg.getCommand());
-			spoutProto.setId(msg.getId());
+			spoutProto.setId(msg.getId().toString());
 		}
-        writeMessage(spoutProto.build());
+        send(spoutProto.build());
 	}
 
-	public void writeTaskIds(List<Integer> taskIds) throws IOException {
+	/**
+	 * Tops the shell spout's credits back up to the window once it has used
+	 * half of them. Only called for Storm's "next" polls.
+	 */
+	private void grantSpoutCredits() throws IOException {
+		int grant = spoutCreditWindow - spoutCredits;
+		if (grant < (spoutCreditWindow + 1) / 2) {
+			return;
+		}
+		spoutCredits += grant;
+		send(ShellMessages.SpoutMsg.newBuilder()
+				.setCommand("next")
+				.setCredits(grant)
+				.build());
+	}
+
+	public synchronized void writeTaskIds(List<Integer> taskIds) throws IOException {
+		if (taskIds.isEmpty()) {
+			send(NO_TASK_IDS);
+			return;
+		}
 		ShellMessages.TaskIds.Builder tasksProto = ShellMessages.TaskIds.newBuilder();
 		for (Integer taskId : taskIds) {
 			tasksProto.addTaskIds(taskId);
 		}
-        writeMessage(tasksProto.build());
+        send(tasksProto.build());
 	}
 
-	private void writeMessage(Message msg) throws IOException {
-        msg.writeDelimitedTo(processIn);
-        processIn.flush();
+	private void send(Object msg) throws IOException {
+		if (asyncWriter != null) {
+			asyncWriter.enqueue(msg);
+		} else {
+			writeFrame(msg);
+		}
+	}
+
+	/**
+	 * Writes a BoltMsgEncoder, ConstantFrame or Message. Tuples may be held
+	 * back for a batch, which is written before any other message.
+	 */
+	void writeFrame(Object msg) throws IOException {
+		if (msg instanceof BoltMsgEncoder) {
+			BoltMsgEncoder tuple = (BoltMsgEncoder)msg;
+			if (boltBatcher != null) {
+				boltBatcher.add(tuple);
+			} else {
+				frameWriter.writeBoltMsg(tuple);
+			}
+			if (metrics != null) {
+				metrics.written(BOLT_MSG_TYPE, tuple.getSerializedSize());
+			}
+		} else if (msg instanceof ConstantFrame) {
+			ConstantFrame constant = (ConstantFrame)msg;
+			if (boltBatcher != null) {
+				boltBatcher.flush();
+			}
+			frameWriter.writeFrame(constant.getFrame());
+			if (metrics != null) {
+				metrics.written(constant.getMessage().getDescriptorForType().getName(),
+						constant.getMessage().getSerializedSize());
+			}
+		} else {
+			Message message = (Message)msg;
+			if (boltBatcher != null) {
+				boltBatcher.flush();
+			}
+			writeMessage(message);
+			if (metrics != null) {
+				metrics.written(message.getDescriptorForType().getName(), message.getSerializedSize());
+			}
+		}
+	}
+
+	/**
+	 * Writes any partially filled batch and flushes the output, for the
+	 * asynchronous writer.
+	 */
+	void flushFrames() throws IOException {
+		if (boltBatcher != null) {
+			boltBatcher.flush();
+		}
+		frameWriter.flush();
+	}
+
+	void writeMessage(Message msg) throws IOException {
+		frameWriter.writeMessage(msg);
     }
 
+	void writeBoltMsgBatch(List<BoltMsgEncoder> tuples) throws IOException {
+		frameWriter.writeBoltMsgBatch(tuples);
+	}
+
 	private Object readMessage(Parser parser) throws IOException {
 	    Object message = parser.parseDelimitedFrom(processOut);
 	    if (message == null) {
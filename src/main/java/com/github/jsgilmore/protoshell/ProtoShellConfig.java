@@ -0,0 +1,333 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import backtype.storm.Config;
+
+/**
+ * Topology configuration keys understood by the protoshell serialiser. All of
+ * them are read from the Storm conf handed to connect().
+ */
+public class ProtoShellConfig {
+	/**
+	 * Whether the BOLT_BATCH capability is offered to the shell component. If
+	 * the shell accepts it, consecutive bolt tuples are grouped into
+	 * BoltMsgBatch frames instead of being written as one BoltMsgProto each.
+	 */
+	public static final String BOLT_BATCH = "protoshell.bolt.batch";
+
+	/**
+	 * The maximum number of tuples in a BoltMsgBatch.
+	 */
+	public static final String BOLT_BATCH_MAX_TUPLES = "protoshell.bolt.batch.max.tuples";
+
+	/**
+	 * The serialised size in bytes at which a BoltMsgBatch is written.
+	 */
+	public static final String BOLT_BATCH_MAX_BYTES = "protoshell.bolt.batch.max.bytes";
+
+	/**
+	 * How long, in microseconds, a tuple may wait in a partially filled BoltMsgBatch.
+	 */
+	public static final String BOLT_BATCH_LINGER_MICROS = "protoshell.bolt.batch.linger.micros";
+
+	/**
+	 * Whether the SHELL_BATCH capability is offered to the shell component. If
+	 * the shell accepts it, it sends ShellMsgBatch frames, each holding any
+	 * number of ShellMsgProto's, instead of one ShellMsgProto per frame.
+	 */
+	public static final String SHELL_BATCH = "protoshell.shell.batch";
+
+	/**
+	 * Whether the INTERNED_STRINGS capability is offered to the shell
+	 * component. The Context then carries a Dictionary of component, stream
+	 * and command names, and if the shell accepts it both sides may send
+	 * indexes into it instead of those names.
+	 */
+	public static final String INTERNED_STRINGS = "protoshell.interned.strings";
+
+	/**
+	 * Whether the NUMERIC_IDS capability is offered to the shell component.
+	 * If the shell accepts it, bolt tuple ids are sent as fixed64 NumId's, and
+	 * the shell may ack, fail, anchor and emit with NumId and NumAnchors
+	 * instead of decimal strings.
+	 */
+	public static final String NUMERIC_IDS = "protoshell.numeric.ids";
+
+	/**
+	 * Whether the ACK_BATCH capability is offered to the shell component. If
+	 * the shell accepts it, it may send many acks and fails in the AckBatch of
+	 * a single ShellMsgProto.
+	 */
+	public static final String ACK_BATCH = "protoshell.ack.batch";
+
+	/**
+	 * Whether the SPOUT_CREDITS capability is offered to the shell component,
+	 * off unless set. If a shell spout accepts it, it is granted credits in
+	 * "next" SpoutMsgs and streams up to that many emits without waiting to
+	 * be polled. Messages are then always read ahead.
+	 */
+	public static final String SPOUT_CREDITS = "protoshell.spout.credits";
+
+	/**
+	 * The number of emits a shell spout may have outstanding with
+	 * SPOUT_CREDITS. Defaults to 1000.
+	 */
+	public static final String SPOUT_CREDITS_WINDOW = "protoshell.spout.credits.window";
+
+	/**
+	 * Whether the COMPRESSION capability is offered to the shell component,
+	 * off unless set. If the shell accepts it and picks one of the offered
+	 * codecs, frames may be sent as CompressedFrames in both directions.
+	 */
+	public static final String COMPRESSION = "protoshell.compression";
+
+	/**
+	 * The codecs offered with COMPRESSION, as a comma separated list in order
+	 * of preference: "lz4", "deflate" or the class name of a FrameCodec.
+	 * Defaults to "lz4,deflate".
+	 */
+	public static final String COMPRESSION_CODECS = "protoshell.compression.codecs";
+
+	/**
+	 * The size in bytes from which frames written to the shell are compressed.
+	 * Smaller frames, and frames that do not shrink, are written as they are.
+	 */
+	public static final String COMPRESSION_THRESHOLD = "protoshell.compression.threshold";
+
+	/**
+	 * The topology configuration keys sent in the Context, as a list or a
+	 * comma separated string. An entry ending in "*" matches every key that
+	 * starts with the rest of it. Every key is sent unless this is set.
+	 */
+	public static final String CONF_KEYS = "protoshell.conf.keys";
+
+	/**
+	 * Whether the GET_CONF capability is offered to the shell component. If
+	 * the shell accepts it, it may send "getConf" messages for configuration
+	 * keys that were not sent in the Context, and is answered with a ConfReply.
+	 */
+	public static final String GET_CONF = "protoshell.get.conf";
+
+	/**
+	 * Whether the Topology in the Context describes which component each task
+	 * belongs to with a table of Components and TaskRanges into it, instead of
+	 * a TaskComponentMapping per task. Off unless set, since shell components
+	 * must understand it before they see the Context.
+	 */
+	public static final String COMPACT_TASK_MAPPINGS = "protoshell.compact.task.mappings";
+
+	/**
+	 * Whether the SHARED_MEMORY capability is offered to the shell component.
+	 * Offering it creates two ring buffer files in the PidDir, so it is off
+	 * unless set. If the shell accepts it, all messages travel through the
+	 * ring buffers and the pipes only carry wake-ups.
+	 */
+	public static final String SHARED_MEMORY = "protoshell.shared.memory";
+
+	/**
+	 * The data capacity in bytes of each shared memory ring buffer, rounded up
+	 * to a power of two.
+	 */
+	public static final String SHARED_MEMORY_CAPACITY = "protoshell.shared.memory.capacity";
+
+	/**
+	 * Whether the MULTIPLEX capability is offered to the shell component, off
+	 * unless set and never together with SHARED_MEMORY. If the process of a
+	 * component's first task in the worker accepts it, the component's other
+	 * tasks tell their own processes to exit and share that one instead.
+	 */
+	public static final String MULTIPLEX = "protoshell.multiplex";
+
+	/**
+	 * The number of chunks of a task's stream the router may hold before it
+	 * fails the task for falling behind. Defaults to 1024.
+	 */
+	public static final String MULTIPLEX_CAPACITY = "protoshell.multiplex.capacity";
+
+	/**
+	 * Whether readShellMsg hands tuple fields to Storm as the ByteStrings they
+	 * were parsed into, instead of copying each of them into a byte[]. Bolts
+	 * receiving these tuples must accept ByteString fields, and tuples that
+	 * leave the worker need the serializations from registerSerializations.
+	 */
+	public static final String TUPLE_BYTESTRING = "protoshell.tuple.bytestring";
+
+	/**
+	 * Whether readShellMsg hands tuple fields to Storm as ByteStrings that
+	 * alias the frame they were read from, instead of copying each field into
+	 * its own byte[]. The same rules as for TUPLE_BYTESTRING apply.
+	 */
+	public static final String READ_ALIASED = "protoshell.read.aliased";
+
+	/**
+	 * Whether messages are written to the shell component by a dedicated
+	 * thread. Storm's threads then only queue their messages, and only block
+	 * while the queue exceeds ASYNC_WRITE_MAX_MESSAGES or ASYNC_WRITE_MAX_BYTES.
+	 */
+	public static final String ASYNC_WRITE = "protoshell.async.write";
+
+	/**
+	 * The number of queued messages above which writers block.
+	 */
+	public static final String ASYNC_WRITE_MAX_MESSAGES = "protoshell.async.write.max.messages";
+
+	/**
+	 * The serialised size in bytes of queued messages above which writers block.
+	 */
+	public static final String ASYNC_WRITE_MAX_BYTES = "protoshell.async.write.max.bytes";
+
+	/**
+	 * Whether messages from the shell component are read and decoded ahead by
+	 * a dedicated thread, so that readShellMsg only has to dequeue them.
+	 */
+	public static final String READ_AHEAD = "protoshell.read.ahead";
+
+	/**
+	 * The number of decoded messages the read-ahead thread may hold.
+	 */
+	public static final String READ_AHEAD_CAPACITY = "protoshell.read.ahead.capacity";
+
+	/**
+	 * Whether the serialiser registers a "protoshell" metric with the
+	 * TopologyContext, counting messages, bytes and time spent per message
+	 * type and direction. Off unless set.
+	 */
+	public static final String METRICS = "protoshell.metrics";
+
+	/**
+	 * The time bucket in seconds the "protoshell" metric is reported for.
+	 * Defaults to 60.
+	 */
+	public static final String METRICS_BUCKET_SECS = "protoshell.metrics.bucket.secs";
+
+	/**
+	 * Whether the serialiser registers a "protoshell-latency" metric, timing
+	 * how long the shell component takes to answer each bolt tuple with an
+	 * emit, ack or fail. Off unless set. It is reported every
+	 * METRICS_BUCKET_SECS.
+	 */
+	public static final String LATENCY = "protoshell.latency";
+
+	/**
+	 * The number of tuples that are timed at once. Defaults to 100000. The
+	 * oldest tuples the shell has not acked or failed are dropped to make
+	 * room, as are those older than topology.message.timeout.secs.
+	 */
+	public static final String LATENCY_MAX_PENDING = "protoshell.latency.max.pending";
+
+	// protobuf-java 2.5 hides its ByteString implementations, and Kryo
+	// registrations apply to exact classes, so each one is registered by name
+	private static final String[] BYTESTRING_CLASSES = {
+		"com.google.protobuf.LiteralByteString",
+		"com.google.protobuf.BoundedByteString",
+		"com.google.protobuf.RopeByteString"
+	};
+
+	/**
+	 * Registers ByteStringSerializer in a topology configuration for every
+	 * ByteString implementation, so that ByteString tuple fields can be sent
+	 * between workers.
+	 */
+	public static void registerSerializations(Map conf) {
+		for (String className : BYTESTRING_CLASSES) {
+			try {
+				Config.registerSerialization(conf, Class.forName(className), ByteStringSerializer.class);
+			} catch (ClassNotFoundException e) {
+				throw new IllegalStateException("Unsupported protobuf-java version", e);
+			}
+		}
+	}
+
+	/**
+	 * Creates a codec from its built-in name or its class name.
+	 */
+	static FrameCodec newCodec(String codec) {
+		if (Lz4Codec.NAME.equals(codec)) {
+			return new Lz4Codec();
+		} else if (DeflateCodec.NAME.equals(codec)) {
+			return new DeflateCodec();
+		}
+		try {
+			return (FrameCodec)Class.forName(codec).newInstance();
+		} catch (Exception e) {
+			throw new IllegalArgumentException("Unknown frame codec " + codec, e);
+		}
+	}
+
+	/**
+	 * Whether a key is matched by any of a list of keys and "prefix*" patterns.
+	 */
+	static boolean matchesKey(List<String> patterns, String key) {
+		for (String pattern : patterns) {
+			if (pattern.endsWith("*") ? key.startsWith(pattern.substring(0, pattern.length() - 1)) : key.equals(pattern)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * A list setting given as a list or as a comma separated string, or null
+	 * if it is not set.
+	 */
+	static List<String> getList(Map conf, String key) {
+		Object value = conf.get(key);
+		if (value == null) {
+			return null;
+		}
+		Collection<?> entries = value instanceof Collection ? (Collection<?>)value : Arrays.asList(value.toString().split(","));
+		List<String> list = new ArrayList<String>();
+		for (Object entry : entries) {
+			if (entry != null && entry.toString().trim().length() > 0) {
+				list.add(entry.toString().trim());
+			}
+		}
+		return list;
+	}
+
+	static boolean getBoolean(Map conf, String key, boolean defaultValue) {
+		Object value = conf.get(key);
+		if (value == null) {
+			return defaultValue;
+		}
+		if (value instanceof Boolean) {
+			return (Boolean)value;
+		}
+		return Boolean.parseBoolean(value.toString());
+	}
+
+	static String getString(Map conf, String key, String defaultValue) {
+		Object value = conf.get(key);
+		return value == null ? defaultValue : value.toString();
+	}
+
+	static int getInt(Map conf, String key, int defaultValue) {
+		Object value = conf.get(key);
+		if (value == null) {
+			return defaultValue;
+		}
+		if (value instanceof Number) {
+			return ((Number)value).intValue();
+		}
+		return Integer.parseInt(value.toString().trim());
+	}
+}
@@ -0,0 +1,120 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import org.apache.log4j.Logger;
+
+import backtype.storm.multilang.ShellMsg;
+
+/**
+ * Reads and decodes messages from the shell on a dedicated thread, into a
+ * bounded ring of ready ShellMsg's that readShellMsg takes them from. The
+ * thread blocks while the ring is full.
+ *
+ * When reading fails, including when the shell process dies, the error is
+ * rethrown by readShellMsg once the messages read before it are taken.
+ */
+class ReadAheadReader implements Runnable {
+	public static Logger LOG = Logger.getLogger(ReadAheadReader.class);
+
+	// Marks the end of the messages, after an error
+	private static final ShellMsg END = new ShellMsg();
+
+	private final ProtoSerializer serializer;
+	private final SerializerMetrics metrics;
+	private final ArrayBlockingQueue<ShellMsg> ready;
+	private final Thread thread;
+	private volatile Throwable error;
+
+	ReadAheadReader(ProtoSerializer serializer, SerializerMetrics metrics, String name, int capacity) {
+		this.serializer = serializer;
+		this.metrics = metrics;
+		this.ready = new ArrayBlockingQueue<ShellMsg>(Math.max(1, capacity));
+		this.thread = new Thread(this, name);
+		thread.setDaemon(true);
+	}
+
+	void start() {
+		thread.start();
+	}
+
+	ShellMsg take() throws IOException {
+		ShellMsg msg = ready.poll();
+		try {
+			if (msg == null) {
+				long start = System.nanoTime();
+				msg = ready.take();
+				if (metrics != null) {
+					metrics.add(SerializerMetrics.READ_BLOCKED_NANOS, System.nanoTime() - start);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for the shell reader");
+		}
+		return checkEnd(msg);
+	}
+
+	/**
+	 * The next message if one has been read already, or null.
+	 */
+	ShellMsg poll() throws IOException {
+		ShellMsg msg = ready.poll();
+		return msg == null ? null : checkEnd(msg);
+	}
+
+	private ShellMsg checkEnd(ShellMsg msg) throws IOException {
+		if (msg != END) {
+			return msg;
+		}
+		// Leave the marker for any later caller
+		ready.offer(END);
+		if (error instanceof IOException) {
+			throw (IOException)error;
+		} else if (error instanceof RuntimeException) {
+			throw (RuntimeException)error;
+		}
+		throw new RuntimeException(error);
+	}
+
+	public void run() {
+		ArrayDeque<ShellMsg> decoded = new ArrayDeque<ShellMsg>();
+		try {
+			while (true) {
+				serializer.readShellMsgs(decoded);
+				ShellMsg msg;
+				while ((msg = decoded.poll()) != null) {
+					ready.put(msg);
+				}
+			}
+		} catch (InterruptedException e) {
+			error = new InterruptedIOException("Shell reader interrupted");
+		} catch (Throwable e) {
+			LOG.debug("Shell reader stopped", e);
+			error = e;
+		}
+		try {
+			ready.put(END);
+		} catch (InterruptedException e) {
+			ready.clear();
+			ready.offer(END);
+		}
+	}
+}
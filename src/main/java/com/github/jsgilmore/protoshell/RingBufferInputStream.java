@@ -0,0 +1,82 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads a byte stream from a MappedRingBuffer as its only consumer. When the
+ * ring is empty, the reader blocks on the wake stream until the producer
+ * signals new data. The end of the wake stream is the end of this stream.
+ */
+class RingBufferInputStream extends InputStream {
+	private final MappedRingBuffer ring;
+	private final InputStream wake;
+	private long read;
+
+	RingBufferInputStream(MappedRingBuffer ring, InputStream wake) {
+		this.ring = ring;
+		this.wake = wake;
+		this.read = ring.head();
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!awaitData()) {
+			return -1;
+		}
+		byte b = ring.get(read);
+		ring.publishHead(++read);
+		return b & 0xff;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		if (length == 0) {
+			return 0;
+		}
+		if (!awaitData()) {
+			return -1;
+		}
+		int n = (int)Math.min(length, ring.tail() - read);
+		ring.get(read, bytes, offset, n);
+		read += n;
+		ring.publishHead(read);
+		return n;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return (int)(ring.tail() - read);
+	}
+
+	@Override
+	public void close() throws IOException {
+		wake.close();
+	}
+
+	private boolean awaitData() throws IOException {
+		// The head was published before the tail is checked, so a producer
+		// that publishes after this check also sees the ring as drained and
+		// sends a wake-up. Stale wake-ups are simply consumed.
+		while (ring.tail() == read) {
+			if (wake.read() < 0) {
+				return ring.tail() != read;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,116 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes a byte stream into a MappedRingBuffer as its only producer. Bytes are
+ * made visible to the consumer on flush, or whenever the ring fills up. A
+ * single wake-up byte is written to the wake stream whenever the consumer may
+ * have found the ring empty and gone to sleep on it.
+ *
+ * While the ring is full, a wake-up byte is also written every PROBE_NANOS.
+ * Extra wake-ups are harmless to the consumer, and writing them fails once
+ * the shell process has died, instead of waiting for space forever.
+ */
+class RingBufferOutputStream extends OutputStream {
+	static final long PROBE_NANOS = 100000000L;
+
+	private final MappedRingBuffer ring;
+	private final OutputStream wake;
+	private final byte[] single = new byte[1];
+	private long written;
+	private long published;
+
+	RingBufferOutputStream(MappedRingBuffer ring, OutputStream wake) {
+		this.ring = ring;
+		this.wake = wake;
+		this.written = ring.tail();
+		this.published = written;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		single[0] = (byte)b;
+		write(single, 0, 1);
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		while (length > 0) {
+			int free = ring.capacity() - (int)(written - ring.head());
+			if (free == 0) {
+				publish();
+				awaitSpace();
+				continue;
+			}
+			int n = Math.min(free, length);
+			ring.put(written, bytes, offset, n);
+			written += n;
+			offset += n;
+			length -= n;
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		publish();
+	}
+
+	@Override
+	public void close() throws IOException {
+		publish();
+		wake.close();
+	}
+
+	private void publish() throws IOException {
+		if (written == published) {
+			return;
+		}
+		long previous = published;
+		ring.publishTail(written);
+		published = written;
+		// A consumer that had caught up with everything published before
+		// may be blocked on the wake stream.
+		if (ring.head() == previous) {
+			wake.write(0);
+			wake.flush();
+		}
+	}
+
+	private void awaitSpace() throws IOException {
+		int spins = 0;
+		long probeAt = System.nanoTime() + PROBE_NANOS;
+		while (ring.capacity() == (int)(written - ring.head())) {
+			if (++spins < 100) {
+				Thread.yield();
+				continue;
+			}
+			if (Thread.interrupted()) {
+				throw new InterruptedIOException("Interrupted waiting for the shell component to read");
+			}
+			if (System.nanoTime() - probeAt >= 0) {
+				wake.write(0);
+				wake.flush();
+				probeAt = System.nanoTime() + PROBE_NANOS;
+			}
+			LockSupport.parkNanos(50000);
+		}
+	}
+}
@@ -0,0 +1,133 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * Reads the chunks a ShellRouter receives for one task as a byte stream. The
+ * stream ends once the router's process output does.
+ *
+ * The router never waits for a task, since every task's chunks arrive on the
+ * same pipe and a task that stops reading would hold up the others. Once more
+ * than capacity chunks are queued the task is failed instead: its chunks are
+ * dropped, and reading throws.
+ */
+class RoutedInputStream extends InputStream {
+	// Only ever compared by identity
+	private static final ByteString END = ByteString.copyFromUtf8("end");
+
+	private final BlockingQueue<ByteString> chunks = new LinkedBlockingQueue<ByteString>();
+	private final AtomicInteger queued = new AtomicInteger();
+	private final int capacity;
+	private final int task;
+	private volatile IOException failure;
+	private boolean finished;
+	private ByteString chunk = ByteString.EMPTY;
+	private int position;
+
+	RoutedInputStream(int task, int capacity) {
+		this.task = task;
+		this.capacity = Math.max(1, capacity);
+	}
+
+	/**
+	 * Queues a chunk without waiting. Returns false if the task had fallen
+	 * behind and the chunk was dropped.
+	 */
+	boolean add(ByteString data) {
+		if (failure != null) {
+			return false;
+		}
+		if (data.isEmpty()) {
+			return true;
+		}
+		if (queued.incrementAndGet() > capacity) {
+			failure = new IOException("Task " + task + " fell behind the shared shell process with "
+					+ capacity + " chunks queued");
+			chunks.clear();
+			chunks.offer(END);
+			return false;
+		}
+		chunks.offer(data);
+		return true;
+	}
+
+	/**
+	 * Ends the stream after the chunks queued so far.
+	 */
+	void end() {
+		chunks.offer(END);
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!awaitData()) {
+			return -1;
+		}
+		return chunk.byteAt(position++) & 0xff;
+	}
+
+	@Override
+	public int read(byte[] bytes, int offset, int length) throws IOException {
+		if (length == 0) {
+			return 0;
+		}
+		if (!awaitData()) {
+			return -1;
+		}
+		int n = Math.min(length, chunk.size() - position);
+		chunk.copyTo(bytes, position, offset, n);
+		position += n;
+		return n;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return chunk.size() - position;
+	}
+
+	private boolean awaitData() throws IOException {
+		while (position == chunk.size()) {
+			if (failure != null) {
+				throw failure;
+			}
+			if (finished) {
+				return false;
+			}
+			ByteString next;
+			try {
+				next = chunks.take();
+			} catch (InterruptedException e) {
+				throw new InterruptedIOException("Interrupted reading from the shell process");
+			}
+			if (next == END) {
+				finished = true;
+				continue;
+			}
+			queued.decrementAndGet();
+			chunk = next;
+			position = 0;
+		}
+		return true;
+	}
+}
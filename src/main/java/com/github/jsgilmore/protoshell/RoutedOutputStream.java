@@ -0,0 +1,79 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Buffers one task's writes to a shared shell process and sends them through
+ * its ShellRouter on flush, or once MAX_CHUNK bytes are buffered. Room is
+ * left before the buffered bytes for the router to encode the RoutedData
+ * header into.
+ */
+class RoutedOutputStream extends OutputStream {
+	static final int MAX_CHUNK = 65536;
+
+	private final ShellRouter router;
+	private final int task;
+	private byte[] buffer = new byte[ShellRouter.MAX_HEADER + 1024];
+	private int count;
+
+	RoutedOutputStream(ShellRouter router, int task) {
+		this.router = router;
+		this.task = task;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		ensureRoom(1);
+		buffer[ShellRouter.MAX_HEADER + count++] = (byte)b;
+		if (count == MAX_CHUNK) {
+			flush();
+		}
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		while (length > 0) {
+			int n = Math.min(length, MAX_CHUNK - count);
+			ensureRoom(n);
+			System.arraycopy(bytes, offset, buffer, ShellRouter.MAX_HEADER + count, n);
+			count += n;
+			offset += n;
+			length -= n;
+			if (count == MAX_CHUNK) {
+				flush();
+			}
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (count > 0) {
+			router.write(task, buffer, ShellRouter.MAX_HEADER, count);
+			count = 0;
+		}
+	}
+
+	private void ensureRoom(int length) {
+		int needed = ShellRouter.MAX_HEADER + count + length;
+		if (needed > buffer.length) {
+			byte[] grown = new byte[Math.min(Math.max(buffer.length * 2, needed), ShellRouter.MAX_HEADER + MAX_CHUNK)];
+			System.arraycopy(buffer, ShellRouter.MAX_HEADER, grown, ShellRouter.MAX_HEADER, count);
+			buffer = grown;
+		}
+	}
+}
@@ -0,0 +1,144 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import backtype.storm.metric.api.IMetric;
+
+/**
+ * Counts what the serialiser writes and reads, and where it spends its time.
+ * Storm's threads, the linger timer and the read-ahead and writer threads all
+ * record into the same instance, so every counter is atomic, and recording
+ * does not allocate once a message type or command has been seen.
+ *
+ * Each report is a map of counter names to the values since the last report:
+ *
+ *   written.<type>.messages, written.<type>.bytes  per message type written
+ *   read.<command>.messages                        per shell command read
+ *   frames.written, bytes.written                  frames as they went out
+ *   frames.read, bytes.read                        frames as they came in
+ *   encode.nanos       encoding frames and writing them to the output
+ *   flush.nanos        flushing the output to the shell
+ *   decode.nanos       decoding frames, from their size onwards
+ *   read.wait.nanos    waiting for the shell to start a frame
+ *   write.blocked.nanos  Storm threads blocked on the asynchronous writer
+ *   read.blocked.nanos   Storm threads waiting on the read-ahead thread
+ *   frame.sizes.written, frame.sizes.read  maps of "<n>" to the number of
+ *                      frames smaller than n bytes and at least n/2 bytes
+ *
+ * Message bytes are their serialised size. Frame bytes are counted on the
+ * wire, so compressed frames count as compressed. A frame may hold many
+ * messages from the shell, so read bytes are only counted per frame.
+ */
+class SerializerMetrics implements IMetric {
+	static final String ENCODE_NANOS = "encode.nanos";
+	static final String FLUSH_NANOS = "flush.nanos";
+	static final String DECODE_NANOS = "decode.nanos";
+	static final String READ_WAIT_NANOS = "read.wait.nanos";
+	static final String WRITE_BLOCKED_NANOS = "write.blocked.nanos";
+	static final String READ_BLOCKED_NANOS = "read.blocked.nanos";
+	static final String FRAMES_WRITTEN = "frames.written";
+	static final String BYTES_WRITTEN = "bytes.written";
+	static final String FRAMES_READ = "frames.read";
+	static final String BYTES_READ = "bytes.read";
+
+	private static final int HISTOGRAM_BUCKETS = 33;
+
+	private final ConcurrentHashMap<String, AtomicLong> counters = new ConcurrentHashMap<String, AtomicLong>();
+	private final ConcurrentHashMap<String, AtomicLong> writtenMessages = new ConcurrentHashMap<String, AtomicLong>();
+	private final ConcurrentHashMap<String, AtomicLong> writtenBytes = new ConcurrentHashMap<String, AtomicLong>();
+	private final ConcurrentHashMap<String, AtomicLong> readMessages = new ConcurrentHashMap<String, AtomicLong>();
+	private final AtomicLongArray writtenFrameSizes = new AtomicLongArray(HISTOGRAM_BUCKETS);
+	private final AtomicLongArray readFrameSizes = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+	void add(String counter, long delta) {
+		counter(counters, counter).addAndGet(delta);
+	}
+
+	void written(String type, int bytes) {
+		counter(writtenMessages, type).incrementAndGet();
+		counter(writtenBytes, type).addAndGet(bytes);
+	}
+
+	void read(String command) {
+		counter(readMessages, command == null ? "" : command).incrementAndGet();
+	}
+
+	void frameWritten(int size) {
+		add(FRAMES_WRITTEN, 1);
+		add(BYTES_WRITTEN, size);
+		writtenFrameSizes.incrementAndGet(bucket(size));
+	}
+
+	void frameRead(int size) {
+		add(FRAMES_READ, 1);
+		add(BYTES_READ, size);
+		readFrameSizes.incrementAndGet(bucket(size));
+	}
+
+	public Object getValueAndReset() {
+		Map<String, Object> values = new HashMap<String, Object>();
+		for (Map.Entry<String, AtomicLong> entry : counters.entrySet()) {
+			values.put(entry.getKey(), entry.getValue().getAndSet(0));
+		}
+		for (Map.Entry<String, AtomicLong> entry : writtenMessages.entrySet()) {
+			values.put("written." + entry.getKey() + ".messages", entry.getValue().getAndSet(0));
+		}
+		for (Map.Entry<String, AtomicLong> entry : writtenBytes.entrySet()) {
+			values.put("written." + entry.getKey() + ".bytes", entry.getValue().getAndSet(0));
+		}
+		for (Map.Entry<String, AtomicLong> entry : readMessages.entrySet()) {
+			values.put("read." + entry.getKey() + ".messages", entry.getValue().getAndSet(0));
+		}
+		values.put("frame.sizes.written", histogram(writtenFrameSizes));
+		values.put("frame.sizes.read", histogram(readFrameSizes));
+		return values;
+	}
+
+	/**
+	 * The power of two bucket for a size: n for sizes from 2^(n-1) up to 2^n.
+	 */
+	static int bucket(int size) {
+		return 32 - Integer.numberOfLeadingZeros(Math.max(0, size));
+	}
+
+	private static Map<String, Long> histogram(AtomicLongArray buckets) {
+		Map<String, Long> histogram = new HashMap<String, Long>();
+		for (int i = 0; i < buckets.length(); i++) {
+			long count = buckets.getAndSet(i, 0);
+			if (count > 0) {
+				histogram.put("<" + (1L << i), count);
+			}
+		}
+		return histogram;
+	}
+
+	private static AtomicLong counter(ConcurrentHashMap<String, AtomicLong> map, String key) {
+		AtomicLong counter = map.get(key);
+		if (counter == null) {
+			counter = new AtomicLong();
+			AtomicLong existing = map.putIfAbsent(key, counter);
+			if (existing != null) {
+				counter = existing;
+			}
+		}
+		return counter;
+	}
+}
@@ -0,0 +1,321 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import backtype.storm.task.TopologyContext;
+
+import com.google.protobuf.CodedOutputStream;
+
+/**
+ * The part of the Context that every task of a topology in a worker shares:
+ * the Confs, the task to component mapping, the Dictionary and the Codecs.
+ * It is encoded once and cached per worker, keyed on the conf, the task
+ * mapping and the topology, and each connect only encodes the fields of its
+ * own task after it.
+ *
+ * Storm hands the tasks of an executor the same conf and task mapping
+ * instances, so those are looked up by identity first. Such a hit is only
+ * used while the maps still hash as they did, which is cheap for Storm's
+ * persistent maps, as a conf can be changed after it was handed out. The
+ * instances are only weakly referenced, so the lookup does not keep confs
+ * alive. Otherwise the maps are compared with the cached ones by content,
+ * which lets the executors of a worker, each with its own but equal conf,
+ * share the encoded fields.
+ *
+ * This relies on protocol buffer parsers merging an embedded message that
+ * appears more than once, so that the shared Topology with the task mapping
+ * and the task's own Topology with its TaskId parse as a single Topology.
+ */
+class SharedContext {
+	private static final int CACHE_SIZE = 16;
+	private static final int INSTANCE_CACHE_SIZE = 256;
+
+	private static final Map<Key, SharedContext> cache = Collections.synchronizedMap(
+			new LinkedHashMap<Key, SharedContext>(CACHE_SIZE, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Key, SharedContext> eldest) {
+					return size() > CACHE_SIZE;
+				}
+			});
+
+	private static final Map<InstanceKey, SharedContext> byInstance = Collections.synchronizedMap(
+			new LinkedHashMap<InstanceKey, SharedContext>(INSTANCE_CACHE_SIZE, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<InstanceKey, SharedContext> eldest) {
+					return size() > INSTANCE_CACHE_SIZE;
+				}
+			});
+
+	/**
+	 * Identifies the conf and task mapping instances a task was given, and
+	 * what their contents hashed to.
+	 */
+	private static class InstanceKey {
+		private final WeakReference<Map> conf;
+		private final WeakReference<Map<Integer, String>> taskToComponent;
+		private final String stormId;
+		private final EnumSet<ShellMessages.Capability> offered;
+		private final int identityHash;
+		private final int contentHash;
+
+		InstanceKey(Map conf, Map<Integer, String> taskToComponent, String stormId, EnumSet<ShellMessages.Capability> offered,
+				int contentHash) {
+			this.conf = new WeakReference<Map>(conf);
+			this.taskToComponent = new WeakReference<Map<Integer, String>>(taskToComponent);
+			this.stormId = stormId;
+			this.offered = EnumSet.copyOf(offered);
+			this.identityHash = System.identityHashCode(conf) * 31 + System.identityHashCode(taskToComponent);
+			this.contentHash = contentHash;
+		}
+
+		@Override
+		public int hashCode() {
+			return identityHash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof InstanceKey)) {
+				return false;
+			}
+			InstanceKey other = (InstanceKey)o;
+			Map confInstance = conf.get();
+			Map<Integer, String> tasksInstance = taskToComponent.get();
+			return confInstance != null && tasksInstance != null
+					&& confInstance == other.conf.get() && tasksInstance == other.taskToComponent.get()
+					&& contentHash == other.contentHash
+					&& (stormId == null ? other.stormId == null : stormId.equals(other.stormId))
+					&& offered.equals(other.offered);
+		}
+	}
+
+	/**
+	 * Identifies the contents of a conf and task mapping.
+	 */
+	private static class Key {
+		private final Map conf;
+		private final Map<Integer, String> taskToComponent;
+		private final String stormId;
+		private final EnumSet<ShellMessages.Capability> offered;
+		private final int hash;
+
+		Key(Map conf, Map<Integer, String> taskToComponent, String stormId, EnumSet<ShellMessages.Capability> offered) {
+			this.conf = conf;
+			this.taskToComponent = taskToComponent;
+			this.stormId = stormId;
+			this.offered = offered;
+			this.hash = contentHash(conf, taskToComponent);
+		}
+
+		static int contentHash(Map conf, Map<Integer, String> taskToComponent) {
+			return conf.hashCode() * 31 + taskToComponent.hashCode();
+		}
+
+		/**
+		 * A key that no longer refers to maps the caller might change.
+		 */
+		Key copy() {
+			return new Key(new HashMap<Object, Object>((Map<?, ?>)conf), new HashMap<Integer, String>(taskToComponent), stormId,
+					EnumSet.copyOf(offered));
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key)o;
+			return hash == other.hash
+					&& (stormId == null ? other.stormId == null : stormId.equals(other.stormId))
+					&& offered.equals(other.offered)
+					&& taskToComponent.equals(other.taskToComponent)
+					&& conf.equals(other.conf);
+		}
+	}
+
+	private final byte[] encoded;
+	private final List<String> codecs;
+	private final List<String> codecNames;
+	private final StringDictionary dictionary;
+
+	private SharedContext(byte[] encoded, List<String> codecs, List<String> codecNames, StringDictionary dictionary) {
+		this.encoded = encoded;
+		this.codecs = codecs;
+		this.codecNames = codecNames;
+		this.dictionary = dictionary;
+	}
+
+	/**
+	 * The shared Context fields for a task, from the cache if another task
+	 * of the worker has already encoded them.
+	 */
+	static SharedContext forTask(Map conf, TopologyContext context, EnumSet<ShellMessages.Capability> offered) {
+		Key key = new Key(conf, context.getTaskToComponent(), context.getStormId(), offered);
+		InstanceKey instanceKey = new InstanceKey(conf, context.getTaskToComponent(), context.getStormId(), offered,
+				key.hashCode());
+		SharedContext shared = byInstance.get(instanceKey);
+		if (shared != null) {
+			return shared;
+		}
+		shared = cache.get(key);
+		if (shared == null) {
+			shared = encode(conf, context, offered);
+			cache.put(key.copy(), shared);
+		}
+		byInstance.put(instanceKey, shared);
+		return shared;
+	}
+
+	private static SharedContext encode(Map conf, TopologyContext context, EnumSet<ShellMessages.Capability> offered) {
+		ShellMessages.Context.Builder setupInfo = ShellMessages.Context.newBuilder();
+
+		// Values are only formatted for the keys that are sent
+		List<String> confKeys = ProtoShellConfig.getList(conf, ProtoShellConfig.CONF_KEYS);
+		ShellMessages.Conf.Builder confRecBuilder = ShellMessages.Conf.newBuilder();
+		for (Object o : conf.entrySet()) {
+			Map.Entry entry = (Map.Entry)o;
+			if (entry.getValue() != null
+					&& (confKeys == null || ProtoShellConfig.matchesKey(confKeys, entry.getKey().toString()))) {
+				setupInfo.addConfs(confRecBuilder
+						.setKey(entry.getKey().toString())
+						.setValue(entry.getValue().toString())
+						.build());
+			}
+		}
+
+		ShellMessages.Topology.Builder topologyBuilder = ShellMessages.Topology.newBuilder();
+		if (ProtoShellConfig.getBoolean(conf, ProtoShellConfig.COMPACT_TASK_MAPPINGS, false)) {
+			addTaskRanges(topologyBuilder, context.getTaskToComponent());
+		} else {
+			ShellMessages.TaskComponentMapping.Builder mappingBuilder = ShellMessages.TaskComponentMapping.newBuilder();
+			for (Map.Entry<Integer, String> entry : context.getTaskToComponent().entrySet()) {
+				topologyBuilder.addTaskComponentMappings(mappingBuilder
+						.setTask(entry.getKey().toString())
+						.setComponent(entry.getValue())
+						.build());
+			}
+		}
+		setupInfo.setTopology(topologyBuilder.build());
+
+		List<String> codecs = new ArrayList<String>();
+		List<String> codecNames = new ArrayList<String>();
+		if (offered.contains(ShellMessages.Capability.COMPRESSION)) {
+			for (String codec : ProtoShellConfig.getString(conf, ProtoShellConfig.COMPRESSION_CODECS, "lz4,deflate").split(",")) {
+				if (codec.trim().length() > 0) {
+					codecs.add(codec.trim());
+					codecNames.add(ProtoShellConfig.newCodec(codec.trim()).getName());
+				}
+			}
+			setupInfo.addAllCodecs(codecNames);
+		}
+
+		StringDictionary dictionary = null;
+		if (offered.contains(ShellMessages.Capability.INTERNED_STRINGS)) {
+			dictionary = StringDictionary.forContext(context);
+			setupInfo.addAllDictionary(dictionary.getStrings());
+		}
+		return new SharedContext(setupInfo.build().toByteArray(), codecs, codecNames, dictionary);
+	}
+
+	/**
+	 * Describes the task to component mapping as a table of component names
+	 * and runs of consecutive tasks of the same component. Storm numbers the
+	 * tasks of each component consecutively, so there is usually one run per
+	 * component.
+	 */
+	static void addTaskRanges(ShellMessages.Topology.Builder topology, Map<Integer, String> taskToComponent) {
+		Integer[] tasks = taskToComponent.keySet().toArray(new Integer[taskToComponent.size()]);
+		Arrays.sort(tasks);
+		Map<String, Integer> components = new HashMap<String, Integer>();
+		ShellMessages.TaskRange.Builder range = null;
+		for (Integer task : tasks) {
+			String component = taskToComponent.get(task);
+			Integer index = components.get(component);
+			if (index == null) {
+				index = components.size();
+				components.put(component, index);
+				topology.addComponents(component);
+			}
+			if (range != null && range.getComponent() == index
+					&& range.getFirstTask() + range.getCount() == task) {
+				range.setCount(range.getCount() + 1);
+				continue;
+			}
+			if (range != null) {
+				topology.addTaskRanges(range);
+			}
+			range = ShellMessages.TaskRange.newBuilder()
+					.setComponent(index)
+					.setFirstTask(task)
+					.setCount(1);
+		}
+		if (range != null) {
+			topology.addTaskRanges(range);
+		}
+	}
+
+	/**
+	 * The Context frame for a task: the length prefix, the shared fields and
+	 * then the task's own fields.
+	 */
+	byte[] frame(ShellMessages.Context taskFields) throws IOException {
+		int size = encoded.length + taskFields.getSerializedSize();
+		byte[] frame = new byte[CodedOutputStream.computeRawVarint32Size(size) + size];
+		CodedOutputStream out = CodedOutputStream.newInstance(frame);
+		out.writeRawVarint32(size);
+		out.writeRawBytes(encoded);
+		taskFields.writeTo(out);
+		out.checkNoSpaceLeft();
+		return frame;
+	}
+
+	/**
+	 * The offered codecs as configured, which are either built-in names or
+	 * class names.
+	 */
+	List<String> getCodecs() {
+		return codecs;
+	}
+
+	/**
+	 * The names of the offered codecs, as sent in the Context.
+	 */
+	List<String> getCodecNames() {
+		return codecNames;
+	}
+
+	/**
+	 * The offered dictionary, which is only read and so shared between tasks.
+	 */
+	StringDictionary getDictionary() {
+		return dictionary;
+	}
+}
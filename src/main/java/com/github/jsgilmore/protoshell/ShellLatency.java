@@ -0,0 +1,158 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import backtype.storm.metric.api.IMetric;
+import backtype.storm.multilang.BoltMsg;
+import backtype.storm.multilang.ShellMsg;
+
+/**
+ * Measures how long the shell component takes to answer bolt tuples: from
+ * writeBoltMsg to the first message readShellMsg returns that emits anchored
+ * to the tuple, acks it or fails it. Latencies are kept in a LatencyHistogram
+ * per component and stream of the input tuple, and reported as a map of
+ * "component:stream" to that histogram's summary.
+ *
+ * Tuples on system streams, such as ticks, are not timed, since the shell need
+ * not answer them. Tuples the shell never acks or fails are dropped once they
+ * are older than maxAgeNanos, or once maxPending newer tuples have been sent,
+ * so that they neither grow the table nor keep new tuples from being timed.
+ */
+class ShellLatency implements IMetric {
+	private static class Pending {
+		final String id;
+		final long sent;
+		final LatencyHistogram histogram;
+		boolean answered;
+
+		Pending(String id, long sent, LatencyHistogram histogram) {
+			this.id = id;
+			this.sent = sent;
+			this.histogram = histogram;
+		}
+	}
+
+	private final int maxPending;
+	private final long maxAgeNanos;
+	private final ConcurrentHashMap<String, Pending> pending = new ConcurrentHashMap<String, Pending>();
+	// Every timed tuple in the order it was sent, answered or not. Only used by sent()
+	private final ArrayDeque<Pending> sentOrder = new ArrayDeque<Pending>();
+	private final ConcurrentHashMap<String, ConcurrentHashMap<String, LatencyHistogram>> histograms =
+			new ConcurrentHashMap<String, ConcurrentHashMap<String, LatencyHistogram>>();
+
+	ShellLatency(int maxPending, long maxAgeNanos) {
+		this.maxPending = Math.max(1, maxPending);
+		this.maxAgeNanos = maxAgeNanos;
+	}
+
+	/**
+	 * Starts timing a tuple. Only called while holding the serialiser's monitor.
+	 */
+	void sent(BoltMsg boltMsg) {
+		String id = boltMsg.getId();
+		String component = boltMsg.getComp();
+		String stream = boltMsg.getStream();
+		if (id == null || component == null || stream == null || stream.startsWith("__")) {
+			return;
+		}
+		long now = System.nanoTime();
+		expire(now);
+		Pending tuple = new Pending(id, now, histogram(component, stream));
+		pending.put(id, tuple);
+		sentOrder.add(tuple);
+	}
+
+	private void expire(long now) {
+		Pending oldest;
+		while ((oldest = sentOrder.peek()) != null
+				&& (sentOrder.size() >= maxPending || now - oldest.sent > maxAgeNanos)) {
+			sentOrder.poll();
+			pending.remove(oldest.id, oldest);
+		}
+	}
+
+	/**
+	 * Records the latency of the tuples a message answers. Only called by the
+	 * thread that reads from the shell.
+	 */
+	void received(ShellMsg shellMsg) {
+		String command = shellMsg.getCommand();
+		if ("emit".equals(command)) {
+			List<String> anchors = shellMsg.getAnchors();
+			if (anchors == null) {
+				return;
+			}
+			for (int i = 0; i < anchors.size(); i++) {
+				Pending tuple = pending.get(anchors.get(i));
+				if (tuple != null && !tuple.answered) {
+					answer(tuple);
+				}
+			}
+		} else if (("ack".equals(command) || "fail".equals(command)) && shellMsg.getId() != null) {
+			Pending tuple = pending.remove(shellMsg.getId().toString());
+			if (tuple != null && !tuple.answered) {
+				answer(tuple);
+			}
+		}
+	}
+
+	int pendingCount() {
+		return pending.size();
+	}
+
+	private static void answer(Pending tuple) {
+		tuple.answered = true;
+		tuple.histogram.record(System.nanoTime() - tuple.sent);
+	}
+
+	private LatencyHistogram histogram(String component, String stream) {
+		ConcurrentHashMap<String, LatencyHistogram> streams = histograms.get(component);
+		if (streams == null) {
+			streams = new ConcurrentHashMap<String, LatencyHistogram>();
+			ConcurrentHashMap<String, LatencyHistogram> existing = histograms.putIfAbsent(component, streams);
+			if (existing != null) {
+				streams = existing;
+			}
+		}
+		LatencyHistogram histogram = streams.get(stream);
+		if (histogram == null) {
+			histogram = new LatencyHistogram();
+			LatencyHistogram existing = streams.putIfAbsent(stream, histogram);
+			if (existing != null) {
+				histogram = existing;
+			}
+		}
+		return histogram;
+	}
+
+	public Object getValueAndReset() {
+		Map<String, Object> values = new HashMap<String, Object>();
+		for (Map.Entry<String, ConcurrentHashMap<String, LatencyHistogram>> component : histograms.entrySet()) {
+			for (Map.Entry<String, LatencyHistogram> stream : component.getValue().entrySet()) {
+				Map<String, Object> summary = stream.getValue().getValueAndReset();
+				if (summary != null) {
+					values.put(component.getKey() + ":" + stream.getKey(), summary);
+				}
+			}
+		}
+		return values;
+	}
+}
@@ -8,6 +8,160 @@ public final class ShellMessages {
   public static void registerAllExtensions(
       com.google.protobuf.ExtensionRegistry registry) {
   }
+  /**
+   * Protobuf enum {@code messages.Capability}
+   */
+  public enum Capability
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>BOLT_BATCH = 1;</code>
+     */
+    BOLT_BATCH(0, 1),
+    /**
+     * <code>SHELL_BATCH = 2;</code>
+     */
+    SHELL_BATCH(1, 2),
+    /**
+     * <code>COMPRESSION = 3;</code>
+     */
+    COMPRESSION(2, 3),
+    /**
+     * <code>INTERNED_STRINGS = 4;</code>
+     */
+    INTERNED_STRINGS(3, 4),
+    /**
+     * <code>SHARED_MEMORY = 5;</code>
+     */
+    SHARED_MEMORY(4, 5),
+    /**
+     * <code>NUMERIC_IDS = 6;</code>
+     */
+    NUMERIC_IDS(5, 6),
+    /**
+     * <code>ACK_BATCH = 7;</code>
+     */
+    ACK_BATCH(6, 7),
+    /**
+     * <code>SPOUT_CREDITS = 8;</code>
+     */
+    SPOUT_CREDITS(7, 8),
+    /**
+     * <code>GET_CONF = 9;</code>
+     */
+    GET_CONF(8, 9),
+    /**
+     * <code>MULTIPLEX = 10;</code>
+     */
+    MULTIPLEX(9, 10),
+    ;
+
+    /**
+     * <code>BOLT_BATCH = 1;</code>
+     */
+    public static final int BOLT_BATCH_VALUE = 1;
+    /**
+     * <code>SHELL_BATCH = 2;</code>
+     */
+    public static final int SHELL_BATCH_VALUE = 2;
+    /**
+     * <code>COMPRESSION = 3;</code>
+     */
+    public static final int COMPRESSION_VALUE = 3;
+    /**
+     * <code>INTERNED_STRINGS = 4;</code>
+     */
+    public static final int INTERNED_STRINGS_VALUE = 4;
+    /**
+     * <code>SHARED_MEMORY = 5;</code>
+     */
+    public static final int SHARED_MEMORY_VALUE = 5;
+    /**
+     * <code>NUMERIC_IDS = 6;</code>
+     */
+    public static final int NUMERIC_IDS_VALUE = 6;
+    /**
+     * <code>ACK_BATCH = 7;</code>
+     */
+    public static final int ACK_BATCH_VALUE = 7;
+    /**
+     * <code>SPOUT_CREDITS = 8;</code>
+     */
+    public static final int SPOUT_CREDITS_VALUE = 8;
+    /**
+     * <code>GET_CONF = 9;</code>
+     */
+    public static final int GET_CONF_VALUE = 9;
+    /**
+     * <code>MULTIPLEX = 10;</code>
+     */
+    public static final int MULTIPLEX_VALUE = 10;
+
+
+    public final int getNumber() { return value; }
+
+    public static Capability valueOf(int value) {
+      switch (value) {
+        case 1: return BOLT_BATCH;
+        case 2: return SHELL_BATCH;
+        case 3: return COMPRESSION;
+        case 4: return INTERNED_STRINGS;
+        case 5: return SHARED_MEMORY;
+        case 6: return NUMERIC_IDS;
+        case 7: return ACK_BATCH;
+        case 8: return SPOUT_CREDITS;
+        case 9: return GET_CONF;
+        case 10: return MULTIPLEX;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<Capability>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static com.google.protobuf.Internal.EnumLiteMap<Capability>
+        internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Capability>() {
+            public Capability findValueByNumber(int number) {
+              return Capability.valueOf(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      return getDescriptor().getValues().get(index);
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return com.github.jsgilmore.protoshell.ShellMessages.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final Capability[] VALUES = values();
+
+    public static Capability valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int index;
+    private final int value;
+
+    private Capability(int index, int value) {
+      this.index = index;
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:messages.Capability)
+  }
+
   public interface TaskComponentMappingOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
@@ -635,63 +789,62 @@ public final class ShellMessages {
     // @@protoc_insertion_point(class_scope:messages.TaskComponentMapping)
   }
 
-  public interface TopologyOrBuilder
+  public interface TaskRangeOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // optional int64 TaskId = 1;
+    // optional uint32 Component = 1;
     /**
-     * <code>optional int64 TaskId = 1;</code>
+     * <code>optional uint32 Component = 1;</code>
      */
-    boolean hasTaskId();
+    boolean hasComponent();
     /**
-     * <code>optional int64 TaskId = 1;</code>
+     * <code>optional uint32 Component = 1;</code>
      */
-    long getTaskId();
+    int getComponent();
 
-    // repeated .messages.TaskComponentMapping TaskComponentMappings = 2;
-    /**
-     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
-     */
-    java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping> 
-        getTaskComponentMappingsList();
+    // optional sint32 FirstTask = 2;
     /**
-     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+     * <code>optional sint32 FirstTask = 2;</code>
      */
-    com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping getTaskComponentMappings(int index);
+    boolean hasFirstTask();
     /**
-     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+     * <code>optional sint32 FirstTask = 2;</code>
      */
-    int getTaskComponentMappingsCount();
+    int getFirstTask();
+
+    // optional uint32 Count = 3;
     /**
-     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+     * <code>optional uint32 Count = 3;</code>
      */
-    java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder> 
-        getTaskComponentMappingsOrBuilderList();
+    boolean hasCount();
     /**
-     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+     * <code>optional uint32 Count = 3;</code>
      */
-    com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder getTaskComponentMappingsOrBuilder(
-        int index);
+    int getCount();
   }
   /**
-   * Protobuf type {@code messages.Topology}
+   * Protobuf type {@code messages.TaskRange}
+   *
+   * <pre>
+   * Tasks FirstTask to FirstTask + Count - 1 all belong to Components[Component]
+   * </pre>
    */
-  public static final class Topology extends
+  public static final class TaskRange extends
       com.google.protobuf.GeneratedMessage
-      implements TopologyOrBuilder {
-    // Use Topology.newBuilder() to construct.
-    private Topology(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements TaskRangeOrBuilder {
+    // Use TaskRange.newBuilder() to construct.
+    private TaskRange(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private Topology(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private TaskRange(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final Topology defaultInstance;
-    public static Topology getDefaultInstance() {
+    private static final TaskRange defaultInstance;
+    public static TaskRange getDefaultInstance() {
       return defaultInstance;
     }
 
-    public Topology getDefaultInstanceForType() {
+    public TaskRange getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -701,7 +854,7 @@ public final class ShellMessages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private Topology(
+    private TaskRange(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -726,15 +879,17 @@ public final class ShellMessages {
             }
             case 8: {
               bitField0_ |= 0x00000001;
-              taskId_ = input.readInt64();
+              component_ = input.readUInt32();
               break;
             }
-            case 18: {
-              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                taskComponentMappings_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping>();
-                mutable_bitField0_ |= 0x00000002;
-              }
-              taskComponentMappings_.add(input.readMessage(com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.PARSER, extensionRegistry));
+            case 16: {
+              bitField0_ |= 0x00000002;
+              firstTask_ = input.readSInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              count_ = input.readUInt32();
               break;
             }
           }
@@ -745,96 +900,90 @@ public final class ShellMessages {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          taskComponentMappings_ = java.util.Collections.unmodifiableList(taskComponentMappings_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Topology_descriptor;
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_TaskRange_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Topology_fieldAccessorTable
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_TaskRange_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.github.jsgilmore.protoshell.ShellMessages.Topology.class, com.github.jsgilmore.protoshell.ShellMessages.Topology.Builder.class);
+              com.github.jsgilmore.protoshell.ShellMessages.TaskRange.class, com.github.jsgilmore.protoshell.ShellMessages.TaskRange.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<Topology> PARSER =
-        new com.google.protobuf.AbstractParser<Topology>() {
-      public Topology parsePartialFrom(
+    public static com.google.protobuf.Parser<TaskRange> PARSER =
+        new com.google.protobuf.AbstractParser<TaskRange>() {
+      public TaskRange parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Topology(input, extensionRegistry);
+        return new TaskRange(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Topology> getParserForType() {
+    public com.google.protobuf.Parser<TaskRange> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // optional int64 TaskId = 1;
-    public static final int TASKID_FIELD_NUMBER = 1;
-    private long taskId_;
+    // optional uint32 Component = 1;
+    public static final int COMPONENT_FIELD_NUMBER = 1;
+    private int component_;
     /**
-     * <code>optional int64 TaskId = 1;</code>
+     * <code>optional uint32 Component = 1;</code>
      */
-    public boolean hasTaskId() {
+    public boolean hasComponent() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional int64 TaskId = 1;</code>
+     * <code>optional uint32 Component = 1;</code>
      */
-    public long getTaskId() {
-      return taskId_;
+    public int getComponent() {
+      return component_;
     }
 
-    // repeated .messages.TaskComponentMapping TaskComponentMappings = 2;
-    public static final int TASKCOMPONENTMAPPINGS_FIELD_NUMBER = 2;
-    private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping> taskComponentMappings_;
-    /**
-     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
-     */
-    public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping> getTaskComponentMappingsList() {
-      return taskComponentMappings_;
-    }
+    // optional sint32 FirstTask = 2;
+    public static final int FIRSTTASK_FIELD_NUMBER = 2;
+    private int firstTask_;
     /**
-     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+     * <code>optional sint32 FirstTask = 2;</code>
      */
-    public java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder> 
-        getTaskComponentMappingsOrBuilderList() {
-      return taskComponentMappings_;
+    public boolean hasFirstTask() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+     * <code>optional sint32 FirstTask = 2;</code>
      */
-    public int getTaskComponentMappingsCount() {
-      return taskComponentMappings_.size();
+    public int getFirstTask() {
+      return firstTask_;
     }
+
+    // optional uint32 Count = 3;
+    public static final int COUNT_FIELD_NUMBER = 3;
+    private int count_;
     /**
-     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+     * <code>optional uint32 Count = 3;</code>
      */
-    public com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping getTaskComponentMappings(int index) {
-      return taskComponentMappings_.get(index);
+    public boolean hasCount() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
     }
     /**
-     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+     * <code>optional uint32 Count = 3;</code>
      */
-    public com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder getTaskComponentMappingsOrBuilder(
-        int index) {
-      return taskComponentMappings_.get(index);
+    public int getCount() {
+      return count_;
     }
 
     private void initFields() {
-      taskId_ = 0L;
-      taskComponentMappings_ = java.util.Collections.emptyList();
+      component_ = 0;
+      firstTask_ = 0;
+      count_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -849,10 +998,13 @@ public final class ShellMessages {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeInt64(1, taskId_);
+        output.writeUInt32(1, component_);
       }
-      for (int i = 0; i < taskComponentMappings_.size(); i++) {
-        output.writeMessage(2, taskComponentMappings_.get(i));
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeSInt32(2, firstTask_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeUInt32(3, count_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -865,11 +1017,15 @@ public final class ShellMessages {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(1, taskId_);
+          .computeUInt32Size(1, component_);
       }
-      for (int i = 0; i < taskComponentMappings_.size(); i++) {
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, taskComponentMappings_.get(i));
+          .computeSInt32Size(2, firstTask_);
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(3, count_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -883,53 +1039,53 @@ public final class ShellMessages {
       return super.writeReplace();
     }
 
-    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskRange parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskRange parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseFrom(byte[] data)
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskRange parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskRange parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskRange parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskRange parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseDelimitedFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskRange parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseDelimitedFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskRange parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskRange parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskRange parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -938,7 +1094,7 @@ public final class ShellMessages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.Topology prototype) {
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.TaskRange prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -950,24 +1106,28 @@ public final class ShellMessages {
       return builder;
     }
     /**
-     * Protobuf type {@code messages.Topology}
+     * Protobuf type {@code messages.TaskRange}
+     *
+     * <pre>
+     * Tasks FirstTask to FirstTask + Count - 1 all belong to Components[Component]
+     * </pre>
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements com.github.jsgilmore.protoshell.ShellMessages.TopologyOrBuilder {
+       implements com.github.jsgilmore.protoshell.ShellMessages.TaskRangeOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Topology_descriptor;
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_TaskRange_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Topology_fieldAccessorTable
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_TaskRange_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.github.jsgilmore.protoshell.ShellMessages.Topology.class, com.github.jsgilmore.protoshell.ShellMessages.Topology.Builder.class);
+                com.github.jsgilmore.protoshell.ShellMessages.TaskRange.class, com.github.jsgilmore.protoshell.ShellMessages.TaskRange.Builder.class);
       }
 
-      // Construct using com.github.jsgilmore.protoshell.ShellMessages.Topology.newBuilder()
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.TaskRange.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -979,7 +1139,6 @@ public final class ShellMessages {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getTaskComponentMappingsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -988,14 +1147,12 @@ public final class ShellMessages {
 
       public Builder clear() {
         super.clear();
-        taskId_ = 0L;
+        component_ = 0;
         bitField0_ = (bitField0_ & ~0x00000001);
-        if (taskComponentMappingsBuilder_ == null) {
-          taskComponentMappings_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000002);
-        } else {
-          taskComponentMappingsBuilder_.clear();
-        }
+        firstTask_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        count_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -1005,82 +1162,61 @@ public final class ShellMessages {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Topology_descriptor;
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_TaskRange_descriptor;
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.Topology getDefaultInstanceForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.Topology.getDefaultInstance();
+      public com.github.jsgilmore.protoshell.ShellMessages.TaskRange getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.TaskRange.getDefaultInstance();
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.Topology build() {
-        com.github.jsgilmore.protoshell.ShellMessages.Topology result = buildPartial();
+      public com.github.jsgilmore.protoshell.ShellMessages.TaskRange build() {
+        com.github.jsgilmore.protoshell.ShellMessages.TaskRange result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.Topology buildPartial() {
-        com.github.jsgilmore.protoshell.ShellMessages.Topology result = new com.github.jsgilmore.protoshell.ShellMessages.Topology(this);
+      public com.github.jsgilmore.protoshell.ShellMessages.TaskRange buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.TaskRange result = new com.github.jsgilmore.protoshell.ShellMessages.TaskRange(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.taskId_ = taskId_;
-        if (taskComponentMappingsBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) == 0x00000002)) {
-            taskComponentMappings_ = java.util.Collections.unmodifiableList(taskComponentMappings_);
-            bitField0_ = (bitField0_ & ~0x00000002);
-          }
-          result.taskComponentMappings_ = taskComponentMappings_;
-        } else {
-          result.taskComponentMappings_ = taskComponentMappingsBuilder_.build();
+        result.component_ = component_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.firstTask_ = firstTask_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
         }
+        result.count_ = count_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.Topology) {
-          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.Topology)other);
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.TaskRange) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.TaskRange)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.Topology other) {
-        if (other == com.github.jsgilmore.protoshell.ShellMessages.Topology.getDefaultInstance()) return this;
-        if (other.hasTaskId()) {
-          setTaskId(other.getTaskId());
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.TaskRange other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.TaskRange.getDefaultInstance()) return this;
+        if (other.hasComponent()) {
+          setComponent(other.getComponent());
         }
-        if (taskComponentMappingsBuilder_ == null) {
-          if (!other.taskComponentMappings_.isEmpty()) {
-            if (taskComponentMappings_.isEmpty()) {
-              taskComponentMappings_ = other.taskComponentMappings_;
-              bitField0_ = (bitField0_ & ~0x00000002);
-            } else {
-              ensureTaskComponentMappingsIsMutable();
-              taskComponentMappings_.addAll(other.taskComponentMappings_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.taskComponentMappings_.isEmpty()) {
-            if (taskComponentMappingsBuilder_.isEmpty()) {
-              taskComponentMappingsBuilder_.dispose();
-              taskComponentMappingsBuilder_ = null;
-              taskComponentMappings_ = other.taskComponentMappings_;
-              bitField0_ = (bitField0_ & ~0x00000002);
-              taskComponentMappingsBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getTaskComponentMappingsFieldBuilder() : null;
-            } else {
-              taskComponentMappingsBuilder_.addAllMessages(other.taskComponentMappings_);
-            }
-          }
+        if (other.hasFirstTask()) {
+          setFirstTask(other.getFirstTask());
+        }
+        if (other.hasCount()) {
+          setCount(other.getCount());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
@@ -1094,11 +1230,11 @@ public final class ShellMessages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.github.jsgilmore.protoshell.ShellMessages.Topology parsedMessage = null;
+        com.github.jsgilmore.protoshell.ShellMessages.TaskRange parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.Topology) e.getUnfinishedMessage();
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.TaskRange) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -1109,342 +1245,218 @@ public final class ShellMessages {
       }
       private int bitField0_;
 
-      // optional int64 TaskId = 1;
-      private long taskId_ ;
+      // optional uint32 Component = 1;
+      private int component_ ;
       /**
-       * <code>optional int64 TaskId = 1;</code>
+       * <code>optional uint32 Component = 1;</code>
        */
-      public boolean hasTaskId() {
+      public boolean hasComponent() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional int64 TaskId = 1;</code>
+       * <code>optional uint32 Component = 1;</code>
        */
-      public long getTaskId() {
-        return taskId_;
+      public int getComponent() {
+        return component_;
       }
       /**
-       * <code>optional int64 TaskId = 1;</code>
+       * <code>optional uint32 Component = 1;</code>
        */
-      public Builder setTaskId(long value) {
+      public Builder setComponent(int value) {
         bitField0_ |= 0x00000001;
-        taskId_ = value;
+        component_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional int64 TaskId = 1;</code>
+       * <code>optional uint32 Component = 1;</code>
        */
-      public Builder clearTaskId() {
+      public Builder clearComponent() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        taskId_ = 0L;
+        component_ = 0;
         onChanged();
         return this;
       }
 
-      // repeated .messages.TaskComponentMapping TaskComponentMappings = 2;
-      private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping> taskComponentMappings_ =
-        java.util.Collections.emptyList();
-      private void ensureTaskComponentMappingsIsMutable() {
-        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
-          taskComponentMappings_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping>(taskComponentMappings_);
-          bitField0_ |= 0x00000002;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilder<
-          com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder> taskComponentMappingsBuilder_;
-
-      /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
-       */
-      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping> getTaskComponentMappingsList() {
-        if (taskComponentMappingsBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(taskComponentMappings_);
-        } else {
-          return taskComponentMappingsBuilder_.getMessageList();
-        }
-      }
-      /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
-       */
-      public int getTaskComponentMappingsCount() {
-        if (taskComponentMappingsBuilder_ == null) {
-          return taskComponentMappings_.size();
-        } else {
-          return taskComponentMappingsBuilder_.getCount();
-        }
-      }
-      /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
-       */
-      public com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping getTaskComponentMappings(int index) {
-        if (taskComponentMappingsBuilder_ == null) {
-          return taskComponentMappings_.get(index);
-        } else {
-          return taskComponentMappingsBuilder_.getMessage(index);
-        }
-      }
-      /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
-       */
-      public Builder setTaskComponentMappings(
-          int index, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping value) {
-        if (taskComponentMappingsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureTaskComponentMappingsIsMutable();
-          taskComponentMappings_.set(index, value);
-          onChanged();
-        } else {
-          taskComponentMappingsBuilder_.setMessage(index, value);
-        }
-        return this;
-      }
+      // optional sint32 FirstTask = 2;
+      private int firstTask_ ;
       /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       * <code>optional sint32 FirstTask = 2;</code>
        */
-      public Builder setTaskComponentMappings(
-          int index, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder builderForValue) {
-        if (taskComponentMappingsBuilder_ == null) {
-          ensureTaskComponentMappingsIsMutable();
-          taskComponentMappings_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          taskComponentMappingsBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
+      public boolean hasFirstTask() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       * <code>optional sint32 FirstTask = 2;</code>
        */
-      public Builder addTaskComponentMappings(com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping value) {
-        if (taskComponentMappingsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureTaskComponentMappingsIsMutable();
-          taskComponentMappings_.add(value);
-          onChanged();
-        } else {
-          taskComponentMappingsBuilder_.addMessage(value);
-        }
-        return this;
+      public int getFirstTask() {
+        return firstTask_;
       }
       /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       * <code>optional sint32 FirstTask = 2;</code>
        */
-      public Builder addTaskComponentMappings(
-          int index, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping value) {
-        if (taskComponentMappingsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureTaskComponentMappingsIsMutable();
-          taskComponentMappings_.add(index, value);
-          onChanged();
-        } else {
-          taskComponentMappingsBuilder_.addMessage(index, value);
-        }
+      public Builder setFirstTask(int value) {
+        bitField0_ |= 0x00000002;
+        firstTask_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       * <code>optional sint32 FirstTask = 2;</code>
        */
-      public Builder addTaskComponentMappings(
-          com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder builderForValue) {
-        if (taskComponentMappingsBuilder_ == null) {
-          ensureTaskComponentMappingsIsMutable();
-          taskComponentMappings_.add(builderForValue.build());
-          onChanged();
-        } else {
-          taskComponentMappingsBuilder_.addMessage(builderForValue.build());
-        }
+      public Builder clearFirstTask() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        firstTask_ = 0;
+        onChanged();
         return this;
       }
+
+      // optional uint32 Count = 3;
+      private int count_ ;
       /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       * <code>optional uint32 Count = 3;</code>
        */
-      public Builder addTaskComponentMappings(
-          int index, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder builderForValue) {
-        if (taskComponentMappingsBuilder_ == null) {
-          ensureTaskComponentMappingsIsMutable();
-          taskComponentMappings_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          taskComponentMappingsBuilder_.addMessage(index, builderForValue.build());
-        }
-        return this;
+      public boolean hasCount() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       * <code>optional uint32 Count = 3;</code>
        */
-      public Builder addAllTaskComponentMappings(
-          java.lang.Iterable<? extends com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping> values) {
-        if (taskComponentMappingsBuilder_ == null) {
-          ensureTaskComponentMappingsIsMutable();
-          super.addAll(values, taskComponentMappings_);
-          onChanged();
-        } else {
-          taskComponentMappingsBuilder_.addAllMessages(values);
-        }
-        return this;
+      public int getCount() {
+        return count_;
       }
       /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       * <code>optional uint32 Count = 3;</code>
        */
-      public Builder clearTaskComponentMappings() {
-        if (taskComponentMappingsBuilder_ == null) {
-          taskComponentMappings_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000002);
-          onChanged();
-        } else {
-          taskComponentMappingsBuilder_.clear();
-        }
+      public Builder setCount(int value) {
+        bitField0_ |= 0x00000004;
+        count_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       * <code>optional uint32 Count = 3;</code>
        */
-      public Builder removeTaskComponentMappings(int index) {
-        if (taskComponentMappingsBuilder_ == null) {
-          ensureTaskComponentMappingsIsMutable();
-          taskComponentMappings_.remove(index);
-          onChanged();
-        } else {
-          taskComponentMappingsBuilder_.remove(index);
-        }
+      public Builder clearCount() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        count_ = 0;
+        onChanged();
         return this;
       }
-      /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
-       */
-      public com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder getTaskComponentMappingsBuilder(
-          int index) {
-        return getTaskComponentMappingsFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
-       */
-      public com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder getTaskComponentMappingsOrBuilder(
-          int index) {
-        if (taskComponentMappingsBuilder_ == null) {
-          return taskComponentMappings_.get(index);  } else {
-          return taskComponentMappingsBuilder_.getMessageOrBuilder(index);
-        }
-      }
-      /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
-       */
-      public java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder> 
-           getTaskComponentMappingsOrBuilderList() {
-        if (taskComponentMappingsBuilder_ != null) {
-          return taskComponentMappingsBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(taskComponentMappings_);
-        }
-      }
-      /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
-       */
-      public com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder addTaskComponentMappingsBuilder() {
-        return getTaskComponentMappingsFieldBuilder().addBuilder(
-            com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
-       */
-      public com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder addTaskComponentMappingsBuilder(
-          int index) {
-        return getTaskComponentMappingsFieldBuilder().addBuilder(
-            index, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
-       */
-      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder> 
-           getTaskComponentMappingsBuilderList() {
-        return getTaskComponentMappingsFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder> 
-          getTaskComponentMappingsFieldBuilder() {
-        if (taskComponentMappingsBuilder_ == null) {
-          taskComponentMappingsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder>(
-                  taskComponentMappings_,
-                  ((bitField0_ & 0x00000002) == 0x00000002),
-                  getParentForChildren(),
-                  isClean());
-          taskComponentMappings_ = null;
-        }
-        return taskComponentMappingsBuilder_;
-      }
 
-      // @@protoc_insertion_point(builder_scope:messages.Topology)
+      // @@protoc_insertion_point(builder_scope:messages.TaskRange)
     }
 
     static {
-      defaultInstance = new Topology(true);
+      defaultInstance = new TaskRange(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:messages.Topology)
+    // @@protoc_insertion_point(class_scope:messages.TaskRange)
   }
 
-  public interface ConfOrBuilder
+  public interface TopologyOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // optional string Key = 1;
+    // optional int64 TaskId = 1;
     /**
-     * <code>optional string Key = 1;</code>
+     * <code>optional int64 TaskId = 1;</code>
      */
-    boolean hasKey();
+    boolean hasTaskId();
     /**
-     * <code>optional string Key = 1;</code>
+     * <code>optional int64 TaskId = 1;</code>
      */
-    java.lang.String getKey();
+    long getTaskId();
+
+    // repeated .messages.TaskComponentMapping TaskComponentMappings = 2;
     /**
-     * <code>optional string Key = 1;</code>
+     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
      */
-    com.google.protobuf.ByteString
-        getKeyBytes();
+    java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping> 
+        getTaskComponentMappingsList();
+    /**
+     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+     */
+    com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping getTaskComponentMappings(int index);
+    /**
+     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+     */
+    int getTaskComponentMappingsCount();
+    /**
+     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+     */
+    java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder> 
+        getTaskComponentMappingsOrBuilderList();
+    /**
+     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+     */
+    com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder getTaskComponentMappingsOrBuilder(
+        int index);
 
-    // optional string Value = 2;
+    // repeated string Components = 3;
     /**
-     * <code>optional string Value = 2;</code>
+     * <code>repeated string Components = 3;</code>
      */
-    boolean hasValue();
+    java.util.List<java.lang.String>
+    getComponentsList();
     /**
-     * <code>optional string Value = 2;</code>
+     * <code>repeated string Components = 3;</code>
      */
-    java.lang.String getValue();
+    int getComponentsCount();
     /**
-     * <code>optional string Value = 2;</code>
+     * <code>repeated string Components = 3;</code>
+     */
+    java.lang.String getComponents(int index);
+    /**
+     * <code>repeated string Components = 3;</code>
      */
     com.google.protobuf.ByteString
-        getValueBytes();
+        getComponentsBytes(int index);
+
+    // repeated .messages.TaskRange TaskRanges = 4;
+    /**
+     * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+     */
+    java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskRange> 
+        getTaskRangesList();
+    /**
+     * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+     */
+    com.github.jsgilmore.protoshell.ShellMessages.TaskRange getTaskRanges(int index);
+    /**
+     * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+     */
+    int getTaskRangesCount();
+    /**
+     * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+     */
+    java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.TaskRangeOrBuilder> 
+        getTaskRangesOrBuilderList();
+    /**
+     * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+     */
+    com.github.jsgilmore.protoshell.ShellMessages.TaskRangeOrBuilder getTaskRangesOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code messages.Conf}
+   * Protobuf type {@code messages.Topology}
    */
-  public static final class Conf extends
+  public static final class Topology extends
       com.google.protobuf.GeneratedMessage
-      implements ConfOrBuilder {
-    // Use Conf.newBuilder() to construct.
-    private Conf(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements TopologyOrBuilder {
+    // Use Topology.newBuilder() to construct.
+    private Topology(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private Conf(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private Topology(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final Conf defaultInstance;
-    public static Conf getDefaultInstance() {
+    private static final Topology defaultInstance;
+    public static Topology getDefaultInstance() {
       return defaultInstance;
     }
 
-    public Conf getDefaultInstanceForType() {
+    public Topology getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -1454,7 +1466,7 @@ public final class ShellMessages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private Conf(
+    private Topology(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -1477,14 +1489,33 @@ public final class ShellMessages {
               }
               break;
             }
-            case 10: {
+            case 8: {
               bitField0_ |= 0x00000001;
-              key_ = input.readBytes();
+              taskId_ = input.readInt64();
               break;
             }
             case 18: {
-              bitField0_ |= 0x00000002;
-              value_ = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                taskComponentMappings_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              taskComponentMappings_.add(input.readMessage(com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.PARSER, extensionRegistry));
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                components_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              components_.add(input.readBytes());
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                taskRanges_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.TaskRange>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              taskRanges_.add(input.readMessage(com.github.jsgilmore.protoshell.ShellMessages.TaskRange.PARSER, extensionRegistry));
               break;
             }
           }
@@ -1495,127 +1526,170 @@ public final class ShellMessages {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          taskComponentMappings_ = java.util.Collections.unmodifiableList(taskComponentMappings_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          components_ = new com.google.protobuf.UnmodifiableLazyStringList(components_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          taskRanges_ = java.util.Collections.unmodifiableList(taskRanges_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Conf_descriptor;
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Topology_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Conf_fieldAccessorTable
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Topology_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.github.jsgilmore.protoshell.ShellMessages.Conf.class, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder.class);
+              com.github.jsgilmore.protoshell.ShellMessages.Topology.class, com.github.jsgilmore.protoshell.ShellMessages.Topology.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<Conf> PARSER =
-        new com.google.protobuf.AbstractParser<Conf>() {
-      public Conf parsePartialFrom(
+    public static com.google.protobuf.Parser<Topology> PARSER =
+        new com.google.protobuf.AbstractParser<Topology>() {
+      public Topology parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Conf(input, extensionRegistry);
+        return new Topology(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Conf> getParserForType() {
+    public com.google.protobuf.Parser<Topology> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // optional string Key = 1;
-    public static final int KEY_FIELD_NUMBER = 1;
-    private java.lang.Object key_;
+    // optional int64 TaskId = 1;
+    public static final int TASKID_FIELD_NUMBER = 1;
+    private long taskId_;
     /**
-     * <code>optional string Key = 1;</code>
+     * <code>optional int64 TaskId = 1;</code>
      */
-    public boolean hasKey() {
+    public boolean hasTaskId() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional string Key = 1;</code>
+     * <code>optional int64 TaskId = 1;</code>
      */
-    public java.lang.String getKey() {
-      java.lang.Object ref = key_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          key_ = s;
-        }
-        return s;
-      }
+    public long getTaskId() {
+      return taskId_;
     }
+
+    // repeated .messages.TaskComponentMapping TaskComponentMappings = 2;
+    public static final int TASKCOMPONENTMAPPINGS_FIELD_NUMBER = 2;
+    private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping> taskComponentMappings_;
     /**
-     * <code>optional string Key = 1;</code>
+     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
      */
-    public com.google.protobuf.ByteString
-        getKeyBytes() {
-      java.lang.Object ref = key_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        key_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping> getTaskComponentMappingsList() {
+      return taskComponentMappings_;
+    }
+    /**
+     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+     */
+    public java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder> 
+        getTaskComponentMappingsOrBuilderList() {
+      return taskComponentMappings_;
+    }
+    /**
+     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+     */
+    public int getTaskComponentMappingsCount() {
+      return taskComponentMappings_.size();
+    }
+    /**
+     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+     */
+    public com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping getTaskComponentMappings(int index) {
+      return taskComponentMappings_.get(index);
+    }
+    /**
+     * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+     */
+    public com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder getTaskComponentMappingsOrBuilder(
+        int index) {
+      return taskComponentMappings_.get(index);
     }
 
-    // optional string Value = 2;
-    public static final int VALUE_FIELD_NUMBER = 2;
-    private java.lang.Object value_;
+    // repeated string Components = 3;
+    public static final int COMPONENTS_FIELD_NUMBER = 3;
+    private com.google.protobuf.LazyStringList components_;
     /**
-     * <code>optional string Value = 2;</code>
+     * <code>repeated string Components = 3;</code>
      */
-    public boolean hasValue() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public java.util.List<java.lang.String>
+        getComponentsList() {
+      return components_;
     }
     /**
-     * <code>optional string Value = 2;</code>
+     * <code>repeated string Components = 3;</code>
      */
-    public java.lang.String getValue() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          value_ = s;
-        }
-        return s;
-      }
+    public int getComponentsCount() {
+      return components_.size();
     }
     /**
-     * <code>optional string Value = 2;</code>
+     * <code>repeated string Components = 3;</code>
+     */
+    public java.lang.String getComponents(int index) {
+      return components_.get(index);
+    }
+    /**
+     * <code>repeated string Components = 3;</code>
      */
     public com.google.protobuf.ByteString
-        getValueBytes() {
-      java.lang.Object ref = value_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        value_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+        getComponentsBytes(int index) {
+      return components_.getByteString(index);
+    }
+
+    // repeated .messages.TaskRange TaskRanges = 4;
+    public static final int TASKRANGES_FIELD_NUMBER = 4;
+    private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskRange> taskRanges_;
+    /**
+     * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+     */
+    public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskRange> getTaskRangesList() {
+      return taskRanges_;
+    }
+    /**
+     * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+     */
+    public java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.TaskRangeOrBuilder> 
+        getTaskRangesOrBuilderList() {
+      return taskRanges_;
+    }
+    /**
+     * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+     */
+    public int getTaskRangesCount() {
+      return taskRanges_.size();
+    }
+    /**
+     * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+     */
+    public com.github.jsgilmore.protoshell.ShellMessages.TaskRange getTaskRanges(int index) {
+      return taskRanges_.get(index);
+    }
+    /**
+     * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+     */
+    public com.github.jsgilmore.protoshell.ShellMessages.TaskRangeOrBuilder getTaskRangesOrBuilder(
+        int index) {
+      return taskRanges_.get(index);
     }
 
     private void initFields() {
-      key_ = "";
-      value_ = "";
+      taskId_ = 0L;
+      taskComponentMappings_ = java.util.Collections.emptyList();
+      components_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      taskRanges_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -1630,10 +1704,16 @@ public final class ShellMessages {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getKeyBytes());
+        output.writeInt64(1, taskId_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getValueBytes());
+      for (int i = 0; i < taskComponentMappings_.size(); i++) {
+        output.writeMessage(2, taskComponentMappings_.get(i));
+      }
+      for (int i = 0; i < components_.size(); i++) {
+        output.writeBytes(3, components_.getByteString(i));
+      }
+      for (int i = 0; i < taskRanges_.size(); i++) {
+        output.writeMessage(4, taskRanges_.get(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -1646,16 +1726,29 @@ public final class ShellMessages {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getKeyBytes());
+          .computeInt64Size(1, taskId_);
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+      for (int i = 0; i < taskComponentMappings_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getValueBytes());
+          .computeMessageSize(2, taskComponentMappings_.get(i));
       }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSerializedSize = size;
-      return size;
-    }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < components_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(components_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getComponentsList().size();
+      }
+      for (int i = 0; i < taskRanges_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, taskRanges_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
 
     private static final long serialVersionUID = 0L;
     @java.lang.Override
@@ -1664,53 +1757,53 @@ public final class ShellMessages {
       return super.writeReplace();
     }
 
-    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseFrom(byte[] data)
+    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseDelimitedFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseDelimitedFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Topology parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -1719,7 +1812,7 @@ public final class ShellMessages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.Conf prototype) {
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.Topology prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -1731,24 +1824,24 @@ public final class ShellMessages {
       return builder;
     }
     /**
-     * Protobuf type {@code messages.Conf}
+     * Protobuf type {@code messages.Topology}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder {
+       implements com.github.jsgilmore.protoshell.ShellMessages.TopologyOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Conf_descriptor;
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Topology_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Conf_fieldAccessorTable
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Topology_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.github.jsgilmore.protoshell.ShellMessages.Conf.class, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder.class);
+                com.github.jsgilmore.protoshell.ShellMessages.Topology.class, com.github.jsgilmore.protoshell.ShellMessages.Topology.Builder.class);
       }
 
-      // Construct using com.github.jsgilmore.protoshell.ShellMessages.Conf.newBuilder()
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.Topology.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -1760,6 +1853,8 @@ public final class ShellMessages {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getTaskComponentMappingsFieldBuilder();
+          getTaskRangesFieldBuilder();
         }
       }
       private static Builder create() {
@@ -1768,10 +1863,22 @@ public final class ShellMessages {
 
       public Builder clear() {
         super.clear();
-        key_ = "";
+        taskId_ = 0L;
         bitField0_ = (bitField0_ & ~0x00000001);
-        value_ = "";
-        bitField0_ = (bitField0_ & ~0x00000002);
+        if (taskComponentMappingsBuilder_ == null) {
+          taskComponentMappings_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          taskComponentMappingsBuilder_.clear();
+        }
+        components_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (taskRangesBuilder_ == null) {
+          taskRanges_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+        } else {
+          taskRangesBuilder_.clear();
+        }
         return this;
       }
 
@@ -1781,59 +1888,134 @@ public final class ShellMessages {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Conf_descriptor;
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Topology_descriptor;
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.Conf getDefaultInstanceForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.Conf.getDefaultInstance();
+      public com.github.jsgilmore.protoshell.ShellMessages.Topology getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.Topology.getDefaultInstance();
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.Conf build() {
-        com.github.jsgilmore.protoshell.ShellMessages.Conf result = buildPartial();
+      public com.github.jsgilmore.protoshell.ShellMessages.Topology build() {
+        com.github.jsgilmore.protoshell.ShellMessages.Topology result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.Conf buildPartial() {
-        com.github.jsgilmore.protoshell.ShellMessages.Conf result = new com.github.jsgilmore.protoshell.ShellMessages.Conf(this);
+      public com.github.jsgilmore.protoshell.ShellMessages.Topology buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.Topology result = new com.github.jsgilmore.protoshell.ShellMessages.Topology(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.key_ = key_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
+        result.taskId_ = taskId_;
+        if (taskComponentMappingsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            taskComponentMappings_ = java.util.Collections.unmodifiableList(taskComponentMappings_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.taskComponentMappings_ = taskComponentMappings_;
+        } else {
+          result.taskComponentMappings_ = taskComponentMappingsBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          components_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              components_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.components_ = components_;
+        if (taskRangesBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008)) {
+            taskRanges_ = java.util.Collections.unmodifiableList(taskRanges_);
+            bitField0_ = (bitField0_ & ~0x00000008);
+          }
+          result.taskRanges_ = taskRanges_;
+        } else {
+          result.taskRanges_ = taskRangesBuilder_.build();
         }
-        result.value_ = value_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.Conf) {
-          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.Conf)other);
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.Topology) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.Topology)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.Conf other) {
-        if (other == com.github.jsgilmore.protoshell.ShellMessages.Conf.getDefaultInstance()) return this;
-        if (other.hasKey()) {
-          bitField0_ |= 0x00000001;
-          key_ = other.key_;
-          onChanged();
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.Topology other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.Topology.getDefaultInstance()) return this;
+        if (other.hasTaskId()) {
+          setTaskId(other.getTaskId());
         }
-        if (other.hasValue()) {
-          bitField0_ |= 0x00000002;
-          value_ = other.value_;
+        if (taskComponentMappingsBuilder_ == null) {
+          if (!other.taskComponentMappings_.isEmpty()) {
+            if (taskComponentMappings_.isEmpty()) {
+              taskComponentMappings_ = other.taskComponentMappings_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureTaskComponentMappingsIsMutable();
+              taskComponentMappings_.addAll(other.taskComponentMappings_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.taskComponentMappings_.isEmpty()) {
+            if (taskComponentMappingsBuilder_.isEmpty()) {
+              taskComponentMappingsBuilder_.dispose();
+              taskComponentMappingsBuilder_ = null;
+              taskComponentMappings_ = other.taskComponentMappings_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              taskComponentMappingsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getTaskComponentMappingsFieldBuilder() : null;
+            } else {
+              taskComponentMappingsBuilder_.addAllMessages(other.taskComponentMappings_);
+            }
+          }
+        }
+        if (!other.components_.isEmpty()) {
+          if (components_.isEmpty()) {
+            components_ = other.components_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureComponentsIsMutable();
+            components_.addAll(other.components_);
+          }
           onChanged();
         }
+        if (taskRangesBuilder_ == null) {
+          if (!other.taskRanges_.isEmpty()) {
+            if (taskRanges_.isEmpty()) {
+              taskRanges_ = other.taskRanges_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+            } else {
+              ensureTaskRangesIsMutable();
+              taskRanges_.addAll(other.taskRanges_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.taskRanges_.isEmpty()) {
+            if (taskRangesBuilder_.isEmpty()) {
+              taskRangesBuilder_.dispose();
+              taskRangesBuilder_ = null;
+              taskRanges_ = other.taskRanges_;
+              bitField0_ = (bitField0_ & ~0x00000008);
+              taskRangesBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getTaskRangesFieldBuilder() : null;
+            } else {
+              taskRangesBuilder_.addAllMessages(other.taskRanges_);
+            }
+          }
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
       }
@@ -1846,11 +2028,11 @@ public final class ShellMessages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.github.jsgilmore.protoshell.ShellMessages.Conf parsedMessage = null;
+        com.github.jsgilmore.protoshell.ShellMessages.Topology parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.Conf) e.getUnfinishedMessage();
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.Topology) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -1861,241 +2043,675 @@ public final class ShellMessages {
       }
       private int bitField0_;
 
-      // optional string Key = 1;
-      private java.lang.Object key_ = "";
+      // optional int64 TaskId = 1;
+      private long taskId_ ;
       /**
-       * <code>optional string Key = 1;</code>
+       * <code>optional int64 TaskId = 1;</code>
        */
-      public boolean hasKey() {
+      public boolean hasTaskId() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional string Key = 1;</code>
-       */
-      public java.lang.String getKey() {
-        java.lang.Object ref = key_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          key_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>optional string Key = 1;</code>
+       * <code>optional int64 TaskId = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getKeyBytes() {
-        java.lang.Object ref = key_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          key_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public long getTaskId() {
+        return taskId_;
       }
       /**
-       * <code>optional string Key = 1;</code>
+       * <code>optional int64 TaskId = 1;</code>
        */
-      public Builder setKey(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        key_ = value;
+      public Builder setTaskId(long value) {
+        bitField0_ |= 0x00000001;
+        taskId_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string Key = 1;</code>
+       * <code>optional int64 TaskId = 1;</code>
        */
-      public Builder clearKey() {
+      public Builder clearTaskId() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        key_ = getDefaultInstance().getKey();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string Key = 1;</code>
-       */
-      public Builder setKeyBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        key_ = value;
+        taskId_ = 0L;
         onChanged();
         return this;
       }
 
-      // optional string Value = 2;
-      private java.lang.Object value_ = "";
-      /**
-       * <code>optional string Value = 2;</code>
-       */
-      public boolean hasValue() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      // repeated .messages.TaskComponentMapping TaskComponentMappings = 2;
+      private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping> taskComponentMappings_ =
+        java.util.Collections.emptyList();
+      private void ensureTaskComponentMappingsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          taskComponentMappings_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping>(taskComponentMappings_);
+          bitField0_ |= 0x00000002;
+         }
       }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder> taskComponentMappingsBuilder_;
+
       /**
-       * <code>optional string Value = 2;</code>
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
        */
-      public java.lang.String getValue() {
-        java.lang.Object ref = value_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          value_ = s;
-          return s;
+      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping> getTaskComponentMappingsList() {
+        if (taskComponentMappingsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(taskComponentMappings_);
         } else {
-          return (java.lang.String) ref;
+          return taskComponentMappingsBuilder_.getMessageList();
         }
       }
       /**
-       * <code>optional string Value = 2;</code>
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
        */
-      public com.google.protobuf.ByteString
-          getValueBytes() {
-        java.lang.Object ref = value_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          value_ = b;
-          return b;
+      public int getTaskComponentMappingsCount() {
+        if (taskComponentMappingsBuilder_ == null) {
+          return taskComponentMappings_.size();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return taskComponentMappingsBuilder_.getCount();
         }
       }
       /**
-       * <code>optional string Value = 2;</code>
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
        */
-      public Builder setValue(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        value_ = value;
-        onChanged();
+      public com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping getTaskComponentMappings(int index) {
+        if (taskComponentMappingsBuilder_ == null) {
+          return taskComponentMappings_.get(index);
+        } else {
+          return taskComponentMappingsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       */
+      public Builder setTaskComponentMappings(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping value) {
+        if (taskComponentMappingsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTaskComponentMappingsIsMutable();
+          taskComponentMappings_.set(index, value);
+          onChanged();
+        } else {
+          taskComponentMappingsBuilder_.setMessage(index, value);
+        }
         return this;
       }
       /**
-       * <code>optional string Value = 2;</code>
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
        */
-      public Builder clearValue() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        value_ = getDefaultInstance().getValue();
-        onChanged();
+      public Builder setTaskComponentMappings(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder builderForValue) {
+        if (taskComponentMappingsBuilder_ == null) {
+          ensureTaskComponentMappingsIsMutable();
+          taskComponentMappings_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          taskComponentMappingsBuilder_.setMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>optional string Value = 2;</code>
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
        */
-      public Builder setValueBytes(
-          com.google.protobuf.ByteString value) {
+      public Builder addTaskComponentMappings(com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping value) {
+        if (taskComponentMappingsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTaskComponentMappingsIsMutable();
+          taskComponentMappings_.add(value);
+          onChanged();
+        } else {
+          taskComponentMappingsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       */
+      public Builder addTaskComponentMappings(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping value) {
+        if (taskComponentMappingsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTaskComponentMappingsIsMutable();
+          taskComponentMappings_.add(index, value);
+          onChanged();
+        } else {
+          taskComponentMappingsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       */
+      public Builder addTaskComponentMappings(
+          com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder builderForValue) {
+        if (taskComponentMappingsBuilder_ == null) {
+          ensureTaskComponentMappingsIsMutable();
+          taskComponentMappings_.add(builderForValue.build());
+          onChanged();
+        } else {
+          taskComponentMappingsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       */
+      public Builder addTaskComponentMappings(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder builderForValue) {
+        if (taskComponentMappingsBuilder_ == null) {
+          ensureTaskComponentMappingsIsMutable();
+          taskComponentMappings_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          taskComponentMappingsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       */
+      public Builder addAllTaskComponentMappings(
+          java.lang.Iterable<? extends com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping> values) {
+        if (taskComponentMappingsBuilder_ == null) {
+          ensureTaskComponentMappingsIsMutable();
+          super.addAll(values, taskComponentMappings_);
+          onChanged();
+        } else {
+          taskComponentMappingsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       */
+      public Builder clearTaskComponentMappings() {
+        if (taskComponentMappingsBuilder_ == null) {
+          taskComponentMappings_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          taskComponentMappingsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       */
+      public Builder removeTaskComponentMappings(int index) {
+        if (taskComponentMappingsBuilder_ == null) {
+          ensureTaskComponentMappingsIsMutable();
+          taskComponentMappings_.remove(index);
+          onChanged();
+        } else {
+          taskComponentMappingsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder getTaskComponentMappingsBuilder(
+          int index) {
+        return getTaskComponentMappingsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder getTaskComponentMappingsOrBuilder(
+          int index) {
+        if (taskComponentMappingsBuilder_ == null) {
+          return taskComponentMappings_.get(index);  } else {
+          return taskComponentMappingsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       */
+      public java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder> 
+           getTaskComponentMappingsOrBuilderList() {
+        if (taskComponentMappingsBuilder_ != null) {
+          return taskComponentMappingsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(taskComponentMappings_);
+        }
+      }
+      /**
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder addTaskComponentMappingsBuilder() {
+        return getTaskComponentMappingsFieldBuilder().addBuilder(
+            com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder addTaskComponentMappingsBuilder(
+          int index) {
+        return getTaskComponentMappingsFieldBuilder().addBuilder(
+            index, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .messages.TaskComponentMapping TaskComponentMappings = 2;</code>
+       */
+      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder> 
+           getTaskComponentMappingsBuilderList() {
+        return getTaskComponentMappingsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder> 
+          getTaskComponentMappingsFieldBuilder() {
+        if (taskComponentMappingsBuilder_ == null) {
+          taskComponentMappingsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMapping.Builder, com.github.jsgilmore.protoshell.ShellMessages.TaskComponentMappingOrBuilder>(
+                  taskComponentMappings_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          taskComponentMappings_ = null;
+        }
+        return taskComponentMappingsBuilder_;
+      }
+
+      // repeated string Components = 3;
+      private com.google.protobuf.LazyStringList components_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureComponentsIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          components_ = new com.google.protobuf.LazyStringArrayList(components_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated string Components = 3;</code>
+       */
+      public java.util.List<java.lang.String>
+          getComponentsList() {
+        return java.util.Collections.unmodifiableList(components_);
+      }
+      /**
+       * <code>repeated string Components = 3;</code>
+       */
+      public int getComponentsCount() {
+        return components_.size();
+      }
+      /**
+       * <code>repeated string Components = 3;</code>
+       */
+      public java.lang.String getComponents(int index) {
+        return components_.get(index);
+      }
+      /**
+       * <code>repeated string Components = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getComponentsBytes(int index) {
+        return components_.getByteString(index);
+      }
+      /**
+       * <code>repeated string Components = 3;</code>
+       */
+      public Builder setComponents(
+          int index, java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000002;
-        value_ = value;
+  ensureComponentsIsMutable();
+        components_.set(index, value);
         onChanged();
         return this;
       }
-
-      // @@protoc_insertion_point(builder_scope:messages.Conf)
-    }
-
+      /**
+       * <code>repeated string Components = 3;</code>
+       */
+      public Builder addComponents(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureComponentsIsMutable();
+        components_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string Components = 3;</code>
+       */
+      public Builder addAllComponents(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureComponentsIsMutable();
+        super.addAll(values, components_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string Components = 3;</code>
+       */
+      public Builder clearComponents() {
+        components_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string Components = 3;</code>
+       */
+      public Builder addComponentsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureComponentsIsMutable();
+        components_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // repeated .messages.TaskRange TaskRanges = 4;
+      private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskRange> taskRanges_ =
+        java.util.Collections.emptyList();
+      private void ensureTaskRangesIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          taskRanges_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.TaskRange>(taskRanges_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.TaskRange, com.github.jsgilmore.protoshell.ShellMessages.TaskRange.Builder, com.github.jsgilmore.protoshell.ShellMessages.TaskRangeOrBuilder> taskRangesBuilder_;
+
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskRange> getTaskRangesList() {
+        if (taskRangesBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(taskRanges_);
+        } else {
+          return taskRangesBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public int getTaskRangesCount() {
+        if (taskRangesBuilder_ == null) {
+          return taskRanges_.size();
+        } else {
+          return taskRangesBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.TaskRange getTaskRanges(int index) {
+        if (taskRangesBuilder_ == null) {
+          return taskRanges_.get(index);
+        } else {
+          return taskRangesBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public Builder setTaskRanges(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.TaskRange value) {
+        if (taskRangesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTaskRangesIsMutable();
+          taskRanges_.set(index, value);
+          onChanged();
+        } else {
+          taskRangesBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public Builder setTaskRanges(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.TaskRange.Builder builderForValue) {
+        if (taskRangesBuilder_ == null) {
+          ensureTaskRangesIsMutable();
+          taskRanges_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          taskRangesBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public Builder addTaskRanges(com.github.jsgilmore.protoshell.ShellMessages.TaskRange value) {
+        if (taskRangesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTaskRangesIsMutable();
+          taskRanges_.add(value);
+          onChanged();
+        } else {
+          taskRangesBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public Builder addTaskRanges(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.TaskRange value) {
+        if (taskRangesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureTaskRangesIsMutable();
+          taskRanges_.add(index, value);
+          onChanged();
+        } else {
+          taskRangesBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public Builder addTaskRanges(
+          com.github.jsgilmore.protoshell.ShellMessages.TaskRange.Builder builderForValue) {
+        if (taskRangesBuilder_ == null) {
+          ensureTaskRangesIsMutable();
+          taskRanges_.add(builderForValue.build());
+          onChanged();
+        } else {
+          taskRangesBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public Builder addTaskRanges(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.TaskRange.Builder builderForValue) {
+        if (taskRangesBuilder_ == null) {
+          ensureTaskRangesIsMutable();
+          taskRanges_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          taskRangesBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public Builder addAllTaskRanges(
+          java.lang.Iterable<? extends com.github.jsgilmore.protoshell.ShellMessages.TaskRange> values) {
+        if (taskRangesBuilder_ == null) {
+          ensureTaskRangesIsMutable();
+          super.addAll(values, taskRanges_);
+          onChanged();
+        } else {
+          taskRangesBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public Builder clearTaskRanges() {
+        if (taskRangesBuilder_ == null) {
+          taskRanges_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000008);
+          onChanged();
+        } else {
+          taskRangesBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public Builder removeTaskRanges(int index) {
+        if (taskRangesBuilder_ == null) {
+          ensureTaskRangesIsMutable();
+          taskRanges_.remove(index);
+          onChanged();
+        } else {
+          taskRangesBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.TaskRange.Builder getTaskRangesBuilder(
+          int index) {
+        return getTaskRangesFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.TaskRangeOrBuilder getTaskRangesOrBuilder(
+          int index) {
+        if (taskRangesBuilder_ == null) {
+          return taskRanges_.get(index);  } else {
+          return taskRangesBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.TaskRangeOrBuilder> 
+           getTaskRangesOrBuilderList() {
+        if (taskRangesBuilder_ != null) {
+          return taskRangesBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(taskRanges_);
+        }
+      }
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.TaskRange.Builder addTaskRangesBuilder() {
+        return getTaskRangesFieldBuilder().addBuilder(
+            com.github.jsgilmore.protoshell.ShellMessages.TaskRange.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.TaskRange.Builder addTaskRangesBuilder(
+          int index) {
+        return getTaskRangesFieldBuilder().addBuilder(
+            index, com.github.jsgilmore.protoshell.ShellMessages.TaskRange.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .messages.TaskRange TaskRanges = 4;</code>
+       */
+      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.TaskRange.Builder> 
+           getTaskRangesBuilderList() {
+        return getTaskRangesFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.TaskRange, com.github.jsgilmore.protoshell.ShellMessages.TaskRange.Builder, com.github.jsgilmore.protoshell.ShellMessages.TaskRangeOrBuilder> 
+          getTaskRangesFieldBuilder() {
+        if (taskRangesBuilder_ == null) {
+          taskRangesBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.github.jsgilmore.protoshell.ShellMessages.TaskRange, com.github.jsgilmore.protoshell.ShellMessages.TaskRange.Builder, com.github.jsgilmore.protoshell.ShellMessages.TaskRangeOrBuilder>(
+                  taskRanges_,
+                  ((bitField0_ & 0x00000008) == 0x00000008),
+                  getParentForChildren(),
+                  isClean());
+          taskRanges_ = null;
+        }
+        return taskRangesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:messages.Topology)
+    }
+
     static {
-      defaultInstance = new Conf(true);
+      defaultInstance = new Topology(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:messages.Conf)
+    // @@protoc_insertion_point(class_scope:messages.Topology)
   }
 
-  public interface ContextOrBuilder
+  public interface ConfOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // optional string PidDir = 1;
+    // optional string Key = 1;
     /**
-     * <code>optional string PidDir = 1;</code>
+     * <code>optional string Key = 1;</code>
      */
-    boolean hasPidDir();
+    boolean hasKey();
     /**
-     * <code>optional string PidDir = 1;</code>
+     * <code>optional string Key = 1;</code>
      */
-    java.lang.String getPidDir();
+    java.lang.String getKey();
     /**
-     * <code>optional string PidDir = 1;</code>
+     * <code>optional string Key = 1;</code>
      */
     com.google.protobuf.ByteString
-        getPidDirBytes();
-
-    // optional .messages.Topology Topology = 2;
-    /**
-     * <code>optional .messages.Topology Topology = 2;</code>
-     */
-    boolean hasTopology();
-    /**
-     * <code>optional .messages.Topology Topology = 2;</code>
-     */
-    com.github.jsgilmore.protoshell.ShellMessages.Topology getTopology();
-    /**
-     * <code>optional .messages.Topology Topology = 2;</code>
-     */
-    com.github.jsgilmore.protoshell.ShellMessages.TopologyOrBuilder getTopologyOrBuilder();
+        getKeyBytes();
 
-    // repeated .messages.Conf Confs = 3;
-    /**
-     * <code>repeated .messages.Conf Confs = 3;</code>
-     */
-    java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf> 
-        getConfsList();
-    /**
-     * <code>repeated .messages.Conf Confs = 3;</code>
-     */
-    com.github.jsgilmore.protoshell.ShellMessages.Conf getConfs(int index);
+    // optional string Value = 2;
     /**
-     * <code>repeated .messages.Conf Confs = 3;</code>
+     * <code>optional string Value = 2;</code>
      */
-    int getConfsCount();
+    boolean hasValue();
     /**
-     * <code>repeated .messages.Conf Confs = 3;</code>
+     * <code>optional string Value = 2;</code>
      */
-    java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder> 
-        getConfsOrBuilderList();
+    java.lang.String getValue();
     /**
-     * <code>repeated .messages.Conf Confs = 3;</code>
+     * <code>optional string Value = 2;</code>
      */
-    com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder getConfsOrBuilder(
-        int index);
+    com.google.protobuf.ByteString
+        getValueBytes();
   }
   /**
-   * Protobuf type {@code messages.Context}
+   * Protobuf type {@code messages.Conf}
    */
-  public static final class Context extends
+  public static final class Conf extends
       com.google.protobuf.GeneratedMessage
-      implements ContextOrBuilder {
-    // Use Context.newBuilder() to construct.
-    private Context(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements ConfOrBuilder {
+    // Use Conf.newBuilder() to construct.
+    private Conf(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private Context(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private Conf(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final Context defaultInstance;
-    public static Context getDefaultInstance() {
+    private static final Conf defaultInstance;
+    public static Conf getDefaultInstance() {
       return defaultInstance;
     }
 
-    public Context getDefaultInstanceForType() {
+    public Conf getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -2105,7 +2721,7 @@ public final class ShellMessages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private Context(
+    private Conf(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -2130,28 +2746,12 @@ public final class ShellMessages {
             }
             case 10: {
               bitField0_ |= 0x00000001;
-              pidDir_ = input.readBytes();
+              key_ = input.readBytes();
               break;
             }
             case 18: {
-              com.github.jsgilmore.protoshell.ShellMessages.Topology.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000002) == 0x00000002)) {
-                subBuilder = topology_.toBuilder();
-              }
-              topology_ = input.readMessage(com.github.jsgilmore.protoshell.ShellMessages.Topology.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(topology_);
-                topology_ = subBuilder.buildPartial();
-              }
               bitField0_ |= 0x00000002;
-              break;
-            }
-            case 26: {
-              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-                confs_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.Conf>();
-                mutable_bitField0_ |= 0x00000004;
-              }
-              confs_.add(input.readMessage(com.github.jsgilmore.protoshell.ShellMessages.Conf.PARSER, extensionRegistry));
+              value_ = input.readBytes();
               break;
             }
           }
@@ -2162,55 +2762,52 @@ public final class ShellMessages {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-          confs_ = java.util.Collections.unmodifiableList(confs_);
-        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Context_descriptor;
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Conf_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Context_fieldAccessorTable
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Conf_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.github.jsgilmore.protoshell.ShellMessages.Context.class, com.github.jsgilmore.protoshell.ShellMessages.Context.Builder.class);
+              com.github.jsgilmore.protoshell.ShellMessages.Conf.class, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<Context> PARSER =
-        new com.google.protobuf.AbstractParser<Context>() {
-      public Context parsePartialFrom(
+    public static com.google.protobuf.Parser<Conf> PARSER =
+        new com.google.protobuf.AbstractParser<Conf>() {
+      public Conf parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Context(input, extensionRegistry);
+        return new Conf(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Context> getParserForType() {
+    public com.google.protobuf.Parser<Conf> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // optional string PidDir = 1;
-    public static final int PIDDIR_FIELD_NUMBER = 1;
-    private java.lang.Object pidDir_;
+    // optional string Key = 1;
+    public static final int KEY_FIELD_NUMBER = 1;
+    private java.lang.Object key_;
     /**
-     * <code>optional string PidDir = 1;</code>
+     * <code>optional string Key = 1;</code>
      */
-    public boolean hasPidDir() {
+    public boolean hasKey() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional string PidDir = 1;</code>
+     * <code>optional string Key = 1;</code>
      */
-    public java.lang.String getPidDir() {
-      java.lang.Object ref = pidDir_;
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
@@ -2218,90 +2815,74 @@ public final class ShellMessages {
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
-          pidDir_ = s;
+          key_ = s;
         }
         return s;
       }
     }
     /**
-     * <code>optional string PidDir = 1;</code>
+     * <code>optional string Key = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getPidDirBytes() {
-      java.lang.Object ref = pidDir_;
+        getKeyBytes() {
+      java.lang.Object ref = key_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        pidDir_ = b;
+        key_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    // optional .messages.Topology Topology = 2;
-    public static final int TOPOLOGY_FIELD_NUMBER = 2;
-    private com.github.jsgilmore.protoshell.ShellMessages.Topology topology_;
+    // optional string Value = 2;
+    public static final int VALUE_FIELD_NUMBER = 2;
+    private java.lang.Object value_;
     /**
-     * <code>optional .messages.Topology Topology = 2;</code>
+     * <code>optional string Value = 2;</code>
      */
-    public boolean hasTopology() {
+    public boolean hasValue() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>optional .messages.Topology Topology = 2;</code>
-     */
-    public com.github.jsgilmore.protoshell.ShellMessages.Topology getTopology() {
-      return topology_;
-    }
-    /**
-     * <code>optional .messages.Topology Topology = 2;</code>
-     */
-    public com.github.jsgilmore.protoshell.ShellMessages.TopologyOrBuilder getTopologyOrBuilder() {
-      return topology_;
-    }
-
-    // repeated .messages.Conf Confs = 3;
-    public static final int CONFS_FIELD_NUMBER = 3;
-    private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf> confs_;
-    /**
-     * <code>repeated .messages.Conf Confs = 3;</code>
-     */
-    public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf> getConfsList() {
-      return confs_;
-    }
-    /**
-     * <code>repeated .messages.Conf Confs = 3;</code>
-     */
-    public java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder> 
-        getConfsOrBuilderList() {
-      return confs_;
-    }
-    /**
-     * <code>repeated .messages.Conf Confs = 3;</code>
-     */
-    public int getConfsCount() {
-      return confs_.size();
-    }
-    /**
-     * <code>repeated .messages.Conf Confs = 3;</code>
+     * <code>optional string Value = 2;</code>
      */
-    public com.github.jsgilmore.protoshell.ShellMessages.Conf getConfs(int index) {
-      return confs_.get(index);
+    public java.lang.String getValue() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          value_ = s;
+        }
+        return s;
+      }
     }
     /**
-     * <code>repeated .messages.Conf Confs = 3;</code>
+     * <code>optional string Value = 2;</code>
      */
-    public com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder getConfsOrBuilder(
-        int index) {
-      return confs_.get(index);
+    public com.google.protobuf.ByteString
+        getValueBytes() {
+      java.lang.Object ref = value_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        value_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
     private void initFields() {
-      pidDir_ = "";
-      topology_ = com.github.jsgilmore.protoshell.ShellMessages.Topology.getDefaultInstance();
-      confs_ = java.util.Collections.emptyList();
+      key_ = "";
+      value_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -2316,13 +2897,10 @@ public final class ShellMessages {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getPidDirBytes());
+        output.writeBytes(1, getKeyBytes());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeMessage(2, topology_);
-      }
-      for (int i = 0; i < confs_.size(); i++) {
-        output.writeMessage(3, confs_.get(i));
+        output.writeBytes(2, getValueBytes());
       }
       getUnknownFields().writeTo(output);
     }
@@ -2335,15 +2913,11 @@ public final class ShellMessages {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getPidDirBytes());
+          .computeBytesSize(1, getKeyBytes());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, topology_);
-      }
-      for (int i = 0; i < confs_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, confs_.get(i));
+          .computeBytesSize(2, getValueBytes());
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -2357,53 +2931,53 @@ public final class ShellMessages {
       return super.writeReplace();
     }
 
-    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseFrom(byte[] data)
+    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseDelimitedFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseDelimitedFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Conf parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2412,7 +2986,7 @@ public final class ShellMessages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.Context prototype) {
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.Conf prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -2424,24 +2998,24 @@ public final class ShellMessages {
       return builder;
     }
     /**
-     * Protobuf type {@code messages.Context}
+     * Protobuf type {@code messages.Conf}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements com.github.jsgilmore.protoshell.ShellMessages.ContextOrBuilder {
+       implements com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Context_descriptor;
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Conf_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Context_fieldAccessorTable
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Conf_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.github.jsgilmore.protoshell.ShellMessages.Context.class, com.github.jsgilmore.protoshell.ShellMessages.Context.Builder.class);
+                com.github.jsgilmore.protoshell.ShellMessages.Conf.class, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder.class);
       }
 
-      // Construct using com.github.jsgilmore.protoshell.ShellMessages.Context.newBuilder()
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.Conf.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -2453,8 +3027,6 @@ public final class ShellMessages {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getTopologyFieldBuilder();
-          getConfsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -2463,20 +3035,10 @@ public final class ShellMessages {
 
       public Builder clear() {
         super.clear();
-        pidDir_ = "";
+        key_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
-        if (topologyBuilder_ == null) {
-          topology_ = com.github.jsgilmore.protoshell.ShellMessages.Topology.getDefaultInstance();
-        } else {
-          topologyBuilder_.clear();
-        }
+        value_ = "";
         bitField0_ = (bitField0_ & ~0x00000002);
-        if (confsBuilder_ == null) {
-          confs_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000004);
-        } else {
-          confsBuilder_.clear();
-        }
         return this;
       }
 
@@ -2486,95 +3048,58 @@ public final class ShellMessages {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Context_descriptor;
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Conf_descriptor;
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.Context getDefaultInstanceForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.Context.getDefaultInstance();
+      public com.github.jsgilmore.protoshell.ShellMessages.Conf getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.Conf.getDefaultInstance();
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.Context build() {
-        com.github.jsgilmore.protoshell.ShellMessages.Context result = buildPartial();
+      public com.github.jsgilmore.protoshell.ShellMessages.Conf build() {
+        com.github.jsgilmore.protoshell.ShellMessages.Conf result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.Context buildPartial() {
-        com.github.jsgilmore.protoshell.ShellMessages.Context result = new com.github.jsgilmore.protoshell.ShellMessages.Context(this);
+      public com.github.jsgilmore.protoshell.ShellMessages.Conf buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.Conf result = new com.github.jsgilmore.protoshell.ShellMessages.Conf(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.pidDir_ = pidDir_;
+        result.key_ = key_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        if (topologyBuilder_ == null) {
-          result.topology_ = topology_;
-        } else {
-          result.topology_ = topologyBuilder_.build();
-        }
-        if (confsBuilder_ == null) {
-          if (((bitField0_ & 0x00000004) == 0x00000004)) {
-            confs_ = java.util.Collections.unmodifiableList(confs_);
-            bitField0_ = (bitField0_ & ~0x00000004);
-          }
-          result.confs_ = confs_;
-        } else {
-          result.confs_ = confsBuilder_.build();
-        }
+        result.value_ = value_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.Context) {
-          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.Context)other);
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.Conf) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.Conf)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.Context other) {
-        if (other == com.github.jsgilmore.protoshell.ShellMessages.Context.getDefaultInstance()) return this;
-        if (other.hasPidDir()) {
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.Conf other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.Conf.getDefaultInstance()) return this;
+        if (other.hasKey()) {
           bitField0_ |= 0x00000001;
-          pidDir_ = other.pidDir_;
+          key_ = other.key_;
           onChanged();
         }
-        if (other.hasTopology()) {
-          mergeTopology(other.getTopology());
-        }
-        if (confsBuilder_ == null) {
-          if (!other.confs_.isEmpty()) {
-            if (confs_.isEmpty()) {
-              confs_ = other.confs_;
-              bitField0_ = (bitField0_ & ~0x00000004);
-            } else {
-              ensureConfsIsMutable();
-              confs_.addAll(other.confs_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.confs_.isEmpty()) {
-            if (confsBuilder_.isEmpty()) {
-              confsBuilder_.dispose();
-              confsBuilder_ = null;
-              confs_ = other.confs_;
-              bitField0_ = (bitField0_ & ~0x00000004);
-              confsBuilder_ = 
-                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
-                   getConfsFieldBuilder() : null;
-            } else {
-              confsBuilder_.addAllMessages(other.confs_);
-            }
-          }
+        if (other.hasValue()) {
+          bitField0_ |= 0x00000002;
+          value_ = other.value_;
+          onChanged();
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
@@ -2588,11 +3113,11 @@ public final class ShellMessages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.github.jsgilmore.protoshell.ShellMessages.Context parsedMessage = null;
+        com.github.jsgilmore.protoshell.ShellMessages.Conf parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.Context) e.getUnfinishedMessage();
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.Conf) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -2603,480 +3128,227 @@ public final class ShellMessages {
       }
       private int bitField0_;
 
-      // optional string PidDir = 1;
-      private java.lang.Object pidDir_ = "";
+      // optional string Key = 1;
+      private java.lang.Object key_ = "";
       /**
-       * <code>optional string PidDir = 1;</code>
+       * <code>optional string Key = 1;</code>
        */
-      public boolean hasPidDir() {
+      public boolean hasKey() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional string PidDir = 1;</code>
+       * <code>optional string Key = 1;</code>
        */
-      public java.lang.String getPidDir() {
-        java.lang.Object ref = pidDir_;
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
         if (!(ref instanceof java.lang.String)) {
           java.lang.String s = ((com.google.protobuf.ByteString) ref)
               .toStringUtf8();
-          pidDir_ = s;
+          key_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>optional string PidDir = 1;</code>
+       * <code>optional string Key = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getPidDirBytes() {
-        java.lang.Object ref = pidDir_;
+          getKeyBytes() {
+        java.lang.Object ref = key_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          pidDir_ = b;
+          key_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string PidDir = 1;</code>
+       * <code>optional string Key = 1;</code>
        */
-      public Builder setPidDir(
+      public Builder setKey(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000001;
-        pidDir_ = value;
+        key_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string PidDir = 1;</code>
+       * <code>optional string Key = 1;</code>
        */
-      public Builder clearPidDir() {
+      public Builder clearKey() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        pidDir_ = getDefaultInstance().getPidDir();
+        key_ = getDefaultInstance().getKey();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string PidDir = 1;</code>
+       * <code>optional string Key = 1;</code>
        */
-      public Builder setPidDirBytes(
+      public Builder setKeyBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000001;
-        pidDir_ = value;
+        key_ = value;
         onChanged();
         return this;
       }
 
-      // optional .messages.Topology Topology = 2;
-      private com.github.jsgilmore.protoshell.ShellMessages.Topology topology_ = com.github.jsgilmore.protoshell.ShellMessages.Topology.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          com.github.jsgilmore.protoshell.ShellMessages.Topology, com.github.jsgilmore.protoshell.ShellMessages.Topology.Builder, com.github.jsgilmore.protoshell.ShellMessages.TopologyOrBuilder> topologyBuilder_;
+      // optional string Value = 2;
+      private java.lang.Object value_ = "";
       /**
-       * <code>optional .messages.Topology Topology = 2;</code>
+       * <code>optional string Value = 2;</code>
        */
-      public boolean hasTopology() {
+      public boolean hasValue() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional .messages.Topology Topology = 2;</code>
-       */
-      public com.github.jsgilmore.protoshell.ShellMessages.Topology getTopology() {
-        if (topologyBuilder_ == null) {
-          return topology_;
-        } else {
-          return topologyBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>optional .messages.Topology Topology = 2;</code>
+       * <code>optional string Value = 2;</code>
        */
-      public Builder setTopology(com.github.jsgilmore.protoshell.ShellMessages.Topology value) {
-        if (topologyBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          topology_ = value;
-          onChanged();
+      public java.lang.String getValue() {
+        java.lang.Object ref = value_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          value_ = s;
+          return s;
         } else {
-          topologyBuilder_.setMessage(value);
+          return (java.lang.String) ref;
         }
-        bitField0_ |= 0x00000002;
-        return this;
       }
       /**
-       * <code>optional .messages.Topology Topology = 2;</code>
+       * <code>optional string Value = 2;</code>
        */
-      public Builder setTopology(
-          com.github.jsgilmore.protoshell.ShellMessages.Topology.Builder builderForValue) {
-        if (topologyBuilder_ == null) {
-          topology_ = builderForValue.build();
-          onChanged();
+      public com.google.protobuf.ByteString
+          getValueBytes() {
+        java.lang.Object ref = value_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          value_ = b;
+          return b;
         } else {
-          topologyBuilder_.setMessage(builderForValue.build());
+          return (com.google.protobuf.ByteString) ref;
         }
-        bitField0_ |= 0x00000002;
-        return this;
       }
       /**
-       * <code>optional .messages.Topology Topology = 2;</code>
+       * <code>optional string Value = 2;</code>
        */
-      public Builder mergeTopology(com.github.jsgilmore.protoshell.ShellMessages.Topology value) {
-        if (topologyBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) == 0x00000002) &&
-              topology_ != com.github.jsgilmore.protoshell.ShellMessages.Topology.getDefaultInstance()) {
-            topology_ =
-              com.github.jsgilmore.protoshell.ShellMessages.Topology.newBuilder(topology_).mergeFrom(value).buildPartial();
-          } else {
-            topology_ = value;
-          }
-          onChanged();
-        } else {
-          topologyBuilder_.mergeFrom(value);
-        }
-        bitField0_ |= 0x00000002;
+      public Builder setValue(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        value_ = value;
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .messages.Topology Topology = 2;</code>
+       * <code>optional string Value = 2;</code>
        */
-      public Builder clearTopology() {
-        if (topologyBuilder_ == null) {
-          topology_ = com.github.jsgilmore.protoshell.ShellMessages.Topology.getDefaultInstance();
-          onChanged();
-        } else {
-          topologyBuilder_.clear();
-        }
+      public Builder clearValue() {
         bitField0_ = (bitField0_ & ~0x00000002);
+        value_ = getDefaultInstance().getValue();
+        onChanged();
         return this;
       }
       /**
-       * <code>optional .messages.Topology Topology = 2;</code>
+       * <code>optional string Value = 2;</code>
        */
-      public com.github.jsgilmore.protoshell.ShellMessages.Topology.Builder getTopologyBuilder() {
-        bitField0_ |= 0x00000002;
+      public Builder setValueBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        value_ = value;
         onChanged();
-        return getTopologyFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>optional .messages.Topology Topology = 2;</code>
-       */
-      public com.github.jsgilmore.protoshell.ShellMessages.TopologyOrBuilder getTopologyOrBuilder() {
-        if (topologyBuilder_ != null) {
-          return topologyBuilder_.getMessageOrBuilder();
-        } else {
-          return topology_;
-        }
-      }
-      /**
-       * <code>optional .messages.Topology Topology = 2;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilder<
-          com.github.jsgilmore.protoshell.ShellMessages.Topology, com.github.jsgilmore.protoshell.ShellMessages.Topology.Builder, com.github.jsgilmore.protoshell.ShellMessages.TopologyOrBuilder> 
-          getTopologyFieldBuilder() {
-        if (topologyBuilder_ == null) {
-          topologyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.github.jsgilmore.protoshell.ShellMessages.Topology, com.github.jsgilmore.protoshell.ShellMessages.Topology.Builder, com.github.jsgilmore.protoshell.ShellMessages.TopologyOrBuilder>(
-                  topology_,
-                  getParentForChildren(),
-                  isClean());
-          topology_ = null;
-        }
-        return topologyBuilder_;
+        return this;
       }
 
-      // repeated .messages.Conf Confs = 3;
-      private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf> confs_ =
-        java.util.Collections.emptyList();
-      private void ensureConfsIsMutable() {
-        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
-          confs_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.Conf>(confs_);
-          bitField0_ |= 0x00000004;
-         }
-      }
+      // @@protoc_insertion_point(builder_scope:messages.Conf)
+    }
 
-      private com.google.protobuf.RepeatedFieldBuilder<
-          com.github.jsgilmore.protoshell.ShellMessages.Conf, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder, com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder> confsBuilder_;
+    static {
+      defaultInstance = new Conf(true);
+      defaultInstance.initFields();
+    }
 
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf> getConfsList() {
-        if (confsBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(confs_);
-        } else {
-          return confsBuilder_.getMessageList();
-        }
-      }
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public int getConfsCount() {
-        if (confsBuilder_ == null) {
-          return confs_.size();
-        } else {
-          return confsBuilder_.getCount();
-        }
-      }
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public com.github.jsgilmore.protoshell.ShellMessages.Conf getConfs(int index) {
-        if (confsBuilder_ == null) {
-          return confs_.get(index);
-        } else {
-          return confsBuilder_.getMessage(index);
-        }
-      }
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public Builder setConfs(
-          int index, com.github.jsgilmore.protoshell.ShellMessages.Conf value) {
-        if (confsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureConfsIsMutable();
-          confs_.set(index, value);
-          onChanged();
-        } else {
-          confsBuilder_.setMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public Builder setConfs(
-          int index, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder builderForValue) {
-        if (confsBuilder_ == null) {
-          ensureConfsIsMutable();
-          confs_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          confsBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public Builder addConfs(com.github.jsgilmore.protoshell.ShellMessages.Conf value) {
-        if (confsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureConfsIsMutable();
-          confs_.add(value);
-          onChanged();
-        } else {
-          confsBuilder_.addMessage(value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public Builder addConfs(
-          int index, com.github.jsgilmore.protoshell.ShellMessages.Conf value) {
-        if (confsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensureConfsIsMutable();
-          confs_.add(index, value);
-          onChanged();
-        } else {
-          confsBuilder_.addMessage(index, value);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public Builder addConfs(
-          com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder builderForValue) {
-        if (confsBuilder_ == null) {
-          ensureConfsIsMutable();
-          confs_.add(builderForValue.build());
-          onChanged();
-        } else {
-          confsBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public Builder addConfs(
-          int index, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder builderForValue) {
-        if (confsBuilder_ == null) {
-          ensureConfsIsMutable();
-          confs_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          confsBuilder_.addMessage(index, builderForValue.build());
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public Builder addAllConfs(
-          java.lang.Iterable<? extends com.github.jsgilmore.protoshell.ShellMessages.Conf> values) {
-        if (confsBuilder_ == null) {
-          ensureConfsIsMutable();
-          super.addAll(values, confs_);
-          onChanged();
-        } else {
-          confsBuilder_.addAllMessages(values);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public Builder clearConfs() {
-        if (confsBuilder_ == null) {
-          confs_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000004);
-          onChanged();
-        } else {
-          confsBuilder_.clear();
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public Builder removeConfs(int index) {
-        if (confsBuilder_ == null) {
-          ensureConfsIsMutable();
-          confs_.remove(index);
-          onChanged();
-        } else {
-          confsBuilder_.remove(index);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder getConfsBuilder(
-          int index) {
-        return getConfsFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder getConfsOrBuilder(
-          int index) {
-        if (confsBuilder_ == null) {
-          return confs_.get(index);  } else {
-          return confsBuilder_.getMessageOrBuilder(index);
-        }
-      }
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder> 
-           getConfsOrBuilderList() {
-        if (confsBuilder_ != null) {
-          return confsBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(confs_);
-        }
-      }
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder addConfsBuilder() {
-        return getConfsFieldBuilder().addBuilder(
-            com.github.jsgilmore.protoshell.ShellMessages.Conf.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder addConfsBuilder(
-          int index) {
-        return getConfsFieldBuilder().addBuilder(
-            index, com.github.jsgilmore.protoshell.ShellMessages.Conf.getDefaultInstance());
-      }
-      /**
-       * <code>repeated .messages.Conf Confs = 3;</code>
-       */
-      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder> 
-           getConfsBuilderList() {
-        return getConfsFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilder<
-          com.github.jsgilmore.protoshell.ShellMessages.Conf, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder, com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder> 
-          getConfsFieldBuilder() {
-        if (confsBuilder_ == null) {
-          confsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
-              com.github.jsgilmore.protoshell.ShellMessages.Conf, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder, com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder>(
-                  confs_,
-                  ((bitField0_ & 0x00000004) == 0x00000004),
-                  getParentForChildren(),
-                  isClean());
-          confs_ = null;
-        }
-        return confsBuilder_;
-      }
-
-      // @@protoc_insertion_point(builder_scope:messages.Context)
-    }
-
-    static {
-      defaultInstance = new Context(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:messages.Context)
+    // @@protoc_insertion_point(class_scope:messages.Conf)
   }
 
-  public interface PidOrBuilder
+  public interface SharedMemoryOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // optional int32 Pid = 1;
+    // optional string ToShellPath = 1;
     /**
-     * <code>optional int32 Pid = 1;</code>
+     * <code>optional string ToShellPath = 1;</code>
      */
-    boolean hasPid();
+    boolean hasToShellPath();
     /**
-     * <code>optional int32 Pid = 1;</code>
+     * <code>optional string ToShellPath = 1;</code>
      */
-    int getPid();
+    java.lang.String getToShellPath();
+    /**
+     * <code>optional string ToShellPath = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getToShellPathBytes();
+
+    // optional string FromShellPath = 2;
+    /**
+     * <code>optional string FromShellPath = 2;</code>
+     */
+    boolean hasFromShellPath();
+    /**
+     * <code>optional string FromShellPath = 2;</code>
+     */
+    java.lang.String getFromShellPath();
+    /**
+     * <code>optional string FromShellPath = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getFromShellPathBytes();
+
+    // optional int32 Capacity = 3;
+    /**
+     * <code>optional int32 Capacity = 3;</code>
+     */
+    boolean hasCapacity();
+    /**
+     * <code>optional int32 Capacity = 3;</code>
+     */
+    int getCapacity();
   }
   /**
-   * Protobuf type {@code messages.Pid}
+   * Protobuf type {@code messages.SharedMemory}
    */
-  public static final class Pid extends
+  public static final class SharedMemory extends
       com.google.protobuf.GeneratedMessage
-      implements PidOrBuilder {
-    // Use Pid.newBuilder() to construct.
-    private Pid(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements SharedMemoryOrBuilder {
+    // Use SharedMemory.newBuilder() to construct.
+    private SharedMemory(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private Pid(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private SharedMemory(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final Pid defaultInstance;
-    public static Pid getDefaultInstance() {
+    private static final SharedMemory defaultInstance;
+    public static SharedMemory getDefaultInstance() {
       return defaultInstance;
     }
 
-    public Pid getDefaultInstanceForType() {
+    public SharedMemory getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -3086,7 +3358,7 @@ public final class ShellMessages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private Pid(
+    private SharedMemory(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3109,9 +3381,19 @@ public final class ShellMessages {
               }
               break;
             }
-            case 8: {
+            case 10: {
               bitField0_ |= 0x00000001;
-              pid_ = input.readInt32();
+              toShellPath_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              fromShellPath_ = input.readBytes();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000004;
+              capacity_ = input.readInt32();
               break;
             }
           }
@@ -3128,50 +3410,138 @@ public final class ShellMessages {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Pid_descriptor;
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_SharedMemory_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Pid_fieldAccessorTable
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_SharedMemory_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.github.jsgilmore.protoshell.ShellMessages.Pid.class, com.github.jsgilmore.protoshell.ShellMessages.Pid.Builder.class);
+              com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.class, com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<Pid> PARSER =
-        new com.google.protobuf.AbstractParser<Pid>() {
-      public Pid parsePartialFrom(
+    public static com.google.protobuf.Parser<SharedMemory> PARSER =
+        new com.google.protobuf.AbstractParser<SharedMemory>() {
+      public SharedMemory parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new Pid(input, extensionRegistry);
+        return new SharedMemory(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Pid> getParserForType() {
+    public com.google.protobuf.Parser<SharedMemory> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // optional int32 Pid = 1;
-    public static final int PID_FIELD_NUMBER = 1;
-    private int pid_;
+    // optional string ToShellPath = 1;
+    public static final int TOSHELLPATH_FIELD_NUMBER = 1;
+    private java.lang.Object toShellPath_;
     /**
-     * <code>optional int32 Pid = 1;</code>
+     * <code>optional string ToShellPath = 1;</code>
      */
-    public boolean hasPid() {
+    public boolean hasToShellPath() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional int32 Pid = 1;</code>
+     * <code>optional string ToShellPath = 1;</code>
      */
-    public int getPid() {
-      return pid_;
-    }
-
-    private void initFields() {
-      pid_ = 0;
+    public java.lang.String getToShellPath() {
+      java.lang.Object ref = toShellPath_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          toShellPath_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string ToShellPath = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getToShellPathBytes() {
+      java.lang.Object ref = toShellPath_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        toShellPath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string FromShellPath = 2;
+    public static final int FROMSHELLPATH_FIELD_NUMBER = 2;
+    private java.lang.Object fromShellPath_;
+    /**
+     * <code>optional string FromShellPath = 2;</code>
+     */
+    public boolean hasFromShellPath() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string FromShellPath = 2;</code>
+     */
+    public java.lang.String getFromShellPath() {
+      java.lang.Object ref = fromShellPath_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          fromShellPath_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string FromShellPath = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getFromShellPathBytes() {
+      java.lang.Object ref = fromShellPath_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        fromShellPath_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int32 Capacity = 3;
+    public static final int CAPACITY_FIELD_NUMBER = 3;
+    private int capacity_;
+    /**
+     * <code>optional int32 Capacity = 3;</code>
+     */
+    public boolean hasCapacity() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int32 Capacity = 3;</code>
+     */
+    public int getCapacity() {
+      return capacity_;
+    }
+
+    private void initFields() {
+      toShellPath_ = "";
+      fromShellPath_ = "";
+      capacity_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -3186,7 +3556,13 @@ public final class ShellMessages {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeInt32(1, pid_);
+        output.writeBytes(1, getToShellPathBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getFromShellPathBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeInt32(3, capacity_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -3199,7 +3575,15 @@ public final class ShellMessages {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, pid_);
+          .computeBytesSize(1, getToShellPathBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getFromShellPathBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, capacity_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -3213,53 +3597,53 @@ public final class ShellMessages {
       return super.writeReplace();
     }
 
-    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.SharedMemory parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.SharedMemory parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseFrom(byte[] data)
+    public static com.github.jsgilmore.protoshell.ShellMessages.SharedMemory parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.SharedMemory parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.SharedMemory parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.SharedMemory parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseDelimitedFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.SharedMemory parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseDelimitedFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.SharedMemory parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.SharedMemory parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.SharedMemory parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3268,7 +3652,7 @@ public final class ShellMessages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.Pid prototype) {
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.SharedMemory prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -3280,24 +3664,24 @@ public final class ShellMessages {
       return builder;
     }
     /**
-     * Protobuf type {@code messages.Pid}
+     * Protobuf type {@code messages.SharedMemory}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements com.github.jsgilmore.protoshell.ShellMessages.PidOrBuilder {
+       implements com.github.jsgilmore.protoshell.ShellMessages.SharedMemoryOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Pid_descriptor;
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_SharedMemory_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Pid_fieldAccessorTable
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_SharedMemory_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.github.jsgilmore.protoshell.ShellMessages.Pid.class, com.github.jsgilmore.protoshell.ShellMessages.Pid.Builder.class);
+                com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.class, com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.Builder.class);
       }
 
-      // Construct using com.github.jsgilmore.protoshell.ShellMessages.Pid.newBuilder()
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3317,8 +3701,12 @@ public final class ShellMessages {
 
       public Builder clear() {
         super.clear();
-        pid_ = 0;
+        toShellPath_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
+        fromShellPath_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        capacity_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -3328,47 +3716,65 @@ public final class ShellMessages {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Pid_descriptor;
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_SharedMemory_descriptor;
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.Pid getDefaultInstanceForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.Pid.getDefaultInstance();
+      public com.github.jsgilmore.protoshell.ShellMessages.SharedMemory getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.getDefaultInstance();
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.Pid build() {
-        com.github.jsgilmore.protoshell.ShellMessages.Pid result = buildPartial();
+      public com.github.jsgilmore.protoshell.ShellMessages.SharedMemory build() {
+        com.github.jsgilmore.protoshell.ShellMessages.SharedMemory result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.Pid buildPartial() {
-        com.github.jsgilmore.protoshell.ShellMessages.Pid result = new com.github.jsgilmore.protoshell.ShellMessages.Pid(this);
+      public com.github.jsgilmore.protoshell.ShellMessages.SharedMemory buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.SharedMemory result = new com.github.jsgilmore.protoshell.ShellMessages.SharedMemory(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.pid_ = pid_;
+        result.toShellPath_ = toShellPath_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.fromShellPath_ = fromShellPath_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.capacity_ = capacity_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.Pid) {
-          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.Pid)other);
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.SharedMemory) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.SharedMemory)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.Pid other) {
-        if (other == com.github.jsgilmore.protoshell.ShellMessages.Pid.getDefaultInstance()) return this;
-        if (other.hasPid()) {
-          setPid(other.getPid());
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.SharedMemory other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.getDefaultInstance()) return this;
+        if (other.hasToShellPath()) {
+          bitField0_ |= 0x00000001;
+          toShellPath_ = other.toShellPath_;
+          onChanged();
+        }
+        if (other.hasFromShellPath()) {
+          bitField0_ |= 0x00000002;
+          fromShellPath_ = other.fromShellPath_;
+          onChanged();
+        }
+        if (other.hasCapacity()) {
+          setCapacity(other.getCapacity());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
@@ -3382,11 +3788,11 @@ public final class ShellMessages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.github.jsgilmore.protoshell.ShellMessages.Pid parsedMessage = null;
+        com.github.jsgilmore.protoshell.ShellMessages.SharedMemory parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.Pid) e.getUnfinishedMessage();
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.SharedMemory) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -3397,127 +3803,362 @@ public final class ShellMessages {
       }
       private int bitField0_;
 
-      // optional int32 Pid = 1;
-      private int pid_ ;
+      // optional string ToShellPath = 1;
+      private java.lang.Object toShellPath_ = "";
       /**
-       * <code>optional int32 Pid = 1;</code>
+       * <code>optional string ToShellPath = 1;</code>
        */
-      public boolean hasPid() {
+      public boolean hasToShellPath() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional int32 Pid = 1;</code>
+       * <code>optional string ToShellPath = 1;</code>
        */
-      public int getPid() {
-        return pid_;
+      public java.lang.String getToShellPath() {
+        java.lang.Object ref = toShellPath_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          toShellPath_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>optional int32 Pid = 1;</code>
+       * <code>optional string ToShellPath = 1;</code>
        */
-      public Builder setPid(int value) {
-        bitField0_ |= 0x00000001;
-        pid_ = value;
+      public com.google.protobuf.ByteString
+          getToShellPathBytes() {
+        java.lang.Object ref = toShellPath_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          toShellPath_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string ToShellPath = 1;</code>
+       */
+      public Builder setToShellPath(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        toShellPath_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional int32 Pid = 1;</code>
+       * <code>optional string ToShellPath = 1;</code>
        */
-      public Builder clearPid() {
+      public Builder clearToShellPath() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        pid_ = 0;
+        toShellPath_ = getDefaultInstance().getToShellPath();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string ToShellPath = 1;</code>
+       */
+      public Builder setToShellPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        toShellPath_ = value;
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:messages.Pid)
+      // optional string FromShellPath = 2;
+      private java.lang.Object fromShellPath_ = "";
+      /**
+       * <code>optional string FromShellPath = 2;</code>
+       */
+      public boolean hasFromShellPath() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string FromShellPath = 2;</code>
+       */
+      public java.lang.String getFromShellPath() {
+        java.lang.Object ref = fromShellPath_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          fromShellPath_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string FromShellPath = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getFromShellPathBytes() {
+        java.lang.Object ref = fromShellPath_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          fromShellPath_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string FromShellPath = 2;</code>
+       */
+      public Builder setFromShellPath(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        fromShellPath_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string FromShellPath = 2;</code>
+       */
+      public Builder clearFromShellPath() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        fromShellPath_ = getDefaultInstance().getFromShellPath();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string FromShellPath = 2;</code>
+       */
+      public Builder setFromShellPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        fromShellPath_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 Capacity = 3;
+      private int capacity_ ;
+      /**
+       * <code>optional int32 Capacity = 3;</code>
+       */
+      public boolean hasCapacity() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional int32 Capacity = 3;</code>
+       */
+      public int getCapacity() {
+        return capacity_;
+      }
+      /**
+       * <code>optional int32 Capacity = 3;</code>
+       */
+      public Builder setCapacity(int value) {
+        bitField0_ |= 0x00000004;
+        capacity_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 Capacity = 3;</code>
+       */
+      public Builder clearCapacity() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        capacity_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:messages.SharedMemory)
     }
 
     static {
-      defaultInstance = new Pid(true);
+      defaultInstance = new SharedMemory(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:messages.Pid)
+    // @@protoc_insertion_point(class_scope:messages.SharedMemory)
   }
 
-  public interface BoltMsgMetaOrBuilder
+  public interface ContextOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // optional string Id = 1;
+    // optional string PidDir = 1;
     /**
-     * <code>optional string Id = 1;</code>
+     * <code>optional string PidDir = 1;</code>
      */
-    boolean hasId();
+    boolean hasPidDir();
     /**
-     * <code>optional string Id = 1;</code>
+     * <code>optional string PidDir = 1;</code>
      */
-    java.lang.String getId();
+    java.lang.String getPidDir();
     /**
-     * <code>optional string Id = 1;</code>
+     * <code>optional string PidDir = 1;</code>
      */
     com.google.protobuf.ByteString
-        getIdBytes();
+        getPidDirBytes();
 
-    // optional string Comp = 2;
+    // optional .messages.Topology Topology = 2;
     /**
-     * <code>optional string Comp = 2;</code>
+     * <code>optional .messages.Topology Topology = 2;</code>
      */
-    boolean hasComp();
+    boolean hasTopology();
     /**
-     * <code>optional string Comp = 2;</code>
+     * <code>optional .messages.Topology Topology = 2;</code>
      */
-    java.lang.String getComp();
+    com.github.jsgilmore.protoshell.ShellMessages.Topology getTopology();
     /**
-     * <code>optional string Comp = 2;</code>
+     * <code>optional .messages.Topology Topology = 2;</code>
+     */
+    com.github.jsgilmore.protoshell.ShellMessages.TopologyOrBuilder getTopologyOrBuilder();
+
+    // repeated .messages.Conf Confs = 3;
+    /**
+     * <code>repeated .messages.Conf Confs = 3;</code>
+     */
+    java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf> 
+        getConfsList();
+    /**
+     * <code>repeated .messages.Conf Confs = 3;</code>
+     */
+    com.github.jsgilmore.protoshell.ShellMessages.Conf getConfs(int index);
+    /**
+     * <code>repeated .messages.Conf Confs = 3;</code>
+     */
+    int getConfsCount();
+    /**
+     * <code>repeated .messages.Conf Confs = 3;</code>
+     */
+    java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder> 
+        getConfsOrBuilderList();
+    /**
+     * <code>repeated .messages.Conf Confs = 3;</code>
+     */
+    com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder getConfsOrBuilder(
+        int index);
+
+    // optional int32 ProtocolVersion = 4;
+    /**
+     * <code>optional int32 ProtocolVersion = 4;</code>
+     */
+    boolean hasProtocolVersion();
+    /**
+     * <code>optional int32 ProtocolVersion = 4;</code>
+     */
+    int getProtocolVersion();
+
+    // repeated .messages.Capability Capabilities = 5;
+    /**
+     * <code>repeated .messages.Capability Capabilities = 5;</code>
+     */
+    java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Capability> getCapabilitiesList();
+    /**
+     * <code>repeated .messages.Capability Capabilities = 5;</code>
+     */
+    int getCapabilitiesCount();
+    /**
+     * <code>repeated .messages.Capability Capabilities = 5;</code>
+     */
+    com.github.jsgilmore.protoshell.ShellMessages.Capability getCapabilities(int index);
+
+    // optional .messages.SharedMemory SharedMemory = 6;
+    /**
+     * <code>optional .messages.SharedMemory SharedMemory = 6;</code>
+     */
+    boolean hasSharedMemory();
+    /**
+     * <code>optional .messages.SharedMemory SharedMemory = 6;</code>
+     */
+    com.github.jsgilmore.protoshell.ShellMessages.SharedMemory getSharedMemory();
+    /**
+     * <code>optional .messages.SharedMemory SharedMemory = 6;</code>
+     */
+    com.github.jsgilmore.protoshell.ShellMessages.SharedMemoryOrBuilder getSharedMemoryOrBuilder();
+
+    // repeated string Dictionary = 7;
+    /**
+     * <code>repeated string Dictionary = 7;</code>
+     */
+    java.util.List<java.lang.String>
+    getDictionaryList();
+    /**
+     * <code>repeated string Dictionary = 7;</code>
+     */
+    int getDictionaryCount();
+    /**
+     * <code>repeated string Dictionary = 7;</code>
+     */
+    java.lang.String getDictionary(int index);
+    /**
+     * <code>repeated string Dictionary = 7;</code>
      */
     com.google.protobuf.ByteString
-        getCompBytes();
+        getDictionaryBytes(int index);
 
-    // optional string Stream = 3;
+    // repeated string Codecs = 8;
     /**
-     * <code>optional string Stream = 3;</code>
+     * <code>repeated string Codecs = 8;</code>
      */
-    boolean hasStream();
+    java.util.List<java.lang.String>
+    getCodecsList();
     /**
-     * <code>optional string Stream = 3;</code>
+     * <code>repeated string Codecs = 8;</code>
      */
-    java.lang.String getStream();
+    int getCodecsCount();
     /**
-     * <code>optional string Stream = 3;</code>
+     * <code>repeated string Codecs = 8;</code>
+     */
+    java.lang.String getCodecs(int index);
+    /**
+     * <code>repeated string Codecs = 8;</code>
      */
     com.google.protobuf.ByteString
-        getStreamBytes();
+        getCodecsBytes(int index);
 
-    // optional int64 Task = 4;
+    // optional int32 MultiplexedBy = 9;
     /**
-     * <code>optional int64 Task = 4;</code>
+     * <code>optional int32 MultiplexedBy = 9;</code>
      */
-    boolean hasTask();
+    boolean hasMultiplexedBy();
     /**
-     * <code>optional int64 Task = 4;</code>
+     * <code>optional int32 MultiplexedBy = 9;</code>
      */
-    long getTask();
+    int getMultiplexedBy();
   }
   /**
-   * Protobuf type {@code messages.BoltMsgMeta}
+   * Protobuf type {@code messages.Context}
    */
-  public static final class BoltMsgMeta extends
+  public static final class Context extends
       com.google.protobuf.GeneratedMessage
-      implements BoltMsgMetaOrBuilder {
-    // Use BoltMsgMeta.newBuilder() to construct.
-    private BoltMsgMeta(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements ContextOrBuilder {
+    // Use Context.newBuilder() to construct.
+    private Context(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private BoltMsgMeta(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private Context(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final BoltMsgMeta defaultInstance;
-    public static BoltMsgMeta getDefaultInstance() {
+    private static final Context defaultInstance;
+    public static Context getDefaultInstance() {
       return defaultInstance;
     }
 
-    public BoltMsgMeta getDefaultInstanceForType() {
+    public Context getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -3527,7 +4168,7 @@ public final class ShellMessages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private BoltMsgMeta(
+    private Context(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3552,22 +4193,100 @@ public final class ShellMessages {
             }
             case 10: {
               bitField0_ |= 0x00000001;
-              id_ = input.readBytes();
+              pidDir_ = input.readBytes();
               break;
             }
             case 18: {
+              com.github.jsgilmore.protoshell.ShellMessages.Topology.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = topology_.toBuilder();
+              }
+              topology_ = input.readMessage(com.github.jsgilmore.protoshell.ShellMessages.Topology.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(topology_);
+                topology_ = subBuilder.buildPartial();
+              }
               bitField0_ |= 0x00000002;
-              comp_ = input.readBytes();
               break;
             }
             case 26: {
-              bitField0_ |= 0x00000004;
-              stream_ = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                confs_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.Conf>();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              confs_.add(input.readMessage(com.github.jsgilmore.protoshell.ShellMessages.Conf.PARSER, extensionRegistry));
               break;
             }
             case 32: {
+              bitField0_ |= 0x00000004;
+              protocolVersion_ = input.readInt32();
+              break;
+            }
+            case 40: {
+              int rawValue = input.readEnum();
+              com.github.jsgilmore.protoshell.ShellMessages.Capability value = com.github.jsgilmore.protoshell.ShellMessages.Capability.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(5, rawValue);
+              } else {
+                if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                  capabilities_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.Capability>();
+                  mutable_bitField0_ |= 0x00000010;
+                }
+                capabilities_.add(value);
+              }
+              break;
+            }
+            case 42: {
+              int length = input.readRawVarint32();
+              int oldLimit = input.pushLimit(length);
+              while(input.getBytesUntilLimit() > 0) {
+                int rawValue = input.readEnum();
+                com.github.jsgilmore.protoshell.ShellMessages.Capability value = com.github.jsgilmore.protoshell.ShellMessages.Capability.valueOf(rawValue);
+                if (value == null) {
+                  unknownFields.mergeVarintField(5, rawValue);
+                } else {
+                  if (!((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+                    capabilities_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.Capability>();
+                    mutable_bitField0_ |= 0x00000010;
+                  }
+                  capabilities_.add(value);
+                }
+              }
+              input.popLimit(oldLimit);
+              break;
+            }
+            case 50: {
+              com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000008) == 0x00000008)) {
+                subBuilder = sharedMemory_.toBuilder();
+              }
+              sharedMemory_ = input.readMessage(com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(sharedMemory_);
+                sharedMemory_ = subBuilder.buildPartial();
+              }
               bitField0_ |= 0x00000008;
-              task_ = input.readInt64();
+              break;
+            }
+            case 58: {
+              if (!((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+                dictionary_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000040;
+              }
+              dictionary_.add(input.readBytes());
+              break;
+            }
+            case 66: {
+              if (!((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+                codecs_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000080;
+              }
+              codecs_.add(input.readBytes());
+              break;
+            }
+            case 72: {
+              bitField0_ |= 0x00000010;
+              multiplexedBy_ = input.readInt32();
               break;
             }
           }
@@ -3578,52 +4297,64 @@ public final class ShellMessages {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          confs_ = java.util.Collections.unmodifiableList(confs_);
+        }
+        if (((mutable_bitField0_ & 0x00000010) == 0x00000010)) {
+          capabilities_ = java.util.Collections.unmodifiableList(capabilities_);
+        }
+        if (((mutable_bitField0_ & 0x00000040) == 0x00000040)) {
+          dictionary_ = new com.google.protobuf.UnmodifiableLazyStringList(dictionary_);
+        }
+        if (((mutable_bitField0_ & 0x00000080) == 0x00000080)) {
+          codecs_ = new com.google.protobuf.UnmodifiableLazyStringList(codecs_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgMeta_descriptor;
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Context_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgMeta_fieldAccessorTable
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Context_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.class, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.Builder.class);
+              com.github.jsgilmore.protoshell.ShellMessages.Context.class, com.github.jsgilmore.protoshell.ShellMessages.Context.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<BoltMsgMeta> PARSER =
-        new com.google.protobuf.AbstractParser<BoltMsgMeta>() {
-      public BoltMsgMeta parsePartialFrom(
+    public static com.google.protobuf.Parser<Context> PARSER =
+        new com.google.protobuf.AbstractParser<Context>() {
+      public Context parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new BoltMsgMeta(input, extensionRegistry);
+        return new Context(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<BoltMsgMeta> getParserForType() {
+    public com.google.protobuf.Parser<Context> getParserForType() {
       return PARSER;
     }
 
     private int bitField0_;
-    // optional string Id = 1;
-    public static final int ID_FIELD_NUMBER = 1;
-    private java.lang.Object id_;
+    // optional string PidDir = 1;
+    public static final int PIDDIR_FIELD_NUMBER = 1;
+    private java.lang.Object pidDir_;
     /**
-     * <code>optional string Id = 1;</code>
+     * <code>optional string PidDir = 1;</code>
      */
-    public boolean hasId() {
+    public boolean hasPidDir() {
       return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional string Id = 1;</code>
+     * <code>optional string PidDir = 1;</code>
      */
-    public java.lang.String getId() {
-      java.lang.Object ref = id_;
+    public java.lang.String getPidDir() {
+      java.lang.Object ref = pidDir_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
@@ -3631,135 +4362,232 @@ public final class ShellMessages {
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
         if (bs.isValidUtf8()) {
-          id_ = s;
+          pidDir_ = s;
         }
         return s;
       }
     }
     /**
-     * <code>optional string Id = 1;</code>
+     * <code>optional string PidDir = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getIdBytes() {
-      java.lang.Object ref = id_;
+        getPidDirBytes() {
+      java.lang.Object ref = pidDir_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        id_ = b;
+        pidDir_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    // optional string Comp = 2;
-    public static final int COMP_FIELD_NUMBER = 2;
-    private java.lang.Object comp_;
+    // optional .messages.Topology Topology = 2;
+    public static final int TOPOLOGY_FIELD_NUMBER = 2;
+    private com.github.jsgilmore.protoshell.ShellMessages.Topology topology_;
     /**
-     * <code>optional string Comp = 2;</code>
+     * <code>optional .messages.Topology Topology = 2;</code>
      */
-    public boolean hasComp() {
+    public boolean hasTopology() {
       return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>optional string Comp = 2;</code>
+     * <code>optional .messages.Topology Topology = 2;</code>
      */
-    public java.lang.String getComp() {
-      java.lang.Object ref = comp_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          comp_ = s;
-        }
-        return s;
-      }
+    public com.github.jsgilmore.protoshell.ShellMessages.Topology getTopology() {
+      return topology_;
     }
     /**
-     * <code>optional string Comp = 2;</code>
+     * <code>optional .messages.Topology Topology = 2;</code>
      */
-    public com.google.protobuf.ByteString
-        getCompBytes() {
-      java.lang.Object ref = comp_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        comp_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.github.jsgilmore.protoshell.ShellMessages.TopologyOrBuilder getTopologyOrBuilder() {
+      return topology_;
     }
 
-    // optional string Stream = 3;
-    public static final int STREAM_FIELD_NUMBER = 3;
-    private java.lang.Object stream_;
+    // repeated .messages.Conf Confs = 3;
+    public static final int CONFS_FIELD_NUMBER = 3;
+    private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf> confs_;
     /**
-     * <code>optional string Stream = 3;</code>
+     * <code>repeated .messages.Conf Confs = 3;</code>
      */
-    public boolean hasStream() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+    public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf> getConfsList() {
+      return confs_;
     }
     /**
-     * <code>optional string Stream = 3;</code>
+     * <code>repeated .messages.Conf Confs = 3;</code>
      */
-    public java.lang.String getStream() {
-      java.lang.Object ref = stream_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          stream_ = s;
-        }
-        return s;
-      }
+    public java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder> 
+        getConfsOrBuilderList() {
+      return confs_;
     }
     /**
-     * <code>optional string Stream = 3;</code>
+     * <code>repeated .messages.Conf Confs = 3;</code>
      */
-    public com.google.protobuf.ByteString
-        getStreamBytes() {
-      java.lang.Object ref = stream_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        stream_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public int getConfsCount() {
+      return confs_.size();
+    }
+    /**
+     * <code>repeated .messages.Conf Confs = 3;</code>
+     */
+    public com.github.jsgilmore.protoshell.ShellMessages.Conf getConfs(int index) {
+      return confs_.get(index);
+    }
+    /**
+     * <code>repeated .messages.Conf Confs = 3;</code>
+     */
+    public com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder getConfsOrBuilder(
+        int index) {
+      return confs_.get(index);
     }
 
-    // optional int64 Task = 4;
-    public static final int TASK_FIELD_NUMBER = 4;
-    private long task_;
+    // optional int32 ProtocolVersion = 4;
+    public static final int PROTOCOLVERSION_FIELD_NUMBER = 4;
+    private int protocolVersion_;
     /**
-     * <code>optional int64 Task = 4;</code>
+     * <code>optional int32 ProtocolVersion = 4;</code>
      */
-    public boolean hasTask() {
+    public boolean hasProtocolVersion() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional int32 ProtocolVersion = 4;</code>
+     */
+    public int getProtocolVersion() {
+      return protocolVersion_;
+    }
+
+    // repeated .messages.Capability Capabilities = 5;
+    public static final int CAPABILITIES_FIELD_NUMBER = 5;
+    private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Capability> capabilities_;
+    /**
+     * <code>repeated .messages.Capability Capabilities = 5;</code>
+     */
+    public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Capability> getCapabilitiesList() {
+      return capabilities_;
+    }
+    /**
+     * <code>repeated .messages.Capability Capabilities = 5;</code>
+     */
+    public int getCapabilitiesCount() {
+      return capabilities_.size();
+    }
+    /**
+     * <code>repeated .messages.Capability Capabilities = 5;</code>
+     */
+    public com.github.jsgilmore.protoshell.ShellMessages.Capability getCapabilities(int index) {
+      return capabilities_.get(index);
+    }
+
+    // optional .messages.SharedMemory SharedMemory = 6;
+    public static final int SHAREDMEMORY_FIELD_NUMBER = 6;
+    private com.github.jsgilmore.protoshell.ShellMessages.SharedMemory sharedMemory_;
+    /**
+     * <code>optional .messages.SharedMemory SharedMemory = 6;</code>
+     */
+    public boolean hasSharedMemory() {
       return ((bitField0_ & 0x00000008) == 0x00000008);
     }
     /**
-     * <code>optional int64 Task = 4;</code>
+     * <code>optional .messages.SharedMemory SharedMemory = 6;</code>
      */
-    public long getTask() {
-      return task_;
+    public com.github.jsgilmore.protoshell.ShellMessages.SharedMemory getSharedMemory() {
+      return sharedMemory_;
+    }
+    /**
+     * <code>optional .messages.SharedMemory SharedMemory = 6;</code>
+     */
+    public com.github.jsgilmore.protoshell.ShellMessages.SharedMemoryOrBuilder getSharedMemoryOrBuilder() {
+      return sharedMemory_;
+    }
+
+    // repeated string Dictionary = 7;
+    public static final int DICTIONARY_FIELD_NUMBER = 7;
+    private com.google.protobuf.LazyStringList dictionary_;
+    /**
+     * <code>repeated string Dictionary = 7;</code>
+     */
+    public java.util.List<java.lang.String>
+        getDictionaryList() {
+      return dictionary_;
+    }
+    /**
+     * <code>repeated string Dictionary = 7;</code>
+     */
+    public int getDictionaryCount() {
+      return dictionary_.size();
+    }
+    /**
+     * <code>repeated string Dictionary = 7;</code>
+     */
+    public java.lang.String getDictionary(int index) {
+      return dictionary_.get(index);
+    }
+    /**
+     * <code>repeated string Dictionary = 7;</code>
+     */
+    public com.google.protobuf.ByteString
+        getDictionaryBytes(int index) {
+      return dictionary_.getByteString(index);
+    }
+
+    // repeated string Codecs = 8;
+    public static final int CODECS_FIELD_NUMBER = 8;
+    private com.google.protobuf.LazyStringList codecs_;
+    /**
+     * <code>repeated string Codecs = 8;</code>
+     */
+    public java.util.List<java.lang.String>
+        getCodecsList() {
+      return codecs_;
+    }
+    /**
+     * <code>repeated string Codecs = 8;</code>
+     */
+    public int getCodecsCount() {
+      return codecs_.size();
+    }
+    /**
+     * <code>repeated string Codecs = 8;</code>
+     */
+    public java.lang.String getCodecs(int index) {
+      return codecs_.get(index);
+    }
+    /**
+     * <code>repeated string Codecs = 8;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCodecsBytes(int index) {
+      return codecs_.getByteString(index);
+    }
+
+    // optional int32 MultiplexedBy = 9;
+    public static final int MULTIPLEXEDBY_FIELD_NUMBER = 9;
+    private int multiplexedBy_;
+    /**
+     * <code>optional int32 MultiplexedBy = 9;</code>
+     */
+    public boolean hasMultiplexedBy() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional int32 MultiplexedBy = 9;</code>
+     */
+    public int getMultiplexedBy() {
+      return multiplexedBy_;
     }
 
     private void initFields() {
-      id_ = "";
-      comp_ = "";
-      stream_ = "";
-      task_ = 0L;
+      pidDir_ = "";
+      topology_ = com.github.jsgilmore.protoshell.ShellMessages.Topology.getDefaultInstance();
+      confs_ = java.util.Collections.emptyList();
+      protocolVersion_ = 0;
+      capabilities_ = java.util.Collections.emptyList();
+      sharedMemory_ = com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.getDefaultInstance();
+      dictionary_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      codecs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      multiplexedBy_ = 0;
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -3774,16 +4602,31 @@ public final class ShellMessages {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getIdBytes());
+        output.writeBytes(1, getPidDirBytes());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getCompBytes());
+        output.writeMessage(2, topology_);
+      }
+      for (int i = 0; i < confs_.size(); i++) {
+        output.writeMessage(3, confs_.get(i));
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBytes(3, getStreamBytes());
+        output.writeInt32(4, protocolVersion_);
+      }
+      for (int i = 0; i < capabilities_.size(); i++) {
+        output.writeEnum(5, capabilities_.get(i).getNumber());
       }
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeInt64(4, task_);
+        output.writeMessage(6, sharedMemory_);
+      }
+      for (int i = 0; i < dictionary_.size(); i++) {
+        output.writeBytes(7, dictionary_.getByteString(i));
+      }
+      for (int i = 0; i < codecs_.size(); i++) {
+        output.writeBytes(8, codecs_.getByteString(i));
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeInt32(9, multiplexedBy_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -3796,19 +4639,54 @@ public final class ShellMessages {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getIdBytes());
+          .computeBytesSize(1, getPidDirBytes());
       }
       if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getCompBytes());
+          .computeMessageSize(2, topology_);
+      }
+      for (int i = 0; i < confs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, confs_.get(i));
       }
       if (((bitField0_ & 0x00000004) == 0x00000004)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(3, getStreamBytes());
+          .computeInt32Size(4, protocolVersion_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < capabilities_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeEnumSizeNoTag(capabilities_.get(i).getNumber());
+        }
+        size += dataSize;
+        size += 1 * capabilities_.size();
       }
       if (((bitField0_ & 0x00000008) == 0x00000008)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(4, task_);
+          .computeMessageSize(6, sharedMemory_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < dictionary_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(dictionary_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getDictionaryList().size();
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < codecs_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(codecs_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getCodecsList().size();
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(9, multiplexedBy_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -3822,53 +4700,53 @@ public final class ShellMessages {
       return super.writeReplace();
     }
 
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseFrom(byte[] data)
+    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseDelimitedFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseDelimitedFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Context parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3877,7 +4755,7 @@ public final class ShellMessages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta prototype) {
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.Context prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -3889,24 +4767,24 @@ public final class ShellMessages {
       return builder;
     }
     /**
-     * Protobuf type {@code messages.BoltMsgMeta}
+     * Protobuf type {@code messages.Context}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMetaOrBuilder {
+       implements com.github.jsgilmore.protoshell.ShellMessages.ContextOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgMeta_descriptor;
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Context_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgMeta_fieldAccessorTable
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Context_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.class, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.Builder.class);
+                com.github.jsgilmore.protoshell.ShellMessages.Context.class, com.github.jsgilmore.protoshell.ShellMessages.Context.Builder.class);
       }
 
-      // Construct using com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.newBuilder()
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.Context.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -3918,6 +4796,9 @@ public final class ShellMessages {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getTopologyFieldBuilder();
+          getConfsFieldBuilder();
+          getSharedMemoryFieldBuilder();
         }
       }
       private static Builder create() {
@@ -3926,14 +4807,36 @@ public final class ShellMessages {
 
       public Builder clear() {
         super.clear();
-        id_ = "";
+        pidDir_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
-        comp_ = "";
+        if (topologyBuilder_ == null) {
+          topology_ = com.github.jsgilmore.protoshell.ShellMessages.Topology.getDefaultInstance();
+        } else {
+          topologyBuilder_.clear();
+        }
         bitField0_ = (bitField0_ & ~0x00000002);
-        stream_ = "";
-        bitField0_ = (bitField0_ & ~0x00000004);
-        task_ = 0L;
+        if (confsBuilder_ == null) {
+          confs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          confsBuilder_.clear();
+        }
+        protocolVersion_ = 0;
         bitField0_ = (bitField0_ & ~0x00000008);
+        capabilities_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (sharedMemoryBuilder_ == null) {
+          sharedMemory_ = com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.getDefaultInstance();
+        } else {
+          sharedMemoryBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        dictionary_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        codecs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        multiplexedBy_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000100);
         return this;
       }
 
@@ -3943,74 +4846,167 @@ public final class ShellMessages {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgMeta_descriptor;
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Context_descriptor;
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta getDefaultInstanceForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.getDefaultInstance();
+      public com.github.jsgilmore.protoshell.ShellMessages.Context getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.Context.getDefaultInstance();
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta build() {
-        com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta result = buildPartial();
+      public com.github.jsgilmore.protoshell.ShellMessages.Context build() {
+        com.github.jsgilmore.protoshell.ShellMessages.Context result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta buildPartial() {
-        com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta result = new com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta(this);
+      public com.github.jsgilmore.protoshell.ShellMessages.Context buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.Context result = new com.github.jsgilmore.protoshell.ShellMessages.Context(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.id_ = id_;
+        result.pidDir_ = pidDir_;
         if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
           to_bitField0_ |= 0x00000002;
         }
-        result.comp_ = comp_;
-        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
-          to_bitField0_ |= 0x00000004;
-        }
-        result.stream_ = stream_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000008;
+        if (topologyBuilder_ == null) {
+          result.topology_ = topology_;
+        } else {
+          result.topology_ = topologyBuilder_.build();
         }
-        result.task_ = task_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
-      }
+        if (confsBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004)) {
+            confs_ = java.util.Collections.unmodifiableList(confs_);
+            bitField0_ = (bitField0_ & ~0x00000004);
+          }
+          result.confs_ = confs_;
+        } else {
+          result.confs_ = confsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.protocolVersion_ = protocolVersion_;
+        if (((bitField0_ & 0x00000010) == 0x00000010)) {
+          capabilities_ = java.util.Collections.unmodifiableList(capabilities_);
+          bitField0_ = (bitField0_ & ~0x00000010);
+        }
+        result.capabilities_ = capabilities_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        if (sharedMemoryBuilder_ == null) {
+          result.sharedMemory_ = sharedMemory_;
+        } else {
+          result.sharedMemory_ = sharedMemoryBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000040) == 0x00000040)) {
+          dictionary_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              dictionary_);
+          bitField0_ = (bitField0_ & ~0x00000040);
+        }
+        result.dictionary_ = dictionary_;
+        if (((bitField0_ & 0x00000080) == 0x00000080)) {
+          codecs_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              codecs_);
+          bitField0_ = (bitField0_ & ~0x00000080);
+        }
+        result.codecs_ = codecs_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.multiplexedBy_ = multiplexedBy_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta) {
-          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta)other);
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.Context) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.Context)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta other) {
-        if (other == com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.getDefaultInstance()) return this;
-        if (other.hasId()) {
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.Context other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.Context.getDefaultInstance()) return this;
+        if (other.hasPidDir()) {
           bitField0_ |= 0x00000001;
-          id_ = other.id_;
+          pidDir_ = other.pidDir_;
           onChanged();
         }
-        if (other.hasComp()) {
-          bitField0_ |= 0x00000002;
-          comp_ = other.comp_;
+        if (other.hasTopology()) {
+          mergeTopology(other.getTopology());
+        }
+        if (confsBuilder_ == null) {
+          if (!other.confs_.isEmpty()) {
+            if (confs_.isEmpty()) {
+              confs_ = other.confs_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+            } else {
+              ensureConfsIsMutable();
+              confs_.addAll(other.confs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.confs_.isEmpty()) {
+            if (confsBuilder_.isEmpty()) {
+              confsBuilder_.dispose();
+              confsBuilder_ = null;
+              confs_ = other.confs_;
+              bitField0_ = (bitField0_ & ~0x00000004);
+              confsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getConfsFieldBuilder() : null;
+            } else {
+              confsBuilder_.addAllMessages(other.confs_);
+            }
+          }
+        }
+        if (other.hasProtocolVersion()) {
+          setProtocolVersion(other.getProtocolVersion());
+        }
+        if (!other.capabilities_.isEmpty()) {
+          if (capabilities_.isEmpty()) {
+            capabilities_ = other.capabilities_;
+            bitField0_ = (bitField0_ & ~0x00000010);
+          } else {
+            ensureCapabilitiesIsMutable();
+            capabilities_.addAll(other.capabilities_);
+          }
           onChanged();
         }
-        if (other.hasStream()) {
-          bitField0_ |= 0x00000004;
-          stream_ = other.stream_;
+        if (other.hasSharedMemory()) {
+          mergeSharedMemory(other.getSharedMemory());
+        }
+        if (!other.dictionary_.isEmpty()) {
+          if (dictionary_.isEmpty()) {
+            dictionary_ = other.dictionary_;
+            bitField0_ = (bitField0_ & ~0x00000040);
+          } else {
+            ensureDictionaryIsMutable();
+            dictionary_.addAll(other.dictionary_);
+          }
           onChanged();
         }
-        if (other.hasTask()) {
-          setTask(other.getTask());
+        if (!other.codecs_.isEmpty()) {
+          if (codecs_.isEmpty()) {
+            codecs_ = other.codecs_;
+            bitField0_ = (bitField0_ & ~0x00000080);
+          } else {
+            ensureCodecsIsMutable();
+            codecs_.addAll(other.codecs_);
+          }
+          onChanged();
+        }
+        if (other.hasMultiplexedBy()) {
+          setMultiplexedBy(other.getMultiplexedBy());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
@@ -4024,11 +5020,11 @@ public final class ShellMessages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parsedMessage = null;
+        com.github.jsgilmore.protoshell.ShellMessages.Context parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta) e.getUnfinishedMessage();
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.Context) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -4039,965 +5035,950 @@ public final class ShellMessages {
       }
       private int bitField0_;
 
-      // optional string Id = 1;
-      private java.lang.Object id_ = "";
+      // optional string PidDir = 1;
+      private java.lang.Object pidDir_ = "";
       /**
-       * <code>optional string Id = 1;</code>
+       * <code>optional string PidDir = 1;</code>
        */
-      public boolean hasId() {
+      public boolean hasPidDir() {
         return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>optional string Id = 1;</code>
+       * <code>optional string PidDir = 1;</code>
        */
-      public java.lang.String getId() {
-        java.lang.Object ref = id_;
+      public java.lang.String getPidDir() {
+        java.lang.Object ref = pidDir_;
         if (!(ref instanceof java.lang.String)) {
           java.lang.String s = ((com.google.protobuf.ByteString) ref)
               .toStringUtf8();
-          id_ = s;
+          pidDir_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>optional string Id = 1;</code>
+       * <code>optional string PidDir = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getIdBytes() {
-        java.lang.Object ref = id_;
+          getPidDirBytes() {
+        java.lang.Object ref = pidDir_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          id_ = b;
+          pidDir_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string Id = 1;</code>
+       * <code>optional string PidDir = 1;</code>
        */
-      public Builder setId(
+      public Builder setPidDir(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000001;
-        id_ = value;
+        pidDir_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string Id = 1;</code>
+       * <code>optional string PidDir = 1;</code>
        */
-      public Builder clearId() {
+      public Builder clearPidDir() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        id_ = getDefaultInstance().getId();
+        pidDir_ = getDefaultInstance().getPidDir();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string Id = 1;</code>
+       * <code>optional string PidDir = 1;</code>
        */
-      public Builder setIdBytes(
+      public Builder setPidDirBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000001;
-        id_ = value;
+        pidDir_ = value;
         onChanged();
         return this;
       }
 
-      // optional string Comp = 2;
-      private java.lang.Object comp_ = "";
+      // optional .messages.Topology Topology = 2;
+      private com.github.jsgilmore.protoshell.ShellMessages.Topology topology_ = com.github.jsgilmore.protoshell.ShellMessages.Topology.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.Topology, com.github.jsgilmore.protoshell.ShellMessages.Topology.Builder, com.github.jsgilmore.protoshell.ShellMessages.TopologyOrBuilder> topologyBuilder_;
       /**
-       * <code>optional string Comp = 2;</code>
+       * <code>optional .messages.Topology Topology = 2;</code>
        */
-      public boolean hasComp() {
+      public boolean hasTopology() {
         return ((bitField0_ & 0x00000002) == 0x00000002);
       }
       /**
-       * <code>optional string Comp = 2;</code>
+       * <code>optional .messages.Topology Topology = 2;</code>
        */
-      public java.lang.String getComp() {
-        java.lang.Object ref = comp_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          comp_ = s;
-          return s;
+      public com.github.jsgilmore.protoshell.ShellMessages.Topology getTopology() {
+        if (topologyBuilder_ == null) {
+          return topology_;
         } else {
-          return (java.lang.String) ref;
+          return topologyBuilder_.getMessage();
         }
       }
       /**
-       * <code>optional string Comp = 2;</code>
+       * <code>optional .messages.Topology Topology = 2;</code>
        */
-      public com.google.protobuf.ByteString
-          getCompBytes() {
-        java.lang.Object ref = comp_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          comp_ = b;
-          return b;
+      public Builder setTopology(com.github.jsgilmore.protoshell.ShellMessages.Topology value) {
+        if (topologyBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          topology_ = value;
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          topologyBuilder_.setMessage(value);
         }
+        bitField0_ |= 0x00000002;
+        return this;
       }
       /**
-       * <code>optional string Comp = 2;</code>
+       * <code>optional .messages.Topology Topology = 2;</code>
        */
-      public Builder setComp(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        comp_ = value;
-        onChanged();
+      public Builder setTopology(
+          com.github.jsgilmore.protoshell.ShellMessages.Topology.Builder builderForValue) {
+        if (topologyBuilder_ == null) {
+          topology_ = builderForValue.build();
+          onChanged();
+        } else {
+          topologyBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000002;
         return this;
       }
       /**
-       * <code>optional string Comp = 2;</code>
+       * <code>optional .messages.Topology Topology = 2;</code>
        */
-      public Builder clearComp() {
+      public Builder mergeTopology(com.github.jsgilmore.protoshell.ShellMessages.Topology value) {
+        if (topologyBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002) &&
+              topology_ != com.github.jsgilmore.protoshell.ShellMessages.Topology.getDefaultInstance()) {
+            topology_ =
+              com.github.jsgilmore.protoshell.ShellMessages.Topology.newBuilder(topology_).mergeFrom(value).buildPartial();
+          } else {
+            topology_ = value;
+          }
+          onChanged();
+        } else {
+          topologyBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000002;
+        return this;
+      }
+      /**
+       * <code>optional .messages.Topology Topology = 2;</code>
+       */
+      public Builder clearTopology() {
+        if (topologyBuilder_ == null) {
+          topology_ = com.github.jsgilmore.protoshell.ShellMessages.Topology.getDefaultInstance();
+          onChanged();
+        } else {
+          topologyBuilder_.clear();
+        }
         bitField0_ = (bitField0_ & ~0x00000002);
-        comp_ = getDefaultInstance().getComp();
-        onChanged();
         return this;
       }
       /**
-       * <code>optional string Comp = 2;</code>
+       * <code>optional .messages.Topology Topology = 2;</code>
        */
-      public Builder setCompBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        comp_ = value;
+      public com.github.jsgilmore.protoshell.ShellMessages.Topology.Builder getTopologyBuilder() {
+        bitField0_ |= 0x00000002;
         onChanged();
-        return this;
+        return getTopologyFieldBuilder().getBuilder();
       }
-
-      // optional string Stream = 3;
-      private java.lang.Object stream_ = "";
       /**
-       * <code>optional string Stream = 3;</code>
+       * <code>optional .messages.Topology Topology = 2;</code>
        */
-      public boolean hasStream() {
-        return ((bitField0_ & 0x00000004) == 0x00000004);
+      public com.github.jsgilmore.protoshell.ShellMessages.TopologyOrBuilder getTopologyOrBuilder() {
+        if (topologyBuilder_ != null) {
+          return topologyBuilder_.getMessageOrBuilder();
+        } else {
+          return topology_;
+        }
       }
       /**
-       * <code>optional string Stream = 3;</code>
+       * <code>optional .messages.Topology Topology = 2;</code>
        */
-      public java.lang.String getStream() {
-        java.lang.Object ref = stream_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          stream_ = s;
-          return s;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.Topology, com.github.jsgilmore.protoshell.ShellMessages.Topology.Builder, com.github.jsgilmore.protoshell.ShellMessages.TopologyOrBuilder> 
+          getTopologyFieldBuilder() {
+        if (topologyBuilder_ == null) {
+          topologyBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.github.jsgilmore.protoshell.ShellMessages.Topology, com.github.jsgilmore.protoshell.ShellMessages.Topology.Builder, com.github.jsgilmore.protoshell.ShellMessages.TopologyOrBuilder>(
+                  topology_,
+                  getParentForChildren(),
+                  isClean());
+          topology_ = null;
+        }
+        return topologyBuilder_;
+      }
+
+      // repeated .messages.Conf Confs = 3;
+      private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf> confs_ =
+        java.util.Collections.emptyList();
+      private void ensureConfsIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          confs_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.Conf>(confs_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.Conf, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder, com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder> confsBuilder_;
+
+      /**
+       * <code>repeated .messages.Conf Confs = 3;</code>
+       */
+      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf> getConfsList() {
+        if (confsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(confs_);
         } else {
-          return (java.lang.String) ref;
+          return confsBuilder_.getMessageList();
         }
       }
       /**
-       * <code>optional string Stream = 3;</code>
+       * <code>repeated .messages.Conf Confs = 3;</code>
        */
-      public com.google.protobuf.ByteString
-          getStreamBytes() {
-        java.lang.Object ref = stream_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          stream_ = b;
-          return b;
+      public int getConfsCount() {
+        if (confsBuilder_ == null) {
+          return confs_.size();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return confsBuilder_.getCount();
         }
       }
       /**
-       * <code>optional string Stream = 3;</code>
+       * <code>repeated .messages.Conf Confs = 3;</code>
        */
-      public Builder setStream(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        stream_ = value;
-        onChanged();
+      public com.github.jsgilmore.protoshell.ShellMessages.Conf getConfs(int index) {
+        if (confsBuilder_ == null) {
+          return confs_.get(index);
+        } else {
+          return confsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 3;</code>
+       */
+      public Builder setConfs(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.Conf value) {
+        if (confsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureConfsIsMutable();
+          confs_.set(index, value);
+          onChanged();
+        } else {
+          confsBuilder_.setMessage(index, value);
+        }
         return this;
       }
       /**
-       * <code>optional string Stream = 3;</code>
+       * <code>repeated .messages.Conf Confs = 3;</code>
        */
-      public Builder clearStream() {
-        bitField0_ = (bitField0_ & ~0x00000004);
-        stream_ = getDefaultInstance().getStream();
-        onChanged();
+      public Builder setConfs(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder builderForValue) {
+        if (confsBuilder_ == null) {
+          ensureConfsIsMutable();
+          confs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          confsBuilder_.setMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>optional string Stream = 3;</code>
+       * <code>repeated .messages.Conf Confs = 3;</code>
        */
-      public Builder setStreamBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000004;
-        stream_ = value;
-        onChanged();
+      public Builder addConfs(com.github.jsgilmore.protoshell.ShellMessages.Conf value) {
+        if (confsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureConfsIsMutable();
+          confs_.add(value);
+          onChanged();
+        } else {
+          confsBuilder_.addMessage(value);
+        }
         return this;
       }
-
-      // optional int64 Task = 4;
-      private long task_ ;
       /**
-       * <code>optional int64 Task = 4;</code>
+       * <code>repeated .messages.Conf Confs = 3;</code>
        */
-      public boolean hasTask() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public Builder addConfs(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.Conf value) {
+        if (confsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureConfsIsMutable();
+          confs_.add(index, value);
+          onChanged();
+        } else {
+          confsBuilder_.addMessage(index, value);
+        }
+        return this;
       }
       /**
-       * <code>optional int64 Task = 4;</code>
+       * <code>repeated .messages.Conf Confs = 3;</code>
        */
-      public long getTask() {
-        return task_;
+      public Builder addConfs(
+          com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder builderForValue) {
+        if (confsBuilder_ == null) {
+          ensureConfsIsMutable();
+          confs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          confsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>optional int64 Task = 4;</code>
+       * <code>repeated .messages.Conf Confs = 3;</code>
        */
-      public Builder setTask(long value) {
-        bitField0_ |= 0x00000008;
-        task_ = value;
-        onChanged();
+      public Builder addConfs(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder builderForValue) {
+        if (confsBuilder_ == null) {
+          ensureConfsIsMutable();
+          confs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          confsBuilder_.addMessage(index, builderForValue.build());
+        }
         return this;
       }
       /**
-       * <code>optional int64 Task = 4;</code>
+       * <code>repeated .messages.Conf Confs = 3;</code>
        */
-      public Builder clearTask() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        task_ = 0L;
-        onChanged();
+      public Builder addAllConfs(
+          java.lang.Iterable<? extends com.github.jsgilmore.protoshell.ShellMessages.Conf> values) {
+        if (confsBuilder_ == null) {
+          ensureConfsIsMutable();
+          super.addAll(values, confs_);
+          onChanged();
+        } else {
+          confsBuilder_.addAllMessages(values);
+        }
         return this;
       }
-
-      // @@protoc_insertion_point(builder_scope:messages.BoltMsgMeta)
-    }
-
-    static {
-      defaultInstance = new BoltMsgMeta(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:messages.BoltMsgMeta)
-  }
-
-  public interface BoltMsgProtoOrBuilder
-      extends com.google.protobuf.MessageOrBuilder {
-
-    // optional .messages.BoltMsgMeta BoltMsgMeta = 1;
-    /**
-     * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
-     */
-    boolean hasBoltMsgMeta();
-    /**
-     * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
-     */
-    com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta getBoltMsgMeta();
-    /**
-     * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
-     */
-    com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMetaOrBuilder getBoltMsgMetaOrBuilder();
-
-    // repeated bytes Contents = 2;
-    /**
-     * <code>repeated bytes Contents = 2;</code>
-     */
-    java.util.List<com.google.protobuf.ByteString> getContentsList();
-    /**
-     * <code>repeated bytes Contents = 2;</code>
-     */
-    int getContentsCount();
-    /**
-     * <code>repeated bytes Contents = 2;</code>
-     */
-    com.google.protobuf.ByteString getContents(int index);
-  }
-  /**
-   * Protobuf type {@code messages.BoltMsgProto}
-   */
-  public static final class BoltMsgProto extends
-      com.google.protobuf.GeneratedMessage
-      implements BoltMsgProtoOrBuilder {
-    // Use BoltMsgProto.newBuilder() to construct.
-    private BoltMsgProto(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
-      super(builder);
-      this.unknownFields = builder.getUnknownFields();
-    }
-    private BoltMsgProto(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
-
-    private static final BoltMsgProto defaultInstance;
-    public static BoltMsgProto getDefaultInstance() {
-      return defaultInstance;
-    }
-
-    public BoltMsgProto getDefaultInstanceForType() {
-      return defaultInstance;
-    }
-
-    private final com.google.protobuf.UnknownFieldSet unknownFields;
-    @java.lang.Override
-    public final com.google.protobuf.UnknownFieldSet
-        getUnknownFields() {
-      return this.unknownFields;
-    }
-    private BoltMsgProto(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      initFields();
-      int mutable_bitField0_ = 0;
-      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
-          com.google.protobuf.UnknownFieldSet.newBuilder();
-      try {
-        boolean done = false;
-        while (!done) {
-          int tag = input.readTag();
-          switch (tag) {
-            case 0:
-              done = true;
-              break;
-            default: {
-              if (!parseUnknownField(input, unknownFields,
-                                     extensionRegistry, tag)) {
-                done = true;
-              }
-              break;
-            }
-            case 10: {
-              com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = boltMsgMeta_.toBuilder();
-              }
-              boltMsgMeta_ = input.readMessage(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(boltMsgMeta_);
-                boltMsgMeta_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000001;
-              break;
-            }
-            case 18: {
-              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                contents_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
-                mutable_bitField0_ |= 0x00000002;
-              }
-              contents_.add(input.readBytes());
-              break;
-            }
-          }
+      /**
+       * <code>repeated .messages.Conf Confs = 3;</code>
+       */
+      public Builder clearConfs() {
+        if (confsBuilder_ == null) {
+          confs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000004);
+          onChanged();
+        } else {
+          confsBuilder_.clear();
         }
-      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-        throw e.setUnfinishedMessage(this);
-      } catch (java.io.IOException e) {
-        throw new com.google.protobuf.InvalidProtocolBufferException(
-            e.getMessage()).setUnfinishedMessage(this);
-      } finally {
-        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          contents_ = java.util.Collections.unmodifiableList(contents_);
+        return this;
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 3;</code>
+       */
+      public Builder removeConfs(int index) {
+        if (confsBuilder_ == null) {
+          ensureConfsIsMutable();
+          confs_.remove(index);
+          onChanged();
+        } else {
+          confsBuilder_.remove(index);
         }
-        this.unknownFields = unknownFields.build();
-        makeExtensionsImmutable();
+        return this;
       }
-    }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgProto_descriptor;
-    }
-
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgProto_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.class, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.Builder.class);
-    }
-
-    public static com.google.protobuf.Parser<BoltMsgProto> PARSER =
-        new com.google.protobuf.AbstractParser<BoltMsgProto>() {
-      public BoltMsgProto parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new BoltMsgProto(input, extensionRegistry);
+      /**
+       * <code>repeated .messages.Conf Confs = 3;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder getConfsBuilder(
+          int index) {
+        return getConfsFieldBuilder().getBuilder(index);
       }
-    };
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<BoltMsgProto> getParserForType() {
-      return PARSER;
-    }
-
-    private int bitField0_;
-    // optional .messages.BoltMsgMeta BoltMsgMeta = 1;
-    public static final int BOLTMSGMETA_FIELD_NUMBER = 1;
-    private com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta boltMsgMeta_;
-    /**
-     * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
-     */
-    public boolean hasBoltMsgMeta() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
-    /**
-     * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
-     */
-    public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta getBoltMsgMeta() {
-      return boltMsgMeta_;
-    }
-    /**
-     * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
-     */
-    public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMetaOrBuilder getBoltMsgMetaOrBuilder() {
-      return boltMsgMeta_;
-    }
-
-    // repeated bytes Contents = 2;
-    public static final int CONTENTS_FIELD_NUMBER = 2;
-    private java.util.List<com.google.protobuf.ByteString> contents_;
-    /**
-     * <code>repeated bytes Contents = 2;</code>
-     */
-    public java.util.List<com.google.protobuf.ByteString>
-        getContentsList() {
-      return contents_;
-    }
-    /**
-     * <code>repeated bytes Contents = 2;</code>
-     */
-    public int getContentsCount() {
-      return contents_.size();
-    }
-    /**
-     * <code>repeated bytes Contents = 2;</code>
-     */
-    public com.google.protobuf.ByteString getContents(int index) {
-      return contents_.get(index);
-    }
-
-    private void initFields() {
-      boltMsgMeta_ = com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.getDefaultInstance();
-      contents_ = java.util.Collections.emptyList();
-    }
-    private byte memoizedIsInitialized = -1;
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized != -1) return isInitialized == 1;
-
-      memoizedIsInitialized = 1;
-      return true;
-    }
-
-    public void writeTo(com.google.protobuf.CodedOutputStream output)
-                        throws java.io.IOException {
-      getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, boltMsgMeta_);
+      /**
+       * <code>repeated .messages.Conf Confs = 3;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder getConfsOrBuilder(
+          int index) {
+        if (confsBuilder_ == null) {
+          return confs_.get(index);  } else {
+          return confsBuilder_.getMessageOrBuilder(index);
+        }
       }
-      for (int i = 0; i < contents_.size(); i++) {
-        output.writeBytes(2, contents_.get(i));
+      /**
+       * <code>repeated .messages.Conf Confs = 3;</code>
+       */
+      public java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder> 
+           getConfsOrBuilderList() {
+        if (confsBuilder_ != null) {
+          return confsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(confs_);
+        }
       }
-      getUnknownFields().writeTo(output);
-    }
-
-    private int memoizedSerializedSize = -1;
-    public int getSerializedSize() {
-      int size = memoizedSerializedSize;
-      if (size != -1) return size;
-
-      size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, boltMsgMeta_);
+      /**
+       * <code>repeated .messages.Conf Confs = 3;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder addConfsBuilder() {
+        return getConfsFieldBuilder().addBuilder(
+            com.github.jsgilmore.protoshell.ShellMessages.Conf.getDefaultInstance());
       }
-      {
-        int dataSize = 0;
-        for (int i = 0; i < contents_.size(); i++) {
-          dataSize += com.google.protobuf.CodedOutputStream
-            .computeBytesSizeNoTag(contents_.get(i));
+      /**
+       * <code>repeated .messages.Conf Confs = 3;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder addConfsBuilder(
+          int index) {
+        return getConfsFieldBuilder().addBuilder(
+            index, com.github.jsgilmore.protoshell.ShellMessages.Conf.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 3;</code>
+       */
+      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder> 
+           getConfsBuilderList() {
+        return getConfsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.Conf, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder, com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder> 
+          getConfsFieldBuilder() {
+        if (confsBuilder_ == null) {
+          confsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.github.jsgilmore.protoshell.ShellMessages.Conf, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder, com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder>(
+                  confs_,
+                  ((bitField0_ & 0x00000004) == 0x00000004),
+                  getParentForChildren(),
+                  isClean());
+          confs_ = null;
         }
-        size += dataSize;
-        size += 1 * getContentsList().size();
+        return confsBuilder_;
       }
-      size += getUnknownFields().getSerializedSize();
-      memoizedSerializedSize = size;
-      return size;
-    }
 
-    private static final long serialVersionUID = 0L;
-    @java.lang.Override
-    protected java.lang.Object writeReplace()
-        throws java.io.ObjectStreamException {
-      return super.writeReplace();
-    }
-
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseFrom(
-        com.google.protobuf.ByteString data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseFrom(
-        com.google.protobuf.ByteString data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseFrom(byte[] data)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data);
-    }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseFrom(
-        byte[] data,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws com.google.protobuf.InvalidProtocolBufferException {
-      return PARSER.parseFrom(data, extensionRegistry);
-    }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
-    }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
-    }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseDelimitedFrom(java.io.InputStream input)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input);
-    }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseDelimitedFrom(
-        java.io.InputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseDelimitedFrom(input, extensionRegistry);
-    }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseFrom(
-        com.google.protobuf.CodedInputStream input)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input);
-    }
-    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseFrom(
-        com.google.protobuf.CodedInputStream input,
-        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-        throws java.io.IOException {
-      return PARSER.parseFrom(input, extensionRegistry);
-    }
-
-    public static Builder newBuilder() { return Builder.create(); }
-    public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto prototype) {
-      return newBuilder().mergeFrom(prototype);
-    }
-    public Builder toBuilder() { return newBuilder(this); }
-
-    @java.lang.Override
-    protected Builder newBuilderForType(
-        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-      Builder builder = new Builder(parent);
-      return builder;
-    }
-    /**
-     * Protobuf type {@code messages.BoltMsgProto}
-     */
-    public static final class Builder extends
-        com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProtoOrBuilder {
-      public static final com.google.protobuf.Descriptors.Descriptor
-          getDescriptor() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgProto_descriptor;
-      }
-
-      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-          internalGetFieldAccessorTable() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgProto_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.class, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.Builder.class);
-      }
-
-      // Construct using com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.newBuilder()
-      private Builder() {
-        maybeForceBuilderInitialization();
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
-      }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getBoltMsgMetaFieldBuilder();
-        }
+      // optional int32 ProtocolVersion = 4;
+      private int protocolVersion_ ;
+      /**
+       * <code>optional int32 ProtocolVersion = 4;</code>
+       */
+      public boolean hasProtocolVersion() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
       }
-      private static Builder create() {
-        return new Builder();
+      /**
+       * <code>optional int32 ProtocolVersion = 4;</code>
+       */
+      public int getProtocolVersion() {
+        return protocolVersion_;
       }
-
-      public Builder clear() {
-        super.clear();
-        if (boltMsgMetaBuilder_ == null) {
-          boltMsgMeta_ = com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.getDefaultInstance();
-        } else {
-          boltMsgMetaBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000001);
-        contents_ = java.util.Collections.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000002);
+      /**
+       * <code>optional int32 ProtocolVersion = 4;</code>
+       */
+      public Builder setProtocolVersion(int value) {
+        bitField0_ |= 0x00000008;
+        protocolVersion_ = value;
+        onChanged();
         return this;
       }
-
-      public Builder clone() {
-        return create().mergeFrom(buildPartial());
+      /**
+       * <code>optional int32 ProtocolVersion = 4;</code>
+       */
+      public Builder clearProtocolVersion() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        protocolVersion_ = 0;
+        onChanged();
+        return this;
       }
 
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgProto_descriptor;
+      // repeated .messages.Capability Capabilities = 5;
+      private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Capability> capabilities_ =
+        java.util.Collections.emptyList();
+      private void ensureCapabilitiesIsMutable() {
+        if (!((bitField0_ & 0x00000010) == 0x00000010)) {
+          capabilities_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.Capability>(capabilities_);
+          bitField0_ |= 0x00000010;
+        }
       }
-
-      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto getDefaultInstanceForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.getDefaultInstance();
+      /**
+       * <code>repeated .messages.Capability Capabilities = 5;</code>
+       */
+      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Capability> getCapabilitiesList() {
+        return java.util.Collections.unmodifiableList(capabilities_);
       }
-
-      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto build() {
-        com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
+      /**
+       * <code>repeated .messages.Capability Capabilities = 5;</code>
+       */
+      public int getCapabilitiesCount() {
+        return capabilities_.size();
       }
-
-      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto buildPartial() {
-        com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto result = new com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        if (boltMsgMetaBuilder_ == null) {
-          result.boltMsgMeta_ = boltMsgMeta_;
-        } else {
-          result.boltMsgMeta_ = boltMsgMetaBuilder_.build();
-        }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          contents_ = java.util.Collections.unmodifiableList(contents_);
-          bitField0_ = (bitField0_ & ~0x00000002);
-        }
-        result.contents_ = contents_;
-        result.bitField0_ = to_bitField0_;
-        onBuilt();
-        return result;
+      /**
+       * <code>repeated .messages.Capability Capabilities = 5;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.Capability getCapabilities(int index) {
+        return capabilities_.get(index);
       }
-
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto) {
-          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
+      /**
+       * <code>repeated .messages.Capability Capabilities = 5;</code>
+       */
+      public Builder setCapabilities(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.Capability value) {
+        if (value == null) {
+          throw new NullPointerException();
         }
+        ensureCapabilitiesIsMutable();
+        capabilities_.set(index, value);
+        onChanged();
+        return this;
       }
-
-      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto other) {
-        if (other == com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.getDefaultInstance()) return this;
-        if (other.hasBoltMsgMeta()) {
-          mergeBoltMsgMeta(other.getBoltMsgMeta());
-        }
-        if (!other.contents_.isEmpty()) {
-          if (contents_.isEmpty()) {
-            contents_ = other.contents_;
-            bitField0_ = (bitField0_ & ~0x00000002);
-          } else {
-            ensureContentsIsMutable();
-            contents_.addAll(other.contents_);
-          }
-          onChanged();
+      /**
+       * <code>repeated .messages.Capability Capabilities = 5;</code>
+       */
+      public Builder addCapabilities(com.github.jsgilmore.protoshell.ShellMessages.Capability value) {
+        if (value == null) {
+          throw new NullPointerException();
         }
-        this.mergeUnknownFields(other.getUnknownFields());
+        ensureCapabilitiesIsMutable();
+        capabilities_.add(value);
+        onChanged();
         return this;
       }
-
-      public final boolean isInitialized() {
-        return true;
+      /**
+       * <code>repeated .messages.Capability Capabilities = 5;</code>
+       */
+      public Builder addAllCapabilities(
+          java.lang.Iterable<? extends com.github.jsgilmore.protoshell.ShellMessages.Capability> values) {
+        ensureCapabilitiesIsMutable();
+        super.addAll(values, capabilities_);
+        onChanged();
+        return this;
       }
-
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+      /**
+       * <code>repeated .messages.Capability Capabilities = 5;</code>
+       */
+      public Builder clearCapabilities() {
+        capabilities_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000010);
+        onChanged();
         return this;
       }
-      private int bitField0_;
 
-      // optional .messages.BoltMsgMeta BoltMsgMeta = 1;
-      private com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta boltMsgMeta_ = com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.getDefaultInstance();
+      // optional .messages.SharedMemory SharedMemory = 6;
+      private com.github.jsgilmore.protoshell.ShellMessages.SharedMemory sharedMemory_ = com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.getDefaultInstance();
       private com.google.protobuf.SingleFieldBuilder<
-          com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.Builder, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMetaOrBuilder> boltMsgMetaBuilder_;
+          com.github.jsgilmore.protoshell.ShellMessages.SharedMemory, com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.Builder, com.github.jsgilmore.protoshell.ShellMessages.SharedMemoryOrBuilder> sharedMemoryBuilder_;
       /**
-       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       * <code>optional .messages.SharedMemory SharedMemory = 6;</code>
        */
-      public boolean hasBoltMsgMeta() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public boolean hasSharedMemory() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
       }
       /**
-       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       * <code>optional .messages.SharedMemory SharedMemory = 6;</code>
        */
-      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta getBoltMsgMeta() {
-        if (boltMsgMetaBuilder_ == null) {
-          return boltMsgMeta_;
+      public com.github.jsgilmore.protoshell.ShellMessages.SharedMemory getSharedMemory() {
+        if (sharedMemoryBuilder_ == null) {
+          return sharedMemory_;
         } else {
-          return boltMsgMetaBuilder_.getMessage();
+          return sharedMemoryBuilder_.getMessage();
         }
       }
       /**
-       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       * <code>optional .messages.SharedMemory SharedMemory = 6;</code>
        */
-      public Builder setBoltMsgMeta(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta value) {
-        if (boltMsgMetaBuilder_ == null) {
+      public Builder setSharedMemory(com.github.jsgilmore.protoshell.ShellMessages.SharedMemory value) {
+        if (sharedMemoryBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          boltMsgMeta_ = value;
+          sharedMemory_ = value;
           onChanged();
         } else {
-          boltMsgMetaBuilder_.setMessage(value);
+          sharedMemoryBuilder_.setMessage(value);
         }
-        bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000020;
         return this;
       }
       /**
-       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       * <code>optional .messages.SharedMemory SharedMemory = 6;</code>
        */
-      public Builder setBoltMsgMeta(
-          com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.Builder builderForValue) {
-        if (boltMsgMetaBuilder_ == null) {
-          boltMsgMeta_ = builderForValue.build();
+      public Builder setSharedMemory(
+          com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.Builder builderForValue) {
+        if (sharedMemoryBuilder_ == null) {
+          sharedMemory_ = builderForValue.build();
           onChanged();
         } else {
-          boltMsgMetaBuilder_.setMessage(builderForValue.build());
+          sharedMemoryBuilder_.setMessage(builderForValue.build());
         }
-        bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000020;
         return this;
       }
       /**
-       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       * <code>optional .messages.SharedMemory SharedMemory = 6;</code>
        */
-      public Builder mergeBoltMsgMeta(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta value) {
-        if (boltMsgMetaBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              boltMsgMeta_ != com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.getDefaultInstance()) {
-            boltMsgMeta_ =
-              com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.newBuilder(boltMsgMeta_).mergeFrom(value).buildPartial();
+      public Builder mergeSharedMemory(com.github.jsgilmore.protoshell.ShellMessages.SharedMemory value) {
+        if (sharedMemoryBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020) &&
+              sharedMemory_ != com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.getDefaultInstance()) {
+            sharedMemory_ =
+              com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.newBuilder(sharedMemory_).mergeFrom(value).buildPartial();
           } else {
-            boltMsgMeta_ = value;
+            sharedMemory_ = value;
           }
           onChanged();
         } else {
-          boltMsgMetaBuilder_.mergeFrom(value);
+          sharedMemoryBuilder_.mergeFrom(value);
         }
-        bitField0_ |= 0x00000001;
+        bitField0_ |= 0x00000020;
         return this;
       }
       /**
-       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       * <code>optional .messages.SharedMemory SharedMemory = 6;</code>
        */
-      public Builder clearBoltMsgMeta() {
-        if (boltMsgMetaBuilder_ == null) {
-          boltMsgMeta_ = com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.getDefaultInstance();
+      public Builder clearSharedMemory() {
+        if (sharedMemoryBuilder_ == null) {
+          sharedMemory_ = com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.getDefaultInstance();
           onChanged();
         } else {
-          boltMsgMetaBuilder_.clear();
+          sharedMemoryBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000001);
+        bitField0_ = (bitField0_ & ~0x00000020);
         return this;
       }
       /**
-       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       * <code>optional .messages.SharedMemory SharedMemory = 6;</code>
        */
-      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.Builder getBoltMsgMetaBuilder() {
-        bitField0_ |= 0x00000001;
+      public com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.Builder getSharedMemoryBuilder() {
+        bitField0_ |= 0x00000020;
         onChanged();
-        return getBoltMsgMetaFieldBuilder().getBuilder();
+        return getSharedMemoryFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       * <code>optional .messages.SharedMemory SharedMemory = 6;</code>
        */
-      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMetaOrBuilder getBoltMsgMetaOrBuilder() {
-        if (boltMsgMetaBuilder_ != null) {
-          return boltMsgMetaBuilder_.getMessageOrBuilder();
+      public com.github.jsgilmore.protoshell.ShellMessages.SharedMemoryOrBuilder getSharedMemoryOrBuilder() {
+        if (sharedMemoryBuilder_ != null) {
+          return sharedMemoryBuilder_.getMessageOrBuilder();
         } else {
-          return boltMsgMeta_;
+          return sharedMemory_;
         }
       }
       /**
-       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       * <code>optional .messages.SharedMemory SharedMemory = 6;</code>
        */
       private com.google.protobuf.SingleFieldBuilder<
-          com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.Builder, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMetaOrBuilder> 
-          getBoltMsgMetaFieldBuilder() {
-        if (boltMsgMetaBuilder_ == null) {
-          boltMsgMetaBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.Builder, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMetaOrBuilder>(
-                  boltMsgMeta_,
+          com.github.jsgilmore.protoshell.ShellMessages.SharedMemory, com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.Builder, com.github.jsgilmore.protoshell.ShellMessages.SharedMemoryOrBuilder> 
+          getSharedMemoryFieldBuilder() {
+        if (sharedMemoryBuilder_ == null) {
+          sharedMemoryBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.github.jsgilmore.protoshell.ShellMessages.SharedMemory, com.github.jsgilmore.protoshell.ShellMessages.SharedMemory.Builder, com.github.jsgilmore.protoshell.ShellMessages.SharedMemoryOrBuilder>(
+                  sharedMemory_,
                   getParentForChildren(),
                   isClean());
-          boltMsgMeta_ = null;
+          sharedMemory_ = null;
         }
-        return boltMsgMetaBuilder_;
+        return sharedMemoryBuilder_;
       }
 
-      // repeated bytes Contents = 2;
-      private java.util.List<com.google.protobuf.ByteString> contents_ = java.util.Collections.emptyList();
-      private void ensureContentsIsMutable() {
-        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
-          contents_ = new java.util.ArrayList<com.google.protobuf.ByteString>(contents_);
-          bitField0_ |= 0x00000002;
+      // repeated string Dictionary = 7;
+      private com.google.protobuf.LazyStringList dictionary_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureDictionaryIsMutable() {
+        if (!((bitField0_ & 0x00000040) == 0x00000040)) {
+          dictionary_ = new com.google.protobuf.LazyStringArrayList(dictionary_);
+          bitField0_ |= 0x00000040;
          }
       }
       /**
-       * <code>repeated bytes Contents = 2;</code>
+       * <code>repeated string Dictionary = 7;</code>
        */
-      public java.util.List<com.google.protobuf.ByteString>
-          getContentsList() {
-        return java.util.Collections.unmodifiableList(contents_);
+      public java.util.List<java.lang.String>
+          getDictionaryList() {
+        return java.util.Collections.unmodifiableList(dictionary_);
       }
       /**
-       * <code>repeated bytes Contents = 2;</code>
+       * <code>repeated string Dictionary = 7;</code>
        */
-      public int getContentsCount() {
-        return contents_.size();
+      public int getDictionaryCount() {
+        return dictionary_.size();
       }
       /**
-       * <code>repeated bytes Contents = 2;</code>
+       * <code>repeated string Dictionary = 7;</code>
        */
-      public com.google.protobuf.ByteString getContents(int index) {
-        return contents_.get(index);
+      public java.lang.String getDictionary(int index) {
+        return dictionary_.get(index);
       }
       /**
-       * <code>repeated bytes Contents = 2;</code>
+       * <code>repeated string Dictionary = 7;</code>
        */
-      public Builder setContents(
-          int index, com.google.protobuf.ByteString value) {
+      public com.google.protobuf.ByteString
+          getDictionaryBytes(int index) {
+        return dictionary_.getByteString(index);
+      }
+      /**
+       * <code>repeated string Dictionary = 7;</code>
+       */
+      public Builder setDictionary(
+          int index, java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  ensureContentsIsMutable();
-        contents_.set(index, value);
+  ensureDictionaryIsMutable();
+        dictionary_.set(index, value);
         onChanged();
         return this;
       }
       /**
-       * <code>repeated bytes Contents = 2;</code>
+       * <code>repeated string Dictionary = 7;</code>
        */
-      public Builder addContents(com.google.protobuf.ByteString value) {
+      public Builder addDictionary(
+          java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  ensureContentsIsMutable();
-        contents_.add(value);
+  ensureDictionaryIsMutable();
+        dictionary_.add(value);
         onChanged();
         return this;
       }
       /**
-       * <code>repeated bytes Contents = 2;</code>
+       * <code>repeated string Dictionary = 7;</code>
        */
-      public Builder addAllContents(
-          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
-        ensureContentsIsMutable();
-        super.addAll(values, contents_);
+      public Builder addAllDictionary(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureDictionaryIsMutable();
+        super.addAll(values, dictionary_);
         onChanged();
         return this;
       }
       /**
-       * <code>repeated bytes Contents = 2;</code>
+       * <code>repeated string Dictionary = 7;</code>
        */
-      public Builder clearContents() {
-        contents_ = java.util.Collections.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000002);
+      public Builder clearDictionary() {
+        dictionary_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string Dictionary = 7;</code>
+       */
+      public Builder addDictionaryBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureDictionaryIsMutable();
+        dictionary_.add(value);
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:messages.BoltMsgProto)
+      // repeated string Codecs = 8;
+      private com.google.protobuf.LazyStringList codecs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureCodecsIsMutable() {
+        if (!((bitField0_ & 0x00000080) == 0x00000080)) {
+          codecs_ = new com.google.protobuf.LazyStringArrayList(codecs_);
+          bitField0_ |= 0x00000080;
+         }
+      }
+      /**
+       * <code>repeated string Codecs = 8;</code>
+       */
+      public java.util.List<java.lang.String>
+          getCodecsList() {
+        return java.util.Collections.unmodifiableList(codecs_);
+      }
+      /**
+       * <code>repeated string Codecs = 8;</code>
+       */
+      public int getCodecsCount() {
+        return codecs_.size();
+      }
+      /**
+       * <code>repeated string Codecs = 8;</code>
+       */
+      public java.lang.String getCodecs(int index) {
+        return codecs_.get(index);
+      }
+      /**
+       * <code>repeated string Codecs = 8;</code>
+       */
+      public com.google.protobuf.ByteString
+          getCodecsBytes(int index) {
+        return codecs_.getByteString(index);
+      }
+      /**
+       * <code>repeated string Codecs = 8;</code>
+       */
+      public Builder setCodecs(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureCodecsIsMutable();
+        codecs_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string Codecs = 8;</code>
+       */
+      public Builder addCodecs(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureCodecsIsMutable();
+        codecs_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string Codecs = 8;</code>
+       */
+      public Builder addAllCodecs(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureCodecsIsMutable();
+        super.addAll(values, codecs_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string Codecs = 8;</code>
+       */
+      public Builder clearCodecs() {
+        codecs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string Codecs = 8;</code>
+       */
+      public Builder addCodecsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureCodecsIsMutable();
+        codecs_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // optional int32 MultiplexedBy = 9;
+      private int multiplexedBy_ ;
+      /**
+       * <code>optional int32 MultiplexedBy = 9;</code>
+       */
+      public boolean hasMultiplexedBy() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
+      }
+      /**
+       * <code>optional int32 MultiplexedBy = 9;</code>
+       */
+      public int getMultiplexedBy() {
+        return multiplexedBy_;
+      }
+      /**
+       * <code>optional int32 MultiplexedBy = 9;</code>
+       */
+      public Builder setMultiplexedBy(int value) {
+        bitField0_ |= 0x00000100;
+        multiplexedBy_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 MultiplexedBy = 9;</code>
+       */
+      public Builder clearMultiplexedBy() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        multiplexedBy_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:messages.Context)
     }
 
     static {
-      defaultInstance = new BoltMsgProto(true);
+      defaultInstance = new Context(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:messages.BoltMsgProto)
+    // @@protoc_insertion_point(class_scope:messages.Context)
   }
 
-  public interface TaskIdsOrBuilder
+  public interface PidOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // repeated int32 TaskIds = 1;
+    // optional int32 Pid = 1;
     /**
-     * <code>repeated int32 TaskIds = 1;</code>
+     * <code>optional int32 Pid = 1;</code>
      */
-    java.util.List<java.lang.Integer> getTaskIdsList();
+    boolean hasPid();
     /**
-     * <code>repeated int32 TaskIds = 1;</code>
+     * <code>optional int32 Pid = 1;</code>
      */
-    int getTaskIdsCount();
+    int getPid();
+
+    // repeated .messages.Capability Capabilities = 2;
     /**
-     * <code>repeated int32 TaskIds = 1;</code>
+     * <code>repeated .messages.Capability Capabilities = 2;</code>
      */
-    int getTaskIds(int index);
+    java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Capability> getCapabilitiesList();
+    /**
+     * <code>repeated .messages.Capability Capabilities = 2;</code>
+     */
+    int getCapabilitiesCount();
+    /**
+     * <code>repeated .messages.Capability Capabilities = 2;</code>
+     */
+    com.github.jsgilmore.protoshell.ShellMessages.Capability getCapabilities(int index);
+
+    // optional string Codec = 3;
+    /**
+     * <code>optional string Codec = 3;</code>
+     */
+    boolean hasCodec();
+    /**
+     * <code>optional string Codec = 3;</code>
+     */
+    java.lang.String getCodec();
+    /**
+     * <code>optional string Codec = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getCodecBytes();
   }
   /**
-   * Protobuf type {@code messages.TaskIds}
+   * Protobuf type {@code messages.Pid}
    */
-  public static final class TaskIds extends
+  public static final class Pid extends
       com.google.protobuf.GeneratedMessage
-      implements TaskIdsOrBuilder {
-    // Use TaskIds.newBuilder() to construct.
-    private TaskIds(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements PidOrBuilder {
+    // Use Pid.newBuilder() to construct.
+    private Pid(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private TaskIds(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private Pid(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final TaskIds defaultInstance;
-    public static TaskIds getDefaultInstance() {
+    private static final Pid defaultInstance;
+    public static Pid getDefaultInstance() {
       return defaultInstance;
     }
 
-    public TaskIds getDefaultInstanceForType() {
+    public Pid getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -5007,7 +5988,7 @@ public final class ShellMessages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private TaskIds(
+    private Pid(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5031,24 +6012,46 @@ public final class ShellMessages {
               break;
             }
             case 8: {
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-                taskIds_ = new java.util.ArrayList<java.lang.Integer>();
-                mutable_bitField0_ |= 0x00000001;
+              bitField0_ |= 0x00000001;
+              pid_ = input.readInt32();
+              break;
+            }
+            case 16: {
+              int rawValue = input.readEnum();
+              com.github.jsgilmore.protoshell.ShellMessages.Capability value = com.github.jsgilmore.protoshell.ShellMessages.Capability.valueOf(rawValue);
+              if (value == null) {
+                unknownFields.mergeVarintField(2, rawValue);
+              } else {
+                if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                  capabilities_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.Capability>();
+                  mutable_bitField0_ |= 0x00000002;
+                }
+                capabilities_.add(value);
               }
-              taskIds_.add(input.readInt32());
               break;
             }
-            case 10: {
+            case 18: {
               int length = input.readRawVarint32();
-              int limit = input.pushLimit(length);
-              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001) && input.getBytesUntilLimit() > 0) {
-                taskIds_ = new java.util.ArrayList<java.lang.Integer>();
-                mutable_bitField0_ |= 0x00000001;
-              }
-              while (input.getBytesUntilLimit() > 0) {
-                taskIds_.add(input.readInt32());
+              int oldLimit = input.pushLimit(length);
+              while(input.getBytesUntilLimit() > 0) {
+                int rawValue = input.readEnum();
+                com.github.jsgilmore.protoshell.ShellMessages.Capability value = com.github.jsgilmore.protoshell.ShellMessages.Capability.valueOf(rawValue);
+                if (value == null) {
+                  unknownFields.mergeVarintField(2, rawValue);
+                } else {
+                  if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                    capabilities_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.Capability>();
+                    mutable_bitField0_ |= 0x00000002;
+                  }
+                  capabilities_.add(value);
+                }
               }
-              input.popLimit(limit);
+              input.popLimit(oldLimit);
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000002;
+              codec_ = input.readBytes();
               break;
             }
           }
@@ -5059,8 +6062,8 @@ public final class ShellMessages {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
-          taskIds_ = java.util.Collections.unmodifiableList(taskIds_);
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          capabilities_ = java.util.Collections.unmodifiableList(capabilities_);
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -5068,56 +6071,117 @@ public final class ShellMessages {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_TaskIds_descriptor;
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Pid_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_TaskIds_fieldAccessorTable
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Pid_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.github.jsgilmore.protoshell.ShellMessages.TaskIds.class, com.github.jsgilmore.protoshell.ShellMessages.TaskIds.Builder.class);
+              com.github.jsgilmore.protoshell.ShellMessages.Pid.class, com.github.jsgilmore.protoshell.ShellMessages.Pid.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<TaskIds> PARSER =
-        new com.google.protobuf.AbstractParser<TaskIds>() {
-      public TaskIds parsePartialFrom(
+    public static com.google.protobuf.Parser<Pid> PARSER =
+        new com.google.protobuf.AbstractParser<Pid>() {
+      public Pid parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new TaskIds(input, extensionRegistry);
+        return new Pid(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<TaskIds> getParserForType() {
+    public com.google.protobuf.Parser<Pid> getParserForType() {
       return PARSER;
     }
 
-    // repeated int32 TaskIds = 1;
-    public static final int TASKIDS_FIELD_NUMBER = 1;
-    private java.util.List<java.lang.Integer> taskIds_;
+    private int bitField0_;
+    // optional int32 Pid = 1;
+    public static final int PID_FIELD_NUMBER = 1;
+    private int pid_;
     /**
-     * <code>repeated int32 TaskIds = 1;</code>
+     * <code>optional int32 Pid = 1;</code>
      */
-    public java.util.List<java.lang.Integer>
-        getTaskIdsList() {
-      return taskIds_;
+    public boolean hasPid() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>repeated int32 TaskIds = 1;</code>
+     * <code>optional int32 Pid = 1;</code>
      */
-    public int getTaskIdsCount() {
-      return taskIds_.size();
+    public int getPid() {
+      return pid_;
     }
+
+    // repeated .messages.Capability Capabilities = 2;
+    public static final int CAPABILITIES_FIELD_NUMBER = 2;
+    private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Capability> capabilities_;
     /**
-     * <code>repeated int32 TaskIds = 1;</code>
+     * <code>repeated .messages.Capability Capabilities = 2;</code>
      */
-    public int getTaskIds(int index) {
-      return taskIds_.get(index);
+    public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Capability> getCapabilitiesList() {
+      return capabilities_;
+    }
+    /**
+     * <code>repeated .messages.Capability Capabilities = 2;</code>
+     */
+    public int getCapabilitiesCount() {
+      return capabilities_.size();
+    }
+    /**
+     * <code>repeated .messages.Capability Capabilities = 2;</code>
+     */
+    public com.github.jsgilmore.protoshell.ShellMessages.Capability getCapabilities(int index) {
+      return capabilities_.get(index);
+    }
+
+    // optional string Codec = 3;
+    public static final int CODEC_FIELD_NUMBER = 3;
+    private java.lang.Object codec_;
+    /**
+     * <code>optional string Codec = 3;</code>
+     */
+    public boolean hasCodec() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string Codec = 3;</code>
+     */
+    public java.lang.String getCodec() {
+      java.lang.Object ref = codec_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          codec_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string Codec = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCodecBytes() {
+      java.lang.Object ref = codec_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        codec_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
     private void initFields() {
-      taskIds_ = java.util.Collections.emptyList();
+      pid_ = 0;
+      capabilities_ = java.util.Collections.emptyList();
+      codec_ = "";
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -5131,8 +6195,14 @@ public final class ShellMessages {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      for (int i = 0; i < taskIds_.size(); i++) {
-        output.writeInt32(1, taskIds_.get(i));
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, pid_);
+      }
+      for (int i = 0; i < capabilities_.size(); i++) {
+        output.writeEnum(2, capabilities_.get(i).getNumber());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(3, getCodecBytes());
       }
       getUnknownFields().writeTo(output);
     }
@@ -5143,14 +6213,22 @@ public final class ShellMessages {
       if (size != -1) return size;
 
       size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, pid_);
+      }
       {
         int dataSize = 0;
-        for (int i = 0; i < taskIds_.size(); i++) {
+        for (int i = 0; i < capabilities_.size(); i++) {
           dataSize += com.google.protobuf.CodedOutputStream
-            .computeInt32SizeNoTag(taskIds_.get(i));
+            .computeEnumSizeNoTag(capabilities_.get(i).getNumber());
         }
         size += dataSize;
-        size += 1 * getTaskIdsList().size();
+        size += 1 * capabilities_.size();
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getCodecBytes());
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -5164,53 +6242,53 @@ public final class ShellMessages {
       return super.writeReplace();
     }
 
-    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseFrom(byte[] data)
+    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseDelimitedFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseDelimitedFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.Pid parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5219,7 +6297,7 @@ public final class ShellMessages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.TaskIds prototype) {
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.Pid prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -5231,258 +6309,7643 @@ public final class ShellMessages {
       return builder;
     }
     /**
-     * Protobuf type {@code messages.TaskIds}
+     * Protobuf type {@code messages.Pid}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements com.github.jsgilmore.protoshell.ShellMessages.TaskIdsOrBuilder {
+       implements com.github.jsgilmore.protoshell.ShellMessages.PidOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_TaskIds_descriptor;
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Pid_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_TaskIds_fieldAccessorTable
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Pid_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.github.jsgilmore.protoshell.ShellMessages.TaskIds.class, com.github.jsgilmore.protoshell.ShellMessages.TaskIds.Builder.class);
+                com.github.jsgilmore.protoshell.ShellMessages.Pid.class, com.github.jsgilmore.protoshell.ShellMessages.Pid.Builder.class);
       }
 
-      // Construct using com.github.jsgilmore.protoshell.ShellMessages.TaskIds.newBuilder()
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.Pid.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
-        super(parent);
-        maybeForceBuilderInitialization();
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        pid_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        capabilities_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        codec_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_Pid_descriptor;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.Pid getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.Pid.getDefaultInstance();
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.Pid build() {
+        com.github.jsgilmore.protoshell.ShellMessages.Pid result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.Pid buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.Pid result = new com.github.jsgilmore.protoshell.ShellMessages.Pid(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.pid_ = pid_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          capabilities_ = java.util.Collections.unmodifiableList(capabilities_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.capabilities_ = capabilities_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.codec_ = codec_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.Pid) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.Pid)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.Pid other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.Pid.getDefaultInstance()) return this;
+        if (other.hasPid()) {
+          setPid(other.getPid());
+        }
+        if (!other.capabilities_.isEmpty()) {
+          if (capabilities_.isEmpty()) {
+            capabilities_ = other.capabilities_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureCapabilitiesIsMutable();
+            capabilities_.addAll(other.capabilities_);
+          }
+          onChanged();
+        }
+        if (other.hasCodec()) {
+          bitField0_ |= 0x00000004;
+          codec_ = other.codec_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.github.jsgilmore.protoshell.ShellMessages.Pid parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.Pid) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional int32 Pid = 1;
+      private int pid_ ;
+      /**
+       * <code>optional int32 Pid = 1;</code>
+       */
+      public boolean hasPid() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int32 Pid = 1;</code>
+       */
+      public int getPid() {
+        return pid_;
+      }
+      /**
+       * <code>optional int32 Pid = 1;</code>
+       */
+      public Builder setPid(int value) {
+        bitField0_ |= 0x00000001;
+        pid_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 Pid = 1;</code>
+       */
+      public Builder clearPid() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        pid_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // repeated .messages.Capability Capabilities = 2;
+      private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Capability> capabilities_ =
+        java.util.Collections.emptyList();
+      private void ensureCapabilitiesIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          capabilities_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.Capability>(capabilities_);
+          bitField0_ |= 0x00000002;
+        }
+      }
+      /**
+       * <code>repeated .messages.Capability Capabilities = 2;</code>
+       */
+      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Capability> getCapabilitiesList() {
+        return java.util.Collections.unmodifiableList(capabilities_);
+      }
+      /**
+       * <code>repeated .messages.Capability Capabilities = 2;</code>
+       */
+      public int getCapabilitiesCount() {
+        return capabilities_.size();
+      }
+      /**
+       * <code>repeated .messages.Capability Capabilities = 2;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.Capability getCapabilities(int index) {
+        return capabilities_.get(index);
+      }
+      /**
+       * <code>repeated .messages.Capability Capabilities = 2;</code>
+       */
+      public Builder setCapabilities(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.Capability value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureCapabilitiesIsMutable();
+        capabilities_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated .messages.Capability Capabilities = 2;</code>
+       */
+      public Builder addCapabilities(com.github.jsgilmore.protoshell.ShellMessages.Capability value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureCapabilitiesIsMutable();
+        capabilities_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated .messages.Capability Capabilities = 2;</code>
+       */
+      public Builder addAllCapabilities(
+          java.lang.Iterable<? extends com.github.jsgilmore.protoshell.ShellMessages.Capability> values) {
+        ensureCapabilitiesIsMutable();
+        super.addAll(values, capabilities_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated .messages.Capability Capabilities = 2;</code>
+       */
+      public Builder clearCapabilities() {
+        capabilities_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      // optional string Codec = 3;
+      private java.lang.Object codec_ = "";
+      /**
+       * <code>optional string Codec = 3;</code>
+       */
+      public boolean hasCodec() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string Codec = 3;</code>
+       */
+      public java.lang.String getCodec() {
+        java.lang.Object ref = codec_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          codec_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string Codec = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getCodecBytes() {
+        java.lang.Object ref = codec_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          codec_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string Codec = 3;</code>
+       */
+      public Builder setCodec(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        codec_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Codec = 3;</code>
+       */
+      public Builder clearCodec() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        codec_ = getDefaultInstance().getCodec();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Codec = 3;</code>
+       */
+      public Builder setCodecBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        codec_ = value;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:messages.Pid)
+    }
+
+    static {
+      defaultInstance = new Pid(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:messages.Pid)
+  }
+
+  public interface CompressedFrameOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional uint32 Size = 16;
+    /**
+     * <code>optional uint32 Size = 16;</code>
+     */
+    boolean hasSize();
+    /**
+     * <code>optional uint32 Size = 16;</code>
+     */
+    int getSize();
+
+    // optional bytes Data = 17;
+    /**
+     * <code>optional bytes Data = 17;</code>
+     */
+    boolean hasData();
+    /**
+     * <code>optional bytes Data = 17;</code>
+     */
+    com.google.protobuf.ByteString getData();
+  }
+  /**
+   * Protobuf type {@code messages.CompressedFrame}
+   *
+   * <pre>
+   * Field numbers start at 16, so that the first byte of a CompressedFrame has
+   * its high bit set, unlike that of any other frame.
+   * </pre>
+   */
+  public static final class CompressedFrame extends
+      com.google.protobuf.GeneratedMessage
+      implements CompressedFrameOrBuilder {
+    // Use CompressedFrame.newBuilder() to construct.
+    private CompressedFrame(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private CompressedFrame(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final CompressedFrame defaultInstance;
+    public static CompressedFrame getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public CompressedFrame getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CompressedFrame(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 128: {
+              bitField0_ |= 0x00000001;
+              size_ = input.readUInt32();
+              break;
+            }
+            case 138: {
+              bitField0_ |= 0x00000002;
+              data_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_CompressedFrame_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_CompressedFrame_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame.class, com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<CompressedFrame> PARSER =
+        new com.google.protobuf.AbstractParser<CompressedFrame>() {
+      public CompressedFrame parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CompressedFrame(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CompressedFrame> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional uint32 Size = 16;
+    public static final int SIZE_FIELD_NUMBER = 16;
+    private int size_;
+    /**
+     * <code>optional uint32 Size = 16;</code>
+     */
+    public boolean hasSize() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional uint32 Size = 16;</code>
+     */
+    public int getSize() {
+      return size_;
+    }
+
+    // optional bytes Data = 17;
+    public static final int DATA_FIELD_NUMBER = 17;
+    private com.google.protobuf.ByteString data_;
+    /**
+     * <code>optional bytes Data = 17;</code>
+     */
+    public boolean hasData() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional bytes Data = 17;</code>
+     */
+    public com.google.protobuf.ByteString getData() {
+      return data_;
+    }
+
+    private void initFields() {
+      size_ = 0;
+      data_ = com.google.protobuf.ByteString.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeUInt32(16, size_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(17, data_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(16, size_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(17, data_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code messages.CompressedFrame}
+     *
+     * <pre>
+     * Field numbers start at 16, so that the first byte of a CompressedFrame has
+     * its high bit set, unlike that of any other frame.
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.github.jsgilmore.protoshell.ShellMessages.CompressedFrameOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_CompressedFrame_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_CompressedFrame_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame.class, com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame.Builder.class);
+      }
+
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        size_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        data_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_CompressedFrame_descriptor;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame.getDefaultInstance();
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame build() {
+        com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame result = new com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.size_ = size_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.data_ = data_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame.getDefaultInstance()) return this;
+        if (other.hasSize()) {
+          setSize(other.getSize());
+        }
+        if (other.hasData()) {
+          setData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.CompressedFrame) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional uint32 Size = 16;
+      private int size_ ;
+      /**
+       * <code>optional uint32 Size = 16;</code>
+       */
+      public boolean hasSize() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional uint32 Size = 16;</code>
+       */
+      public int getSize() {
+        return size_;
+      }
+      /**
+       * <code>optional uint32 Size = 16;</code>
+       */
+      public Builder setSize(int value) {
+        bitField0_ |= 0x00000001;
+        size_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 Size = 16;</code>
+       */
+      public Builder clearSize() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        size_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional bytes Data = 17;
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes Data = 17;</code>
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional bytes Data = 17;</code>
+       */
+      public com.google.protobuf.ByteString getData() {
+        return data_;
+      }
+      /**
+       * <code>optional bytes Data = 17;</code>
+       */
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        data_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes Data = 17;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = getDefaultInstance().getData();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:messages.CompressedFrame)
+    }
+
+    static {
+      defaultInstance = new CompressedFrame(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:messages.CompressedFrame)
+  }
+
+  public interface RoutedDataOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional int32 Task = 1;
+    /**
+     * <code>optional int32 Task = 1;</code>
+     */
+    boolean hasTask();
+    /**
+     * <code>optional int32 Task = 1;</code>
+     */
+    int getTask();
+
+    // optional bytes Data = 2;
+    /**
+     * <code>optional bytes Data = 2;</code>
+     */
+    boolean hasData();
+    /**
+     * <code>optional bytes Data = 2;</code>
+     */
+    com.google.protobuf.ByteString getData();
+  }
+  /**
+   * Protobuf type {@code messages.RoutedData}
+   *
+   * <pre>
+   * With MULTIPLEX, everything after the Pid travels in RoutedData frames, each
+   * holding the next chunk of the stream to or from one task.
+   * </pre>
+   */
+  public static final class RoutedData extends
+      com.google.protobuf.GeneratedMessage
+      implements RoutedDataOrBuilder {
+    // Use RoutedData.newBuilder() to construct.
+    private RoutedData(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private RoutedData(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final RoutedData defaultInstance;
+    public static RoutedData getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public RoutedData getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private RoutedData(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              bitField0_ |= 0x00000001;
+              task_ = input.readInt32();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              data_ = input.readBytes();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_RoutedData_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_RoutedData_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.github.jsgilmore.protoshell.ShellMessages.RoutedData.class, com.github.jsgilmore.protoshell.ShellMessages.RoutedData.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<RoutedData> PARSER =
+        new com.google.protobuf.AbstractParser<RoutedData>() {
+      public RoutedData parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new RoutedData(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<RoutedData> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional int32 Task = 1;
+    public static final int TASK_FIELD_NUMBER = 1;
+    private int task_;
+    /**
+     * <code>optional int32 Task = 1;</code>
+     */
+    public boolean hasTask() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional int32 Task = 1;</code>
+     */
+    public int getTask() {
+      return task_;
+    }
+
+    // optional bytes Data = 2;
+    public static final int DATA_FIELD_NUMBER = 2;
+    private com.google.protobuf.ByteString data_;
+    /**
+     * <code>optional bytes Data = 2;</code>
+     */
+    public boolean hasData() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional bytes Data = 2;</code>
+     */
+    public com.google.protobuf.ByteString getData() {
+      return data_;
+    }
+
+    private void initFields() {
+      task_ = 0;
+      data_ = com.google.protobuf.ByteString.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeInt32(1, task_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, data_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, task_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, data_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.github.jsgilmore.protoshell.ShellMessages.RoutedData parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.RoutedData parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.RoutedData parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.RoutedData parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.RoutedData parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.RoutedData parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.RoutedData parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.RoutedData parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.RoutedData parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.RoutedData parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.RoutedData prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code messages.RoutedData}
+     *
+     * <pre>
+     * With MULTIPLEX, everything after the Pid travels in RoutedData frames, each
+     * holding the next chunk of the stream to or from one task.
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.github.jsgilmore.protoshell.ShellMessages.RoutedDataOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_RoutedData_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_RoutedData_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.github.jsgilmore.protoshell.ShellMessages.RoutedData.class, com.github.jsgilmore.protoshell.ShellMessages.RoutedData.Builder.class);
+      }
+
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.RoutedData.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        task_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        data_ = com.google.protobuf.ByteString.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_RoutedData_descriptor;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.RoutedData getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.RoutedData.getDefaultInstance();
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.RoutedData build() {
+        com.github.jsgilmore.protoshell.ShellMessages.RoutedData result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.RoutedData buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.RoutedData result = new com.github.jsgilmore.protoshell.ShellMessages.RoutedData(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.task_ = task_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.data_ = data_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.RoutedData) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.RoutedData)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.RoutedData other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.RoutedData.getDefaultInstance()) return this;
+        if (other.hasTask()) {
+          setTask(other.getTask());
+        }
+        if (other.hasData()) {
+          setData(other.getData());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.github.jsgilmore.protoshell.ShellMessages.RoutedData parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.RoutedData) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional int32 Task = 1;
+      private int task_ ;
+      /**
+       * <code>optional int32 Task = 1;</code>
+       */
+      public boolean hasTask() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional int32 Task = 1;</code>
+       */
+      public int getTask() {
+        return task_;
+      }
+      /**
+       * <code>optional int32 Task = 1;</code>
+       */
+      public Builder setTask(int value) {
+        bitField0_ |= 0x00000001;
+        task_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 Task = 1;</code>
+       */
+      public Builder clearTask() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        task_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional bytes Data = 2;
+      private com.google.protobuf.ByteString data_ = com.google.protobuf.ByteString.EMPTY;
+      /**
+       * <code>optional bytes Data = 2;</code>
+       */
+      public boolean hasData() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional bytes Data = 2;</code>
+       */
+      public com.google.protobuf.ByteString getData() {
+        return data_;
+      }
+      /**
+       * <code>optional bytes Data = 2;</code>
+       */
+      public Builder setData(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        data_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bytes Data = 2;</code>
+       */
+      public Builder clearData() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        data_ = getDefaultInstance().getData();
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:messages.RoutedData)
+    }
+
+    static {
+      defaultInstance = new RoutedData(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:messages.RoutedData)
+  }
+
+  public interface ConfReplyOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional string Key = 15;
+    /**
+     * <code>optional string Key = 15;</code>
+     */
+    boolean hasKey();
+    /**
+     * <code>optional string Key = 15;</code>
+     */
+    java.lang.String getKey();
+    /**
+     * <code>optional string Key = 15;</code>
+     */
+    com.google.protobuf.ByteString
+        getKeyBytes();
+
+    // repeated .messages.Conf Confs = 16;
+    /**
+     * <code>repeated .messages.Conf Confs = 16;</code>
+     */
+    java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf> 
+        getConfsList();
+    /**
+     * <code>repeated .messages.Conf Confs = 16;</code>
+     */
+    com.github.jsgilmore.protoshell.ShellMessages.Conf getConfs(int index);
+    /**
+     * <code>repeated .messages.Conf Confs = 16;</code>
+     */
+    int getConfsCount();
+    /**
+     * <code>repeated .messages.Conf Confs = 16;</code>
+     */
+    java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder> 
+        getConfsOrBuilderList();
+    /**
+     * <code>repeated .messages.Conf Confs = 16;</code>
+     */
+    com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder getConfsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code messages.ConfReply}
+   *
+   * <pre>
+   * The answer to a getConf. Key is always set and is field 15, so that the
+   * first byte of a ConfReply is 0x7A, unlike that of any other frame.
+   * </pre>
+   */
+  public static final class ConfReply extends
+      com.google.protobuf.GeneratedMessage
+      implements ConfReplyOrBuilder {
+    // Use ConfReply.newBuilder() to construct.
+    private ConfReply(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ConfReply(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final ConfReply defaultInstance;
+    public static ConfReply getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ConfReply getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ConfReply(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 122: {
+              bitField0_ |= 0x00000001;
+              key_ = input.readBytes();
+              break;
+            }
+            case 130: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                confs_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.Conf>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              confs_.add(input.readMessage(com.github.jsgilmore.protoshell.ShellMessages.Conf.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          confs_ = java.util.Collections.unmodifiableList(confs_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ConfReply_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ConfReply_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.github.jsgilmore.protoshell.ShellMessages.ConfReply.class, com.github.jsgilmore.protoshell.ShellMessages.ConfReply.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<ConfReply> PARSER =
+        new com.google.protobuf.AbstractParser<ConfReply>() {
+      public ConfReply parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ConfReply(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ConfReply> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional string Key = 15;
+    public static final int KEY_FIELD_NUMBER = 15;
+    private java.lang.Object key_;
+    /**
+     * <code>optional string Key = 15;</code>
+     */
+    public boolean hasKey() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string Key = 15;</code>
+     */
+    public java.lang.String getKey() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          key_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string Key = 15;</code>
+     */
+    public com.google.protobuf.ByteString
+        getKeyBytes() {
+      java.lang.Object ref = key_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        key_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // repeated .messages.Conf Confs = 16;
+    public static final int CONFS_FIELD_NUMBER = 16;
+    private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf> confs_;
+    /**
+     * <code>repeated .messages.Conf Confs = 16;</code>
+     */
+    public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf> getConfsList() {
+      return confs_;
+    }
+    /**
+     * <code>repeated .messages.Conf Confs = 16;</code>
+     */
+    public java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder> 
+        getConfsOrBuilderList() {
+      return confs_;
+    }
+    /**
+     * <code>repeated .messages.Conf Confs = 16;</code>
+     */
+    public int getConfsCount() {
+      return confs_.size();
+    }
+    /**
+     * <code>repeated .messages.Conf Confs = 16;</code>
+     */
+    public com.github.jsgilmore.protoshell.ShellMessages.Conf getConfs(int index) {
+      return confs_.get(index);
+    }
+    /**
+     * <code>repeated .messages.Conf Confs = 16;</code>
+     */
+    public com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder getConfsOrBuilder(
+        int index) {
+      return confs_.get(index);
+    }
+
+    private void initFields() {
+      key_ = "";
+      confs_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(15, getKeyBytes());
+      }
+      for (int i = 0; i < confs_.size(); i++) {
+        output.writeMessage(16, confs_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(15, getKeyBytes());
+      }
+      for (int i = 0; i < confs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(16, confs_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.github.jsgilmore.protoshell.ShellMessages.ConfReply parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ConfReply parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ConfReply parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ConfReply parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ConfReply parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ConfReply parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ConfReply parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ConfReply parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ConfReply parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ConfReply parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.ConfReply prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code messages.ConfReply}
+     *
+     * <pre>
+     * The answer to a getConf. Key is always set and is field 15, so that the
+     * first byte of a ConfReply is 0x7A, unlike that of any other frame.
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.github.jsgilmore.protoshell.ShellMessages.ConfReplyOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ConfReply_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ConfReply_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.github.jsgilmore.protoshell.ShellMessages.ConfReply.class, com.github.jsgilmore.protoshell.ShellMessages.ConfReply.Builder.class);
+      }
+
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.ConfReply.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getConfsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        key_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (confsBuilder_ == null) {
+          confs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          confsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ConfReply_descriptor;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.ConfReply getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.ConfReply.getDefaultInstance();
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.ConfReply build() {
+        com.github.jsgilmore.protoshell.ShellMessages.ConfReply result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.ConfReply buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.ConfReply result = new com.github.jsgilmore.protoshell.ShellMessages.ConfReply(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.key_ = key_;
+        if (confsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) == 0x00000002)) {
+            confs_ = java.util.Collections.unmodifiableList(confs_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.confs_ = confs_;
+        } else {
+          result.confs_ = confsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.ConfReply) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.ConfReply)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.ConfReply other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.ConfReply.getDefaultInstance()) return this;
+        if (other.hasKey()) {
+          bitField0_ |= 0x00000001;
+          key_ = other.key_;
+          onChanged();
+        }
+        if (confsBuilder_ == null) {
+          if (!other.confs_.isEmpty()) {
+            if (confs_.isEmpty()) {
+              confs_ = other.confs_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensureConfsIsMutable();
+              confs_.addAll(other.confs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.confs_.isEmpty()) {
+            if (confsBuilder_.isEmpty()) {
+              confsBuilder_.dispose();
+              confsBuilder_ = null;
+              confs_ = other.confs_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              confsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getConfsFieldBuilder() : null;
+            } else {
+              confsBuilder_.addAllMessages(other.confs_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.github.jsgilmore.protoshell.ShellMessages.ConfReply parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.ConfReply) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional string Key = 15;
+      private java.lang.Object key_ = "";
+      /**
+       * <code>optional string Key = 15;</code>
+       */
+      public boolean hasKey() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string Key = 15;</code>
+       */
+      public java.lang.String getKey() {
+        java.lang.Object ref = key_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          key_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string Key = 15;</code>
+       */
+      public com.google.protobuf.ByteString
+          getKeyBytes() {
+        java.lang.Object ref = key_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          key_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string Key = 15;</code>
+       */
+      public Builder setKey(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        key_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Key = 15;</code>
+       */
+      public Builder clearKey() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        key_ = getDefaultInstance().getKey();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Key = 15;</code>
+       */
+      public Builder setKeyBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        key_ = value;
+        onChanged();
+        return this;
+      }
+
+      // repeated .messages.Conf Confs = 16;
+      private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf> confs_ =
+        java.util.Collections.emptyList();
+      private void ensureConfsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          confs_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.Conf>(confs_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.Conf, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder, com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder> confsBuilder_;
+
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf> getConfsList() {
+        if (confsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(confs_);
+        } else {
+          return confsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public int getConfsCount() {
+        if (confsBuilder_ == null) {
+          return confs_.size();
+        } else {
+          return confsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.Conf getConfs(int index) {
+        if (confsBuilder_ == null) {
+          return confs_.get(index);
+        } else {
+          return confsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public Builder setConfs(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.Conf value) {
+        if (confsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureConfsIsMutable();
+          confs_.set(index, value);
+          onChanged();
+        } else {
+          confsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public Builder setConfs(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder builderForValue) {
+        if (confsBuilder_ == null) {
+          ensureConfsIsMutable();
+          confs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          confsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public Builder addConfs(com.github.jsgilmore.protoshell.ShellMessages.Conf value) {
+        if (confsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureConfsIsMutable();
+          confs_.add(value);
+          onChanged();
+        } else {
+          confsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public Builder addConfs(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.Conf value) {
+        if (confsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureConfsIsMutable();
+          confs_.add(index, value);
+          onChanged();
+        } else {
+          confsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public Builder addConfs(
+          com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder builderForValue) {
+        if (confsBuilder_ == null) {
+          ensureConfsIsMutable();
+          confs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          confsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public Builder addConfs(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder builderForValue) {
+        if (confsBuilder_ == null) {
+          ensureConfsIsMutable();
+          confs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          confsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public Builder addAllConfs(
+          java.lang.Iterable<? extends com.github.jsgilmore.protoshell.ShellMessages.Conf> values) {
+        if (confsBuilder_ == null) {
+          ensureConfsIsMutable();
+          super.addAll(values, confs_);
+          onChanged();
+        } else {
+          confsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public Builder clearConfs() {
+        if (confsBuilder_ == null) {
+          confs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          confsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public Builder removeConfs(int index) {
+        if (confsBuilder_ == null) {
+          ensureConfsIsMutable();
+          confs_.remove(index);
+          onChanged();
+        } else {
+          confsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder getConfsBuilder(
+          int index) {
+        return getConfsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder getConfsOrBuilder(
+          int index) {
+        if (confsBuilder_ == null) {
+          return confs_.get(index);  } else {
+          return confsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder> 
+           getConfsOrBuilderList() {
+        if (confsBuilder_ != null) {
+          return confsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(confs_);
+        }
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder addConfsBuilder() {
+        return getConfsFieldBuilder().addBuilder(
+            com.github.jsgilmore.protoshell.ShellMessages.Conf.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder addConfsBuilder(
+          int index) {
+        return getConfsFieldBuilder().addBuilder(
+            index, com.github.jsgilmore.protoshell.ShellMessages.Conf.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .messages.Conf Confs = 16;</code>
+       */
+      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder> 
+           getConfsBuilderList() {
+        return getConfsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.Conf, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder, com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder> 
+          getConfsFieldBuilder() {
+        if (confsBuilder_ == null) {
+          confsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.github.jsgilmore.protoshell.ShellMessages.Conf, com.github.jsgilmore.protoshell.ShellMessages.Conf.Builder, com.github.jsgilmore.protoshell.ShellMessages.ConfOrBuilder>(
+                  confs_,
+                  ((bitField0_ & 0x00000002) == 0x00000002),
+                  getParentForChildren(),
+                  isClean());
+          confs_ = null;
+        }
+        return confsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:messages.ConfReply)
+    }
+
+    static {
+      defaultInstance = new ConfReply(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:messages.ConfReply)
+  }
+
+  public interface BoltMsgMetaOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional string Id = 1;
+    /**
+     * <code>optional string Id = 1;</code>
+     */
+    boolean hasId();
+    /**
+     * <code>optional string Id = 1;</code>
+     */
+    java.lang.String getId();
+    /**
+     * <code>optional string Id = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    // optional string Comp = 2;
+    /**
+     * <code>optional string Comp = 2;</code>
+     */
+    boolean hasComp();
+    /**
+     * <code>optional string Comp = 2;</code>
+     */
+    java.lang.String getComp();
+    /**
+     * <code>optional string Comp = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getCompBytes();
+
+    // optional string Stream = 3;
+    /**
+     * <code>optional string Stream = 3;</code>
+     */
+    boolean hasStream();
+    /**
+     * <code>optional string Stream = 3;</code>
+     */
+    java.lang.String getStream();
+    /**
+     * <code>optional string Stream = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getStreamBytes();
+
+    // optional int64 Task = 4;
+    /**
+     * <code>optional int64 Task = 4;</code>
+     */
+    boolean hasTask();
+    /**
+     * <code>optional int64 Task = 4;</code>
+     */
+    long getTask();
+
+    // optional int32 CompId = 5;
+    /**
+     * <code>optional int32 CompId = 5;</code>
+     */
+    boolean hasCompId();
+    /**
+     * <code>optional int32 CompId = 5;</code>
+     */
+    int getCompId();
+
+    // optional int32 StreamId = 6;
+    /**
+     * <code>optional int32 StreamId = 6;</code>
+     */
+    boolean hasStreamId();
+    /**
+     * <code>optional int32 StreamId = 6;</code>
+     */
+    int getStreamId();
+
+    // optional fixed64 NumId = 7;
+    /**
+     * <code>optional fixed64 NumId = 7;</code>
+     */
+    boolean hasNumId();
+    /**
+     * <code>optional fixed64 NumId = 7;</code>
+     */
+    long getNumId();
+  }
+  /**
+   * Protobuf type {@code messages.BoltMsgMeta}
+   */
+  public static final class BoltMsgMeta extends
+      com.google.protobuf.GeneratedMessage
+      implements BoltMsgMetaOrBuilder {
+    // Use BoltMsgMeta.newBuilder() to construct.
+    private BoltMsgMeta(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private BoltMsgMeta(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final BoltMsgMeta defaultInstance;
+    public static BoltMsgMeta getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public BoltMsgMeta getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BoltMsgMeta(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              id_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              comp_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              bitField0_ |= 0x00000004;
+              stream_ = input.readBytes();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              task_ = input.readInt64();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000010;
+              compId_ = input.readInt32();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000020;
+              streamId_ = input.readInt32();
+              break;
+            }
+            case 57: {
+              bitField0_ |= 0x00000040;
+              numId_ = input.readFixed64();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgMeta_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgMeta_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.class, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<BoltMsgMeta> PARSER =
+        new com.google.protobuf.AbstractParser<BoltMsgMeta>() {
+      public BoltMsgMeta parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BoltMsgMeta(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BoltMsgMeta> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional string Id = 1;
+    public static final int ID_FIELD_NUMBER = 1;
+    private java.lang.Object id_;
+    /**
+     * <code>optional string Id = 1;</code>
+     */
+    public boolean hasId() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string Id = 1;</code>
+     */
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          id_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string Id = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string Comp = 2;
+    public static final int COMP_FIELD_NUMBER = 2;
+    private java.lang.Object comp_;
+    /**
+     * <code>optional string Comp = 2;</code>
+     */
+    public boolean hasComp() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string Comp = 2;</code>
+     */
+    public java.lang.String getComp() {
+      java.lang.Object ref = comp_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          comp_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string Comp = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCompBytes() {
+      java.lang.Object ref = comp_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        comp_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string Stream = 3;
+    public static final int STREAM_FIELD_NUMBER = 3;
+    private java.lang.Object stream_;
+    /**
+     * <code>optional string Stream = 3;</code>
+     */
+    public boolean hasStream() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string Stream = 3;</code>
+     */
+    public java.lang.String getStream() {
+      java.lang.Object ref = stream_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          stream_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string Stream = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStreamBytes() {
+      java.lang.Object ref = stream_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        stream_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int64 Task = 4;
+    public static final int TASK_FIELD_NUMBER = 4;
+    private long task_;
+    /**
+     * <code>optional int64 Task = 4;</code>
+     */
+    public boolean hasTask() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int64 Task = 4;</code>
+     */
+    public long getTask() {
+      return task_;
+    }
+
+    // optional int32 CompId = 5;
+    public static final int COMPID_FIELD_NUMBER = 5;
+    private int compId_;
+    /**
+     * <code>optional int32 CompId = 5;</code>
+     */
+    public boolean hasCompId() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional int32 CompId = 5;</code>
+     */
+    public int getCompId() {
+      return compId_;
+    }
+
+    // optional int32 StreamId = 6;
+    public static final int STREAMID_FIELD_NUMBER = 6;
+    private int streamId_;
+    /**
+     * <code>optional int32 StreamId = 6;</code>
+     */
+    public boolean hasStreamId() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional int32 StreamId = 6;</code>
+     */
+    public int getStreamId() {
+      return streamId_;
+    }
+
+    // optional fixed64 NumId = 7;
+    public static final int NUMID_FIELD_NUMBER = 7;
+    private long numId_;
+    /**
+     * <code>optional fixed64 NumId = 7;</code>
+     */
+    public boolean hasNumId() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional fixed64 NumId = 7;</code>
+     */
+    public long getNumId() {
+      return numId_;
+    }
+
+    private void initFields() {
+      id_ = "";
+      comp_ = "";
+      stream_ = "";
+      task_ = 0L;
+      compId_ = 0;
+      streamId_ = 0;
+      numId_ = 0L;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getIdBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getCompBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(3, getStreamBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt64(4, task_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeInt32(5, compId_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeInt32(6, streamId_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeFixed64(7, numId_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getIdBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getCompBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(3, getStreamBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(4, task_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, compId_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, streamId_);
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(7, numId_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code messages.BoltMsgMeta}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMetaOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgMeta_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgMeta_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.class, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.Builder.class);
+      }
+
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        id_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        comp_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        stream_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        task_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        compId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        streamId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        numId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000040);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgMeta_descriptor;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.getDefaultInstance();
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta build() {
+        com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta result = new com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.id_ = id_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.comp_ = comp_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.stream_ = stream_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.task_ = task_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.compId_ = compId_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.streamId_ = streamId_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.numId_ = numId_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.getDefaultInstance()) return this;
+        if (other.hasId()) {
+          bitField0_ |= 0x00000001;
+          id_ = other.id_;
+          onChanged();
+        }
+        if (other.hasComp()) {
+          bitField0_ |= 0x00000002;
+          comp_ = other.comp_;
+          onChanged();
+        }
+        if (other.hasStream()) {
+          bitField0_ |= 0x00000004;
+          stream_ = other.stream_;
+          onChanged();
+        }
+        if (other.hasTask()) {
+          setTask(other.getTask());
+        }
+        if (other.hasCompId()) {
+          setCompId(other.getCompId());
+        }
+        if (other.hasStreamId()) {
+          setStreamId(other.getStreamId());
+        }
+        if (other.hasNumId()) {
+          setNumId(other.getNumId());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional string Id = 1;
+      private java.lang.Object id_ = "";
+      /**
+       * <code>optional string Id = 1;</code>
+       */
+      public boolean hasId() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string Id = 1;</code>
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string Id = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string Id = 1;</code>
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Id = 1;</code>
+       */
+      public Builder clearId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        id_ = getDefaultInstance().getId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Id = 1;</code>
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        id_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string Comp = 2;
+      private java.lang.Object comp_ = "";
+      /**
+       * <code>optional string Comp = 2;</code>
+       */
+      public boolean hasComp() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string Comp = 2;</code>
+       */
+      public java.lang.String getComp() {
+        java.lang.Object ref = comp_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          comp_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string Comp = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getCompBytes() {
+        java.lang.Object ref = comp_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          comp_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string Comp = 2;</code>
+       */
+      public Builder setComp(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        comp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Comp = 2;</code>
+       */
+      public Builder clearComp() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        comp_ = getDefaultInstance().getComp();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Comp = 2;</code>
+       */
+      public Builder setCompBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        comp_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string Stream = 3;
+      private java.lang.Object stream_ = "";
+      /**
+       * <code>optional string Stream = 3;</code>
+       */
+      public boolean hasStream() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional string Stream = 3;</code>
+       */
+      public java.lang.String getStream() {
+        java.lang.Object ref = stream_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          stream_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string Stream = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getStreamBytes() {
+        java.lang.Object ref = stream_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          stream_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string Stream = 3;</code>
+       */
+      public Builder setStream(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        stream_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Stream = 3;</code>
+       */
+      public Builder clearStream() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        stream_ = getDefaultInstance().getStream();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Stream = 3;</code>
+       */
+      public Builder setStreamBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        stream_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 Task = 4;
+      private long task_ ;
+      /**
+       * <code>optional int64 Task = 4;</code>
+       */
+      public boolean hasTask() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional int64 Task = 4;</code>
+       */
+      public long getTask() {
+        return task_;
+      }
+      /**
+       * <code>optional int64 Task = 4;</code>
+       */
+      public Builder setTask(long value) {
+        bitField0_ |= 0x00000008;
+        task_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 Task = 4;</code>
+       */
+      public Builder clearTask() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        task_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 CompId = 5;
+      private int compId_ ;
+      /**
+       * <code>optional int32 CompId = 5;</code>
+       */
+      public boolean hasCompId() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional int32 CompId = 5;</code>
+       */
+      public int getCompId() {
+        return compId_;
+      }
+      /**
+       * <code>optional int32 CompId = 5;</code>
+       */
+      public Builder setCompId(int value) {
+        bitField0_ |= 0x00000010;
+        compId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 CompId = 5;</code>
+       */
+      public Builder clearCompId() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        compId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional int32 StreamId = 6;
+      private int streamId_ ;
+      /**
+       * <code>optional int32 StreamId = 6;</code>
+       */
+      public boolean hasStreamId() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional int32 StreamId = 6;</code>
+       */
+      public int getStreamId() {
+        return streamId_;
+      }
+      /**
+       * <code>optional int32 StreamId = 6;</code>
+       */
+      public Builder setStreamId(int value) {
+        bitField0_ |= 0x00000020;
+        streamId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 StreamId = 6;</code>
+       */
+      public Builder clearStreamId() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        streamId_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional fixed64 NumId = 7;
+      private long numId_ ;
+      /**
+       * <code>optional fixed64 NumId = 7;</code>
+       */
+      public boolean hasNumId() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional fixed64 NumId = 7;</code>
+       */
+      public long getNumId() {
+        return numId_;
+      }
+      /**
+       * <code>optional fixed64 NumId = 7;</code>
+       */
+      public Builder setNumId(long value) {
+        bitField0_ |= 0x00000040;
+        numId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional fixed64 NumId = 7;</code>
+       */
+      public Builder clearNumId() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        numId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:messages.BoltMsgMeta)
+    }
+
+    static {
+      defaultInstance = new BoltMsgMeta(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:messages.BoltMsgMeta)
+  }
+
+  public interface BoltMsgProtoOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional .messages.BoltMsgMeta BoltMsgMeta = 1;
+    /**
+     * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+     */
+    boolean hasBoltMsgMeta();
+    /**
+     * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+     */
+    com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta getBoltMsgMeta();
+    /**
+     * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+     */
+    com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMetaOrBuilder getBoltMsgMetaOrBuilder();
+
+    // repeated bytes Contents = 2;
+    /**
+     * <code>repeated bytes Contents = 2;</code>
+     */
+    java.util.List<com.google.protobuf.ByteString> getContentsList();
+    /**
+     * <code>repeated bytes Contents = 2;</code>
+     */
+    int getContentsCount();
+    /**
+     * <code>repeated bytes Contents = 2;</code>
+     */
+    com.google.protobuf.ByteString getContents(int index);
+  }
+  /**
+   * Protobuf type {@code messages.BoltMsgProto}
+   */
+  public static final class BoltMsgProto extends
+      com.google.protobuf.GeneratedMessage
+      implements BoltMsgProtoOrBuilder {
+    // Use BoltMsgProto.newBuilder() to construct.
+    private BoltMsgProto(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private BoltMsgProto(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final BoltMsgProto defaultInstance;
+    public static BoltMsgProto getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public BoltMsgProto getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BoltMsgProto(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = boltMsgMeta_.toBuilder();
+              }
+              boltMsgMeta_ = input.readMessage(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(boltMsgMeta_);
+                boltMsgMeta_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                contents_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              contents_.add(input.readBytes());
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          contents_ = java.util.Collections.unmodifiableList(contents_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgProto_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgProto_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.class, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<BoltMsgProto> PARSER =
+        new com.google.protobuf.AbstractParser<BoltMsgProto>() {
+      public BoltMsgProto parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BoltMsgProto(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BoltMsgProto> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional .messages.BoltMsgMeta BoltMsgMeta = 1;
+    public static final int BOLTMSGMETA_FIELD_NUMBER = 1;
+    private com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta boltMsgMeta_;
+    /**
+     * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+     */
+    public boolean hasBoltMsgMeta() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+     */
+    public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta getBoltMsgMeta() {
+      return boltMsgMeta_;
+    }
+    /**
+     * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+     */
+    public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMetaOrBuilder getBoltMsgMetaOrBuilder() {
+      return boltMsgMeta_;
+    }
+
+    // repeated bytes Contents = 2;
+    public static final int CONTENTS_FIELD_NUMBER = 2;
+    private java.util.List<com.google.protobuf.ByteString> contents_;
+    /**
+     * <code>repeated bytes Contents = 2;</code>
+     */
+    public java.util.List<com.google.protobuf.ByteString>
+        getContentsList() {
+      return contents_;
+    }
+    /**
+     * <code>repeated bytes Contents = 2;</code>
+     */
+    public int getContentsCount() {
+      return contents_.size();
+    }
+    /**
+     * <code>repeated bytes Contents = 2;</code>
+     */
+    public com.google.protobuf.ByteString getContents(int index) {
+      return contents_.get(index);
+    }
+
+    private void initFields() {
+      boltMsgMeta_ = com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.getDefaultInstance();
+      contents_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeMessage(1, boltMsgMeta_);
+      }
+      for (int i = 0; i < contents_.size(); i++) {
+        output.writeBytes(2, contents_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, boltMsgMeta_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < contents_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(contents_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getContentsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code messages.BoltMsgProto}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProtoOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgProto_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgProto_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.class, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.Builder.class);
+      }
+
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getBoltMsgMetaFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (boltMsgMetaBuilder_ == null) {
+          boltMsgMeta_ = com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.getDefaultInstance();
+        } else {
+          boltMsgMetaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        contents_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgProto_descriptor;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.getDefaultInstance();
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto build() {
+        com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto result = new com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        if (boltMsgMetaBuilder_ == null) {
+          result.boltMsgMeta_ = boltMsgMeta_;
+        } else {
+          result.boltMsgMeta_ = boltMsgMetaBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          contents_ = java.util.Collections.unmodifiableList(contents_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.contents_ = contents_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.getDefaultInstance()) return this;
+        if (other.hasBoltMsgMeta()) {
+          mergeBoltMsgMeta(other.getBoltMsgMeta());
+        }
+        if (!other.contents_.isEmpty()) {
+          if (contents_.isEmpty()) {
+            contents_ = other.contents_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureContentsIsMutable();
+            contents_.addAll(other.contents_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional .messages.BoltMsgMeta BoltMsgMeta = 1;
+      private com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta boltMsgMeta_ = com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.Builder, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMetaOrBuilder> boltMsgMetaBuilder_;
+      /**
+       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       */
+      public boolean hasBoltMsgMeta() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta getBoltMsgMeta() {
+        if (boltMsgMetaBuilder_ == null) {
+          return boltMsgMeta_;
+        } else {
+          return boltMsgMetaBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       */
+      public Builder setBoltMsgMeta(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta value) {
+        if (boltMsgMetaBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          boltMsgMeta_ = value;
+          onChanged();
+        } else {
+          boltMsgMetaBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       */
+      public Builder setBoltMsgMeta(
+          com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.Builder builderForValue) {
+        if (boltMsgMetaBuilder_ == null) {
+          boltMsgMeta_ = builderForValue.build();
+          onChanged();
+        } else {
+          boltMsgMetaBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       */
+      public Builder mergeBoltMsgMeta(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta value) {
+        if (boltMsgMetaBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              boltMsgMeta_ != com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.getDefaultInstance()) {
+            boltMsgMeta_ =
+              com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.newBuilder(boltMsgMeta_).mergeFrom(value).buildPartial();
+          } else {
+            boltMsgMeta_ = value;
+          }
+          onChanged();
+        } else {
+          boltMsgMetaBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       */
+      public Builder clearBoltMsgMeta() {
+        if (boltMsgMetaBuilder_ == null) {
+          boltMsgMeta_ = com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.getDefaultInstance();
+          onChanged();
+        } else {
+          boltMsgMetaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.Builder getBoltMsgMetaBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getBoltMsgMetaFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMetaOrBuilder getBoltMsgMetaOrBuilder() {
+        if (boltMsgMetaBuilder_ != null) {
+          return boltMsgMetaBuilder_.getMessageOrBuilder();
+        } else {
+          return boltMsgMeta_;
+        }
+      }
+      /**
+       * <code>optional .messages.BoltMsgMeta BoltMsgMeta = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.Builder, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMetaOrBuilder> 
+          getBoltMsgMetaFieldBuilder() {
+        if (boltMsgMetaBuilder_ == null) {
+          boltMsgMetaBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMeta.Builder, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgMetaOrBuilder>(
+                  boltMsgMeta_,
+                  getParentForChildren(),
+                  isClean());
+          boltMsgMeta_ = null;
+        }
+        return boltMsgMetaBuilder_;
+      }
+
+      // repeated bytes Contents = 2;
+      private java.util.List<com.google.protobuf.ByteString> contents_ = java.util.Collections.emptyList();
+      private void ensureContentsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          contents_ = new java.util.ArrayList<com.google.protobuf.ByteString>(contents_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated bytes Contents = 2;</code>
+       */
+      public java.util.List<com.google.protobuf.ByteString>
+          getContentsList() {
+        return java.util.Collections.unmodifiableList(contents_);
+      }
+      /**
+       * <code>repeated bytes Contents = 2;</code>
+       */
+      public int getContentsCount() {
+        return contents_.size();
+      }
+      /**
+       * <code>repeated bytes Contents = 2;</code>
+       */
+      public com.google.protobuf.ByteString getContents(int index) {
+        return contents_.get(index);
+      }
+      /**
+       * <code>repeated bytes Contents = 2;</code>
+       */
+      public Builder setContents(
+          int index, com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureContentsIsMutable();
+        contents_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes Contents = 2;</code>
+       */
+      public Builder addContents(com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureContentsIsMutable();
+        contents_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes Contents = 2;</code>
+       */
+      public Builder addAllContents(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureContentsIsMutable();
+        super.addAll(values, contents_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated bytes Contents = 2;</code>
+       */
+      public Builder clearContents() {
+        contents_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:messages.BoltMsgProto)
+    }
+
+    static {
+      defaultInstance = new BoltMsgProto(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:messages.BoltMsgProto)
+  }
+
+  public interface BoltMsgBatchOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated .messages.BoltMsgProto BoltMsgs = 1;
+    /**
+     * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+     */
+    java.util.List<com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto> 
+        getBoltMsgsList();
+    /**
+     * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+     */
+    com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto getBoltMsgs(int index);
+    /**
+     * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+     */
+    int getBoltMsgsCount();
+    /**
+     * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+     */
+    java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProtoOrBuilder> 
+        getBoltMsgsOrBuilderList();
+    /**
+     * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+     */
+    com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProtoOrBuilder getBoltMsgsOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code messages.BoltMsgBatch}
+   */
+  public static final class BoltMsgBatch extends
+      com.google.protobuf.GeneratedMessage
+      implements BoltMsgBatchOrBuilder {
+    // Use BoltMsgBatch.newBuilder() to construct.
+    private BoltMsgBatch(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private BoltMsgBatch(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final BoltMsgBatch defaultInstance;
+    public static BoltMsgBatch getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public BoltMsgBatch getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BoltMsgBatch(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                boltMsgs_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              boltMsgs_.add(input.readMessage(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.PARSER, extensionRegistry));
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          boltMsgs_ = java.util.Collections.unmodifiableList(boltMsgs_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgBatch_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgBatch_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch.class, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<BoltMsgBatch> PARSER =
+        new com.google.protobuf.AbstractParser<BoltMsgBatch>() {
+      public BoltMsgBatch parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BoltMsgBatch(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BoltMsgBatch> getParserForType() {
+      return PARSER;
+    }
+
+    // repeated .messages.BoltMsgProto BoltMsgs = 1;
+    public static final int BOLTMSGS_FIELD_NUMBER = 1;
+    private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto> boltMsgs_;
+    /**
+     * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+     */
+    public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto> getBoltMsgsList() {
+      return boltMsgs_;
+    }
+    /**
+     * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+     */
+    public java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProtoOrBuilder> 
+        getBoltMsgsOrBuilderList() {
+      return boltMsgs_;
+    }
+    /**
+     * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+     */
+    public int getBoltMsgsCount() {
+      return boltMsgs_.size();
+    }
+    /**
+     * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+     */
+    public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto getBoltMsgs(int index) {
+      return boltMsgs_.get(index);
+    }
+    /**
+     * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+     */
+    public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProtoOrBuilder getBoltMsgsOrBuilder(
+        int index) {
+      return boltMsgs_.get(index);
+    }
+
+    private void initFields() {
+      boltMsgs_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < boltMsgs_.size(); i++) {
+        output.writeMessage(1, boltMsgs_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < boltMsgs_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, boltMsgs_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code messages.BoltMsgBatch}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatchOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgBatch_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgBatch_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch.class, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch.Builder.class);
+      }
+
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getBoltMsgsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (boltMsgsBuilder_ == null) {
+          boltMsgs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          boltMsgsBuilder_.clear();
+        }
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_BoltMsgBatch_descriptor;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch.getDefaultInstance();
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch build() {
+        com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch result = new com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch(this);
+        int from_bitField0_ = bitField0_;
+        if (boltMsgsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            boltMsgs_ = java.util.Collections.unmodifiableList(boltMsgs_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.boltMsgs_ = boltMsgs_;
+        } else {
+          result.boltMsgs_ = boltMsgsBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch.getDefaultInstance()) return this;
+        if (boltMsgsBuilder_ == null) {
+          if (!other.boltMsgs_.isEmpty()) {
+            if (boltMsgs_.isEmpty()) {
+              boltMsgs_ = other.boltMsgs_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureBoltMsgsIsMutable();
+              boltMsgs_.addAll(other.boltMsgs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.boltMsgs_.isEmpty()) {
+            if (boltMsgsBuilder_.isEmpty()) {
+              boltMsgsBuilder_.dispose();
+              boltMsgsBuilder_ = null;
+              boltMsgs_ = other.boltMsgs_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              boltMsgsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getBoltMsgsFieldBuilder() : null;
+            } else {
+              boltMsgsBuilder_.addAllMessages(other.boltMsgs_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.BoltMsgBatch) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated .messages.BoltMsgProto BoltMsgs = 1;
+      private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto> boltMsgs_ =
+        java.util.Collections.emptyList();
+      private void ensureBoltMsgsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          boltMsgs_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto>(boltMsgs_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.Builder, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProtoOrBuilder> boltMsgsBuilder_;
+
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto> getBoltMsgsList() {
+        if (boltMsgsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(boltMsgs_);
+        } else {
+          return boltMsgsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public int getBoltMsgsCount() {
+        if (boltMsgsBuilder_ == null) {
+          return boltMsgs_.size();
+        } else {
+          return boltMsgsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto getBoltMsgs(int index) {
+        if (boltMsgsBuilder_ == null) {
+          return boltMsgs_.get(index);
+        } else {
+          return boltMsgsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public Builder setBoltMsgs(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto value) {
+        if (boltMsgsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBoltMsgsIsMutable();
+          boltMsgs_.set(index, value);
+          onChanged();
+        } else {
+          boltMsgsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public Builder setBoltMsgs(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.Builder builderForValue) {
+        if (boltMsgsBuilder_ == null) {
+          ensureBoltMsgsIsMutable();
+          boltMsgs_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          boltMsgsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public Builder addBoltMsgs(com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto value) {
+        if (boltMsgsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBoltMsgsIsMutable();
+          boltMsgs_.add(value);
+          onChanged();
+        } else {
+          boltMsgsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public Builder addBoltMsgs(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto value) {
+        if (boltMsgsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureBoltMsgsIsMutable();
+          boltMsgs_.add(index, value);
+          onChanged();
+        } else {
+          boltMsgsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public Builder addBoltMsgs(
+          com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.Builder builderForValue) {
+        if (boltMsgsBuilder_ == null) {
+          ensureBoltMsgsIsMutable();
+          boltMsgs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          boltMsgsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public Builder addBoltMsgs(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.Builder builderForValue) {
+        if (boltMsgsBuilder_ == null) {
+          ensureBoltMsgsIsMutable();
+          boltMsgs_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          boltMsgsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public Builder addAllBoltMsgs(
+          java.lang.Iterable<? extends com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto> values) {
+        if (boltMsgsBuilder_ == null) {
+          ensureBoltMsgsIsMutable();
+          super.addAll(values, boltMsgs_);
+          onChanged();
+        } else {
+          boltMsgsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public Builder clearBoltMsgs() {
+        if (boltMsgsBuilder_ == null) {
+          boltMsgs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          boltMsgsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public Builder removeBoltMsgs(int index) {
+        if (boltMsgsBuilder_ == null) {
+          ensureBoltMsgsIsMutable();
+          boltMsgs_.remove(index);
+          onChanged();
+        } else {
+          boltMsgsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.Builder getBoltMsgsBuilder(
+          int index) {
+        return getBoltMsgsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProtoOrBuilder getBoltMsgsOrBuilder(
+          int index) {
+        if (boltMsgsBuilder_ == null) {
+          return boltMsgs_.get(index);  } else {
+          return boltMsgsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProtoOrBuilder> 
+           getBoltMsgsOrBuilderList() {
+        if (boltMsgsBuilder_ != null) {
+          return boltMsgsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(boltMsgs_);
+        }
+      }
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.Builder addBoltMsgsBuilder() {
+        return getBoltMsgsFieldBuilder().addBuilder(
+            com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.Builder addBoltMsgsBuilder(
+          int index) {
+        return getBoltMsgsFieldBuilder().addBuilder(
+            index, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .messages.BoltMsgProto BoltMsgs = 1;</code>
+       */
+      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.Builder> 
+           getBoltMsgsBuilderList() {
+        return getBoltMsgsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.Builder, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProtoOrBuilder> 
+          getBoltMsgsFieldBuilder() {
+        if (boltMsgsBuilder_ == null) {
+          boltMsgsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProto.Builder, com.github.jsgilmore.protoshell.ShellMessages.BoltMsgProtoOrBuilder>(
+                  boltMsgs_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          boltMsgs_ = null;
+        }
+        return boltMsgsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:messages.BoltMsgBatch)
+    }
+
+    static {
+      defaultInstance = new BoltMsgBatch(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:messages.BoltMsgBatch)
+  }
+
+  public interface TaskIdsOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated int32 TaskIds = 1;
+    /**
+     * <code>repeated int32 TaskIds = 1;</code>
+     */
+    java.util.List<java.lang.Integer> getTaskIdsList();
+    /**
+     * <code>repeated int32 TaskIds = 1;</code>
+     */
+    int getTaskIdsCount();
+    /**
+     * <code>repeated int32 TaskIds = 1;</code>
+     */
+    int getTaskIds(int index);
+  }
+  /**
+   * Protobuf type {@code messages.TaskIds}
+   */
+  public static final class TaskIds extends
+      com.google.protobuf.GeneratedMessage
+      implements TaskIdsOrBuilder {
+    // Use TaskIds.newBuilder() to construct.
+    private TaskIds(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private TaskIds(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final TaskIds defaultInstance;
+    public static TaskIds getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public TaskIds getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private TaskIds(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 8: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                taskIds_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              taskIds_.add(input.readInt32());
+              break;
+            }
+            case 10: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001) && input.getBytesUntilLimit() > 0) {
+                taskIds_ = new java.util.ArrayList<java.lang.Integer>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                taskIds_.add(input.readInt32());
+              }
+              input.popLimit(limit);
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          taskIds_ = java.util.Collections.unmodifiableList(taskIds_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_TaskIds_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_TaskIds_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.github.jsgilmore.protoshell.ShellMessages.TaskIds.class, com.github.jsgilmore.protoshell.ShellMessages.TaskIds.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<TaskIds> PARSER =
+        new com.google.protobuf.AbstractParser<TaskIds>() {
+      public TaskIds parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new TaskIds(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<TaskIds> getParserForType() {
+      return PARSER;
+    }
+
+    // repeated int32 TaskIds = 1;
+    public static final int TASKIDS_FIELD_NUMBER = 1;
+    private java.util.List<java.lang.Integer> taskIds_;
+    /**
+     * <code>repeated int32 TaskIds = 1;</code>
+     */
+    public java.util.List<java.lang.Integer>
+        getTaskIdsList() {
+      return taskIds_;
+    }
+    /**
+     * <code>repeated int32 TaskIds = 1;</code>
+     */
+    public int getTaskIdsCount() {
+      return taskIds_.size();
+    }
+    /**
+     * <code>repeated int32 TaskIds = 1;</code>
+     */
+    public int getTaskIds(int index) {
+      return taskIds_.get(index);
+    }
+
+    private void initFields() {
+      taskIds_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < taskIds_.size(); i++) {
+        output.writeInt32(1, taskIds_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < taskIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(taskIds_.get(i));
+        }
+        size += dataSize;
+        size += 1 * getTaskIdsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.TaskIds parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.TaskIds prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code messages.TaskIds}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.github.jsgilmore.protoshell.ShellMessages.TaskIdsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_TaskIds_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_TaskIds_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.github.jsgilmore.protoshell.ShellMessages.TaskIds.class, com.github.jsgilmore.protoshell.ShellMessages.TaskIds.Builder.class);
+      }
+
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.TaskIds.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        taskIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_TaskIds_descriptor;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.TaskIds getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.TaskIds.getDefaultInstance();
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.TaskIds build() {
+        com.github.jsgilmore.protoshell.ShellMessages.TaskIds result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.TaskIds buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.TaskIds result = new com.github.jsgilmore.protoshell.ShellMessages.TaskIds(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          taskIds_ = java.util.Collections.unmodifiableList(taskIds_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.taskIds_ = taskIds_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.TaskIds) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.TaskIds)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.TaskIds other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.TaskIds.getDefaultInstance()) return this;
+        if (!other.taskIds_.isEmpty()) {
+          if (taskIds_.isEmpty()) {
+            taskIds_ = other.taskIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureTaskIdsIsMutable();
+            taskIds_.addAll(other.taskIds_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.github.jsgilmore.protoshell.ShellMessages.TaskIds parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.TaskIds) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated int32 TaskIds = 1;
+      private java.util.List<java.lang.Integer> taskIds_ = java.util.Collections.emptyList();
+      private void ensureTaskIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          taskIds_ = new java.util.ArrayList<java.lang.Integer>(taskIds_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated int32 TaskIds = 1;</code>
+       */
+      public java.util.List<java.lang.Integer>
+          getTaskIdsList() {
+        return java.util.Collections.unmodifiableList(taskIds_);
+      }
+      /**
+       * <code>repeated int32 TaskIds = 1;</code>
+       */
+      public int getTaskIdsCount() {
+        return taskIds_.size();
+      }
+      /**
+       * <code>repeated int32 TaskIds = 1;</code>
+       */
+      public int getTaskIds(int index) {
+        return taskIds_.get(index);
+      }
+      /**
+       * <code>repeated int32 TaskIds = 1;</code>
+       */
+      public Builder setTaskIds(
+          int index, int value) {
+        ensureTaskIdsIsMutable();
+        taskIds_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 TaskIds = 1;</code>
+       */
+      public Builder addTaskIds(int value) {
+        ensureTaskIdsIsMutable();
+        taskIds_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 TaskIds = 1;</code>
+       */
+      public Builder addAllTaskIds(
+          java.lang.Iterable<? extends java.lang.Integer> values) {
+        ensureTaskIdsIsMutable();
+        super.addAll(values, taskIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int32 TaskIds = 1;</code>
+       */
+      public Builder clearTaskIds() {
+        taskIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:messages.TaskIds)
+    }
+
+    static {
+      defaultInstance = new TaskIds(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:messages.TaskIds)
+  }
+
+  public interface SpoutMsgOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional string Command = 1;
+    /**
+     * <code>optional string Command = 1;</code>
+     */
+    boolean hasCommand();
+    /**
+     * <code>optional string Command = 1;</code>
+     */
+    java.lang.String getCommand();
+    /**
+     * <code>optional string Command = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getCommandBytes();
+
+    // optional string Id = 2;
+    /**
+     * <code>optional string Id = 2;</code>
+     */
+    boolean hasId();
+    /**
+     * <code>optional string Id = 2;</code>
+     */
+    java.lang.String getId();
+    /**
+     * <code>optional string Id = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    // optional fixed64 NumId = 3;
+    /**
+     * <code>optional fixed64 NumId = 3;</code>
+     */
+    boolean hasNumId();
+    /**
+     * <code>optional fixed64 NumId = 3;</code>
+     */
+    long getNumId();
+
+    // optional uint32 Credits = 4;
+    /**
+     * <code>optional uint32 Credits = 4;</code>
+     */
+    boolean hasCredits();
+    /**
+     * <code>optional uint32 Credits = 4;</code>
+     */
+    int getCredits();
+  }
+  /**
+   * Protobuf type {@code messages.SpoutMsg}
+   */
+  public static final class SpoutMsg extends
+      com.google.protobuf.GeneratedMessage
+      implements SpoutMsgOrBuilder {
+    // Use SpoutMsg.newBuilder() to construct.
+    private SpoutMsg(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private SpoutMsg(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final SpoutMsg defaultInstance;
+    public static SpoutMsg getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public SpoutMsg getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SpoutMsg(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              command_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              id_ = input.readBytes();
+              break;
+            }
+            case 25: {
+              bitField0_ |= 0x00000004;
+              numId_ = input.readFixed64();
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              credits_ = input.readUInt32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_SpoutMsg_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_SpoutMsg_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg.class, com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<SpoutMsg> PARSER =
+        new com.google.protobuf.AbstractParser<SpoutMsg>() {
+      public SpoutMsg parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SpoutMsg(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SpoutMsg> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional string Command = 1;
+    public static final int COMMAND_FIELD_NUMBER = 1;
+    private java.lang.Object command_;
+    /**
+     * <code>optional string Command = 1;</code>
+     */
+    public boolean hasCommand() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string Command = 1;</code>
+     */
+    public java.lang.String getCommand() {
+      java.lang.Object ref = command_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          command_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string Command = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCommandBytes() {
+      java.lang.Object ref = command_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        command_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string Id = 2;
+    public static final int ID_FIELD_NUMBER = 2;
+    private java.lang.Object id_;
+    /**
+     * <code>optional string Id = 2;</code>
+     */
+    public boolean hasId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string Id = 2;</code>
+     */
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          id_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string Id = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional fixed64 NumId = 3;
+    public static final int NUMID_FIELD_NUMBER = 3;
+    private long numId_;
+    /**
+     * <code>optional fixed64 NumId = 3;</code>
+     */
+    public boolean hasNumId() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional fixed64 NumId = 3;</code>
+     */
+    public long getNumId() {
+      return numId_;
+    }
+
+    // optional uint32 Credits = 4;
+    public static final int CREDITS_FIELD_NUMBER = 4;
+    private int credits_;
+    /**
+     * <code>optional uint32 Credits = 4;</code>
+     */
+    public boolean hasCredits() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional uint32 Credits = 4;</code>
+     */
+    public int getCredits() {
+      return credits_;
+    }
+
+    private void initFields() {
+      command_ = "";
+      id_ = "";
+      numId_ = 0L;
+      credits_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getCommandBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeFixed64(3, numId_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeUInt32(4, credits_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getCommandBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getIdBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(3, numId_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(4, credits_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code messages.SpoutMsg}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.github.jsgilmore.protoshell.ShellMessages.SpoutMsgOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_SpoutMsg_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_SpoutMsg_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg.class, com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg.Builder.class);
+      }
+
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        command_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        id_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        numId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        credits_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_SpoutMsg_descriptor;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg.getDefaultInstance();
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg build() {
+        com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg result = new com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.command_ = command_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.id_ = id_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.numId_ = numId_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.credits_ = credits_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg.getDefaultInstance()) return this;
+        if (other.hasCommand()) {
+          bitField0_ |= 0x00000001;
+          command_ = other.command_;
+          onChanged();
+        }
+        if (other.hasId()) {
+          bitField0_ |= 0x00000002;
+          id_ = other.id_;
+          onChanged();
+        }
+        if (other.hasNumId()) {
+          setNumId(other.getNumId());
+        }
+        if (other.hasCredits()) {
+          setCredits(other.getCredits());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional string Command = 1;
+      private java.lang.Object command_ = "";
+      /**
+       * <code>optional string Command = 1;</code>
+       */
+      public boolean hasCommand() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string Command = 1;</code>
+       */
+      public java.lang.String getCommand() {
+        java.lang.Object ref = command_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          command_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string Command = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getCommandBytes() {
+        java.lang.Object ref = command_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          command_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string Command = 1;</code>
+       */
+      public Builder setCommand(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        command_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Command = 1;</code>
+       */
+      public Builder clearCommand() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        command_ = getDefaultInstance().getCommand();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Command = 1;</code>
+       */
+      public Builder setCommandBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        command_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string Id = 2;
+      private java.lang.Object id_ = "";
+      /**
+       * <code>optional string Id = 2;</code>
+       */
+      public boolean hasId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string Id = 2;</code>
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string Id = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string Id = 2;</code>
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Id = 2;</code>
+       */
+      public Builder clearId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        id_ = getDefaultInstance().getId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Id = 2;</code>
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        id_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional fixed64 NumId = 3;
+      private long numId_ ;
+      /**
+       * <code>optional fixed64 NumId = 3;</code>
+       */
+      public boolean hasNumId() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional fixed64 NumId = 3;</code>
+       */
+      public long getNumId() {
+        return numId_;
+      }
+      /**
+       * <code>optional fixed64 NumId = 3;</code>
+       */
+      public Builder setNumId(long value) {
+        bitField0_ |= 0x00000004;
+        numId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional fixed64 NumId = 3;</code>
+       */
+      public Builder clearNumId() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        numId_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional uint32 Credits = 4;
+      private int credits_ ;
+      /**
+       * <code>optional uint32 Credits = 4;</code>
+       */
+      public boolean hasCredits() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional uint32 Credits = 4;</code>
+       */
+      public int getCredits() {
+        return credits_;
+      }
+      /**
+       * <code>optional uint32 Credits = 4;</code>
+       */
+      public Builder setCredits(int value) {
+        bitField0_ |= 0x00000008;
+        credits_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional uint32 Credits = 4;</code>
+       */
+      public Builder clearCredits() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        credits_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:messages.SpoutMsg)
+    }
+
+    static {
+      defaultInstance = new SpoutMsg(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:messages.SpoutMsg)
+  }
+
+  public interface ShellMsgMetaOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional string Command = 1;
+    /**
+     * <code>optional string Command = 1;</code>
+     */
+    boolean hasCommand();
+    /**
+     * <code>optional string Command = 1;</code>
+     */
+    java.lang.String getCommand();
+    /**
+     * <code>optional string Command = 1;</code>
+     */
+    com.google.protobuf.ByteString
+        getCommandBytes();
+
+    // optional string Id = 2;
+    /**
+     * <code>optional string Id = 2;</code>
+     */
+    boolean hasId();
+    /**
+     * <code>optional string Id = 2;</code>
+     */
+    java.lang.String getId();
+    /**
+     * <code>optional string Id = 2;</code>
+     */
+    com.google.protobuf.ByteString
+        getIdBytes();
+
+    // repeated string Anchors = 3;
+    /**
+     * <code>repeated string Anchors = 3;</code>
+     */
+    java.util.List<java.lang.String>
+    getAnchorsList();
+    /**
+     * <code>repeated string Anchors = 3;</code>
+     */
+    int getAnchorsCount();
+    /**
+     * <code>repeated string Anchors = 3;</code>
+     */
+    java.lang.String getAnchors(int index);
+    /**
+     * <code>repeated string Anchors = 3;</code>
+     */
+    com.google.protobuf.ByteString
+        getAnchorsBytes(int index);
+
+    // optional string Stream = 4;
+    /**
+     * <code>optional string Stream = 4;</code>
+     */
+    boolean hasStream();
+    /**
+     * <code>optional string Stream = 4;</code>
+     */
+    java.lang.String getStream();
+    /**
+     * <code>optional string Stream = 4;</code>
+     */
+    com.google.protobuf.ByteString
+        getStreamBytes();
+
+    // optional int64 Task = 5;
+    /**
+     * <code>optional int64 Task = 5;</code>
+     */
+    boolean hasTask();
+    /**
+     * <code>optional int64 Task = 5;</code>
+     */
+    long getTask();
+
+    // optional bool NeedTaskIds = 6;
+    /**
+     * <code>optional bool NeedTaskIds = 6;</code>
+     */
+    boolean hasNeedTaskIds();
+    /**
+     * <code>optional bool NeedTaskIds = 6;</code>
+     */
+    boolean getNeedTaskIds();
+
+    // optional string Msg = 7;
+    /**
+     * <code>optional string Msg = 7;</code>
+     */
+    boolean hasMsg();
+    /**
+     * <code>optional string Msg = 7;</code>
+     */
+    java.lang.String getMsg();
+    /**
+     * <code>optional string Msg = 7;</code>
+     */
+    com.google.protobuf.ByteString
+        getMsgBytes();
+
+    // optional int32 CommandId = 8;
+    /**
+     * <code>optional int32 CommandId = 8;</code>
+     */
+    boolean hasCommandId();
+    /**
+     * <code>optional int32 CommandId = 8;</code>
+     */
+    int getCommandId();
+
+    // optional int32 StreamId = 9;
+    /**
+     * <code>optional int32 StreamId = 9;</code>
+     */
+    boolean hasStreamId();
+    /**
+     * <code>optional int32 StreamId = 9;</code>
+     */
+    int getStreamId();
+
+    // optional fixed64 NumId = 10;
+    /**
+     * <code>optional fixed64 NumId = 10;</code>
+     */
+    boolean hasNumId();
+    /**
+     * <code>optional fixed64 NumId = 10;</code>
+     */
+    long getNumId();
+
+    // repeated fixed64 NumAnchors = 11 [packed = true];
+    /**
+     * <code>repeated fixed64 NumAnchors = 11 [packed = true];</code>
+     */
+    java.util.List<java.lang.Long> getNumAnchorsList();
+    /**
+     * <code>repeated fixed64 NumAnchors = 11 [packed = true];</code>
+     */
+    int getNumAnchorsCount();
+    /**
+     * <code>repeated fixed64 NumAnchors = 11 [packed = true];</code>
+     */
+    long getNumAnchors(int index);
+  }
+  /**
+   * Protobuf type {@code messages.ShellMsgMeta}
+   */
+  public static final class ShellMsgMeta extends
+      com.google.protobuf.GeneratedMessage
+      implements ShellMsgMetaOrBuilder {
+    // Use ShellMsgMeta.newBuilder() to construct.
+    private ShellMsgMeta(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private ShellMsgMeta(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final ShellMsgMeta defaultInstance;
+    public static ShellMsgMeta getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public ShellMsgMeta getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ShellMsgMeta(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              command_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              id_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                anchors_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              anchors_.add(input.readBytes());
+              break;
+            }
+            case 34: {
+              bitField0_ |= 0x00000004;
+              stream_ = input.readBytes();
+              break;
+            }
+            case 40: {
+              bitField0_ |= 0x00000008;
+              task_ = input.readInt64();
+              break;
+            }
+            case 48: {
+              bitField0_ |= 0x00000010;
+              needTaskIds_ = input.readBool();
+              break;
+            }
+            case 58: {
+              bitField0_ |= 0x00000020;
+              msg_ = input.readBytes();
+              break;
+            }
+            case 64: {
+              bitField0_ |= 0x00000040;
+              commandId_ = input.readInt32();
+              break;
+            }
+            case 72: {
+              bitField0_ |= 0x00000080;
+              streamId_ = input.readInt32();
+              break;
+            }
+            case 81: {
+              bitField0_ |= 0x00000100;
+              numId_ = input.readFixed64();
+              break;
+            }
+            case 89: {
+              if (!((mutable_bitField0_ & 0x00000400) == 0x00000400)) {
+                numAnchors_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000400;
+              }
+              numAnchors_.add(input.readFixed64());
+              break;
+            }
+            case 90: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000400) == 0x00000400) && input.getBytesUntilLimit() > 0) {
+                numAnchors_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000400;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                numAnchors_.add(input.readFixed64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          anchors_ = new com.google.protobuf.UnmodifiableLazyStringList(anchors_);
+        }
+        if (((mutable_bitField0_ & 0x00000400) == 0x00000400)) {
+          numAnchors_ = java.util.Collections.unmodifiableList(numAnchors_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgMeta_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgMeta_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.class, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<ShellMsgMeta> PARSER =
+        new com.google.protobuf.AbstractParser<ShellMsgMeta>() {
+      public ShellMsgMeta parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ShellMsgMeta(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ShellMsgMeta> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional string Command = 1;
+    public static final int COMMAND_FIELD_NUMBER = 1;
+    private java.lang.Object command_;
+    /**
+     * <code>optional string Command = 1;</code>
+     */
+    public boolean hasCommand() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional string Command = 1;</code>
+     */
+    public java.lang.String getCommand() {
+      java.lang.Object ref = command_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          command_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string Command = 1;</code>
+     */
+    public com.google.protobuf.ByteString
+        getCommandBytes() {
+      java.lang.Object ref = command_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        command_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional string Id = 2;
+    public static final int ID_FIELD_NUMBER = 2;
+    private java.lang.Object id_;
+    /**
+     * <code>optional string Id = 2;</code>
+     */
+    public boolean hasId() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string Id = 2;</code>
+     */
+    public java.lang.String getId() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          id_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string Id = 2;</code>
+     */
+    public com.google.protobuf.ByteString
+        getIdBytes() {
+      java.lang.Object ref = id_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        id_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // repeated string Anchors = 3;
+    public static final int ANCHORS_FIELD_NUMBER = 3;
+    private com.google.protobuf.LazyStringList anchors_;
+    /**
+     * <code>repeated string Anchors = 3;</code>
+     */
+    public java.util.List<java.lang.String>
+        getAnchorsList() {
+      return anchors_;
+    }
+    /**
+     * <code>repeated string Anchors = 3;</code>
+     */
+    public int getAnchorsCount() {
+      return anchors_.size();
+    }
+    /**
+     * <code>repeated string Anchors = 3;</code>
+     */
+    public java.lang.String getAnchors(int index) {
+      return anchors_.get(index);
+    }
+    /**
+     * <code>repeated string Anchors = 3;</code>
+     */
+    public com.google.protobuf.ByteString
+        getAnchorsBytes(int index) {
+      return anchors_.getByteString(index);
+    }
+
+    // optional string Stream = 4;
+    public static final int STREAM_FIELD_NUMBER = 4;
+    private java.lang.Object stream_;
+    /**
+     * <code>optional string Stream = 4;</code>
+     */
+    public boolean hasStream() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional string Stream = 4;</code>
+     */
+    public java.lang.String getStream() {
+      java.lang.Object ref = stream_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          stream_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string Stream = 4;</code>
+     */
+    public com.google.protobuf.ByteString
+        getStreamBytes() {
+      java.lang.Object ref = stream_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        stream_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int64 Task = 5;
+    public static final int TASK_FIELD_NUMBER = 5;
+    private long task_;
+    /**
+     * <code>optional int64 Task = 5;</code>
+     */
+    public boolean hasTask() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional int64 Task = 5;</code>
+     */
+    public long getTask() {
+      return task_;
+    }
+
+    // optional bool NeedTaskIds = 6;
+    public static final int NEEDTASKIDS_FIELD_NUMBER = 6;
+    private boolean needTaskIds_;
+    /**
+     * <code>optional bool NeedTaskIds = 6;</code>
+     */
+    public boolean hasNeedTaskIds() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional bool NeedTaskIds = 6;</code>
+     */
+    public boolean getNeedTaskIds() {
+      return needTaskIds_;
+    }
+
+    // optional string Msg = 7;
+    public static final int MSG_FIELD_NUMBER = 7;
+    private java.lang.Object msg_;
+    /**
+     * <code>optional string Msg = 7;</code>
+     */
+    public boolean hasMsg() {
+      return ((bitField0_ & 0x00000020) == 0x00000020);
+    }
+    /**
+     * <code>optional string Msg = 7;</code>
+     */
+    public java.lang.String getMsg() {
+      java.lang.Object ref = msg_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          msg_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string Msg = 7;</code>
+     */
+    public com.google.protobuf.ByteString
+        getMsgBytes() {
+      java.lang.Object ref = msg_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        msg_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional int32 CommandId = 8;
+    public static final int COMMANDID_FIELD_NUMBER = 8;
+    private int commandId_;
+    /**
+     * <code>optional int32 CommandId = 8;</code>
+     */
+    public boolean hasCommandId() {
+      return ((bitField0_ & 0x00000040) == 0x00000040);
+    }
+    /**
+     * <code>optional int32 CommandId = 8;</code>
+     */
+    public int getCommandId() {
+      return commandId_;
+    }
+
+    // optional int32 StreamId = 9;
+    public static final int STREAMID_FIELD_NUMBER = 9;
+    private int streamId_;
+    /**
+     * <code>optional int32 StreamId = 9;</code>
+     */
+    public boolean hasStreamId() {
+      return ((bitField0_ & 0x00000080) == 0x00000080);
+    }
+    /**
+     * <code>optional int32 StreamId = 9;</code>
+     */
+    public int getStreamId() {
+      return streamId_;
+    }
+
+    // optional fixed64 NumId = 10;
+    public static final int NUMID_FIELD_NUMBER = 10;
+    private long numId_;
+    /**
+     * <code>optional fixed64 NumId = 10;</code>
+     */
+    public boolean hasNumId() {
+      return ((bitField0_ & 0x00000100) == 0x00000100);
+    }
+    /**
+     * <code>optional fixed64 NumId = 10;</code>
+     */
+    public long getNumId() {
+      return numId_;
+    }
+
+    // repeated fixed64 NumAnchors = 11 [packed = true];
+    public static final int NUMANCHORS_FIELD_NUMBER = 11;
+    private java.util.List<java.lang.Long> numAnchors_;
+    /**
+     * <code>repeated fixed64 NumAnchors = 11 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Long>
+        getNumAnchorsList() {
+      return numAnchors_;
+    }
+    /**
+     * <code>repeated fixed64 NumAnchors = 11 [packed = true];</code>
+     */
+    public int getNumAnchorsCount() {
+      return numAnchors_.size();
+    }
+    /**
+     * <code>repeated fixed64 NumAnchors = 11 [packed = true];</code>
+     */
+    public long getNumAnchors(int index) {
+      return numAnchors_.get(index);
+    }
+    private int numAnchorsMemoizedSerializedSize = -1;
+
+    private void initFields() {
+      command_ = "";
+      id_ = "";
+      anchors_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      stream_ = "";
+      task_ = 0L;
+      needTaskIds_ = false;
+      msg_ = "";
+      commandId_ = 0;
+      streamId_ = 0;
+      numId_ = 0L;
+      numAnchors_ = java.util.Collections.emptyList();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getCommandBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getIdBytes());
+      }
+      for (int i = 0; i < anchors_.size(); i++) {
+        output.writeBytes(3, anchors_.getByteString(i));
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeBytes(4, getStreamBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeInt64(5, task_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeBool(6, needTaskIds_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        output.writeBytes(7, getMsgBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        output.writeInt32(8, commandId_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        output.writeInt32(9, streamId_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        output.writeFixed64(10, numId_);
+      }
+      if (getNumAnchorsList().size() > 0) {
+        output.writeRawVarint32(90);
+        output.writeRawVarint32(numAnchorsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < numAnchors_.size(); i++) {
+        output.writeFixed64NoTag(numAnchors_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getCommandBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getIdBytes());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < anchors_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(anchors_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getAnchorsList().size();
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(4, getStreamBytes());
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(5, task_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(6, needTaskIds_);
+      }
+      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(7, getMsgBytes());
+      }
+      if (((bitField0_ & 0x00000040) == 0x00000040)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(8, commandId_);
+      }
+      if (((bitField0_ & 0x00000080) == 0x00000080)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(9, streamId_);
+      }
+      if (((bitField0_ & 0x00000100) == 0x00000100)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed64Size(10, numId_);
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getNumAnchorsList().size();
+        size += dataSize;
+        if (!getNumAnchorsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        numAnchorsMemoizedSerializedSize = dataSize;
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code messages.ShellMsgMeta}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMetaOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgMeta_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgMeta_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.class, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.Builder.class);
+      }
+
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        command_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        id_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        anchors_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        stream_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        task_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        needTaskIds_ = false;
+        bitField0_ = (bitField0_ & ~0x00000020);
+        msg_ = "";
+        bitField0_ = (bitField0_ & ~0x00000040);
+        commandId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000080);
+        streamId_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000100);
+        numId_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000200);
+        numAnchors_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000400);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgMeta_descriptor;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.getDefaultInstance();
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta build() {
+        com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta result = new com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.command_ = command_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.id_ = id_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          anchors_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              anchors_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.anchors_ = anchors_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.stream_ = stream_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.task_ = task_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        result.needTaskIds_ = needTaskIds_;
+        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
+          to_bitField0_ |= 0x00000020;
+        }
+        result.msg_ = msg_;
+        if (((from_bitField0_ & 0x00000080) == 0x00000080)) {
+          to_bitField0_ |= 0x00000040;
+        }
+        result.commandId_ = commandId_;
+        if (((from_bitField0_ & 0x00000100) == 0x00000100)) {
+          to_bitField0_ |= 0x00000080;
+        }
+        result.streamId_ = streamId_;
+        if (((from_bitField0_ & 0x00000200) == 0x00000200)) {
+          to_bitField0_ |= 0x00000100;
+        }
+        result.numId_ = numId_;
+        if (((bitField0_ & 0x00000400) == 0x00000400)) {
+          numAnchors_ = java.util.Collections.unmodifiableList(numAnchors_);
+          bitField0_ = (bitField0_ & ~0x00000400);
+        }
+        result.numAnchors_ = numAnchors_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.getDefaultInstance()) return this;
+        if (other.hasCommand()) {
+          bitField0_ |= 0x00000001;
+          command_ = other.command_;
+          onChanged();
+        }
+        if (other.hasId()) {
+          bitField0_ |= 0x00000002;
+          id_ = other.id_;
+          onChanged();
+        }
+        if (!other.anchors_.isEmpty()) {
+          if (anchors_.isEmpty()) {
+            anchors_ = other.anchors_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureAnchorsIsMutable();
+            anchors_.addAll(other.anchors_);
+          }
+          onChanged();
+        }
+        if (other.hasStream()) {
+          bitField0_ |= 0x00000008;
+          stream_ = other.stream_;
+          onChanged();
+        }
+        if (other.hasTask()) {
+          setTask(other.getTask());
+        }
+        if (other.hasNeedTaskIds()) {
+          setNeedTaskIds(other.getNeedTaskIds());
+        }
+        if (other.hasMsg()) {
+          bitField0_ |= 0x00000040;
+          msg_ = other.msg_;
+          onChanged();
+        }
+        if (other.hasCommandId()) {
+          setCommandId(other.getCommandId());
+        }
+        if (other.hasStreamId()) {
+          setStreamId(other.getStreamId());
+        }
+        if (other.hasNumId()) {
+          setNumId(other.getNumId());
+        }
+        if (!other.numAnchors_.isEmpty()) {
+          if (numAnchors_.isEmpty()) {
+            numAnchors_ = other.numAnchors_;
+            bitField0_ = (bitField0_ & ~0x00000400);
+          } else {
+            ensureNumAnchorsIsMutable();
+            numAnchors_.addAll(other.numAnchors_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional string Command = 1;
+      private java.lang.Object command_ = "";
+      /**
+       * <code>optional string Command = 1;</code>
+       */
+      public boolean hasCommand() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional string Command = 1;</code>
+       */
+      public java.lang.String getCommand() {
+        java.lang.Object ref = command_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          command_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string Command = 1;</code>
+       */
+      public com.google.protobuf.ByteString
+          getCommandBytes() {
+        java.lang.Object ref = command_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          command_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string Command = 1;</code>
+       */
+      public Builder setCommand(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        command_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Command = 1;</code>
+       */
+      public Builder clearCommand() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        command_ = getDefaultInstance().getCommand();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Command = 1;</code>
+       */
+      public Builder setCommandBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        command_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional string Id = 2;
+      private java.lang.Object id_ = "";
+      /**
+       * <code>optional string Id = 2;</code>
+       */
+      public boolean hasId() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string Id = 2;</code>
+       */
+      public java.lang.String getId() {
+        java.lang.Object ref = id_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          id_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string Id = 2;</code>
+       */
+      public com.google.protobuf.ByteString
+          getIdBytes() {
+        java.lang.Object ref = id_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          id_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string Id = 2;</code>
+       */
+      public Builder setId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        id_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Id = 2;</code>
+       */
+      public Builder clearId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        id_ = getDefaultInstance().getId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Id = 2;</code>
+       */
+      public Builder setIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        id_ = value;
+        onChanged();
+        return this;
+      }
+
+      // repeated string Anchors = 3;
+      private com.google.protobuf.LazyStringList anchors_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureAnchorsIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          anchors_ = new com.google.protobuf.LazyStringArrayList(anchors_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated string Anchors = 3;</code>
+       */
+      public java.util.List<java.lang.String>
+          getAnchorsList() {
+        return java.util.Collections.unmodifiableList(anchors_);
+      }
+      /**
+       * <code>repeated string Anchors = 3;</code>
+       */
+      public int getAnchorsCount() {
+        return anchors_.size();
+      }
+      /**
+       * <code>repeated string Anchors = 3;</code>
+       */
+      public java.lang.String getAnchors(int index) {
+        return anchors_.get(index);
+      }
+      /**
+       * <code>repeated string Anchors = 3;</code>
+       */
+      public com.google.protobuf.ByteString
+          getAnchorsBytes(int index) {
+        return anchors_.getByteString(index);
+      }
+      /**
+       * <code>repeated string Anchors = 3;</code>
+       */
+      public Builder setAnchors(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAnchorsIsMutable();
+        anchors_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string Anchors = 3;</code>
+       */
+      public Builder addAnchors(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAnchorsIsMutable();
+        anchors_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string Anchors = 3;</code>
+       */
+      public Builder addAllAnchors(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureAnchorsIsMutable();
+        super.addAll(values, anchors_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string Anchors = 3;</code>
+       */
+      public Builder clearAnchors() {
+        anchors_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string Anchors = 3;</code>
+       */
+      public Builder addAnchorsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAnchorsIsMutable();
+        anchors_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // optional string Stream = 4;
+      private java.lang.Object stream_ = "";
+      /**
+       * <code>optional string Stream = 4;</code>
+       */
+      public boolean hasStream() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional string Stream = 4;</code>
+       */
+      public java.lang.String getStream() {
+        java.lang.Object ref = stream_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          stream_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string Stream = 4;</code>
+       */
+      public com.google.protobuf.ByteString
+          getStreamBytes() {
+        java.lang.Object ref = stream_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          stream_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string Stream = 4;</code>
+       */
+      public Builder setStream(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        stream_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Stream = 4;</code>
+       */
+      public Builder clearStream() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        stream_ = getDefaultInstance().getStream();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string Stream = 4;</code>
+       */
+      public Builder setStreamBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        stream_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional int64 Task = 5;
+      private long task_ ;
+      /**
+       * <code>optional int64 Task = 5;</code>
+       */
+      public boolean hasTask() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>optional int64 Task = 5;</code>
+       */
+      public long getTask() {
+        return task_;
+      }
+      /**
+       * <code>optional int64 Task = 5;</code>
+       */
+      public Builder setTask(long value) {
+        bitField0_ |= 0x00000010;
+        task_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 Task = 5;</code>
+       */
+      public Builder clearTask() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        task_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      // optional bool NeedTaskIds = 6;
+      private boolean needTaskIds_ ;
+      /**
+       * <code>optional bool NeedTaskIds = 6;</code>
+       */
+      public boolean hasNeedTaskIds() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional bool NeedTaskIds = 6;</code>
+       */
+      public boolean getNeedTaskIds() {
+        return needTaskIds_;
+      }
+      /**
+       * <code>optional bool NeedTaskIds = 6;</code>
+       */
+      public Builder setNeedTaskIds(boolean value) {
+        bitField0_ |= 0x00000020;
+        needTaskIds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional bool NeedTaskIds = 6;</code>
+       */
+      public Builder clearNeedTaskIds() {
+        bitField0_ = (bitField0_ & ~0x00000020);
+        needTaskIds_ = false;
+        onChanged();
+        return this;
+      }
+
+      // optional string Msg = 7;
+      private java.lang.Object msg_ = "";
+      /**
+       * <code>optional string Msg = 7;</code>
+       */
+      public boolean hasMsg() {
+        return ((bitField0_ & 0x00000040) == 0x00000040);
+      }
+      /**
+       * <code>optional string Msg = 7;</code>
+       */
+      public java.lang.String getMsg() {
+        java.lang.Object ref = msg_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          msg_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
-      private void maybeForceBuilderInitialization() {
-        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+      /**
+       * <code>optional string Msg = 7;</code>
+       */
+      public com.google.protobuf.ByteString
+          getMsgBytes() {
+        java.lang.Object ref = msg_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          msg_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
         }
       }
-      private static Builder create() {
-        return new Builder();
+      /**
+       * <code>optional string Msg = 7;</code>
+       */
+      public Builder setMsg(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        msg_ = value;
+        onChanged();
+        return this;
       }
-
-      public Builder clear() {
-        super.clear();
-        taskIds_ = java.util.Collections.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000001);
+      /**
+       * <code>optional string Msg = 7;</code>
+       */
+      public Builder clearMsg() {
+        bitField0_ = (bitField0_ & ~0x00000040);
+        msg_ = getDefaultInstance().getMsg();
+        onChanged();
         return this;
       }
-
-      public Builder clone() {
-        return create().mergeFrom(buildPartial());
+      /**
+       * <code>optional string Msg = 7;</code>
+       */
+      public Builder setMsgBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000040;
+        msg_ = value;
+        onChanged();
+        return this;
       }
 
-      public com.google.protobuf.Descriptors.Descriptor
-          getDescriptorForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_TaskIds_descriptor;
+      // optional int32 CommandId = 8;
+      private int commandId_ ;
+      /**
+       * <code>optional int32 CommandId = 8;</code>
+       */
+      public boolean hasCommandId() {
+        return ((bitField0_ & 0x00000080) == 0x00000080);
       }
-
-      public com.github.jsgilmore.protoshell.ShellMessages.TaskIds getDefaultInstanceForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.TaskIds.getDefaultInstance();
+      /**
+       * <code>optional int32 CommandId = 8;</code>
+       */
+      public int getCommandId() {
+        return commandId_;
       }
-
-      public com.github.jsgilmore.protoshell.ShellMessages.TaskIds build() {
-        com.github.jsgilmore.protoshell.ShellMessages.TaskIds result = buildPartial();
-        if (!result.isInitialized()) {
-          throw newUninitializedMessageException(result);
-        }
-        return result;
+      /**
+       * <code>optional int32 CommandId = 8;</code>
+       */
+      public Builder setCommandId(int value) {
+        bitField0_ |= 0x00000080;
+        commandId_ = value;
+        onChanged();
+        return this;
       }
-
-      public com.github.jsgilmore.protoshell.ShellMessages.TaskIds buildPartial() {
-        com.github.jsgilmore.protoshell.ShellMessages.TaskIds result = new com.github.jsgilmore.protoshell.ShellMessages.TaskIds(this);
-        int from_bitField0_ = bitField0_;
-        if (((bitField0_ & 0x00000001) == 0x00000001)) {
-          taskIds_ = java.util.Collections.unmodifiableList(taskIds_);
-          bitField0_ = (bitField0_ & ~0x00000001);
-        }
-        result.taskIds_ = taskIds_;
-        onBuilt();
-        return result;
+      /**
+       * <code>optional int32 CommandId = 8;</code>
+       */
+      public Builder clearCommandId() {
+        bitField0_ = (bitField0_ & ~0x00000080);
+        commandId_ = 0;
+        onChanged();
+        return this;
       }
 
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.TaskIds) {
-          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.TaskIds)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
+      // optional int32 StreamId = 9;
+      private int streamId_ ;
+      /**
+       * <code>optional int32 StreamId = 9;</code>
+       */
+      public boolean hasStreamId() {
+        return ((bitField0_ & 0x00000100) == 0x00000100);
       }
-
-      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.TaskIds other) {
-        if (other == com.github.jsgilmore.protoshell.ShellMessages.TaskIds.getDefaultInstance()) return this;
-        if (!other.taskIds_.isEmpty()) {
-          if (taskIds_.isEmpty()) {
-            taskIds_ = other.taskIds_;
-            bitField0_ = (bitField0_ & ~0x00000001);
-          } else {
-            ensureTaskIdsIsMutable();
-            taskIds_.addAll(other.taskIds_);
-          }
-          onChanged();
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
+      /**
+       * <code>optional int32 StreamId = 9;</code>
+       */
+      public int getStreamId() {
+        return streamId_;
+      }
+      /**
+       * <code>optional int32 StreamId = 9;</code>
+       */
+      public Builder setStreamId(int value) {
+        bitField0_ |= 0x00000100;
+        streamId_ = value;
+        onChanged();
         return this;
       }
-
-      public final boolean isInitialized() {
-        return true;
+      /**
+       * <code>optional int32 StreamId = 9;</code>
+       */
+      public Builder clearStreamId() {
+        bitField0_ = (bitField0_ & ~0x00000100);
+        streamId_ = 0;
+        onChanged();
+        return this;
       }
 
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        com.github.jsgilmore.protoshell.ShellMessages.TaskIds parsedMessage = null;
-        try {
-          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.TaskIds) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
+      // optional fixed64 NumId = 10;
+      private long numId_ ;
+      /**
+       * <code>optional fixed64 NumId = 10;</code>
+       */
+      public boolean hasNumId() {
+        return ((bitField0_ & 0x00000200) == 0x00000200);
+      }
+      /**
+       * <code>optional fixed64 NumId = 10;</code>
+       */
+      public long getNumId() {
+        return numId_;
+      }
+      /**
+       * <code>optional fixed64 NumId = 10;</code>
+       */
+      public Builder setNumId(long value) {
+        bitField0_ |= 0x00000200;
+        numId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional fixed64 NumId = 10;</code>
+       */
+      public Builder clearNumId() {
+        bitField0_ = (bitField0_ & ~0x00000200);
+        numId_ = 0L;
+        onChanged();
         return this;
       }
-      private int bitField0_;
 
-      // repeated int32 TaskIds = 1;
-      private java.util.List<java.lang.Integer> taskIds_ = java.util.Collections.emptyList();
-      private void ensureTaskIdsIsMutable() {
-        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
-          taskIds_ = new java.util.ArrayList<java.lang.Integer>(taskIds_);
-          bitField0_ |= 0x00000001;
+      // repeated fixed64 NumAnchors = 11 [packed = true];
+      private java.util.List<java.lang.Long> numAnchors_ = java.util.Collections.emptyList();
+      private void ensureNumAnchorsIsMutable() {
+        if (!((bitField0_ & 0x00000400) == 0x00000400)) {
+          numAnchors_ = new java.util.ArrayList<java.lang.Long>(numAnchors_);
+          bitField0_ |= 0x00000400;
          }
       }
       /**
-       * <code>repeated int32 TaskIds = 1;</code>
+       * <code>repeated fixed64 NumAnchors = 11 [packed = true];</code>
        */
-      public java.util.List<java.lang.Integer>
-          getTaskIdsList() {
-        return java.util.Collections.unmodifiableList(taskIds_);
+      public java.util.List<java.lang.Long>
+          getNumAnchorsList() {
+        return java.util.Collections.unmodifiableList(numAnchors_);
       }
       /**
-       * <code>repeated int32 TaskIds = 1;</code>
+       * <code>repeated fixed64 NumAnchors = 11 [packed = true];</code>
        */
-      public int getTaskIdsCount() {
-        return taskIds_.size();
+      public int getNumAnchorsCount() {
+        return numAnchors_.size();
       }
       /**
-       * <code>repeated int32 TaskIds = 1;</code>
+       * <code>repeated fixed64 NumAnchors = 11 [packed = true];</code>
        */
-      public int getTaskIds(int index) {
-        return taskIds_.get(index);
+      public long getNumAnchors(int index) {
+        return numAnchors_.get(index);
       }
       /**
-       * <code>repeated int32 TaskIds = 1;</code>
+       * <code>repeated fixed64 NumAnchors = 11 [packed = true];</code>
        */
-      public Builder setTaskIds(
-          int index, int value) {
-        ensureTaskIdsIsMutable();
-        taskIds_.set(index, value);
+      public Builder setNumAnchors(
+          int index, long value) {
+        ensureNumAnchorsIsMutable();
+        numAnchors_.set(index, value);
         onChanged();
         return this;
       }
       /**
-       * <code>repeated int32 TaskIds = 1;</code>
+       * <code>repeated fixed64 NumAnchors = 11 [packed = true];</code>
        */
-      public Builder addTaskIds(int value) {
-        ensureTaskIdsIsMutable();
-        taskIds_.add(value);
+      public Builder addNumAnchors(long value) {
+        ensureNumAnchorsIsMutable();
+        numAnchors_.add(value);
         onChanged();
         return this;
       }
       /**
-       * <code>repeated int32 TaskIds = 1;</code>
+       * <code>repeated fixed64 NumAnchors = 11 [packed = true];</code>
        */
-      public Builder addAllTaskIds(
-          java.lang.Iterable<? extends java.lang.Integer> values) {
-        ensureTaskIdsIsMutable();
-        super.addAll(values, taskIds_);
+      public Builder addAllNumAnchors(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureNumAnchorsIsMutable();
+        super.addAll(values, numAnchors_);
         onChanged();
         return this;
       }
       /**
-       * <code>repeated int32 TaskIds = 1;</code>
+       * <code>repeated fixed64 NumAnchors = 11 [packed = true];</code>
        */
-      public Builder clearTaskIds() {
-        taskIds_ = java.util.Collections.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000001);
+      public Builder clearNumAnchors() {
+        numAnchors_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000400);
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:messages.TaskIds)
+      // @@protoc_insertion_point(builder_scope:messages.ShellMsgMeta)
     }
 
     static {
-      defaultInstance = new TaskIds(true);
+      defaultInstance = new ShellMsgMeta(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:messages.TaskIds)
+    // @@protoc_insertion_point(class_scope:messages.ShellMsgMeta)
   }
 
-  public interface SpoutMsgOrBuilder
+  public interface AckBatchOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // optional string Command = 1;
+    // repeated string AckIds = 1;
     /**
-     * <code>optional string Command = 1;</code>
+     * <code>repeated string AckIds = 1;</code>
      */
-    boolean hasCommand();
+    java.util.List<java.lang.String>
+    getAckIdsList();
     /**
-     * <code>optional string Command = 1;</code>
+     * <code>repeated string AckIds = 1;</code>
      */
-    java.lang.String getCommand();
+    int getAckIdsCount();
     /**
-     * <code>optional string Command = 1;</code>
+     * <code>repeated string AckIds = 1;</code>
+     */
+    java.lang.String getAckIds(int index);
+    /**
+     * <code>repeated string AckIds = 1;</code>
      */
     com.google.protobuf.ByteString
-        getCommandBytes();
+        getAckIdsBytes(int index);
 
-    // optional string Id = 2;
+    // repeated fixed64 NumAckIds = 2 [packed = true];
     /**
-     * <code>optional string Id = 2;</code>
+     * <code>repeated fixed64 NumAckIds = 2 [packed = true];</code>
      */
-    boolean hasId();
+    java.util.List<java.lang.Long> getNumAckIdsList();
     /**
-     * <code>optional string Id = 2;</code>
+     * <code>repeated fixed64 NumAckIds = 2 [packed = true];</code>
      */
-    java.lang.String getId();
+    int getNumAckIdsCount();
     /**
-     * <code>optional string Id = 2;</code>
+     * <code>repeated fixed64 NumAckIds = 2 [packed = true];</code>
+     */
+    long getNumAckIds(int index);
+
+    // repeated string FailIds = 3;
+    /**
+     * <code>repeated string FailIds = 3;</code>
+     */
+    java.util.List<java.lang.String>
+    getFailIdsList();
+    /**
+     * <code>repeated string FailIds = 3;</code>
+     */
+    int getFailIdsCount();
+    /**
+     * <code>repeated string FailIds = 3;</code>
+     */
+    java.lang.String getFailIds(int index);
+    /**
+     * <code>repeated string FailIds = 3;</code>
      */
     com.google.protobuf.ByteString
-        getIdBytes();
+        getFailIdsBytes(int index);
+
+    // repeated fixed64 NumFailIds = 4 [packed = true];
+    /**
+     * <code>repeated fixed64 NumFailIds = 4 [packed = true];</code>
+     */
+    java.util.List<java.lang.Long> getNumFailIdsList();
+    /**
+     * <code>repeated fixed64 NumFailIds = 4 [packed = true];</code>
+     */
+    int getNumFailIdsCount();
+    /**
+     * <code>repeated fixed64 NumFailIds = 4 [packed = true];</code>
+     */
+    long getNumFailIds(int index);
   }
   /**
-   * Protobuf type {@code messages.SpoutMsg}
+   * Protobuf type {@code messages.AckBatch}
    */
-  public static final class SpoutMsg extends
+  public static final class AckBatch extends
       com.google.protobuf.GeneratedMessage
-      implements SpoutMsgOrBuilder {
-    // Use SpoutMsg.newBuilder() to construct.
-    private SpoutMsg(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements AckBatchOrBuilder {
+    // Use AckBatch.newBuilder() to construct.
+    private AckBatch(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private SpoutMsg(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private AckBatch(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final SpoutMsg defaultInstance;
-    public static SpoutMsg getDefaultInstance() {
+    private static final AckBatch defaultInstance;
+    public static AckBatch getDefaultInstance() {
       return defaultInstance;
     }
 
-    public SpoutMsg getDefaultInstanceForType() {
+    public AckBatch getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -5492,7 +13955,7 @@ public final class ShellMessages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private SpoutMsg(
+    private AckBatch(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5516,13 +13979,61 @@ public final class ShellMessages {
               break;
             }
             case 10: {
-              bitField0_ |= 0x00000001;
-              command_ = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                ackIds_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              ackIds_.add(input.readBytes());
+              break;
+            }
+            case 17: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                numAckIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              numAckIds_.add(input.readFixed64());
               break;
             }
             case 18: {
-              bitField0_ |= 0x00000002;
-              id_ = input.readBytes();
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002) && input.getBytesUntilLimit() > 0) {
+                numAckIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                numAckIds_.add(input.readFixed64());
+              }
+              input.popLimit(limit);
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                failIds_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              failIds_.add(input.readBytes());
+              break;
+            }
+            case 33: {
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+                numFailIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              numFailIds_.add(input.readFixed64());
+              break;
+            }
+            case 34: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000008) == 0x00000008) && input.getBytesUntilLimit() > 0) {
+                numFailIds_ = new java.util.ArrayList<java.lang.Long>();
+                mutable_bitField0_ |= 0x00000008;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                numFailIds_.add(input.readFixed64());
+              }
+              input.popLimit(limit);
               break;
             }
           }
@@ -5533,127 +14044,162 @@ public final class ShellMessages {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          ackIds_ = new com.google.protobuf.UnmodifiableLazyStringList(ackIds_);
+        }
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          numAckIds_ = java.util.Collections.unmodifiableList(numAckIds_);
+        }
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          failIds_ = new com.google.protobuf.UnmodifiableLazyStringList(failIds_);
+        }
+        if (((mutable_bitField0_ & 0x00000008) == 0x00000008)) {
+          numFailIds_ = java.util.Collections.unmodifiableList(numFailIds_);
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_SpoutMsg_descriptor;
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_AckBatch_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_SpoutMsg_fieldAccessorTable
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_AckBatch_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg.class, com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg.Builder.class);
+              com.github.jsgilmore.protoshell.ShellMessages.AckBatch.class, com.github.jsgilmore.protoshell.ShellMessages.AckBatch.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<SpoutMsg> PARSER =
-        new com.google.protobuf.AbstractParser<SpoutMsg>() {
-      public SpoutMsg parsePartialFrom(
+    public static com.google.protobuf.Parser<AckBatch> PARSER =
+        new com.google.protobuf.AbstractParser<AckBatch>() {
+      public AckBatch parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new SpoutMsg(input, extensionRegistry);
+        return new AckBatch(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<SpoutMsg> getParserForType() {
+    public com.google.protobuf.Parser<AckBatch> getParserForType() {
       return PARSER;
     }
 
-    private int bitField0_;
-    // optional string Command = 1;
-    public static final int COMMAND_FIELD_NUMBER = 1;
-    private java.lang.Object command_;
+    // repeated string AckIds = 1;
+    public static final int ACKIDS_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList ackIds_;
     /**
-     * <code>optional string Command = 1;</code>
+     * <code>repeated string AckIds = 1;</code>
      */
-    public boolean hasCommand() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
+    public java.util.List<java.lang.String>
+        getAckIdsList() {
+      return ackIds_;
     }
     /**
-     * <code>optional string Command = 1;</code>
+     * <code>repeated string AckIds = 1;</code>
      */
-    public java.lang.String getCommand() {
-      java.lang.Object ref = command_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          command_ = s;
-        }
-        return s;
-      }
+    public int getAckIdsCount() {
+      return ackIds_.size();
     }
     /**
-     * <code>optional string Command = 1;</code>
+     * <code>repeated string AckIds = 1;</code>
+     */
+    public java.lang.String getAckIds(int index) {
+      return ackIds_.get(index);
+    }
+    /**
+     * <code>repeated string AckIds = 1;</code>
      */
     public com.google.protobuf.ByteString
-        getCommandBytes() {
-      java.lang.Object ref = command_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        command_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+        getAckIdsBytes(int index) {
+      return ackIds_.getByteString(index);
     }
 
-    // optional string Id = 2;
-    public static final int ID_FIELD_NUMBER = 2;
-    private java.lang.Object id_;
+    // repeated fixed64 NumAckIds = 2 [packed = true];
+    public static final int NUMACKIDS_FIELD_NUMBER = 2;
+    private java.util.List<java.lang.Long> numAckIds_;
     /**
-     * <code>optional string Id = 2;</code>
+     * <code>repeated fixed64 NumAckIds = 2 [packed = true];</code>
      */
-    public boolean hasId() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
+    public java.util.List<java.lang.Long>
+        getNumAckIdsList() {
+      return numAckIds_;
     }
     /**
-     * <code>optional string Id = 2;</code>
+     * <code>repeated fixed64 NumAckIds = 2 [packed = true];</code>
      */
-    public java.lang.String getId() {
-      java.lang.Object ref = id_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          id_ = s;
-        }
-        return s;
-      }
+    public int getNumAckIdsCount() {
+      return numAckIds_.size();
     }
     /**
-     * <code>optional string Id = 2;</code>
+     * <code>repeated fixed64 NumAckIds = 2 [packed = true];</code>
+     */
+    public long getNumAckIds(int index) {
+      return numAckIds_.get(index);
+    }
+    private int numAckIdsMemoizedSerializedSize = -1;
+
+    // repeated string FailIds = 3;
+    public static final int FAILIDS_FIELD_NUMBER = 3;
+    private com.google.protobuf.LazyStringList failIds_;
+    /**
+     * <code>repeated string FailIds = 3;</code>
+     */
+    public java.util.List<java.lang.String>
+        getFailIdsList() {
+      return failIds_;
+    }
+    /**
+     * <code>repeated string FailIds = 3;</code>
+     */
+    public int getFailIdsCount() {
+      return failIds_.size();
+    }
+    /**
+     * <code>repeated string FailIds = 3;</code>
+     */
+    public java.lang.String getFailIds(int index) {
+      return failIds_.get(index);
+    }
+    /**
+     * <code>repeated string FailIds = 3;</code>
      */
     public com.google.protobuf.ByteString
-        getIdBytes() {
-      java.lang.Object ref = id_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        id_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+        getFailIdsBytes(int index) {
+      return failIds_.getByteString(index);
+    }
+
+    // repeated fixed64 NumFailIds = 4 [packed = true];
+    public static final int NUMFAILIDS_FIELD_NUMBER = 4;
+    private java.util.List<java.lang.Long> numFailIds_;
+    /**
+     * <code>repeated fixed64 NumFailIds = 4 [packed = true];</code>
+     */
+    public java.util.List<java.lang.Long>
+        getNumFailIdsList() {
+      return numFailIds_;
+    }
+    /**
+     * <code>repeated fixed64 NumFailIds = 4 [packed = true];</code>
+     */
+    public int getNumFailIdsCount() {
+      return numFailIds_.size();
+    }
+    /**
+     * <code>repeated fixed64 NumFailIds = 4 [packed = true];</code>
+     */
+    public long getNumFailIds(int index) {
+      return numFailIds_.get(index);
     }
+    private int numFailIdsMemoizedSerializedSize = -1;
 
     private void initFields() {
-      command_ = "";
-      id_ = "";
+      ackIds_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      numAckIds_ = java.util.Collections.emptyList();
+      failIds_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      numFailIds_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -5667,11 +14213,25 @@ public final class ShellMessages {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getCommandBytes());
+      for (int i = 0; i < ackIds_.size(); i++) {
+        output.writeBytes(1, ackIds_.getByteString(i));
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getIdBytes());
+      if (getNumAckIdsList().size() > 0) {
+        output.writeRawVarint32(18);
+        output.writeRawVarint32(numAckIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < numAckIds_.size(); i++) {
+        output.writeFixed64NoTag(numAckIds_.get(i));
+      }
+      for (int i = 0; i < failIds_.size(); i++) {
+        output.writeBytes(3, failIds_.getByteString(i));
+      }
+      if (getNumFailIdsList().size() > 0) {
+        output.writeRawVarint32(34);
+        output.writeRawVarint32(numFailIdsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < numFailIds_.size(); i++) {
+        output.writeFixed64NoTag(numFailIds_.get(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -5682,13 +14242,45 @@ public final class ShellMessages {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getCommandBytes());
+      {
+        int dataSize = 0;
+        for (int i = 0; i < ackIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(ackIds_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getAckIdsList().size();
       }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getIdBytes());
+      {
+        int dataSize = 0;
+        dataSize = 8 * getNumAckIdsList().size();
+        size += dataSize;
+        if (!getNumAckIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        numAckIdsMemoizedSerializedSize = dataSize;
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < failIds_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(failIds_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getFailIdsList().size();
+      }
+      {
+        int dataSize = 0;
+        dataSize = 8 * getNumFailIdsList().size();
+        size += dataSize;
+        if (!getNumFailIdsList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        numFailIdsMemoizedSerializedSize = dataSize;
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -5702,53 +14294,53 @@ public final class ShellMessages {
       return super.writeReplace();
     }
 
-    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.AckBatch parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.AckBatch parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseFrom(byte[] data)
+    public static com.github.jsgilmore.protoshell.ShellMessages.AckBatch parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.AckBatch parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.AckBatch parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.AckBatch parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseDelimitedFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.AckBatch parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseDelimitedFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.AckBatch parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.AckBatch parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.AckBatch parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5757,7 +14349,7 @@ public final class ShellMessages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg prototype) {
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.AckBatch prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -5769,24 +14361,24 @@ public final class ShellMessages {
       return builder;
     }
     /**
-     * Protobuf type {@code messages.SpoutMsg}
+     * Protobuf type {@code messages.AckBatch}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements com.github.jsgilmore.protoshell.ShellMessages.SpoutMsgOrBuilder {
+       implements com.github.jsgilmore.protoshell.ShellMessages.AckBatchOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_SpoutMsg_descriptor;
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_AckBatch_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_SpoutMsg_fieldAccessorTable
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_AckBatch_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg.class, com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg.Builder.class);
+                com.github.jsgilmore.protoshell.ShellMessages.AckBatch.class, com.github.jsgilmore.protoshell.ShellMessages.AckBatch.Builder.class);
       }
 
-      // Construct using com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg.newBuilder()
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.AckBatch.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5806,10 +14398,14 @@ public final class ShellMessages {
 
       public Builder clear() {
         super.clear();
-        command_ = "";
+        ackIds_ = com.google.protobuf.LazyStringArrayList.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000001);
-        id_ = "";
+        numAckIds_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000002);
+        failIds_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        numFailIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
@@ -5819,57 +14415,99 @@ public final class ShellMessages {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_SpoutMsg_descriptor;
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_AckBatch_descriptor;
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg getDefaultInstanceForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg.getDefaultInstance();
+      public com.github.jsgilmore.protoshell.ShellMessages.AckBatch getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.AckBatch.getDefaultInstance();
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg build() {
-        com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg result = buildPartial();
+      public com.github.jsgilmore.protoshell.ShellMessages.AckBatch build() {
+        com.github.jsgilmore.protoshell.ShellMessages.AckBatch result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg buildPartial() {
-        com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg result = new com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg(this);
+      public com.github.jsgilmore.protoshell.ShellMessages.AckBatch buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.AckBatch result = new com.github.jsgilmore.protoshell.ShellMessages.AckBatch(this);
         int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
+        if (((bitField0_ & 0x00000001) == 0x00000001)) {
+          ackIds_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              ackIds_);
+          bitField0_ = (bitField0_ & ~0x00000001);
         }
-        result.command_ = command_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
+        result.ackIds_ = ackIds_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          numAckIds_ = java.util.Collections.unmodifiableList(numAckIds_);
+          bitField0_ = (bitField0_ & ~0x00000002);
         }
-        result.id_ = id_;
-        result.bitField0_ = to_bitField0_;
+        result.numAckIds_ = numAckIds_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          failIds_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              failIds_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.failIds_ = failIds_;
+        if (((bitField0_ & 0x00000008) == 0x00000008)) {
+          numFailIds_ = java.util.Collections.unmodifiableList(numFailIds_);
+          bitField0_ = (bitField0_ & ~0x00000008);
+        }
+        result.numFailIds_ = numFailIds_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg) {
-          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg)other);
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.AckBatch) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.AckBatch)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg other) {
-        if (other == com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg.getDefaultInstance()) return this;
-        if (other.hasCommand()) {
-          bitField0_ |= 0x00000001;
-          command_ = other.command_;
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.AckBatch other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.AckBatch.getDefaultInstance()) return this;
+        if (!other.ackIds_.isEmpty()) {
+          if (ackIds_.isEmpty()) {
+            ackIds_ = other.ackIds_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureAckIdsIsMutable();
+            ackIds_.addAll(other.ackIds_);
+          }
           onChanged();
         }
-        if (other.hasId()) {
-          bitField0_ |= 0x00000002;
-          id_ = other.id_;
+        if (!other.numAckIds_.isEmpty()) {
+          if (numAckIds_.isEmpty()) {
+            numAckIds_ = other.numAckIds_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureNumAckIdsIsMutable();
+            numAckIds_.addAll(other.numAckIds_);
+          }
+          onChanged();
+        }
+        if (!other.failIds_.isEmpty()) {
+          if (failIds_.isEmpty()) {
+            failIds_ = other.failIds_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureFailIdsIsMutable();
+            failIds_.addAll(other.failIds_);
+          }
+          onChanged();
+        }
+        if (!other.numFailIds_.isEmpty()) {
+          if (numFailIds_.isEmpty()) {
+            numFailIds_ = other.numFailIds_;
+            bitField0_ = (bitField0_ & ~0x00000008);
+          } else {
+            ensureNumFailIdsIsMutable();
+            numFailIds_.addAll(other.numFailIds_);
+          }
           onChanged();
         }
         this.mergeUnknownFields(other.getUnknownFields());
@@ -5884,11 +14522,11 @@ public final class ShellMessages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg parsedMessage = null;
+        com.github.jsgilmore.protoshell.ShellMessages.AckBatch parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.SpoutMsg) e.getUnfinishedMessage();
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.AckBatch) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -5899,287 +14537,399 @@ public final class ShellMessages {
       }
       private int bitField0_;
 
-      // optional string Command = 1;
-      private java.lang.Object command_ = "";
+      // repeated string AckIds = 1;
+      private com.google.protobuf.LazyStringList ackIds_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureAckIdsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          ackIds_ = new com.google.protobuf.LazyStringArrayList(ackIds_);
+          bitField0_ |= 0x00000001;
+         }
+      }
       /**
-       * <code>optional string Command = 1;</code>
+       * <code>repeated string AckIds = 1;</code>
        */
-      public boolean hasCommand() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public java.util.List<java.lang.String>
+          getAckIdsList() {
+        return java.util.Collections.unmodifiableList(ackIds_);
       }
       /**
-       * <code>optional string Command = 1;</code>
+       * <code>repeated string AckIds = 1;</code>
        */
-      public java.lang.String getCommand() {
-        java.lang.Object ref = command_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          command_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public int getAckIdsCount() {
+        return ackIds_.size();
       }
       /**
-       * <code>optional string Command = 1;</code>
+       * <code>repeated string AckIds = 1;</code>
+       */
+      public java.lang.String getAckIds(int index) {
+        return ackIds_.get(index);
+      }
+      /**
+       * <code>repeated string AckIds = 1;</code>
        */
       public com.google.protobuf.ByteString
-          getCommandBytes() {
-        java.lang.Object ref = command_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          command_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+          getAckIdsBytes(int index) {
+        return ackIds_.getByteString(index);
       }
       /**
-       * <code>optional string Command = 1;</code>
+       * <code>repeated string AckIds = 1;</code>
        */
-      public Builder setCommand(
+      public Builder setAckIds(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureAckIdsIsMutable();
+        ackIds_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string AckIds = 1;</code>
+       */
+      public Builder addAckIds(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000001;
-        command_ = value;
+  ensureAckIdsIsMutable();
+        ackIds_.add(value);
         onChanged();
         return this;
       }
       /**
-       * <code>optional string Command = 1;</code>
+       * <code>repeated string AckIds = 1;</code>
        */
-      public Builder clearCommand() {
+      public Builder addAllAckIds(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureAckIdsIsMutable();
+        super.addAll(values, ackIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string AckIds = 1;</code>
+       */
+      public Builder clearAckIds() {
+        ackIds_ = com.google.protobuf.LazyStringArrayList.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000001);
-        command_ = getDefaultInstance().getCommand();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string Command = 1;</code>
+       * <code>repeated string AckIds = 1;</code>
        */
-      public Builder setCommandBytes(
+      public Builder addAckIdsBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000001;
-        command_ = value;
+  ensureAckIdsIsMutable();
+        ackIds_.add(value);
         onChanged();
         return this;
       }
 
-      // optional string Id = 2;
-      private java.lang.Object id_ = "";
+      // repeated fixed64 NumAckIds = 2 [packed = true];
+      private java.util.List<java.lang.Long> numAckIds_ = java.util.Collections.emptyList();
+      private void ensureNumAckIdsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          numAckIds_ = new java.util.ArrayList<java.lang.Long>(numAckIds_);
+          bitField0_ |= 0x00000002;
+         }
+      }
       /**
-       * <code>optional string Id = 2;</code>
+       * <code>repeated fixed64 NumAckIds = 2 [packed = true];</code>
        */
-      public boolean hasId() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
+      public java.util.List<java.lang.Long>
+          getNumAckIdsList() {
+        return java.util.Collections.unmodifiableList(numAckIds_);
       }
       /**
-       * <code>optional string Id = 2;</code>
+       * <code>repeated fixed64 NumAckIds = 2 [packed = true];</code>
        */
-      public java.lang.String getId() {
-        java.lang.Object ref = id_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          id_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public int getNumAckIdsCount() {
+        return numAckIds_.size();
       }
       /**
-       * <code>optional string Id = 2;</code>
+       * <code>repeated fixed64 NumAckIds = 2 [packed = true];</code>
+       */
+      public long getNumAckIds(int index) {
+        return numAckIds_.get(index);
+      }
+      /**
+       * <code>repeated fixed64 NumAckIds = 2 [packed = true];</code>
+       */
+      public Builder setNumAckIds(
+          int index, long value) {
+        ensureNumAckIdsIsMutable();
+        numAckIds_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed64 NumAckIds = 2 [packed = true];</code>
+       */
+      public Builder addNumAckIds(long value) {
+        ensureNumAckIdsIsMutable();
+        numAckIds_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed64 NumAckIds = 2 [packed = true];</code>
+       */
+      public Builder addAllNumAckIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureNumAckIdsIsMutable();
+        super.addAll(values, numAckIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed64 NumAckIds = 2 [packed = true];</code>
+       */
+      public Builder clearNumAckIds() {
+        numAckIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+
+      // repeated string FailIds = 3;
+      private com.google.protobuf.LazyStringList failIds_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureFailIdsIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          failIds_ = new com.google.protobuf.LazyStringArrayList(failIds_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated string FailIds = 3;</code>
+       */
+      public java.util.List<java.lang.String>
+          getFailIdsList() {
+        return java.util.Collections.unmodifiableList(failIds_);
+      }
+      /**
+       * <code>repeated string FailIds = 3;</code>
+       */
+      public int getFailIdsCount() {
+        return failIds_.size();
+      }
+      /**
+       * <code>repeated string FailIds = 3;</code>
+       */
+      public java.lang.String getFailIds(int index) {
+        return failIds_.get(index);
+      }
+      /**
+       * <code>repeated string FailIds = 3;</code>
        */
       public com.google.protobuf.ByteString
-          getIdBytes() {
-        java.lang.Object ref = id_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          id_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+          getFailIdsBytes(int index) {
+        return failIds_.getByteString(index);
       }
       /**
-       * <code>optional string Id = 2;</code>
+       * <code>repeated string FailIds = 3;</code>
        */
-      public Builder setId(
+      public Builder setFailIds(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureFailIdsIsMutable();
+        failIds_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string FailIds = 3;</code>
+       */
+      public Builder addFailIds(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000002;
-        id_ = value;
+  ensureFailIdsIsMutable();
+        failIds_.add(value);
         onChanged();
         return this;
       }
       /**
-       * <code>optional string Id = 2;</code>
+       * <code>repeated string FailIds = 3;</code>
        */
-      public Builder clearId() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        id_ = getDefaultInstance().getId();
+      public Builder addAllFailIds(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureFailIdsIsMutable();
+        super.addAll(values, failIds_);
         onChanged();
         return this;
       }
       /**
-       * <code>optional string Id = 2;</code>
+       * <code>repeated string FailIds = 3;</code>
        */
-      public Builder setIdBytes(
+      public Builder clearFailIds() {
+        failIds_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string FailIds = 3;</code>
+       */
+      public Builder addFailIdsBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000002;
-        id_ = value;
+  ensureFailIdsIsMutable();
+        failIds_.add(value);
         onChanged();
         return this;
       }
 
-      // @@protoc_insertion_point(builder_scope:messages.SpoutMsg)
-    }
-
-    static {
-      defaultInstance = new SpoutMsg(true);
-      defaultInstance.initFields();
-    }
-
-    // @@protoc_insertion_point(class_scope:messages.SpoutMsg)
-  }
-
-  public interface ShellMsgMetaOrBuilder
-      extends com.google.protobuf.MessageOrBuilder {
-
-    // optional string Command = 1;
-    /**
-     * <code>optional string Command = 1;</code>
-     */
-    boolean hasCommand();
-    /**
-     * <code>optional string Command = 1;</code>
-     */
-    java.lang.String getCommand();
-    /**
-     * <code>optional string Command = 1;</code>
-     */
-    com.google.protobuf.ByteString
-        getCommandBytes();
-
-    // optional string Id = 2;
-    /**
-     * <code>optional string Id = 2;</code>
-     */
-    boolean hasId();
-    /**
-     * <code>optional string Id = 2;</code>
-     */
-    java.lang.String getId();
-    /**
-     * <code>optional string Id = 2;</code>
-     */
-    com.google.protobuf.ByteString
-        getIdBytes();
-
-    // repeated string Anchors = 3;
-    /**
-     * <code>repeated string Anchors = 3;</code>
-     */
-    java.util.List<java.lang.String>
-    getAnchorsList();
-    /**
-     * <code>repeated string Anchors = 3;</code>
-     */
-    int getAnchorsCount();
-    /**
-     * <code>repeated string Anchors = 3;</code>
-     */
-    java.lang.String getAnchors(int index);
-    /**
-     * <code>repeated string Anchors = 3;</code>
-     */
-    com.google.protobuf.ByteString
-        getAnchorsBytes(int index);
+      // repeated fixed64 NumFailIds = 4 [packed = true];
+      private java.util.List<java.lang.Long> numFailIds_ = java.util.Collections.emptyList();
+      private void ensureNumFailIdsIsMutable() {
+        if (!((bitField0_ & 0x00000008) == 0x00000008)) {
+          numFailIds_ = new java.util.ArrayList<java.lang.Long>(numFailIds_);
+          bitField0_ |= 0x00000008;
+         }
+      }
+      /**
+       * <code>repeated fixed64 NumFailIds = 4 [packed = true];</code>
+       */
+      public java.util.List<java.lang.Long>
+          getNumFailIdsList() {
+        return java.util.Collections.unmodifiableList(numFailIds_);
+      }
+      /**
+       * <code>repeated fixed64 NumFailIds = 4 [packed = true];</code>
+       */
+      public int getNumFailIdsCount() {
+        return numFailIds_.size();
+      }
+      /**
+       * <code>repeated fixed64 NumFailIds = 4 [packed = true];</code>
+       */
+      public long getNumFailIds(int index) {
+        return numFailIds_.get(index);
+      }
+      /**
+       * <code>repeated fixed64 NumFailIds = 4 [packed = true];</code>
+       */
+      public Builder setNumFailIds(
+          int index, long value) {
+        ensureNumFailIdsIsMutable();
+        numFailIds_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed64 NumFailIds = 4 [packed = true];</code>
+       */
+      public Builder addNumFailIds(long value) {
+        ensureNumFailIdsIsMutable();
+        numFailIds_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed64 NumFailIds = 4 [packed = true];</code>
+       */
+      public Builder addAllNumFailIds(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureNumFailIdsIsMutable();
+        super.addAll(values, numFailIds_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated fixed64 NumFailIds = 4 [packed = true];</code>
+       */
+      public Builder clearNumFailIds() {
+        numFailIds_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000008);
+        onChanged();
+        return this;
+      }
 
-    // optional string Stream = 4;
+      // @@protoc_insertion_point(builder_scope:messages.AckBatch)
+    }
+
+    static {
+      defaultInstance = new AckBatch(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:messages.AckBatch)
+  }
+
+  public interface ShellMsgProtoOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional .messages.ShellMsgMeta ShellMsgMeta = 1;
     /**
-     * <code>optional string Stream = 4;</code>
+     * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
      */
-    boolean hasStream();
+    boolean hasShellMsgMeta();
     /**
-     * <code>optional string Stream = 4;</code>
+     * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
      */
-    java.lang.String getStream();
+    com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta getShellMsgMeta();
     /**
-     * <code>optional string Stream = 4;</code>
+     * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
      */
-    com.google.protobuf.ByteString
-        getStreamBytes();
+    com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMetaOrBuilder getShellMsgMetaOrBuilder();
 
-    // optional int64 Task = 5;
-    /**
-     * <code>optional int64 Task = 5;</code>
-     */
-    boolean hasTask();
+    // repeated bytes Contents = 2;
     /**
-     * <code>optional int64 Task = 5;</code>
+     * <code>repeated bytes Contents = 2;</code>
      */
-    long getTask();
-
-    // optional bool NeedTaskIds = 6;
+    java.util.List<com.google.protobuf.ByteString> getContentsList();
     /**
-     * <code>optional bool NeedTaskIds = 6;</code>
+     * <code>repeated bytes Contents = 2;</code>
      */
-    boolean hasNeedTaskIds();
+    int getContentsCount();
     /**
-     * <code>optional bool NeedTaskIds = 6;</code>
+     * <code>repeated bytes Contents = 2;</code>
      */
-    boolean getNeedTaskIds();
+    com.google.protobuf.ByteString getContents(int index);
 
-    // optional string Msg = 7;
+    // optional .messages.AckBatch AckBatch = 3;
     /**
-     * <code>optional string Msg = 7;</code>
+     * <code>optional .messages.AckBatch AckBatch = 3;</code>
      */
-    boolean hasMsg();
+    boolean hasAckBatch();
     /**
-     * <code>optional string Msg = 7;</code>
+     * <code>optional .messages.AckBatch AckBatch = 3;</code>
      */
-    java.lang.String getMsg();
+    com.github.jsgilmore.protoshell.ShellMessages.AckBatch getAckBatch();
     /**
-     * <code>optional string Msg = 7;</code>
+     * <code>optional .messages.AckBatch AckBatch = 3;</code>
      */
-    com.google.protobuf.ByteString
-        getMsgBytes();
+    com.github.jsgilmore.protoshell.ShellMessages.AckBatchOrBuilder getAckBatchOrBuilder();
   }
   /**
-   * Protobuf type {@code messages.ShellMsgMeta}
+   * Protobuf type {@code messages.ShellMsgProto}
    */
-  public static final class ShellMsgMeta extends
+  public static final class ShellMsgProto extends
       com.google.protobuf.GeneratedMessage
-      implements ShellMsgMetaOrBuilder {
-    // Use ShellMsgMeta.newBuilder() to construct.
-    private ShellMsgMeta(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements ShellMsgProtoOrBuilder {
+    // Use ShellMsgProto.newBuilder() to construct.
+    private ShellMsgProto(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private ShellMsgMeta(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private ShellMsgProto(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final ShellMsgMeta defaultInstance;
-    public static ShellMsgMeta getDefaultInstance() {
+    private static final ShellMsgProto defaultInstance;
+    public static ShellMsgProto getDefaultInstance() {
       return defaultInstance;
     }
 
-    public ShellMsgMeta getDefaultInstanceForType() {
+    public ShellMsgProto getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -6189,7 +14939,7 @@ public final class ShellMessages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private ShellMsgMeta(
+    private ShellMsgProto(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -6213,41 +14963,37 @@ public final class ShellMessages {
               break;
             }
             case 10: {
+              com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) == 0x00000001)) {
+                subBuilder = shellMsgMeta_.toBuilder();
+              }
+              shellMsgMeta_ = input.readMessage(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(shellMsgMeta_);
+                shellMsgMeta_ = subBuilder.buildPartial();
+              }
               bitField0_ |= 0x00000001;
-              command_ = input.readBytes();
               break;
             }
             case 18: {
-              bitField0_ |= 0x00000002;
-              id_ = input.readBytes();
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                contents_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              contents_.add(input.readBytes());
               break;
             }
             case 26: {
-              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-                anchors_ = new com.google.protobuf.LazyStringArrayList();
-                mutable_bitField0_ |= 0x00000004;
+              com.github.jsgilmore.protoshell.ShellMessages.AckBatch.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000002) == 0x00000002)) {
+                subBuilder = ackBatch_.toBuilder();
               }
-              anchors_.add(input.readBytes());
-              break;
-            }
-            case 34: {
-              bitField0_ |= 0x00000004;
-              stream_ = input.readBytes();
-              break;
-            }
-            case 40: {
-              bitField0_ |= 0x00000008;
-              task_ = input.readInt64();
-              break;
-            }
-            case 48: {
-              bitField0_ |= 0x00000010;
-              needTaskIds_ = input.readBool();
-              break;
-            }
-            case 58: {
-              bitField0_ |= 0x00000020;
-              msg_ = input.readBytes();
+              ackBatch_ = input.readMessage(com.github.jsgilmore.protoshell.ShellMessages.AckBatch.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(ackBatch_);
+                ackBatch_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000002;
               break;
             }
           }
@@ -6258,8 +15004,8 @@ public final class ShellMessages {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
-          anchors_ = new com.google.protobuf.UnmodifiableLazyStringList(anchors_);
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          contents_ = java.util.Collections.unmodifiableList(contents_);
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -6267,274 +15013,103 @@ public final class ShellMessages {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgMeta_descriptor;
-    }
-
-    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgMeta_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.class, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.Builder.class);
-    }
-
-    public static com.google.protobuf.Parser<ShellMsgMeta> PARSER =
-        new com.google.protobuf.AbstractParser<ShellMsgMeta>() {
-      public ShellMsgMeta parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ShellMsgMeta(input, extensionRegistry);
-      }
-    };
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<ShellMsgMeta> getParserForType() {
-      return PARSER;
-    }
-
-    private int bitField0_;
-    // optional string Command = 1;
-    public static final int COMMAND_FIELD_NUMBER = 1;
-    private java.lang.Object command_;
-    /**
-     * <code>optional string Command = 1;</code>
-     */
-    public boolean hasCommand() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
-    /**
-     * <code>optional string Command = 1;</code>
-     */
-    public java.lang.String getCommand() {
-      java.lang.Object ref = command_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          command_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>optional string Command = 1;</code>
-     */
-    public com.google.protobuf.ByteString
-        getCommandBytes() {
-      java.lang.Object ref = command_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        command_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    // optional string Id = 2;
-    public static final int ID_FIELD_NUMBER = 2;
-    private java.lang.Object id_;
-    /**
-     * <code>optional string Id = 2;</code>
-     */
-    public boolean hasId() {
-      return ((bitField0_ & 0x00000002) == 0x00000002);
-    }
-    /**
-     * <code>optional string Id = 2;</code>
-     */
-    public java.lang.String getId() {
-      java.lang.Object ref = id_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          id_ = s;
-        }
-        return s;
-      }
-    }
-    /**
-     * <code>optional string Id = 2;</code>
-     */
-    public com.google.protobuf.ByteString
-        getIdBytes() {
-      java.lang.Object ref = id_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        id_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    // repeated string Anchors = 3;
-    public static final int ANCHORS_FIELD_NUMBER = 3;
-    private com.google.protobuf.LazyStringList anchors_;
-    /**
-     * <code>repeated string Anchors = 3;</code>
-     */
-    public java.util.List<java.lang.String>
-        getAnchorsList() {
-      return anchors_;
-    }
-    /**
-     * <code>repeated string Anchors = 3;</code>
-     */
-    public int getAnchorsCount() {
-      return anchors_.size();
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgProto_descriptor;
     }
-    /**
-     * <code>repeated string Anchors = 3;</code>
-     */
-    public java.lang.String getAnchors(int index) {
-      return anchors_.get(index);
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgProto_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.class, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.Builder.class);
     }
-    /**
-     * <code>repeated string Anchors = 3;</code>
-     */
-    public com.google.protobuf.ByteString
-        getAnchorsBytes(int index) {
-      return anchors_.getByteString(index);
+
+    public static com.google.protobuf.Parser<ShellMsgProto> PARSER =
+        new com.google.protobuf.AbstractParser<ShellMsgProto>() {
+      public ShellMsgProto parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ShellMsgProto(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ShellMsgProto> getParserForType() {
+      return PARSER;
     }
 
-    // optional string Stream = 4;
-    public static final int STREAM_FIELD_NUMBER = 4;
-    private java.lang.Object stream_;
+    private int bitField0_;
+    // optional .messages.ShellMsgMeta ShellMsgMeta = 1;
+    public static final int SHELLMSGMETA_FIELD_NUMBER = 1;
+    private com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta shellMsgMeta_;
     /**
-     * <code>optional string Stream = 4;</code>
+     * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
      */
-    public boolean hasStream() {
-      return ((bitField0_ & 0x00000004) == 0x00000004);
+    public boolean hasShellMsgMeta() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
     }
     /**
-     * <code>optional string Stream = 4;</code>
+     * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
      */
-    public java.lang.String getStream() {
-      java.lang.Object ref = stream_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          stream_ = s;
-        }
-        return s;
-      }
+    public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta getShellMsgMeta() {
+      return shellMsgMeta_;
     }
     /**
-     * <code>optional string Stream = 4;</code>
+     * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
      */
-    public com.google.protobuf.ByteString
-        getStreamBytes() {
-      java.lang.Object ref = stream_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        stream_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMetaOrBuilder getShellMsgMetaOrBuilder() {
+      return shellMsgMeta_;
     }
 
-    // optional int64 Task = 5;
-    public static final int TASK_FIELD_NUMBER = 5;
-    private long task_;
-    /**
-     * <code>optional int64 Task = 5;</code>
-     */
-    public boolean hasTask() {
-      return ((bitField0_ & 0x00000008) == 0x00000008);
-    }
+    // repeated bytes Contents = 2;
+    public static final int CONTENTS_FIELD_NUMBER = 2;
+    private java.util.List<com.google.protobuf.ByteString> contents_;
     /**
-     * <code>optional int64 Task = 5;</code>
+     * <code>repeated bytes Contents = 2;</code>
      */
-    public long getTask() {
-      return task_;
+    public java.util.List<com.google.protobuf.ByteString>
+        getContentsList() {
+      return contents_;
     }
-
-    // optional bool NeedTaskIds = 6;
-    public static final int NEEDTASKIDS_FIELD_NUMBER = 6;
-    private boolean needTaskIds_;
     /**
-     * <code>optional bool NeedTaskIds = 6;</code>
+     * <code>repeated bytes Contents = 2;</code>
      */
-    public boolean hasNeedTaskIds() {
-      return ((bitField0_ & 0x00000010) == 0x00000010);
+    public int getContentsCount() {
+      return contents_.size();
     }
     /**
-     * <code>optional bool NeedTaskIds = 6;</code>
+     * <code>repeated bytes Contents = 2;</code>
      */
-    public boolean getNeedTaskIds() {
-      return needTaskIds_;
+    public com.google.protobuf.ByteString getContents(int index) {
+      return contents_.get(index);
     }
 
-    // optional string Msg = 7;
-    public static final int MSG_FIELD_NUMBER = 7;
-    private java.lang.Object msg_;
+    // optional .messages.AckBatch AckBatch = 3;
+    public static final int ACKBATCH_FIELD_NUMBER = 3;
+    private com.github.jsgilmore.protoshell.ShellMessages.AckBatch ackBatch_;
     /**
-     * <code>optional string Msg = 7;</code>
+     * <code>optional .messages.AckBatch AckBatch = 3;</code>
      */
-    public boolean hasMsg() {
-      return ((bitField0_ & 0x00000020) == 0x00000020);
+    public boolean hasAckBatch() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
     }
     /**
-     * <code>optional string Msg = 7;</code>
+     * <code>optional .messages.AckBatch AckBatch = 3;</code>
      */
-    public java.lang.String getMsg() {
-      java.lang.Object ref = msg_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        if (bs.isValidUtf8()) {
-          msg_ = s;
-        }
-        return s;
-      }
+    public com.github.jsgilmore.protoshell.ShellMessages.AckBatch getAckBatch() {
+      return ackBatch_;
     }
     /**
-     * <code>optional string Msg = 7;</code>
+     * <code>optional .messages.AckBatch AckBatch = 3;</code>
      */
-    public com.google.protobuf.ByteString
-        getMsgBytes() {
-      java.lang.Object ref = msg_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        msg_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+    public com.github.jsgilmore.protoshell.ShellMessages.AckBatchOrBuilder getAckBatchOrBuilder() {
+      return ackBatch_;
     }
 
     private void initFields() {
-      command_ = "";
-      id_ = "";
-      anchors_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      stream_ = "";
-      task_ = 0L;
-      needTaskIds_ = false;
-      msg_ = "";
+      shellMsgMeta_ = com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.getDefaultInstance();
+      contents_ = java.util.Collections.emptyList();
+      ackBatch_ = com.github.jsgilmore.protoshell.ShellMessages.AckBatch.getDefaultInstance();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -6549,25 +15124,13 @@ public final class ShellMessages {
                         throws java.io.IOException {
       getSerializedSize();
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeBytes(1, getCommandBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        output.writeBytes(2, getIdBytes());
-      }
-      for (int i = 0; i < anchors_.size(); i++) {
-        output.writeBytes(3, anchors_.getByteString(i));
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        output.writeBytes(4, getStreamBytes());
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        output.writeInt64(5, task_);
+        output.writeMessage(1, shellMsgMeta_);
       }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        output.writeBool(6, needTaskIds_);
+      for (int i = 0; i < contents_.size(); i++) {
+        output.writeBytes(2, contents_.get(i));
       }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
-        output.writeBytes(7, getMsgBytes());
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeMessage(3, ackBatch_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -6580,36 +15143,20 @@ public final class ShellMessages {
       size = 0;
       if (((bitField0_ & 0x00000001) == 0x00000001)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(1, getCommandBytes());
-      }
-      if (((bitField0_ & 0x00000002) == 0x00000002)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(2, getIdBytes());
+          .computeMessageSize(1, shellMsgMeta_);
       }
       {
         int dataSize = 0;
-        for (int i = 0; i < anchors_.size(); i++) {
+        for (int i = 0; i < contents_.size(); i++) {
           dataSize += com.google.protobuf.CodedOutputStream
-            .computeBytesSizeNoTag(anchors_.getByteString(i));
+            .computeBytesSizeNoTag(contents_.get(i));
         }
         size += dataSize;
-        size += 1 * getAnchorsList().size();
-      }
-      if (((bitField0_ & 0x00000004) == 0x00000004)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(4, getStreamBytes());
-      }
-      if (((bitField0_ & 0x00000008) == 0x00000008)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(5, task_);
-      }
-      if (((bitField0_ & 0x00000010) == 0x00000010)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeBoolSize(6, needTaskIds_);
+        size += 1 * getContentsList().size();
       }
-      if (((bitField0_ & 0x00000020) == 0x00000020)) {
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
         size += com.google.protobuf.CodedOutputStream
-          .computeBytesSize(7, getMsgBytes());
+          .computeMessageSize(3, ackBatch_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -6623,53 +15170,53 @@ public final class ShellMessages {
       return super.writeReplace();
     }
 
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseFrom(byte[] data)
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseDelimitedFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseDelimitedFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6678,7 +15225,7 @@ public final class ShellMessages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta prototype) {
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -6690,24 +15237,24 @@ public final class ShellMessages {
       return builder;
     }
     /**
-     * Protobuf type {@code messages.ShellMsgMeta}
+     * Protobuf type {@code messages.ShellMsgProto}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMetaOrBuilder {
+       implements com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProtoOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgMeta_descriptor;
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgProto_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgMeta_fieldAccessorTable
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgProto_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.class, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.Builder.class);
+                com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.class, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.Builder.class);
       }
 
-      // Construct using com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.newBuilder()
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6719,6 +15266,8 @@ public final class ShellMessages {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getShellMsgMetaFieldBuilder();
+          getAckBatchFieldBuilder();
         }
       }
       private static Builder create() {
@@ -6727,20 +15276,20 @@ public final class ShellMessages {
 
       public Builder clear() {
         super.clear();
-        command_ = "";
+        if (shellMsgMetaBuilder_ == null) {
+          shellMsgMeta_ = com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.getDefaultInstance();
+        } else {
+          shellMsgMetaBuilder_.clear();
+        }
         bitField0_ = (bitField0_ & ~0x00000001);
-        id_ = "";
+        contents_ = java.util.Collections.emptyList();
         bitField0_ = (bitField0_ & ~0x00000002);
-        anchors_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000004);
-        stream_ = "";
-        bitField0_ = (bitField0_ & ~0x00000008);
-        task_ = 0L;
-        bitField0_ = (bitField0_ & ~0x00000010);
-        needTaskIds_ = false;
-        bitField0_ = (bitField0_ & ~0x00000020);
-        msg_ = "";
-        bitField0_ = (bitField0_ & ~0x00000040);
+        if (ackBatchBuilder_ == null) {
+          ackBatch_ = com.github.jsgilmore.protoshell.ShellMessages.AckBatch.getDefaultInstance();
+        } else {
+          ackBatchBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
@@ -6750,106 +15299,77 @@ public final class ShellMessages {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgMeta_descriptor;
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgProto_descriptor;
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta getDefaultInstanceForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.getDefaultInstance();
+      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.getDefaultInstance();
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta build() {
-        com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta result = buildPartial();
+      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto build() {
+        com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta buildPartial() {
-        com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta result = new com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta(this);
+      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto result = new com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
         if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.command_ = command_;
-        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
-          to_bitField0_ |= 0x00000002;
-        }
-        result.id_ = id_;
-        if (((bitField0_ & 0x00000004) == 0x00000004)) {
-          anchors_ = new com.google.protobuf.UnmodifiableLazyStringList(
-              anchors_);
-          bitField0_ = (bitField0_ & ~0x00000004);
-        }
-        result.anchors_ = anchors_;
-        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
-          to_bitField0_ |= 0x00000004;
+        if (shellMsgMetaBuilder_ == null) {
+          result.shellMsgMeta_ = shellMsgMeta_;
+        } else {
+          result.shellMsgMeta_ = shellMsgMetaBuilder_.build();
         }
-        result.stream_ = stream_;
-        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
-          to_bitField0_ |= 0x00000008;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          contents_ = java.util.Collections.unmodifiableList(contents_);
+          bitField0_ = (bitField0_ & ~0x00000002);
         }
-        result.task_ = task_;
-        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
-          to_bitField0_ |= 0x00000010;
+        result.contents_ = contents_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000002;
         }
-        result.needTaskIds_ = needTaskIds_;
-        if (((from_bitField0_ & 0x00000040) == 0x00000040)) {
-          to_bitField0_ |= 0x00000020;
+        if (ackBatchBuilder_ == null) {
+          result.ackBatch_ = ackBatch_;
+        } else {
+          result.ackBatch_ = ackBatchBuilder_.build();
         }
-        result.msg_ = msg_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta) {
-          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta)other);
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta other) {
-        if (other == com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.getDefaultInstance()) return this;
-        if (other.hasCommand()) {
-          bitField0_ |= 0x00000001;
-          command_ = other.command_;
-          onChanged();
-        }
-        if (other.hasId()) {
-          bitField0_ |= 0x00000002;
-          id_ = other.id_;
-          onChanged();
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.getDefaultInstance()) return this;
+        if (other.hasShellMsgMeta()) {
+          mergeShellMsgMeta(other.getShellMsgMeta());
         }
-        if (!other.anchors_.isEmpty()) {
-          if (anchors_.isEmpty()) {
-            anchors_ = other.anchors_;
-            bitField0_ = (bitField0_ & ~0x00000004);
+        if (!other.contents_.isEmpty()) {
+          if (contents_.isEmpty()) {
+            contents_ = other.contents_;
+            bitField0_ = (bitField0_ & ~0x00000002);
           } else {
-            ensureAnchorsIsMutable();
-            anchors_.addAll(other.anchors_);
+            ensureContentsIsMutable();
+            contents_.addAll(other.contents_);
           }
           onChanged();
         }
-        if (other.hasStream()) {
-          bitField0_ |= 0x00000008;
-          stream_ = other.stream_;
-          onChanged();
-        }
-        if (other.hasTask()) {
-          setTask(other.getTask());
-        }
-        if (other.hasNeedTaskIds()) {
-          setNeedTaskIds(other.getNeedTaskIds());
-        }
-        if (other.hasMsg()) {
-          bitField0_ |= 0x00000040;
-          msg_ = other.msg_;
-          onChanged();
+        if (other.hasAckBatch()) {
+          mergeAckBatch(other.getAckBatch());
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
@@ -6863,537 +15383,385 @@ public final class ShellMessages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta parsedMessage = null;
+        com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta) e.getUnfinishedMessage();
-          throw e;
-        } finally {
-          if (parsedMessage != null) {
-            mergeFrom(parsedMessage);
-          }
-        }
-        return this;
-      }
-      private int bitField0_;
-
-      // optional string Command = 1;
-      private java.lang.Object command_ = "";
-      /**
-       * <code>optional string Command = 1;</code>
-       */
-      public boolean hasCommand() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
-      }
-      /**
-       * <code>optional string Command = 1;</code>
-       */
-      public java.lang.String getCommand() {
-        java.lang.Object ref = command_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          command_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>optional string Command = 1;</code>
-       */
-      public com.google.protobuf.ByteString
-          getCommandBytes() {
-        java.lang.Object ref = command_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          command_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>optional string Command = 1;</code>
-       */
-      public Builder setCommand(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        command_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string Command = 1;</code>
-       */
-      public Builder clearCommand() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        command_ = getDefaultInstance().getCommand();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string Command = 1;</code>
-       */
-      public Builder setCommandBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        command_ = value;
-        onChanged();
-        return this;
-      }
-
-      // optional string Id = 2;
-      private java.lang.Object id_ = "";
-      /**
-       * <code>optional string Id = 2;</code>
-       */
-      public boolean hasId() {
-        return ((bitField0_ & 0x00000002) == 0x00000002);
-      }
-      /**
-       * <code>optional string Id = 2;</code>
-       */
-      public java.lang.String getId() {
-        java.lang.Object ref = id_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          id_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>optional string Id = 2;</code>
-       */
-      public com.google.protobuf.ByteString
-          getIdBytes() {
-        java.lang.Object ref = id_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          id_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>optional string Id = 2;</code>
-       */
-      public Builder setId(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        id_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string Id = 2;</code>
-       */
-      public Builder clearId() {
-        bitField0_ = (bitField0_ & ~0x00000002);
-        id_ = getDefaultInstance().getId();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string Id = 2;</code>
-       */
-      public Builder setIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000002;
-        id_ = value;
-        onChanged();
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
         return this;
       }
+      private int bitField0_;
 
-      // repeated string Anchors = 3;
-      private com.google.protobuf.LazyStringList anchors_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-      private void ensureAnchorsIsMutable() {
-        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
-          anchors_ = new com.google.protobuf.LazyStringArrayList(anchors_);
-          bitField0_ |= 0x00000004;
-         }
-      }
+      // optional .messages.ShellMsgMeta ShellMsgMeta = 1;
+      private com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta shellMsgMeta_ = com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.Builder, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMetaOrBuilder> shellMsgMetaBuilder_;
       /**
-       * <code>repeated string Anchors = 3;</code>
+       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
        */
-      public java.util.List<java.lang.String>
-          getAnchorsList() {
-        return java.util.Collections.unmodifiableList(anchors_);
+      public boolean hasShellMsgMeta() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
       }
       /**
-       * <code>repeated string Anchors = 3;</code>
+       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
        */
-      public int getAnchorsCount() {
-        return anchors_.size();
+      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta getShellMsgMeta() {
+        if (shellMsgMetaBuilder_ == null) {
+          return shellMsgMeta_;
+        } else {
+          return shellMsgMetaBuilder_.getMessage();
+        }
       }
       /**
-       * <code>repeated string Anchors = 3;</code>
+       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
        */
-      public java.lang.String getAnchors(int index) {
-        return anchors_.get(index);
+      public Builder setShellMsgMeta(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta value) {
+        if (shellMsgMetaBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          shellMsgMeta_ = value;
+          onChanged();
+        } else {
+          shellMsgMetaBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
       }
       /**
-       * <code>repeated string Anchors = 3;</code>
+       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
        */
-      public com.google.protobuf.ByteString
-          getAnchorsBytes(int index) {
-        return anchors_.getByteString(index);
+      public Builder setShellMsgMeta(
+          com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.Builder builderForValue) {
+        if (shellMsgMetaBuilder_ == null) {
+          shellMsgMeta_ = builderForValue.build();
+          onChanged();
+        } else {
+          shellMsgMetaBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
       }
       /**
-       * <code>repeated string Anchors = 3;</code>
+       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
        */
-      public Builder setAnchors(
-          int index, java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureAnchorsIsMutable();
-        anchors_.set(index, value);
-        onChanged();
+      public Builder mergeShellMsgMeta(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta value) {
+        if (shellMsgMetaBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001) &&
+              shellMsgMeta_ != com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.getDefaultInstance()) {
+            shellMsgMeta_ =
+              com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.newBuilder(shellMsgMeta_).mergeFrom(value).buildPartial();
+          } else {
+            shellMsgMeta_ = value;
+          }
+          onChanged();
+        } else {
+          shellMsgMetaBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>repeated string Anchors = 3;</code>
+       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
        */
-      public Builder addAnchors(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureAnchorsIsMutable();
-        anchors_.add(value);
-        onChanged();
+      public Builder clearShellMsgMeta() {
+        if (shellMsgMetaBuilder_ == null) {
+          shellMsgMeta_ = com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.getDefaultInstance();
+          onChanged();
+        } else {
+          shellMsgMetaBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
       /**
-       * <code>repeated string Anchors = 3;</code>
+       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
        */
-      public Builder addAllAnchors(
-          java.lang.Iterable<java.lang.String> values) {
-        ensureAnchorsIsMutable();
-        super.addAll(values, anchors_);
+      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.Builder getShellMsgMetaBuilder() {
+        bitField0_ |= 0x00000001;
         onChanged();
-        return this;
+        return getShellMsgMetaFieldBuilder().getBuilder();
       }
       /**
-       * <code>repeated string Anchors = 3;</code>
+       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
        */
-      public Builder clearAnchors() {
-        anchors_ = com.google.protobuf.LazyStringArrayList.EMPTY;
-        bitField0_ = (bitField0_ & ~0x00000004);
-        onChanged();
-        return this;
+      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMetaOrBuilder getShellMsgMetaOrBuilder() {
+        if (shellMsgMetaBuilder_ != null) {
+          return shellMsgMetaBuilder_.getMessageOrBuilder();
+        } else {
+          return shellMsgMeta_;
+        }
       }
       /**
-       * <code>repeated string Anchors = 3;</code>
+       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
        */
-      public Builder addAnchorsBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureAnchorsIsMutable();
-        anchors_.add(value);
-        onChanged();
-        return this;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.Builder, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMetaOrBuilder> 
+          getShellMsgMetaFieldBuilder() {
+        if (shellMsgMetaBuilder_ == null) {
+          shellMsgMetaBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.Builder, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMetaOrBuilder>(
+                  shellMsgMeta_,
+                  getParentForChildren(),
+                  isClean());
+          shellMsgMeta_ = null;
+        }
+        return shellMsgMetaBuilder_;
       }
 
-      // optional string Stream = 4;
-      private java.lang.Object stream_ = "";
+      // repeated bytes Contents = 2;
+      private java.util.List<com.google.protobuf.ByteString> contents_ = java.util.Collections.emptyList();
+      private void ensureContentsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          contents_ = new java.util.ArrayList<com.google.protobuf.ByteString>(contents_);
+          bitField0_ |= 0x00000002;
+         }
+      }
       /**
-       * <code>optional string Stream = 4;</code>
+       * <code>repeated bytes Contents = 2;</code>
        */
-      public boolean hasStream() {
-        return ((bitField0_ & 0x00000008) == 0x00000008);
+      public java.util.List<com.google.protobuf.ByteString>
+          getContentsList() {
+        return java.util.Collections.unmodifiableList(contents_);
       }
       /**
-       * <code>optional string Stream = 4;</code>
+       * <code>repeated bytes Contents = 2;</code>
        */
-      public java.lang.String getStream() {
-        java.lang.Object ref = stream_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          stream_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      public int getContentsCount() {
+        return contents_.size();
       }
       /**
-       * <code>optional string Stream = 4;</code>
+       * <code>repeated bytes Contents = 2;</code>
        */
-      public com.google.protobuf.ByteString
-          getStreamBytes() {
-        java.lang.Object ref = stream_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          stream_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+      public com.google.protobuf.ByteString getContents(int index) {
+        return contents_.get(index);
       }
       /**
-       * <code>optional string Stream = 4;</code>
+       * <code>repeated bytes Contents = 2;</code>
        */
-      public Builder setStream(
-          java.lang.String value) {
+      public Builder setContents(
+          int index, com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000008;
-        stream_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>optional string Stream = 4;</code>
-       */
-      public Builder clearStream() {
-        bitField0_ = (bitField0_ & ~0x00000008);
-        stream_ = getDefaultInstance().getStream();
+  ensureContentsIsMutable();
+        contents_.set(index, value);
         onChanged();
         return this;
       }
       /**
-       * <code>optional string Stream = 4;</code>
+       * <code>repeated bytes Contents = 2;</code>
        */
-      public Builder setStreamBytes(
-          com.google.protobuf.ByteString value) {
+      public Builder addContents(com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000008;
-        stream_ = value;
+  ensureContentsIsMutable();
+        contents_.add(value);
         onChanged();
         return this;
       }
-
-      // optional int64 Task = 5;
-      private long task_ ;
-      /**
-       * <code>optional int64 Task = 5;</code>
-       */
-      public boolean hasTask() {
-        return ((bitField0_ & 0x00000010) == 0x00000010);
-      }
-      /**
-       * <code>optional int64 Task = 5;</code>
-       */
-      public long getTask() {
-        return task_;
-      }
       /**
-       * <code>optional int64 Task = 5;</code>
+       * <code>repeated bytes Contents = 2;</code>
        */
-      public Builder setTask(long value) {
-        bitField0_ |= 0x00000010;
-        task_ = value;
+      public Builder addAllContents(
+          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
+        ensureContentsIsMutable();
+        super.addAll(values, contents_);
         onChanged();
         return this;
       }
       /**
-       * <code>optional int64 Task = 5;</code>
+       * <code>repeated bytes Contents = 2;</code>
        */
-      public Builder clearTask() {
-        bitField0_ = (bitField0_ & ~0x00000010);
-        task_ = 0L;
+      public Builder clearContents() {
+        contents_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000002);
         onChanged();
         return this;
       }
 
-      // optional bool NeedTaskIds = 6;
-      private boolean needTaskIds_ ;
+      // optional .messages.AckBatch AckBatch = 3;
+      private com.github.jsgilmore.protoshell.ShellMessages.AckBatch ackBatch_ = com.github.jsgilmore.protoshell.ShellMessages.AckBatch.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.AckBatch, com.github.jsgilmore.protoshell.ShellMessages.AckBatch.Builder, com.github.jsgilmore.protoshell.ShellMessages.AckBatchOrBuilder> ackBatchBuilder_;
       /**
-       * <code>optional bool NeedTaskIds = 6;</code>
+       * <code>optional .messages.AckBatch AckBatch = 3;</code>
        */
-      public boolean hasNeedTaskIds() {
-        return ((bitField0_ & 0x00000020) == 0x00000020);
+      public boolean hasAckBatch() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
       }
       /**
-       * <code>optional bool NeedTaskIds = 6;</code>
+       * <code>optional .messages.AckBatch AckBatch = 3;</code>
        */
-      public boolean getNeedTaskIds() {
-        return needTaskIds_;
+      public com.github.jsgilmore.protoshell.ShellMessages.AckBatch getAckBatch() {
+        if (ackBatchBuilder_ == null) {
+          return ackBatch_;
+        } else {
+          return ackBatchBuilder_.getMessage();
+        }
       }
       /**
-       * <code>optional bool NeedTaskIds = 6;</code>
+       * <code>optional .messages.AckBatch AckBatch = 3;</code>
        */
-      public Builder setNeedTaskIds(boolean value) {
-        bitField0_ |= 0x00000020;
-        needTaskIds_ = value;
-        onChanged();
+      public Builder setAckBatch(com.github.jsgilmore.protoshell.ShellMessages.AckBatch value) {
+        if (ackBatchBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ackBatch_ = value;
+          onChanged();
+        } else {
+          ackBatchBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
         return this;
       }
       /**
-       * <code>optional bool NeedTaskIds = 6;</code>
+       * <code>optional .messages.AckBatch AckBatch = 3;</code>
        */
-      public Builder clearNeedTaskIds() {
-        bitField0_ = (bitField0_ & ~0x00000020);
-        needTaskIds_ = false;
-        onChanged();
+      public Builder setAckBatch(
+          com.github.jsgilmore.protoshell.ShellMessages.AckBatch.Builder builderForValue) {
+        if (ackBatchBuilder_ == null) {
+          ackBatch_ = builderForValue.build();
+          onChanged();
+        } else {
+          ackBatchBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
         return this;
       }
-
-      // optional string Msg = 7;
-      private java.lang.Object msg_ = "";
-      /**
-       * <code>optional string Msg = 7;</code>
-       */
-      public boolean hasMsg() {
-        return ((bitField0_ & 0x00000040) == 0x00000040);
-      }
       /**
-       * <code>optional string Msg = 7;</code>
+       * <code>optional .messages.AckBatch AckBatch = 3;</code>
        */
-      public java.lang.String getMsg() {
-        java.lang.Object ref = msg_;
-        if (!(ref instanceof java.lang.String)) {
-          java.lang.String s = ((com.google.protobuf.ByteString) ref)
-              .toStringUtf8();
-          msg_ = s;
-          return s;
+      public Builder mergeAckBatch(com.github.jsgilmore.protoshell.ShellMessages.AckBatch value) {
+        if (ackBatchBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              ackBatch_ != com.github.jsgilmore.protoshell.ShellMessages.AckBatch.getDefaultInstance()) {
+            ackBatch_ =
+              com.github.jsgilmore.protoshell.ShellMessages.AckBatch.newBuilder(ackBatch_).mergeFrom(value).buildPartial();
+          } else {
+            ackBatch_ = value;
+          }
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          ackBatchBuilder_.mergeFrom(value);
         }
+        bitField0_ |= 0x00000004;
+        return this;
       }
       /**
-       * <code>optional string Msg = 7;</code>
+       * <code>optional .messages.AckBatch AckBatch = 3;</code>
        */
-      public com.google.protobuf.ByteString
-          getMsgBytes() {
-        java.lang.Object ref = msg_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          msg_ = b;
-          return b;
+      public Builder clearAckBatch() {
+        if (ackBatchBuilder_ == null) {
+          ackBatch_ = com.github.jsgilmore.protoshell.ShellMessages.AckBatch.getDefaultInstance();
+          onChanged();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          ackBatchBuilder_.clear();
         }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
       }
       /**
-       * <code>optional string Msg = 7;</code>
+       * <code>optional .messages.AckBatch AckBatch = 3;</code>
        */
-      public Builder setMsg(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000040;
-        msg_ = value;
+      public com.github.jsgilmore.protoshell.ShellMessages.AckBatch.Builder getAckBatchBuilder() {
+        bitField0_ |= 0x00000004;
         onChanged();
-        return this;
+        return getAckBatchFieldBuilder().getBuilder();
       }
       /**
-       * <code>optional string Msg = 7;</code>
+       * <code>optional .messages.AckBatch AckBatch = 3;</code>
        */
-      public Builder clearMsg() {
-        bitField0_ = (bitField0_ & ~0x00000040);
-        msg_ = getDefaultInstance().getMsg();
-        onChanged();
-        return this;
+      public com.github.jsgilmore.protoshell.ShellMessages.AckBatchOrBuilder getAckBatchOrBuilder() {
+        if (ackBatchBuilder_ != null) {
+          return ackBatchBuilder_.getMessageOrBuilder();
+        } else {
+          return ackBatch_;
+        }
       }
       /**
-       * <code>optional string Msg = 7;</code>
+       * <code>optional .messages.AckBatch AckBatch = 3;</code>
        */
-      public Builder setMsgBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000040;
-        msg_ = value;
-        onChanged();
-        return this;
+      private com.google.protobuf.SingleFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.AckBatch, com.github.jsgilmore.protoshell.ShellMessages.AckBatch.Builder, com.github.jsgilmore.protoshell.ShellMessages.AckBatchOrBuilder> 
+          getAckBatchFieldBuilder() {
+        if (ackBatchBuilder_ == null) {
+          ackBatchBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              com.github.jsgilmore.protoshell.ShellMessages.AckBatch, com.github.jsgilmore.protoshell.ShellMessages.AckBatch.Builder, com.github.jsgilmore.protoshell.ShellMessages.AckBatchOrBuilder>(
+                  ackBatch_,
+                  getParentForChildren(),
+                  isClean());
+          ackBatch_ = null;
+        }
+        return ackBatchBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:messages.ShellMsgMeta)
+      // @@protoc_insertion_point(builder_scope:messages.ShellMsgProto)
     }
 
     static {
-      defaultInstance = new ShellMsgMeta(true);
+      defaultInstance = new ShellMsgProto(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:messages.ShellMsgMeta)
+    // @@protoc_insertion_point(class_scope:messages.ShellMsgProto)
   }
 
-  public interface ShellMsgProtoOrBuilder
+  public interface ShellMsgBatchOrBuilder
       extends com.google.protobuf.MessageOrBuilder {
 
-    // optional .messages.ShellMsgMeta ShellMsgMeta = 1;
+    // repeated .messages.ShellMsgProto ShellMsgs = 1;
     /**
-     * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
-     */
-    boolean hasShellMsgMeta();
-    /**
-     * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
+     * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
      */
-    com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta getShellMsgMeta();
+    java.util.List<com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto> 
+        getShellMsgsList();
     /**
-     * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
+     * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
      */
-    com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMetaOrBuilder getShellMsgMetaOrBuilder();
-
-    // repeated bytes Contents = 2;
+    com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto getShellMsgs(int index);
     /**
-     * <code>repeated bytes Contents = 2;</code>
+     * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
      */
-    java.util.List<com.google.protobuf.ByteString> getContentsList();
+    int getShellMsgsCount();
     /**
-     * <code>repeated bytes Contents = 2;</code>
+     * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
      */
-    int getContentsCount();
+    java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProtoOrBuilder> 
+        getShellMsgsOrBuilderList();
     /**
-     * <code>repeated bytes Contents = 2;</code>
+     * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
      */
-    com.google.protobuf.ByteString getContents(int index);
+    com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProtoOrBuilder getShellMsgsOrBuilder(
+        int index);
   }
   /**
-   * Protobuf type {@code messages.ShellMsgProto}
+   * Protobuf type {@code messages.ShellMsgBatch}
    */
-  public static final class ShellMsgProto extends
+  public static final class ShellMsgBatch extends
       com.google.protobuf.GeneratedMessage
-      implements ShellMsgProtoOrBuilder {
-    // Use ShellMsgProto.newBuilder() to construct.
-    private ShellMsgProto(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      implements ShellMsgBatchOrBuilder {
+    // Use ShellMsgBatch.newBuilder() to construct.
+    private ShellMsgBatch(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
       super(builder);
       this.unknownFields = builder.getUnknownFields();
     }
-    private ShellMsgProto(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+    private ShellMsgBatch(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
 
-    private static final ShellMsgProto defaultInstance;
-    public static ShellMsgProto getDefaultInstance() {
+    private static final ShellMsgBatch defaultInstance;
+    public static ShellMsgBatch getDefaultInstance() {
       return defaultInstance;
     }
 
-    public ShellMsgProto getDefaultInstanceForType() {
+    public ShellMsgBatch getDefaultInstanceForType() {
       return defaultInstance;
     }
 
@@ -7403,7 +15771,7 @@ public final class ShellMessages {
         getUnknownFields() {
       return this.unknownFields;
     }
-    private ShellMsgProto(
+    private ShellMsgBatch(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -7427,24 +15795,11 @@ public final class ShellMessages {
               break;
             }
             case 10: {
-              com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.Builder subBuilder = null;
-              if (((bitField0_ & 0x00000001) == 0x00000001)) {
-                subBuilder = shellMsgMeta_.toBuilder();
-              }
-              shellMsgMeta_ = input.readMessage(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.PARSER, extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(shellMsgMeta_);
-                shellMsgMeta_ = subBuilder.buildPartial();
-              }
-              bitField0_ |= 0x00000001;
-              break;
-            }
-            case 18: {
-              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-                contents_ = new java.util.ArrayList<com.google.protobuf.ByteString>();
-                mutable_bitField0_ |= 0x00000002;
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                shellMsgs_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto>();
+                mutable_bitField0_ |= 0x00000001;
               }
-              contents_.add(input.readBytes());
+              shellMsgs_.add(input.readMessage(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.PARSER, extensionRegistry));
               break;
             }
           }
@@ -7455,8 +15810,8 @@ public final class ShellMessages {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e.getMessage()).setUnfinishedMessage(this);
       } finally {
-        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
-          contents_ = java.util.Collections.unmodifiableList(contents_);
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          shellMsgs_ = java.util.Collections.unmodifiableList(shellMsgs_);
         }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
@@ -7464,80 +15819,69 @@ public final class ShellMessages {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgProto_descriptor;
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgBatch_descriptor;
     }
 
     protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgProto_fieldAccessorTable
+      return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgBatch_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.class, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.Builder.class);
+              com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch.class, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch.Builder.class);
     }
 
-    public static com.google.protobuf.Parser<ShellMsgProto> PARSER =
-        new com.google.protobuf.AbstractParser<ShellMsgProto>() {
-      public ShellMsgProto parsePartialFrom(
+    public static com.google.protobuf.Parser<ShellMsgBatch> PARSER =
+        new com.google.protobuf.AbstractParser<ShellMsgBatch>() {
+      public ShellMsgBatch parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ShellMsgProto(input, extensionRegistry);
+        return new ShellMsgBatch(input, extensionRegistry);
       }
     };
 
     @java.lang.Override
-    public com.google.protobuf.Parser<ShellMsgProto> getParserForType() {
+    public com.google.protobuf.Parser<ShellMsgBatch> getParserForType() {
       return PARSER;
     }
 
-    private int bitField0_;
-    // optional .messages.ShellMsgMeta ShellMsgMeta = 1;
-    public static final int SHELLMSGMETA_FIELD_NUMBER = 1;
-    private com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta shellMsgMeta_;
-    /**
-     * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
-     */
-    public boolean hasShellMsgMeta() {
-      return ((bitField0_ & 0x00000001) == 0x00000001);
-    }
+    // repeated .messages.ShellMsgProto ShellMsgs = 1;
+    public static final int SHELLMSGS_FIELD_NUMBER = 1;
+    private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto> shellMsgs_;
     /**
-     * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
+     * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
      */
-    public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta getShellMsgMeta() {
-      return shellMsgMeta_;
+    public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto> getShellMsgsList() {
+      return shellMsgs_;
     }
     /**
-     * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
+     * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
      */
-    public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMetaOrBuilder getShellMsgMetaOrBuilder() {
-      return shellMsgMeta_;
+    public java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProtoOrBuilder> 
+        getShellMsgsOrBuilderList() {
+      return shellMsgs_;
     }
-
-    // repeated bytes Contents = 2;
-    public static final int CONTENTS_FIELD_NUMBER = 2;
-    private java.util.List<com.google.protobuf.ByteString> contents_;
     /**
-     * <code>repeated bytes Contents = 2;</code>
+     * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
      */
-    public java.util.List<com.google.protobuf.ByteString>
-        getContentsList() {
-      return contents_;
+    public int getShellMsgsCount() {
+      return shellMsgs_.size();
     }
     /**
-     * <code>repeated bytes Contents = 2;</code>
+     * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
      */
-    public int getContentsCount() {
-      return contents_.size();
+    public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto getShellMsgs(int index) {
+      return shellMsgs_.get(index);
     }
     /**
-     * <code>repeated bytes Contents = 2;</code>
+     * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
      */
-    public com.google.protobuf.ByteString getContents(int index) {
-      return contents_.get(index);
+    public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProtoOrBuilder getShellMsgsOrBuilder(
+        int index) {
+      return shellMsgs_.get(index);
     }
 
     private void initFields() {
-      shellMsgMeta_ = com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.getDefaultInstance();
-      contents_ = java.util.Collections.emptyList();
+      shellMsgs_ = java.util.Collections.emptyList();
     }
     private byte memoizedIsInitialized = -1;
     public final boolean isInitialized() {
@@ -7551,11 +15895,8 @@ public final class ShellMessages {
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
       getSerializedSize();
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
-        output.writeMessage(1, shellMsgMeta_);
-      }
-      for (int i = 0; i < contents_.size(); i++) {
-        output.writeBytes(2, contents_.get(i));
+      for (int i = 0; i < shellMsgs_.size(); i++) {
+        output.writeMessage(1, shellMsgs_.get(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -7566,18 +15907,9 @@ public final class ShellMessages {
       if (size != -1) return size;
 
       size = 0;
-      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+      for (int i = 0; i < shellMsgs_.size(); i++) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(1, shellMsgMeta_);
-      }
-      {
-        int dataSize = 0;
-        for (int i = 0; i < contents_.size(); i++) {
-          dataSize += com.google.protobuf.CodedOutputStream
-            .computeBytesSizeNoTag(contents_.get(i));
-        }
-        size += dataSize;
-        size += 1 * getContentsList().size();
+          .computeMessageSize(1, shellMsgs_.get(i));
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSerializedSize = size;
@@ -7591,53 +15923,53 @@ public final class ShellMessages {
       return super.writeReplace();
     }
 
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseFrom(byte[] data)
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseDelimitedFrom(java.io.InputStream input)
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseDelimitedFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return PARSER.parseDelimitedFrom(input, extensionRegistry);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return PARSER.parseFrom(input);
     }
-    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parseFrom(
+    public static com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -7646,7 +15978,7 @@ public final class ShellMessages {
 
     public static Builder newBuilder() { return Builder.create(); }
     public Builder newBuilderForType() { return newBuilder(); }
-    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto prototype) {
+    public static Builder newBuilder(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch prototype) {
       return newBuilder().mergeFrom(prototype);
     }
     public Builder toBuilder() { return newBuilder(this); }
@@ -7658,24 +15990,24 @@ public final class ShellMessages {
       return builder;
     }
     /**
-     * Protobuf type {@code messages.ShellMsgProto}
+     * Protobuf type {@code messages.ShellMsgBatch}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessage.Builder<Builder>
-       implements com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProtoOrBuilder {
+       implements com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatchOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgProto_descriptor;
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgBatch_descriptor;
       }
 
       protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgProto_fieldAccessorTable
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgBatch_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.class, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.Builder.class);
+                com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch.class, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch.Builder.class);
       }
 
-      // Construct using com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.newBuilder()
+      // Construct using com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -7687,7 +16019,7 @@ public final class ShellMessages {
       }
       private void maybeForceBuilderInitialization() {
         if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
-          getShellMsgMetaFieldBuilder();
+          getShellMsgsFieldBuilder();
         }
       }
       private static Builder create() {
@@ -7696,14 +16028,12 @@ public final class ShellMessages {
 
       public Builder clear() {
         super.clear();
-        if (shellMsgMetaBuilder_ == null) {
-          shellMsgMeta_ = com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.getDefaultInstance();
+        if (shellMsgsBuilder_ == null) {
+          shellMsgs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
         } else {
-          shellMsgMetaBuilder_.clear();
+          shellMsgsBuilder_.clear();
         }
-        bitField0_ = (bitField0_ & ~0x00000001);
-        contents_ = java.util.Collections.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -7713,66 +16043,73 @@ public final class ShellMessages {
 
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgProto_descriptor;
+        return com.github.jsgilmore.protoshell.ShellMessages.internal_static_messages_ShellMsgBatch_descriptor;
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto getDefaultInstanceForType() {
-        return com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.getDefaultInstance();
+      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch getDefaultInstanceForType() {
+        return com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch.getDefaultInstance();
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto build() {
-        com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto result = buildPartial();
+      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch build() {
+        com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
         return result;
       }
 
-      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto buildPartial() {
-        com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto result = new com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto(this);
+      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch buildPartial() {
+        com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch result = new com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch(this);
         int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
-        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        if (shellMsgMetaBuilder_ == null) {
-          result.shellMsgMeta_ = shellMsgMeta_;
+        if (shellMsgsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            shellMsgs_ = java.util.Collections.unmodifiableList(shellMsgs_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.shellMsgs_ = shellMsgs_;
         } else {
-          result.shellMsgMeta_ = shellMsgMetaBuilder_.build();
-        }
-        if (((bitField0_ & 0x00000002) == 0x00000002)) {
-          contents_ = java.util.Collections.unmodifiableList(contents_);
-          bitField0_ = (bitField0_ & ~0x00000002);
+          result.shellMsgs_ = shellMsgsBuilder_.build();
         }
-        result.contents_ = contents_;
-        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
 
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto) {
-          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto)other);
+        if (other instanceof com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch) {
+          return mergeFrom((com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto other) {
-        if (other == com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.getDefaultInstance()) return this;
-        if (other.hasShellMsgMeta()) {
-          mergeShellMsgMeta(other.getShellMsgMeta());
-        }
-        if (!other.contents_.isEmpty()) {
-          if (contents_.isEmpty()) {
-            contents_ = other.contents_;
-            bitField0_ = (bitField0_ & ~0x00000002);
-          } else {
-            ensureContentsIsMutable();
-            contents_.addAll(other.contents_);
+      public Builder mergeFrom(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch other) {
+        if (other == com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch.getDefaultInstance()) return this;
+        if (shellMsgsBuilder_ == null) {
+          if (!other.shellMsgs_.isEmpty()) {
+            if (shellMsgs_.isEmpty()) {
+              shellMsgs_ = other.shellMsgs_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureShellMsgsIsMutable();
+              shellMsgs_.addAll(other.shellMsgs_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.shellMsgs_.isEmpty()) {
+            if (shellMsgsBuilder_.isEmpty()) {
+              shellMsgsBuilder_.dispose();
+              shellMsgsBuilder_ = null;
+              shellMsgs_ = other.shellMsgs_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              shellMsgsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getShellMsgsFieldBuilder() : null;
+            } else {
+              shellMsgsBuilder_.addAllMessages(other.shellMsgs_);
+            }
           }
-          onChanged();
         }
         this.mergeUnknownFields(other.getUnknownFields());
         return this;
@@ -7786,11 +16123,11 @@ public final class ShellMessages {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto parsedMessage = null;
+        com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto) e.getUnfinishedMessage();
+          parsedMessage = (com.github.jsgilmore.protoshell.ShellMessages.ShellMsgBatch) e.getUnfinishedMessage();
           throw e;
         } finally {
           if (parsedMessage != null) {
@@ -7801,204 +16138,255 @@ public final class ShellMessages {
       }
       private int bitField0_;
 
-      // optional .messages.ShellMsgMeta ShellMsgMeta = 1;
-      private com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta shellMsgMeta_ = com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.getDefaultInstance();
-      private com.google.protobuf.SingleFieldBuilder<
-          com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.Builder, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMetaOrBuilder> shellMsgMetaBuilder_;
+      // repeated .messages.ShellMsgProto ShellMsgs = 1;
+      private java.util.List<com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto> shellMsgs_ =
+        java.util.Collections.emptyList();
+      private void ensureShellMsgsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          shellMsgs_ = new java.util.ArrayList<com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto>(shellMsgs_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.Builder, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProtoOrBuilder> shellMsgsBuilder_;
+
       /**
-       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
        */
-      public boolean hasShellMsgMeta() {
-        return ((bitField0_ & 0x00000001) == 0x00000001);
+      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto> getShellMsgsList() {
+        if (shellMsgsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(shellMsgs_);
+        } else {
+          return shellMsgsBuilder_.getMessageList();
+        }
       }
       /**
-       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
        */
-      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta getShellMsgMeta() {
-        if (shellMsgMetaBuilder_ == null) {
-          return shellMsgMeta_;
+      public int getShellMsgsCount() {
+        if (shellMsgsBuilder_ == null) {
+          return shellMsgs_.size();
         } else {
-          return shellMsgMetaBuilder_.getMessage();
+          return shellMsgsBuilder_.getCount();
         }
       }
       /**
-       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
        */
-      public Builder setShellMsgMeta(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta value) {
-        if (shellMsgMetaBuilder_ == null) {
+      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto getShellMsgs(int index) {
+        if (shellMsgsBuilder_ == null) {
+          return shellMsgs_.get(index);
+        } else {
+          return shellMsgsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
+       */
+      public Builder setShellMsgs(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto value) {
+        if (shellMsgsBuilder_ == null) {
           if (value == null) {
             throw new NullPointerException();
           }
-          shellMsgMeta_ = value;
+          ensureShellMsgsIsMutable();
+          shellMsgs_.set(index, value);
           onChanged();
         } else {
-          shellMsgMetaBuilder_.setMessage(value);
+          shellMsgsBuilder_.setMessage(index, value);
         }
-        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
        */
-      public Builder setShellMsgMeta(
-          com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.Builder builderForValue) {
-        if (shellMsgMetaBuilder_ == null) {
-          shellMsgMeta_ = builderForValue.build();
+      public Builder setShellMsgs(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.Builder builderForValue) {
+        if (shellMsgsBuilder_ == null) {
+          ensureShellMsgsIsMutable();
+          shellMsgs_.set(index, builderForValue.build());
           onChanged();
         } else {
-          shellMsgMetaBuilder_.setMessage(builderForValue.build());
+          shellMsgsBuilder_.setMessage(index, builderForValue.build());
         }
-        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
        */
-      public Builder mergeShellMsgMeta(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta value) {
-        if (shellMsgMetaBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) == 0x00000001) &&
-              shellMsgMeta_ != com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.getDefaultInstance()) {
-            shellMsgMeta_ =
-              com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.newBuilder(shellMsgMeta_).mergeFrom(value).buildPartial();
-          } else {
-            shellMsgMeta_ = value;
+      public Builder addShellMsgs(com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto value) {
+        if (shellMsgsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
           }
+          ensureShellMsgsIsMutable();
+          shellMsgs_.add(value);
           onChanged();
         } else {
-          shellMsgMetaBuilder_.mergeFrom(value);
+          shellMsgsBuilder_.addMessage(value);
         }
-        bitField0_ |= 0x00000001;
         return this;
       }
       /**
-       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
        */
-      public Builder clearShellMsgMeta() {
-        if (shellMsgMetaBuilder_ == null) {
-          shellMsgMeta_ = com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.getDefaultInstance();
+      public Builder addShellMsgs(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto value) {
+        if (shellMsgsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureShellMsgsIsMutable();
+          shellMsgs_.add(index, value);
           onChanged();
         } else {
-          shellMsgMetaBuilder_.clear();
+          shellMsgsBuilder_.addMessage(index, value);
         }
-        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
       /**
-       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
        */
-      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.Builder getShellMsgMetaBuilder() {
-        bitField0_ |= 0x00000001;
-        onChanged();
-        return getShellMsgMetaFieldBuilder().getBuilder();
+      public Builder addShellMsgs(
+          com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.Builder builderForValue) {
+        if (shellMsgsBuilder_ == null) {
+          ensureShellMsgsIsMutable();
+          shellMsgs_.add(builderForValue.build());
+          onChanged();
+        } else {
+          shellMsgsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
       }
       /**
-       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
        */
-      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMetaOrBuilder getShellMsgMetaOrBuilder() {
-        if (shellMsgMetaBuilder_ != null) {
-          return shellMsgMetaBuilder_.getMessageOrBuilder();
+      public Builder addShellMsgs(
+          int index, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.Builder builderForValue) {
+        if (shellMsgsBuilder_ == null) {
+          ensureShellMsgsIsMutable();
+          shellMsgs_.add(index, builderForValue.build());
+          onChanged();
         } else {
-          return shellMsgMeta_;
+          shellMsgsBuilder_.addMessage(index, builderForValue.build());
         }
+        return this;
       }
       /**
-       * <code>optional .messages.ShellMsgMeta ShellMsgMeta = 1;</code>
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
        */
-      private com.google.protobuf.SingleFieldBuilder<
-          com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.Builder, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMetaOrBuilder> 
-          getShellMsgMetaFieldBuilder() {
-        if (shellMsgMetaBuilder_ == null) {
-          shellMsgMetaBuilder_ = new com.google.protobuf.SingleFieldBuilder<
-              com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMeta.Builder, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgMetaOrBuilder>(
-                  shellMsgMeta_,
-                  getParentForChildren(),
-                  isClean());
-          shellMsgMeta_ = null;
+      public Builder addAllShellMsgs(
+          java.lang.Iterable<? extends com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto> values) {
+        if (shellMsgsBuilder_ == null) {
+          ensureShellMsgsIsMutable();
+          super.addAll(values, shellMsgs_);
+          onChanged();
+        } else {
+          shellMsgsBuilder_.addAllMessages(values);
         }
-        return shellMsgMetaBuilder_;
+        return this;
       }
-
-      // repeated bytes Contents = 2;
-      private java.util.List<com.google.protobuf.ByteString> contents_ = java.util.Collections.emptyList();
-      private void ensureContentsIsMutable() {
-        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
-          contents_ = new java.util.ArrayList<com.google.protobuf.ByteString>(contents_);
-          bitField0_ |= 0x00000002;
-         }
+      /**
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
+       */
+      public Builder clearShellMsgs() {
+        if (shellMsgsBuilder_ == null) {
+          shellMsgs_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          shellMsgsBuilder_.clear();
+        }
+        return this;
       }
       /**
-       * <code>repeated bytes Contents = 2;</code>
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
        */
-      public java.util.List<com.google.protobuf.ByteString>
-          getContentsList() {
-        return java.util.Collections.unmodifiableList(contents_);
+      public Builder removeShellMsgs(int index) {
+        if (shellMsgsBuilder_ == null) {
+          ensureShellMsgsIsMutable();
+          shellMsgs_.remove(index);
+          onChanged();
+        } else {
+          shellMsgsBuilder_.remove(index);
+        }
+        return this;
       }
       /**
-       * <code>repeated bytes Contents = 2;</code>
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
        */
-      public int getContentsCount() {
-        return contents_.size();
+      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.Builder getShellMsgsBuilder(
+          int index) {
+        return getShellMsgsFieldBuilder().getBuilder(index);
       }
       /**
-       * <code>repeated bytes Contents = 2;</code>
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
        */
-      public com.google.protobuf.ByteString getContents(int index) {
-        return contents_.get(index);
+      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProtoOrBuilder getShellMsgsOrBuilder(
+          int index) {
+        if (shellMsgsBuilder_ == null) {
+          return shellMsgs_.get(index);  } else {
+          return shellMsgsBuilder_.getMessageOrBuilder(index);
+        }
       }
       /**
-       * <code>repeated bytes Contents = 2;</code>
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
        */
-      public Builder setContents(
-          int index, com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureContentsIsMutable();
-        contents_.set(index, value);
-        onChanged();
-        return this;
+      public java.util.List<? extends com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProtoOrBuilder> 
+           getShellMsgsOrBuilderList() {
+        if (shellMsgsBuilder_ != null) {
+          return shellMsgsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(shellMsgs_);
+        }
       }
       /**
-       * <code>repeated bytes Contents = 2;</code>
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
        */
-      public Builder addContents(com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  ensureContentsIsMutable();
-        contents_.add(value);
-        onChanged();
-        return this;
+      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.Builder addShellMsgsBuilder() {
+        return getShellMsgsFieldBuilder().addBuilder(
+            com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.getDefaultInstance());
       }
       /**
-       * <code>repeated bytes Contents = 2;</code>
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
        */
-      public Builder addAllContents(
-          java.lang.Iterable<? extends com.google.protobuf.ByteString> values) {
-        ensureContentsIsMutable();
-        super.addAll(values, contents_);
-        onChanged();
-        return this;
+      public com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.Builder addShellMsgsBuilder(
+          int index) {
+        return getShellMsgsFieldBuilder().addBuilder(
+            index, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.getDefaultInstance());
       }
       /**
-       * <code>repeated bytes Contents = 2;</code>
+       * <code>repeated .messages.ShellMsgProto ShellMsgs = 1;</code>
        */
-      public Builder clearContents() {
-        contents_ = java.util.Collections.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000002);
-        onChanged();
-        return this;
+      public java.util.List<com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.Builder> 
+           getShellMsgsBuilderList() {
+        return getShellMsgsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.Builder, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProtoOrBuilder> 
+          getShellMsgsFieldBuilder() {
+        if (shellMsgsBuilder_ == null) {
+          shellMsgsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProto.Builder, com.github.jsgilmore.protoshell.ShellMessages.ShellMsgProtoOrBuilder>(
+                  shellMsgs_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          shellMsgs_ = null;
+        }
+        return shellMsgsBuilder_;
       }
 
-      // @@protoc_insertion_point(builder_scope:messages.ShellMsgProto)
+      // @@protoc_insertion_point(builder_scope:messages.ShellMsgBatch)
     }
 
     static {
-      defaultInstance = new ShellMsgProto(true);
+      defaultInstance = new ShellMsgBatch(true);
       defaultInstance.initFields();
     }
 
-    // @@protoc_insertion_point(class_scope:messages.ShellMsgProto)
+    // @@protoc_insertion_point(class_scope:messages.ShellMsgBatch)
   }
 
   public interface TestOrBuilder
@@ -8642,6 +17030,11 @@ public final class ShellMessages {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_messages_TaskComponentMapping_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_messages_TaskRange_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_messages_TaskRange_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_messages_Topology_descriptor;
   private static
@@ -8652,6 +17045,11 @@ public final class ShellMessages {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_messages_Conf_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_messages_SharedMemory_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_messages_SharedMemory_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_messages_Context_descriptor;
   private static
@@ -8662,6 +17060,21 @@ public final class ShellMessages {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_messages_Pid_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_messages_CompressedFrame_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_messages_CompressedFrame_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_messages_RoutedData_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_messages_RoutedData_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_messages_ConfReply_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_messages_ConfReply_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_messages_BoltMsgMeta_descriptor;
   private static
@@ -8672,6 +17085,11 @@ public final class ShellMessages {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_messages_BoltMsgProto_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_messages_BoltMsgBatch_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_messages_BoltMsgBatch_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_messages_TaskIds_descriptor;
   private static
@@ -8687,11 +17105,21 @@ public final class ShellMessages {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_messages_ShellMsgMeta_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_messages_AckBatch_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_messages_AckBatch_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_messages_ShellMsgProto_descriptor;
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_messages_ShellMsgProto_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_messages_ShellMsgBatch_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_messages_ShellMsgBatch_fieldAccessorTable;
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_messages_Test_descriptor;
   private static
@@ -8708,26 +17136,55 @@ public final class ShellMessages {
     java.lang.String[] descriptorData = {
       "\n\016messages.proto\022\010messages\"7\n\024TaskCompon" +
       "entMapping\022\014\n\004Task\030\001 \001(\t\022\021\n\tComponent\030\002 " +
-      "\001(\t\"Y\n\010Topology\022\016\n\006TaskId\030\001 \001(\003\022=\n\025TaskC" +
-      "omponentMappings\030\002 \003(\0132\036.messages.TaskCo" +
-      "mponentMapping\"\"\n\004Conf\022\013\n\003Key\030\001 \001(\t\022\r\n\005V" +
-      "alue\030\002 \001(\t\"^\n\007Context\022\016\n\006PidDir\030\001 \001(\t\022$\n" +
-      "\010Topology\030\002 \001(\0132\022.messages.Topology\022\035\n\005C" +
-      "onfs\030\003 \003(\0132\016.messages.Conf\"\022\n\003Pid\022\013\n\003Pid" +
-      "\030\001 \001(\005\"E\n\013BoltMsgMeta\022\n\n\002Id\030\001 \001(\t\022\014\n\004Com" +
-      "p\030\002 \001(\t\022\016\n\006Stream\030\003 \001(\t\022\014\n\004Task\030\004 \001(\003\"L\n",
-      "\014BoltMsgProto\022*\n\013BoltMsgMeta\030\001 \001(\0132\025.mes" +
-      "sages.BoltMsgMeta\022\020\n\010Contents\030\002 \003(\014\"\032\n\007T" +
-      "askIds\022\017\n\007TaskIds\030\001 \003(\005\"\'\n\010SpoutMsg\022\017\n\007C" +
-      "ommand\030\001 \001(\t\022\n\n\002Id\030\002 \001(\t\"|\n\014ShellMsgMeta" +
-      "\022\017\n\007Command\030\001 \001(\t\022\n\n\002Id\030\002 \001(\t\022\017\n\007Anchors" +
-      "\030\003 \003(\t\022\016\n\006Stream\030\004 \001(\t\022\014\n\004Task\030\005 \001(\003\022\023\n\013" +
-      "NeedTaskIds\030\006 \001(\010\022\013\n\003Msg\030\007 \001(\t\"O\n\rShellM" +
-      "sgProto\022,\n\014ShellMsgMeta\030\001 \001(\0132\026.messages" +
-      ".ShellMsgMeta\022\020\n\010Contents\030\002 \003(\014\"2\n\004Test\022" +
-      "\014\n\004Name\030\001 \001(\t\022\016\n\006Number\030\002 \001(\005\022\014\n\004Data\030\003 ",
-      "\001(\014B0\n\037com.github.jsgilmore.protoshellB\r" +
-      "ShellMessages"
+      "\001(\t\"@\n\tTaskRange\022\021\n\tComponent\030\001 \001(\r\022\021\n\tF" +
+      "irstTask\030\002 \001(\021\022\r\n\005Count\030\003 \001(\r\"\226\001\n\010Topolo" +
+      "gy\022\016\n\006TaskId\030\001 \001(\003\022=\n\025TaskComponentMappi" +
+      "ngs\030\002 \003(\0132\036.messages.TaskComponentMappin" +
+      "g\022\022\n\nComponents\030\003 \003(\t\022\'\n\nTaskRanges\030\004 \003(" +
+      "\0132\023.messages.TaskRange\"\"\n\004Conf\022\013\n\003Key\030\001 " +
+      "\001(\t\022\r\n\005Value\030\002 \001(\t\"L\n\014SharedMemory\022\023\n\013To" +
+      "ShellPath\030\001 \001(\t\022\025\n\rFromShellPath\030\002 \001(\t\022\020",
+      "\n\010Capacity\030\003 \001(\005\"\214\002\n\007Context\022\016\n\006PidDir\030\001" +
+      " \001(\t\022$\n\010Topology\030\002 \001(\0132\022.messages.Topolo" +
+      "gy\022\035\n\005Confs\030\003 \003(\0132\016.messages.Conf\022\027\n\017Pro" +
+      "tocolVersion\030\004 \001(\005\022*\n\014Capabilities\030\005 \003(\016" +
+      "2\024.messages.Capability\022,\n\014SharedMemory\030\006" +
+      " \001(\0132\026.messages.SharedMemory\022\022\n\nDictiona" +
+      "ry\030\007 \003(\t\022\016\n\006Codecs\030\010 \003(\t\022\025\n\rMultiplexedB" +
+      "y\030\t \001(\005\"M\n\003Pid\022\013\n\003Pid\030\001 \001(\005\022*\n\014Capabilit" +
+      "ies\030\002 \003(\0162\024.messages.Capability\022\r\n\005Codec" +
+      "\030\003 \001(\t\"-\n\017CompressedFrame\022\014\n\004Size\030\020 \001(\r\022",
+      "\014\n\004Data\030\021 \001(\014\"(\n\nRoutedData\022\014\n\004Task\030\001 \001(" +
+      "\005\022\014\n\004Data\030\002 \001(\014\"7\n\tConfReply\022\013\n\003Key\030\017 \001(" +
+      "\t\022\035\n\005Confs\030\020 \003(\0132\016.messages.Conf\"v\n\013Bolt" +
+      "MsgMeta\022\n\n\002Id\030\001 \001(\t\022\014\n\004Comp\030\002 \001(\t\022\016\n\006Str" +
+      "eam\030\003 \001(\t\022\014\n\004Task\030\004 \001(\003\022\016\n\006CompId\030\005 \001(\005\022" +
+      "\020\n\010StreamId\030\006 \001(\005\022\r\n\005NumId\030\007 \001(\006\"L\n\014Bolt" +
+      "MsgProto\022*\n\013BoltMsgMeta\030\001 \001(\0132\025.messages" +
+      ".BoltMsgMeta\022\020\n\010Contents\030\002 \003(\014\"8\n\014BoltMs" +
+      "gBatch\022(\n\010BoltMsgs\030\001 \003(\0132\026.messages.Bolt" +
+      "MsgProto\"\032\n\007TaskIds\022\017\n\007TaskIds\030\001 \003(\005\"G\n\010",
+      "SpoutMsg\022\017\n\007Command\030\001 \001(\t\022\n\n\002Id\030\002 \001(\t\022\r\n" +
+      "\005NumId\030\003 \001(\006\022\017\n\007Credits\030\004 \001(\r\"\310\001\n\014ShellM" +
+      "sgMeta\022\017\n\007Command\030\001 \001(\t\022\n\n\002Id\030\002 \001(\t\022\017\n\007A" +
+      "nchors\030\003 \003(\t\022\016\n\006Stream\030\004 \001(\t\022\014\n\004Task\030\005 \001" +
+      "(\003\022\023\n\013NeedTaskIds\030\006 \001(\010\022\013\n\003Msg\030\007 \001(\t\022\021\n\t" +
+      "CommandId\030\010 \001(\005\022\020\n\010StreamId\030\t \001(\005\022\r\n\005Num" +
+      "Id\030\n \001(\006\022\026\n\nNumAnchors\030\013 \003(\006B\002\020\001\"Z\n\010AckB" +
+      "atch\022\016\n\006AckIds\030\001 \003(\t\022\025\n\tNumAckIds\030\002 \003(\006B" +
+      "\002\020\001\022\017\n\007FailIds\030\003 \003(\t\022\026\n\nNumFailIds\030\004 \003(\006" +
+      "B\002\020\001\"u\n\rShellMsgProto\022,\n\014ShellMsgMeta\030\001 ",
+      "\001(\0132\026.messages.ShellMsgMeta\022\020\n\010Contents\030" +
+      "\002 \003(\014\022$\n\010AckBatch\030\003 \001(\0132\022.messages.AckBa" +
+      "tch\";\n\rShellMsgBatch\022*\n\tShellMsgs\030\001 \003(\0132" +
+      "\027.messages.ShellMsgProto\"2\n\004Test\022\014\n\004Name" +
+      "\030\001 \001(\t\022\016\n\006Number\030\002 \001(\005\022\014\n\004Data\030\003 \001(\014*\267\001\n" +
+      "\nCapability\022\016\n\nBOLT_BATCH\020\001\022\017\n\013SHELL_BAT" +
+      "CH\020\002\022\017\n\013COMPRESSION\020\003\022\024\n\020INTERNED_STRING" +
+      "S\020\004\022\021\n\rSHARED_MEMORY\020\005\022\017\n\013NUMERIC_IDS\020\006\022" +
+      "\r\n\tACK_BATCH\020\007\022\021\n\rSPOUT_CREDITS\020\010\022\014\n\010GET" +
+      "_CONF\020\t\022\r\n\tMULTIPLEX\020\nB0\n\037com.github.jsg",
+      "ilmore.protoshellB\rShellMessages"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -8740,68 +17197,116 @@ public final class ShellMessages {
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_messages_TaskComponentMapping_descriptor,
               new java.lang.String[] { "Task", "Component", });
-          internal_static_messages_Topology_descriptor =
+          internal_static_messages_TaskRange_descriptor =
             getDescriptor().getMessageTypes().get(1);
+          internal_static_messages_TaskRange_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_messages_TaskRange_descriptor,
+              new java.lang.String[] { "Component", "FirstTask", "Count", });
+          internal_static_messages_Topology_descriptor =
+            getDescriptor().getMessageTypes().get(2);
           internal_static_messages_Topology_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_messages_Topology_descriptor,
-              new java.lang.String[] { "TaskId", "TaskComponentMappings", });
+              new java.lang.String[] { "TaskId", "TaskComponentMappings", "Components", "TaskRanges", });
           internal_static_messages_Conf_descriptor =
-            getDescriptor().getMessageTypes().get(2);
+            getDescriptor().getMessageTypes().get(3);
           internal_static_messages_Conf_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_messages_Conf_descriptor,
               new java.lang.String[] { "Key", "Value", });
+          internal_static_messages_SharedMemory_descriptor =
+            getDescriptor().getMessageTypes().get(4);
+          internal_static_messages_SharedMemory_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_messages_SharedMemory_descriptor,
+              new java.lang.String[] { "ToShellPath", "FromShellPath", "Capacity", });
           internal_static_messages_Context_descriptor =
-            getDescriptor().getMessageTypes().get(3);
+            getDescriptor().getMessageTypes().get(5);
           internal_static_messages_Context_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_messages_Context_descriptor,
-              new java.lang.String[] { "PidDir", "Topology", "Confs", });
+              new java.lang.String[] { "PidDir", "Topology", "Confs", "ProtocolVersion", "Capabilities", "SharedMemory", "Dictionary", "Codecs", "MultiplexedBy", });
           internal_static_messages_Pid_descriptor =
-            getDescriptor().getMessageTypes().get(4);
+            getDescriptor().getMessageTypes().get(6);
           internal_static_messages_Pid_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_messages_Pid_descriptor,
-              new java.lang.String[] { "Pid", });
+              new java.lang.String[] { "Pid", "Capabilities", "Codec", });
+          internal_static_messages_CompressedFrame_descriptor =
+            getDescriptor().getMessageTypes().get(7);
+          internal_static_messages_CompressedFrame_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_messages_CompressedFrame_descriptor,
+              new java.lang.String[] { "Size", "Data", });
+          internal_static_messages_RoutedData_descriptor =
+            getDescriptor().getMessageTypes().get(8);
+          internal_static_messages_RoutedData_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_messages_RoutedData_descriptor,
+              new java.lang.String[] { "Task", "Data", });
+          internal_static_messages_ConfReply_descriptor =
+            getDescriptor().getMessageTypes().get(9);
+          internal_static_messages_ConfReply_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_messages_ConfReply_descriptor,
+              new java.lang.String[] { "Key", "Confs", });
           internal_static_messages_BoltMsgMeta_descriptor =
-            getDescriptor().getMessageTypes().get(5);
+            getDescriptor().getMessageTypes().get(10);
           internal_static_messages_BoltMsgMeta_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_messages_BoltMsgMeta_descriptor,
-              new java.lang.String[] { "Id", "Comp", "Stream", "Task", });
+              new java.lang.String[] { "Id", "Comp", "Stream", "Task", "CompId", "StreamId", "NumId", });
           internal_static_messages_BoltMsgProto_descriptor =
-            getDescriptor().getMessageTypes().get(6);
+            getDescriptor().getMessageTypes().get(11);
           internal_static_messages_BoltMsgProto_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_messages_BoltMsgProto_descriptor,
               new java.lang.String[] { "BoltMsgMeta", "Contents", });
+          internal_static_messages_BoltMsgBatch_descriptor =
+            getDescriptor().getMessageTypes().get(12);
+          internal_static_messages_BoltMsgBatch_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_messages_BoltMsgBatch_descriptor,
+              new java.lang.String[] { "BoltMsgs", });
           internal_static_messages_TaskIds_descriptor =
-            getDescriptor().getMessageTypes().get(7);
+            getDescriptor().getMessageTypes().get(13);
           internal_static_messages_TaskIds_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_messages_TaskIds_descriptor,
               new java.lang.String[] { "TaskIds", });
           internal_static_messages_SpoutMsg_descriptor =
-            getDescriptor().getMessageTypes().get(8);
+            getDescriptor().getMessageTypes().get(14);
           internal_static_messages_SpoutMsg_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_messages_SpoutMsg_descriptor,
-              new java.lang.String[] { "Command", "Id", });
+              new java.lang.String[] { "Command", "Id", "NumId", "Credits", });
           internal_static_messages_ShellMsgMeta_descriptor =
-            getDescriptor().getMessageTypes().get(9);
+            getDescriptor().getMessageTypes().get(15);
           internal_static_messages_ShellMsgMeta_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_messages_ShellMsgMeta_descriptor,
-              new java.lang.String[] { "Command", "Id", "Anchors", "Stream", "Task", "NeedTaskIds", "Msg", });
+              new java.lang.String[] { "Command", "Id", "Anchors", "Stream", "Task", "NeedTaskIds", "Msg", "CommandId", "StreamId", "NumId", "NumAnchors", });
+          internal_static_messages_AckBatch_descriptor =
+            getDescriptor().getMessageTypes().get(16);
+          internal_static_messages_AckBatch_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_messages_AckBatch_descriptor,
+              new java.lang.String[] { "AckIds", "NumAckIds", "FailIds", "NumFailIds", });
           internal_static_messages_ShellMsgProto_descriptor =
-            getDescriptor().getMessageTypes().get(10);
+            getDescriptor().getMessageTypes().get(17);
           internal_static_messages_ShellMsgProto_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_messages_ShellMsgProto_descriptor,
-              new java.lang.String[] { "ShellMsgMeta", "Contents", });
+              new java.lang.String[] { "ShellMsgMeta", "Contents", "AckBatch", });
+          internal_static_messages_ShellMsgBatch_descriptor =
+            getDescriptor().getMessageTypes().get(18);
+          internal_static_messages_ShellMsgBatch_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_messages_ShellMsgBatch_descriptor,
+              new java.lang.String[] { "ShellMsgs", });
           internal_static_messages_Test_descriptor =
-            getDescriptor().getMessageTypes().get(11);
+            getDescriptor().getMessageTypes().get(19);
           internal_static_messages_Test_fieldAccessorTable = new
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_messages_Test_descriptor,
@@ -0,0 +1,138 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.IOException;
+import java.util.Queue;
+
+import backtype.storm.multilang.ShellMsg;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ProtoShellByteString;
+import com.google.protobuf.WireFormat;
+
+/**
+ * Decodes ShellMsgProto's from a frame without copying their Contents. Each
+ * tuple field becomes a ByteString that aliases the frame array.
+ *
+ * Ownership of the frame passes to the ShellMsg's returned from here: the
+ * caller must not modify or reuse the array afterwards. The fields are then
+ * valid for as long as anything references them, and the frame is reclaimed
+ * by the garbage collector once the last field is dropped, so there is
+ * nothing to release. Note that holding on to a single small field keeps the
+ * whole frame reachable.
+ */
+class ShellMsgDecoder {
+	private static final int META_TAG = lengthDelimitedTag(ShellMessages.ShellMsgProto.SHELLMSGMETA_FIELD_NUMBER);
+	private static final int CONTENTS_TAG = lengthDelimitedTag(ShellMessages.ShellMsgProto.CONTENTS_FIELD_NUMBER);
+	private static final int BATCH_TAG = lengthDelimitedTag(ShellMessages.ShellMsgBatch.SHELLMSGS_FIELD_NUMBER);
+	private static final int ACK_BATCH_TAG = lengthDelimitedTag(ShellMessages.ShellMsgProto.ACKBATCH_FIELD_NUMBER);
+	private static final int ACK_IDS_TAG = lengthDelimitedTag(ShellMessages.AckBatch.ACKIDS_FIELD_NUMBER);
+	private static final int NUM_ACK_IDS_TAG = lengthDelimitedTag(ShellMessages.AckBatch.NUMACKIDS_FIELD_NUMBER);
+	private static final int FAIL_IDS_TAG = lengthDelimitedTag(ShellMessages.AckBatch.FAILIDS_FIELD_NUMBER);
+	private static final int NUM_FAIL_IDS_TAG = lengthDelimitedTag(ShellMessages.AckBatch.NUMFAILIDS_FIELD_NUMBER);
+	// Parsers must also accept repeated fields that were written unpacked
+	private static final int NUM_ACK_ID_TAG = fixed64Tag(ShellMessages.AckBatch.NUMACKIDS_FIELD_NUMBER);
+	private static final int NUM_FAIL_ID_TAG = fixed64Tag(ShellMessages.AckBatch.NUMFAILIDS_FIELD_NUMBER);
+
+	/**
+	 * Decodes the ShellMsgProto in frame[offset, offset + length). A message
+	 * holding an AckBatch is expanded into one ShellMsg per ack and fail.
+	 */
+	static void decode(byte[] frame, int offset, int length, ProtoSerializer serializer, Queue<ShellMsg> out) throws IOException {
+		CodedInputStream in = CodedInputStream.newInstance(frame, offset, length);
+		ShellMessages.ShellMsgMeta meta = ShellMessages.ShellMsgMeta.getDefaultInstance();
+		ShellMsg shellMsg = new ShellMsg();
+		int tag;
+		while ((tag = in.readTag()) != 0) {
+			if (tag == META_TAG) {
+				int size = in.readRawVarint32();
+				int start = offset + in.getTotalBytesRead();
+				if (meta == ShellMessages.ShellMsgMeta.getDefaultInstance()) {
+					meta = ShellMessages.ShellMsgMeta.PARSER.parseFrom(frame, start, size);
+				} else {
+					meta = meta.toBuilder().mergeFrom(frame, start, size).build();
+				}
+				in.skipRawBytes(size);
+			} else if (tag == ACK_BATCH_TAG) {
+				int limit = in.pushLimit(in.readRawVarint32());
+				decodeAcks(in, serializer, out);
+				in.popLimit(limit);
+				return;
+			} else if (tag == CONTENTS_TAG) {
+				int size = in.readRawVarint32();
+				shellMsg.addTuple(ProtoShellByteString.wrap(frame, offset + in.getTotalBytesRead(), size));
+				in.skipRawBytes(size);
+			} else if (!in.skipField(tag)) {
+				break;
+			}
+		}
+		serializer.setMeta(shellMsg, meta);
+		out.add(shellMsg);
+	}
+
+	/**
+	 * Expands an AckBatch. The packed ids are read straight off the frame,
+	 * without a list of boxed Longs in between.
+	 */
+	private static void decodeAcks(CodedInputStream in, ProtoSerializer serializer, Queue<ShellMsg> out) throws IOException {
+		int tag;
+		while ((tag = in.readTag()) != 0) {
+			if (tag == ACK_IDS_TAG) {
+				out.add(ProtoSerializer.ackMsg("ack", in.readString()));
+			} else if (tag == FAIL_IDS_TAG) {
+				out.add(ProtoSerializer.ackMsg("fail", in.readString()));
+			} else if (tag == NUM_ACK_IDS_TAG || tag == NUM_FAIL_IDS_TAG) {
+				String command = tag == NUM_ACK_IDS_TAG ? "ack" : "fail";
+				int limit = in.pushLimit(in.readRawVarint32());
+				while (!in.isAtEnd()) {
+					out.add(ProtoSerializer.ackMsg(command, serializer.releaseTupleId(in.readFixed64())));
+				}
+				in.popLimit(limit);
+			} else if (tag == NUM_ACK_ID_TAG) {
+				out.add(ProtoSerializer.ackMsg("ack", serializer.releaseTupleId(in.readFixed64())));
+			} else if (tag == NUM_FAIL_ID_TAG) {
+				out.add(ProtoSerializer.ackMsg("fail", serializer.releaseTupleId(in.readFixed64())));
+			} else if (!in.skipField(tag)) {
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Decodes every ShellMsgProto in the ShellMsgBatch in frame[offset, offset + length).
+	 */
+	static void decodeBatch(byte[] frame, int offset, int length, ProtoSerializer serializer, Queue<ShellMsg> out) throws IOException {
+		CodedInputStream in = CodedInputStream.newInstance(frame, offset, length);
+		int tag;
+		while ((tag = in.readTag()) != 0) {
+			if (tag == BATCH_TAG) {
+				int size = in.readRawVarint32();
+				decode(frame, offset + in.getTotalBytesRead(), size, serializer, out);
+				in.skipRawBytes(size);
+			} else if (!in.skipField(tag)) {
+				break;
+			}
+		}
+	}
+
+	private static int lengthDelimitedTag(int field) {
+		return (field << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+	}
+
+	private static int fixed64Tag(int field) {
+		return (field << 3) | WireFormat.WIRETYPE_FIXED64;
+	}
+}
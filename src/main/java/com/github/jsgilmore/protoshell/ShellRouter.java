@@ -0,0 +1,227 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+
+import backtype.storm.task.TopologyContext;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+/**
+ * Shares one shell process between the tasks of a component in a worker, with
+ * MULTIPLEX. The first task to connect launches the process and starts the
+ * router once its handshake is done. From then on everything written to or
+ * read from the process is a RoutedData frame holding the next chunk of one
+ * task's stream, and each task reads and writes its stream as if it had the
+ * pipes to itself. Once the process output ends, the router is dropped, so
+ * that the next task to connect launches a new process.
+ */
+class ShellRouter {
+	public static Logger LOG = Logger.getLogger(ShellRouter.class);
+
+	/**
+	 * The most bytes a RoutedData header takes: the length prefix, and the
+	 * tags, Task and length of Data.
+	 */
+	static final int MAX_HEADER = 5 + 1 + 10 + 1 + 5;
+
+	private static final byte TASK_TAG = (byte)(ShellMessages.RoutedData.TASK_FIELD_NUMBER << 3
+			| WireFormat.WIRETYPE_VARINT);
+	private static final byte DATA_TAG = (byte)(ShellMessages.RoutedData.DATA_FIELD_NUMBER << 3
+			| WireFormat.WIRETYPE_LENGTH_DELIMITED);
+
+	private static final Map<String, ShellRouter> routers = new HashMap<String, ShellRouter>();
+
+	private final String name;
+	private final int capacity;
+	private final Map<Integer, RoutedInputStream> inputs = new HashMap<Integer, RoutedInputStream>();
+	private final Object writeLock = new Object();
+	private final Set<Integer> dropped = new HashSet<Integer>();
+	private boolean claimed;
+	private boolean started;
+	private boolean ended;
+	private Number pid;
+	private OutputStream out;
+
+	private ShellRouter(String name, int capacity) {
+		this.name = name;
+		this.capacity = capacity;
+	}
+
+	/**
+	 * The router of the component a task belongs to. A task with more than
+	 * capacity chunks queued is failed, as set by the task that creates the
+	 * router.
+	 */
+	static synchronized ShellRouter forComponent(TopologyContext context, int capacity) {
+		String name = context.getStormId() + ":" + context.getThisComponentId();
+		ShellRouter router = routers.get(name);
+		if (router == null) {
+			router = new ShellRouter(name, capacity);
+			routers.put(name, router);
+		}
+		return router;
+	}
+
+	/**
+	 * Whether the caller is the first task to connect, and so the one whose
+	 * shell process the others share. It must call start() whatever happens.
+	 */
+	synchronized boolean claim() {
+		if (claimed) {
+			return false;
+		}
+		claimed = true;
+		return true;
+	}
+
+	/**
+	 * Starts routing the streams of a shell process that accepted MULTIPLEX,
+	 * or with a null pid, tells the waiting tasks to use their own processes.
+	 */
+	synchronized void start(OutputStream out, final InputStream in, Number pid) {
+		this.out = out;
+		this.pid = pid;
+		started = true;
+		ended = false;
+		notifyAll();
+		if (pid == null) {
+			return;
+		}
+		Thread reader = new Thread(new Runnable() {
+			public void run() {
+				route(in);
+			}
+		}, "protoshell-router-" + name);
+		reader.setDaemon(true);
+		reader.start();
+		LOG.info("Routing tasks of " + name + " to shell process " + pid);
+	}
+
+	/**
+	 * Waits for the first task's handshake and returns the pid of the shared
+	 * process, or null if it is not shared.
+	 */
+	synchronized Number awaitStart() throws IOException {
+		while (!started) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				throw new InterruptedIOException("Interrupted waiting for the shared shell process");
+			}
+		}
+		return pid;
+	}
+
+	/**
+	 * The stream of a task's messages from the shell process. Chunks that
+	 * arrive before it is asked for are kept.
+	 */
+	InputStream input(int task) {
+		return inputFor(task);
+	}
+
+	/**
+	 * The stream of a task's messages to the shell process. Each flush sends
+	 * what was written since as one RoutedData.
+	 */
+	OutputStream output(int task) {
+		return new RoutedOutputStream(this, task);
+	}
+
+	/**
+	 * Sends length bytes of a task's stream as one delimited RoutedData. The
+	 * header is encoded into the MAX_HEADER bytes before offset, which the
+	 * caller leaves free, so that the frame is written in one go.
+	 */
+	void write(int task, byte[] buffer, int offset, int length) throws IOException {
+		int size = 1 + CodedOutputStream.computeInt32SizeNoTag(task)
+				+ 1 + CodedOutputStream.computeRawVarint32Size(length) + length;
+		int start = offset - (size - length) - CodedOutputStream.computeRawVarint32Size(size);
+		int position = putVarint(buffer, start, size);
+		buffer[position++] = TASK_TAG;
+		// Negative int32s are sign extended, as CodedOutputStream does
+		position = putVarint(buffer, position, task);
+		buffer[position++] = DATA_TAG;
+		putVarint(buffer, position, length);
+		synchronized (writeLock) {
+			out.write(buffer, start, offset + length - start);
+			out.flush();
+		}
+	}
+
+	private static int putVarint(byte[] buffer, int position, long value) {
+		while ((value & ~0x7FL) != 0) {
+			buffer[position++] = (byte)((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buffer[position++] = (byte)value;
+		return position;
+	}
+
+	private synchronized RoutedInputStream inputFor(int task) {
+		RoutedInputStream input = inputs.get(task);
+		if (input == null) {
+			input = new RoutedInputStream(task, capacity);
+			if (ended) {
+				input.end();
+			}
+			inputs.put(task, input);
+		}
+		return input;
+	}
+
+	private void route(InputStream in) {
+		try {
+			ShellMessages.RoutedData routed;
+			while ((routed = ShellMessages.RoutedData.parseDelimitedFrom(in)) != null) {
+				RoutedInputStream input = inputFor(routed.getTask());
+				if (!input.add(routed.getData()) && dropped.add(routed.getTask())) {
+					LOG.error("Task " + routed.getTask() + " fell behind shell process " + pid
+							+ ", dropping its messages");
+				}
+			}
+		} catch (IOException e) {
+			LOG.error("Could not read from shell process " + pid, e);
+		} finally {
+			synchronized (ShellRouter.class) {
+				if (routers.get(name) == this) {
+					routers.remove(name);
+				}
+			}
+			synchronized (this) {
+				ended = true;
+				for (RoutedInputStream input : inputs.values()) {
+					input.end();
+				}
+				// A task that still holds this router claims it again and
+				// launches a new process, while the waiting ones find it ended
+				inputs.clear();
+				claimed = false;
+			}
+		}
+	}
+}
@@ -0,0 +1,108 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import backtype.storm.task.TopologyContext;
+import backtype.storm.utils.Utils;
+
+/**
+ * The component, stream and command names that both sides of a connection
+ * refer to by index once INTERNED_STRINGS has been accepted. The dictionary
+ * is fixed when the Context is written. Names outside it are still sent as
+ * strings.
+ */
+class StringDictionary {
+	private static final String[] COMMANDS = {
+		"emit", "ack", "fail", "log", "sync", "error", "metrics", "next"
+	};
+
+	private static final String[] STREAMS = {
+		"default", "__tick", "__heartbeat"
+	};
+
+	private final List<String> strings;
+	private final Map<String, Integer> ids;
+
+	StringDictionary(Collection<String> strings) {
+		this.strings = new ArrayList<String>(strings);
+		this.ids = new HashMap<String, Integer>();
+		for (int i = 0; i < this.strings.size(); i++) {
+			ids.put(this.strings.get(i), i);
+		}
+	}
+
+	/**
+	 * Seeds a dictionary with the commands, the components from the task
+	 * mapping and, when the topology is known, their streams.
+	 */
+	static StringDictionary forContext(TopologyContext context) {
+		Set<String> strings = new LinkedHashSet<String>();
+		for (String command : COMMANDS) {
+			strings.add(command);
+		}
+		for (String stream : STREAMS) {
+			strings.add(stream);
+		}
+		Set<String> components = new LinkedHashSet<String>(context.getTaskToComponent().values());
+		strings.addAll(components);
+		if (context.getRawTopology() != null) {
+			for (String component : components) {
+				// System components are not part of the user topology
+				if (!Utils.isSystemId(component)) {
+					strings.addAll(context.getComponentStreams(component));
+				}
+			}
+		}
+		return new StringDictionary(strings);
+	}
+
+	List<String> getStrings() {
+		return strings;
+	}
+
+	/**
+	 * The index of s, or -1 if it is not in the dictionary.
+	 */
+	int indexOf(String s) {
+		Integer id = ids.get(s);
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * The dictionary's own instance of the string at index id.
+	 */
+	String get(int id) {
+		if (id < 0 || id >= strings.size()) {
+			throw new RuntimeException("Shell component sent unknown string id " + id);
+		}
+		return strings.get(id);
+	}
+
+	/**
+	 * The dictionary's own instance of s, or s itself if it is not in the dictionary.
+	 */
+	String canonical(String s) {
+		Integer id = ids.get(s);
+		return id == null ? s : strings.get(id);
+	}
+}
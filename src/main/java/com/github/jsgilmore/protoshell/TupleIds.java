@@ -0,0 +1,130 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.github.jsgilmore.protoshell;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Maps the numeric form of the bolt tuple ids in flight to the String ids
+ * ShellBolt generated for them, once NUMERIC_IDS has been accepted.
+ *
+ * ShellBolt keys its pending tuples by these Strings, so acks, fails and
+ * anchors that arrive as numbers are handed back as the very same instances,
+ * without formatting them again. Only ids in canonical decimal form are sent
+ * as numbers, so an id that is not found can always be formatted again.
+ *
+ * The ids are kept in a fixed table of slots, indexed by their numeric form,
+ * and a new id takes over its slot. Ids the shell never acks or fails are
+ * therefore forgotten eventually, rather than kept forever. Tuples are written
+ * and acked on different threads, and a slot only ever holds a String, which
+ * is checked against the number it is looked up by.
+ */
+class TupleIds {
+	/**
+	 * What parse returns for ids that are not sent as numbers, which include
+	 * the one whose numeric form it is.
+	 */
+	static final long NOT_NUMERIC = Long.MIN_VALUE;
+
+	private static final int DEFAULT_SLOTS = 1 << 16;
+
+	private final AtomicReferenceArray<String> slots;
+	private final int mask;
+
+	TupleIds() {
+		this(DEFAULT_SLOTS);
+	}
+
+	TupleIds(int slots) {
+		int size = Integer.highestOneBit(Math.max(slots, 2) - 1) << 1;
+		this.slots = new AtomicReferenceArray<String>(size);
+		this.mask = size - 1;
+	}
+
+	/**
+	 * The numeric form of an id in canonical decimal form, or NOT_NUMERIC.
+	 */
+	static long parse(String id) {
+		int length = id.length();
+		boolean negative = length > 0 && id.charAt(0) == '-';
+		int start = negative ? 1 : 0;
+		// Leading zeros and "-0" would not survive being formatted again
+		if (length == start || length - start > 19 || (id.charAt(start) == '0' && (negative || length > 1))) {
+			return NOT_NUMERIC;
+		}
+		// Accumulated negatively, like Long.parseLong, to reach Long.MIN_VALUE
+		long value = 0;
+		for (int i = start; i < length; i++) {
+			int digit = id.charAt(i) - '0';
+			if (digit < 0 || digit > 9 || value < Long.MIN_VALUE / 10) {
+				return NOT_NUMERIC;
+			}
+			value *= 10;
+			if (value < Long.MIN_VALUE + digit) {
+				return NOT_NUMERIC;
+			}
+			value -= digit;
+		}
+		return negative ? value : (value == Long.MIN_VALUE ? NOT_NUMERIC : -value);
+	}
+
+	/**
+	 * Records a tuple id that is about to be written and returns its numeric
+	 * form, or NOT_NUMERIC, in which case it is sent as a string.
+	 */
+	long track(String id) {
+		long numId = parse(id);
+		if (numId != NOT_NUMERIC) {
+			slots.set(slot(numId), id);
+		}
+		return numId;
+	}
+
+	/**
+	 * The String id of a tuple that is still in flight.
+	 */
+	String get(long numId) {
+		String id = slots.get(slot(numId));
+		return id != null && parse(id) == numId ? id : Long.toString(numId);
+	}
+
+	/**
+	 * The String id of a tuple that is being acked or failed, which is no
+	 * longer in flight afterwards.
+	 */
+	String release(long numId) {
+		int slot = slot(numId);
+		String id = slots.get(slot);
+		if (id != null && parse(id) == numId) {
+			slots.compareAndSet(slot, id, null);
+			return id;
+		}
+		return Long.toString(numId);
+	}
+
+	int size() {
+		int size = 0;
+		for (int i = 0; i < slots.length(); i++) {
+			if (slots.get(i) != null) {
+				size++;
+			}
+		}
+		return size;
+	}
+
+	private int slot(long numId) {
+		return (int)(numId ^ (numId >>> 32)) & mask;
+	}
+}
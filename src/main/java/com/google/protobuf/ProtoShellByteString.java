@@ -0,0 +1,33 @@
+//   Copyright 2013 Vastech SA (PTY) LTD
+//
+//   Licensed under the Apache License, Version 2.0 (the "License");
+//   you may not use this file except in compliance with the License.
+//   You may obtain a copy of the License at
+//
+//       http://www.apache.org/licenses/LICENSE-2.0
+//
+//   Unless required by applicable law or agreed to in writing, software
+//   distributed under the License is distributed on an "AS IS" BASIS,
+//   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+//   See the License for the specific language governing permissions and
+//   limitations under the License.
+
+package com.google.protobuf;
+
+/**
+ * Wraps byte arrays in ByteStrings without copying them. protobuf-java 2.5
+ * only offers copying factory methods, so this has to live in the protobuf
+ * package and be loaded by the same class loader as protobuf-java.
+ *
+ * The caller gives up the wrapped bytes: they must never be modified again.
+ */
+public final class ProtoShellByteString {
+	private ProtoShellByteString() {}
+
+	public static ByteString wrap(byte[] bytes, int offset, int length) {
+		if (offset == 0 && length == bytes.length) {
+			return new LiteralByteString(bytes);
+		}
+		return new BoundedByteString(bytes, offset, length);
+	}
+}
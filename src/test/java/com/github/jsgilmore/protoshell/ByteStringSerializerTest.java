@@ -0,0 +1,51 @@
+package com.github.jsgilmore.protoshell;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import backtype.storm.Config;
+
+import com.esotericsoftware.kryo.Kryo;
+import com.esotericsoftware.kryo.io.Input;
+import com.esotericsoftware.kryo.io.Output;
+import com.google.protobuf.ByteString;
+
+public class ByteStringSerializerTest {
+
+    private ByteString roundTrip(ByteString bytes) {
+        Kryo kryo = new Kryo();
+        kryo.setRegistrationRequired(true);
+        kryo.register(bytes.getClass(), new ByteStringSerializer());
+        Output output = new Output(16, -1);
+        kryo.writeClassAndObject(output, bytes);
+        return (ByteString)kryo.readClassAndObject(new Input(output.toBytes()));
+    }
+
+    @Test
+    public void testRoundTrip() {
+        ByteString literal = ByteString.copyFromUtf8("literal bytes");
+        assertEquals(literal, roundTrip(literal));
+        assertEquals(ByteString.copyFromUtf8("bytes"), roundTrip(literal.substring(8)));
+        assertEquals(ByteString.EMPTY, roundTrip(ByteString.copyFrom(new byte[0])));
+
+        byte[] large = new byte[10000];
+        ByteString rope = ByteString.copyFrom(large).concat(ByteString.copyFrom(large));
+        assertEquals(rope, roundTrip(rope));
+    }
+
+    @Test
+    public void testRegisterSerializations() {
+        Map conf = new HashMap();
+        ProtoShellConfig.registerSerializations(conf);
+
+        List<Map<String, String>> registrations = (List<Map<String, String>>)conf.get(Config.TOPOLOGY_KRYO_REGISTER);
+        assertEquals(3, registrations.size());
+        assertEquals(ByteStringSerializer.class.getName(),
+                registrations.get(0).get(ByteString.copyFromUtf8("x").getClass().getName()));
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.jsgilmore.protoshell;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class FrameCodecTest {
+
+    private static byte[] text(int size) {
+        byte[] words = "the quick brown fox jumps over the lazy dog, ".getBytes();
+        byte[] text = new byte[size];
+        for (int i = 0; i < size; i++) {
+            text[i] = words[(i * 7 / 5) % words.length];
+        }
+        return text;
+    }
+
+    private static byte[] random(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static int roundTrip(FrameCodec codec, byte[] data) throws IOException {
+        byte[] compressed = new byte[3 + codec.maxCompressedLength(data.length)];
+        int length = codec.compress(data, 0, data.length, compressed, 3);
+        assertTrue(length <= codec.maxCompressedLength(data.length));
+
+        byte[] decompressed = new byte[data.length + 2];
+        codec.decompress(compressed, 3, length, decompressed, 1, data.length);
+        assertArrayEquals(data, Arrays.copyOfRange(decompressed, 1, data.length + 1));
+        return length;
+    }
+
+    private static void testCodec(FrameCodec codec) throws IOException {
+        for (int size : new int[] {0, 1, 12, 13, 100, 65536, 200000}) {
+            roundTrip(codec, text(size));
+            roundTrip(codec, random(size));
+            roundTrip(codec, new byte[size]);
+        }
+        assertTrue(roundTrip(codec, text(10000)) < 2000);
+    }
+
+    @Test
+    public void testLz4() throws IOException {
+        testCodec(new Lz4Codec());
+    }
+
+    @Test
+    public void testDeflate() throws IOException {
+        testCodec(new DeflateCodec());
+    }
+
+    @Test
+    public void testLz4KnownBlock() throws IOException {
+        // Three literals, a 15 byte overlapping match at offset 3 and five
+        // final literals
+        byte[] block = {0x3b, 'a', 'b', 'c', 3, 0, 0x50, 'a', 'b', 'c', 'a', 'b'};
+        byte[] decompressed = new byte[23];
+        new Lz4Codec().decompress(block, 0, block.length, decompressed, 0, decompressed.length);
+        assertEquals("abcabcabcabcabcabcabcab", new String(decompressed));
+    }
+
+    @Test(expected = IOException.class)
+    public void testLz4Malformed() throws IOException {
+        byte[] block = {0x1f, 'a', 9, 0};
+        new Lz4Codec().decompress(block, 0, block.length, new byte[100], 0, 100);
+    }
+
+    @Test(expected = IOException.class)
+    public void testDeflateMalformed() throws IOException {
+        new DeflateCodec().decompress(new byte[] {1, 2, 3}, 0, 3, new byte[100], 0, 100);
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.jsgilmore.protoshell;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.Test;
+
+import com.google.protobuf.ByteString;
+
+public class FrameReaderTest {
+
+    /**
+     * Repeats the given bytes the given number of times.
+     */
+    private static InputStream repeat(final byte[] bytes, final int times) {
+        return new InputStream() {
+            long position;
+
+            @Override
+            public int read() {
+                if (position == (long)bytes.length * times) {
+                    return -1;
+                }
+                return bytes[(int)(position++ % bytes.length)] & 0xff;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (position == (long)bytes.length * times) {
+                    return -1;
+                }
+                int index = (int)(position % bytes.length);
+                int n = Math.min(len, bytes.length - index);
+                System.arraycopy(bytes, index, b, off, n);
+                position += n;
+                return n;
+            }
+        };
+    }
+
+    @Test
+    public void testReadsPastSizeLimit() throws IOException {
+        ByteArrayOutputStream frame = new ByteArrayOutputStream();
+        ShellMessages.Test.newBuilder()
+                .setName("large")
+                .setData(ByteString.copyFrom(new byte[1 << 20]))
+                .build()
+                .writeDelimitedTo(frame);
+
+        // 80 frames of 1MB exceed the 64MB CodedInputStream size limit
+        FrameReader reader = new FrameReader(repeat(frame.toByteArray(), 80));
+        for (int i = 0; i < 80; i++) {
+            assertEquals("large", reader.readMessage(ShellMessages.Test.PARSER).getName());
+        }
+    }
+
+    @Test
+    public void testReadFrame() throws IOException {
+        ByteArrayOutputStream frames = new ByteArrayOutputStream();
+        ShellMessages.Test first = ShellMessages.Test.newBuilder().setNumber(1).build();
+        first.writeDelimitedTo(frames);
+        ShellMessages.Test.newBuilder().setNumber(2).build().writeDelimitedTo(frames);
+
+        FrameReader reader = new FrameReader(new ByteArrayInputStream(frames.toByteArray()));
+        assertArrayEquals(first.toByteArray(), reader.readFrame());
+        assertEquals(2, reader.readMessage(ShellMessages.Test.PARSER).getNumber());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testShellProcessDied() throws IOException {
+        new FrameReader(new ByteArrayInputStream(new byte[0])).readMessage(ShellMessages.Test.PARSER);
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.jsgilmore.protoshell;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import backtype.storm.multilang.BoltMsg;
+
+import com.google.protobuf.ByteString;
+
+public class FrameWriterTest {
+    RecordingOutputStream out;
+    FrameWriter writer;
+
+    /**
+     * Records every write and flush made to it.
+     */
+    static class RecordingOutputStream extends ByteArrayOutputStream {
+        List<byte[]> writes = new ArrayList<byte[]>();
+        List<byte[]> arrays = new ArrayList<byte[]>();
+        int flushes;
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            super.write(b, off, len);
+            writes.add(Arrays.copyOfRange(b, off, off + len));
+            arrays.add(b);
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+
+    @Before
+    public void setUp() {
+        out = new RecordingOutputStream();
+        writer = new FrameWriter(out);
+    }
+
+    private BoltMsg boltMsg(byte[]... fields) {
+        BoltMsg msg = new BoltMsg();
+        msg.setId("1");
+        msg.setComp("spout");
+        msg.setStream("default");
+        msg.setTuple(new ArrayList<Object>(Arrays.asList((Object[])fields)));
+        return msg;
+    }
+
+    @Test
+    public void testMessageIsOneWrite() throws IOException {
+        ShellMessages.Test msg = ShellMessages.Test.newBuilder()
+                .setData(ByteString.copyFrom(new byte[10000]))
+                .build();
+        writer.writeMessage(msg);
+
+        assertEquals(1, out.writes.size());
+        assertEquals(1, out.flushes);
+        assertEquals(msg, ShellMessages.Test.parseDelimitedFrom(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    @Test
+    public void testSmallTupleIsOneWrite() throws IOException {
+        writer.writeBoltMsg(new BoltMsgEncoder(boltMsg(new byte[] {1}, new byte[1000]), null, null));
+
+        assertEquals(1, out.writes.size());
+        ShellMessages.BoltMsgProto proto = ShellMessages.BoltMsgProto.parseDelimitedFrom(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(2, proto.getContentsCount());
+    }
+
+    @Test
+    public void testLargePayloadsAreGathered() throws IOException {
+        byte[] large = new byte[FrameWriter.GATHER_THRESHOLD];
+        Arrays.fill(large, (byte)3);
+        List<BoltMsgEncoder> batch = Arrays.asList(
+                new BoltMsgEncoder(boltMsg(large, new byte[] {1}), null, null),
+                new BoltMsgEncoder(boltMsg(new byte[] {2}), null, null));
+        writer.writeBoltMsgBatch(batch);
+
+        // header, payload written from the tuple itself, then the rest
+        assertEquals(3, out.writes.size());
+        assertSame(large, out.arrays.get(1));
+        assertEquals(1, out.flushes);
+        ShellMessages.BoltMsgBatch proto = ShellMessages.BoltMsgBatch.parseDelimitedFrom(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(ByteString.copyFrom(large), proto.getBoltMsgs(0).getContents(0));
+        assertEquals(ByteString.copyFrom(new byte[] {2}), proto.getBoltMsgs(1).getContents(0));
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.jsgilmore.protoshell;
+
+import static org.junit.Assert.*;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBuckets() {
+        assertEquals(0, LatencyHistogram.index(-5));
+        assertEquals(15, LatencyHistogram.index(15));
+        assertEquals(16, LatencyHistogram.index(16));
+        assertEquals(32, LatencyHistogram.index(32));
+        assertEquals(32, LatencyHistogram.index(33));
+        assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.index(Long.MAX_VALUE));
+
+        int previous = 0;
+        for (long value = 1; value > 0 && value < (1L << 46); value += 1 + value / 7) {
+            int index = LatencyHistogram.index(value);
+            assertTrue(index >= previous);
+            assertTrue(LatencyHistogram.lowestValue(index) <= value);
+            assertTrue(LatencyHistogram.highestValue(index) >= value);
+            // Every bucket is narrower than 1/SUB_BUCKETS of the values in it
+            long width = LatencyHistogram.highestValue(index) - LatencyHistogram.lowestValue(index) + 1;
+            assertTrue(width <= Math.max(1, value / LatencyHistogram.SUB_BUCKETS));
+            previous = index;
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        Map<String, Object> values = histogram.getValueAndReset();
+        assertEquals(1000L, values.get("count"));
+        assertEquals(500.0, (Double)values.get("p50.micros"), 500.0 / 16);
+        assertEquals(990.0, (Double)values.get("p99.micros"), 990.0 / 16);
+        assertEquals(1.0, (Double)values.get("min.micros"), 1.0 / 16);
+        assertEquals(1000.0, (Double)values.get("max.micros"), 1000.0 / 16);
+        assertEquals(500.5, (Double)values.get("mean.micros"), 500.5 / 16);
+
+        assertNull(histogram.getValueAndReset());
+    }
+}
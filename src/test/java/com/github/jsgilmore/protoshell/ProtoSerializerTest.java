@@ -2,11 +2,20 @@ package com.github.jsgilmore.protoshell;
 
 import static org.junit.Assert.*;
 
-import java.io.BufferedOutputStream;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.After;
 import org.junit.AfterClass;
@@ -14,11 +23,24 @@ import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
-import backtype.storm.multilang.NoOutputException;
+import backtype.storm.metric.api.IMetric;
+import backtype.storm.multilang.BoltMsg;
+import backtype.storm.multilang.ShellMsg;
+import backtype.storm.multilang.SpoutMsg;
+import backtype.storm.task.TopologyContext;
+
+import clojure.lang.Atom;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Message;
 
 public class ProtoSerializerTest {
     ProtoSerializer serializer;
-    BufferedReader serializerOutput;
+    ByteArrayOutputStream processIn;
+    InputStream serializerOutput;
+    Map<String, Object> conf;
+    File pidDir;
+    Map registeredMetrics;
 
     @BeforeClass
     public static void setUpBeforeClass() throws Exception {
@@ -30,45 +52,1116 @@ public class ProtoSerializerTest {
 
     @Before
     public void setUp() throws Exception {
-//        PipedInputStream pipeInput = new PipedInputStream();
-//        BufferedOutputStream processIn = new BufferedOutputStream(new PipedOutputStream(pipeInput));
-//        serializerOutput = new BufferedReader(new InputStreamReader(pipeInput));
-//
-//        serializer = new ProtoSerializer();
-//        serializer.initialize(processIn, null);
+        conf = new HashMap<String, Object>();
+        conf.put("topology.name", "test");
+        pidDir = File.createTempFile("protoshell", "pids");
+        pidDir.delete();
+        pidDir.mkdir();
     }
 
     @After
     public void tearDown() throws Exception {
+        for (File file : pidDir.listFiles()) {
+            file.delete();
+        }
+        pidDir.delete();
+    }
+
+    /**
+     * Connects a new serializer whose shell component replies with the given
+     * messages, in order, after the Context has been written.
+     */
+    private ShellMessages.Context connect(Message... shellReplies) throws Exception {
+        ByteArrayOutputStream replies = new ByteArrayOutputStream();
+        for (Message reply : shellReplies) {
+            reply.writeDelimitedTo(replies);
+        }
+        return connect(replies.toByteArray());
+    }
+
+    private ShellMessages.Context connect(byte[] shellOutput) throws Exception {
+        return connect(new ByteArrayInputStream(shellOutput));
+    }
+
+    private ShellMessages.Context connect(InputStream shellOutput) throws Exception {
+        processIn = new ByteArrayOutputStream();
+        serializer = new ProtoSerializer();
+        serializer.initialize(processIn, shellOutput);
+        serializer.connect(conf, topologyContext());
+
+        serializerOutput = new ByteArrayInputStream(processIn.toByteArray());
+        ShellMessages.Context context = ShellMessages.Context.parseDelimitedFrom(serializerOutput);
+        processIn.reset();
+        return context;
+    }
+
+    private TopologyContext topologyContext() {
+        return topologyContext("test-1-1", 2);
+    }
+
+    private TopologyContext topologyContext(String stormId, int taskId) {
+        Map<Integer, String> taskToComponent = new HashMap<Integer, String>();
+        taskToComponent.put(1, "spout");
+        taskToComponent.put(2, "bolt");
+        taskToComponent.put(3, "bolt");
+        registeredMetrics = new HashMap();
+        return new TopologyContext(null, conf, taskToComponent, null, null, stormId, null,
+                pidDir.getPath(), taskId, 6700, Arrays.asList(2, 3), null, null, null,
+                registeredMetrics, new Atom(false));
+    }
+
+    private ShellMessages.Pid pid(ShellMessages.Capability... capabilities) {
+        return ShellMessages.Pid.newBuilder()
+                .setPid(1234)
+                .addAllCapabilities(Arrays.asList(capabilities))
+                .build();
+    }
+
+    private BoltMsg boltMsg(String id, byte[]... fields) {
+        BoltMsg msg = new BoltMsg();
+        msg.setId(id);
+        msg.setComp("spout");
+        msg.setStream("default");
+        msg.setTask(1);
+        msg.setTuple(new ArrayList<Object>(Arrays.asList((Object[])fields)));
+        return msg;
+    }
+
+    private ShellMessages.ShellMsgProto emit(String stream, byte[]... fields) {
+        ShellMessages.ShellMsgProto.Builder builder = ShellMessages.ShellMsgProto.newBuilder()
+                .setShellMsgMeta(ShellMessages.ShellMsgMeta.newBuilder()
+                        .setCommand("emit")
+                        .setStream(stream)
+                        .addAnchors("42"));
+        for (byte[] field : fields) {
+            builder.addContents(ByteString.copyFrom(field));
+        }
+        return builder.build();
+    }
+
+    private InputStream written() {
+        return new ByteArrayInputStream(processIn.toByteArray());
     }
 
     @Test
-    public void testConnect() {
-//        try {
-//            serializer.connect(null, null);
-//        } catch (Exception e) {
-//            fail(e.toString());
-//        }
+    public void testConnect() throws Exception {
+        ByteArrayOutputStream replies = new ByteArrayOutputStream();
+        pid().writeDelimitedTo(replies);
+        processIn = new ByteArrayOutputStream();
+        serializer = new ProtoSerializer();
+        serializer.initialize(processIn, new ByteArrayInputStream(replies.toByteArray()));
+
+        assertEquals(1234, serializer.connect(conf, topologyContext()).intValue());
+
+        ShellMessages.Context context = ShellMessages.Context.parseDelimitedFrom(written());
+        assertEquals(pidDir.getPath(), context.getPidDir());
+        assertEquals(2, context.getTopology().getTaskId());
+        assertEquals(3, context.getTopology().getTaskComponentMappingsCount());
+        assertEquals(ProtoSerializer.PROTOCOL_VERSION, context.getProtocolVersion());
+        assertTrue(context.getCapabilitiesList().contains(ShellMessages.Capability.BOLT_BATCH));
     }
 
     @Test
-    public void testReadShellMsg() {
-      //  fail("Not yet implemented");
+    public void testCompactTaskMappings() throws Exception {
+        conf.put(ProtoShellConfig.COMPACT_TASK_MAPPINGS, true);
+        ShellMessages.Topology topology = connect(pid()).getTopology();
+        assertEquals(0, topology.getTaskComponentMappingsCount());
+        assertEquals(Arrays.asList("spout", "bolt"), topology.getComponentsList());
+        assertEquals(2, topology.getTaskRangesCount());
+        assertEquals(ShellMessages.TaskRange.newBuilder().setComponent(0).setFirstTask(1).setCount(1).build(),
+                topology.getTaskRanges(0));
+        assertEquals(ShellMessages.TaskRange.newBuilder().setComponent(1).setFirstTask(2).setCount(2).build(),
+                topology.getTaskRanges(1));
     }
 
     @Test
-    public void testWriteBoltMsg() {
-       // fail("Not yet implemented");
+    public void testTaskRanges() {
+        Map<Integer, String> taskToComponent = new HashMap<Integer, String>();
+        taskToComponent.put(-1, "__system");
+        taskToComponent.put(5, "a");
+        taskToComponent.put(6, "a");
+        taskToComponent.put(7, "b");
+        taskToComponent.put(9, "b");
+        taskToComponent.put(10, "a");
+        ShellMessages.Topology.Builder topology = ShellMessages.Topology.newBuilder();
+        SharedContext.addTaskRanges(topology, taskToComponent);
+
+        assertEquals(Arrays.asList("__system", "a", "b"), topology.getComponentsList());
+        int[][] ranges = {{0, -1, 1}, {1, 5, 2}, {2, 7, 1}, {2, 9, 1}, {1, 10, 1}};
+        assertEquals(ranges.length, topology.getTaskRangesCount());
+        for (int i = 0; i < ranges.length; i++) {
+            assertEquals(ranges[i][0], topology.getTaskRanges(i).getComponent());
+            assertEquals(ranges[i][1], topology.getTaskRanges(i).getFirstTask());
+            assertEquals(ranges[i][2], topology.getTaskRanges(i).getCount());
+        }
     }
 
     @Test
-    public void testWriteSpoutMsg() {
-       // fail("Not yet implemented");
+    public void testConfKeys() throws Exception {
+        conf.put("topology.workers", 4);
+        conf.put("storm.zookeeper.servers", Arrays.asList("zk1", "zk2"));
+        conf.put(ProtoShellConfig.CONF_KEYS, Arrays.asList("topology.*", "app.key"));
+        conf.put("app.key", "value");
+        conf.put("app.other", "value");
+
+        Map<String, String> sent = new HashMap<String, String>();
+        for (ShellMessages.Conf confRec : connect(pid()).getConfsList()) {
+            sent.put(confRec.getKey(), confRec.getValue());
+        }
+        assertEquals(3, sent.size());
+        assertEquals("test", sent.get("topology.name"));
+        assertEquals("4", sent.get("topology.workers"));
+        assertEquals("value", sent.get("app.key"));
     }
 
     @Test
-    public void testWriteTaskIds() {
-      //  fail("Not yet implemented");
+    public void testGetConf() throws Exception {
+        conf.put(ProtoShellConfig.CONF_KEYS, "topology.name");
+        conf.put("app.key", "value");
+        connect(pid(ShellMessages.Capability.GET_CONF),
+                ShellMessages.ShellMsgProto.newBuilder()
+                        .setShellMsgMeta(ShellMessages.ShellMsgMeta.newBuilder().setCommand("getConf").setMsg("app.*"))
+                        .build(),
+                emit("default"));
+
+        assertEquals("emit", serializer.readShellMsg().getCommand());
+
+        byte[] written = processIn.toByteArray();
+        // The reply can be told apart from any other frame by its first byte
+        assertEquals(0x7A, written[1]);
+        ShellMessages.ConfReply reply = ShellMessages.ConfReply.parseDelimitedFrom(written());
+        assertEquals("app.*", reply.getKey());
+        assertEquals(1, reply.getConfsCount());
+        assertEquals("app.key", reply.getConfs(0).getKey());
+        assertEquals("value", reply.getConfs(0).getValue());
+    }
+
+    @Test
+    public void testSharedContext() throws Exception {
+        EnumSet<ShellMessages.Capability> offered = EnumSet.of(ShellMessages.Capability.INTERNED_STRINGS);
+        TopologyContext taskContext = topologyContext();
+        SharedContext shared = SharedContext.forTask(conf, taskContext, offered);
+        assertSame(shared, SharedContext.forTask(conf, taskContext, offered));
+        assertSame(shared, SharedContext.forTask(new HashMap<String, Object>(conf), topologyContext(), offered));
+
+        conf.put("app.key", "value");
+        SharedContext changed = SharedContext.forTask(conf, topologyContext(), offered);
+        assertNotSame(shared, changed);
+        assertSame(changed, SharedContext.forTask(conf, taskContext, offered));
+
+        // The task's own Topology is merged into the shared one
+        ShellMessages.Context context = ShellMessages.Context.parseDelimitedFrom(new ByteArrayInputStream(
+                changed.frame(ShellMessages.Context.newBuilder()
+                        .setPidDir("pids")
+                        .setTopology(ShellMessages.Topology.newBuilder().setTaskId(3))
+                        .build())));
+        assertEquals("pids", context.getPidDir());
+        assertEquals(3, context.getTopology().getTaskId());
+        assertEquals(3, context.getTopology().getTaskComponentMappingsCount());
+        assertEquals(2, context.getConfsCount());
+        assertEquals(changed.getDictionary().getStrings(), context.getDictionaryList());
+    }
+
+    private ShellMessages.RoutedData routed(int task, Message... messages) throws IOException {
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        for (Message message : messages) {
+            message.writeDelimitedTo(data);
+        }
+        return ShellMessages.RoutedData.newBuilder().setTask(task).setData(ByteString.copyFrom(data.toByteArray())).build();
+    }
+
+    /**
+     * A shell process whose output is left open, so that its router keeps
+     * running.
+     */
+    private PipedOutputStream openShell(ByteArrayOutputStream frames, PipedInputStream shellOutput) throws IOException {
+        PipedOutputStream shell = new PipedOutputStream(shellOutput);
+        frames.writeTo(shell);
+        return shell;
+    }
+
+    @Test
+    public void testMultiplex() throws Exception {
+        conf.put(ProtoShellConfig.MULTIPLEX, true);
+        ByteArrayOutputStream sharedOutput = new ByteArrayOutputStream();
+        pid(ShellMessages.Capability.MULTIPLEX).writeDelimitedTo(sharedOutput);
+        routed(3, pid()).writeDelimitedTo(sharedOutput);
+        routed(2, emit("two")).writeDelimitedTo(sharedOutput);
+        routed(3, emit("three")).writeDelimitedTo(sharedOutput);
+
+        ByteArrayOutputStream sharedInput = new ByteArrayOutputStream();
+        ProtoSerializer primary = new ProtoSerializer();
+        PipedInputStream shellOutput = new PipedInputStream(65536);
+        openShell(sharedOutput, shellOutput);
+        primary.initialize(sharedInput, shellOutput);
+        assertEquals(1234, primary.connect(conf, topologyContext("mux-1-1", 2)).intValue());
+
+        // The second task's own process is only told which process it shares
+        ByteArrayOutputStream ownInput = new ByteArrayOutputStream();
+        ByteArrayOutputStream ownOutput = new ByteArrayOutputStream();
+        ShellMessages.Pid.newBuilder().setPid(5678).build().writeDelimitedTo(ownOutput);
+        ProtoSerializer secondary = new ProtoSerializer();
+        secondary.initialize(ownInput, new ByteArrayInputStream(ownOutput.toByteArray()));
+        assertEquals(1234, secondary.connect(conf, topologyContext("mux-1-1", 3)).intValue());
+
+        ShellMessages.Context exit = ShellMessages.Context.parseDelimitedFrom(new ByteArrayInputStream(ownInput.toByteArray()));
+        assertEquals(1234, exit.getMultiplexedBy());
+        assertFalse(exit.hasTopology());
+
+        assertEquals("two", primary.readShellMsg().getStream());
+        assertEquals("three", secondary.readShellMsg().getStream());
+        secondary.writeBoltMsg(boltMsg("1", new byte[0]));
+
+        InputStream written = new ByteArrayInputStream(sharedInput.toByteArray());
+        ShellMessages.Context context = ShellMessages.Context.parseDelimitedFrom(written);
+        assertTrue(context.getCapabilitiesList().contains(ShellMessages.Capability.MULTIPLEX));
+        ShellMessages.RoutedData routedContext = ShellMessages.RoutedData.parseDelimitedFrom(written);
+        assertEquals(3, routedContext.getTask());
+        context = ShellMessages.Context.parseDelimitedFrom(routedContext.getData().newInput());
+        assertEquals(3, context.getTopology().getTaskId());
+        assertFalse(context.getCapabilitiesList().contains(ShellMessages.Capability.MULTIPLEX));
+        ShellMessages.RoutedData routedTuple = ShellMessages.RoutedData.parseDelimitedFrom(written);
+        assertEquals(3, routedTuple.getTask());
+        assertEquals("1", ShellMessages.BoltMsgProto.parseDelimitedFrom(routedTuple.getData().newInput()).getBoltMsgMeta().getId());
+    }
+
+    @Test(timeout = 10000)
+    public void testMultiplexStuckTask() throws Exception {
+        conf.put(ProtoShellConfig.MULTIPLEX, true);
+        conf.put(ProtoShellConfig.MULTIPLEX_CAPACITY, 4);
+        ByteArrayOutputStream sharedOutput = new ByteArrayOutputStream();
+        pid(ShellMessages.Capability.MULTIPLEX).writeDelimitedTo(sharedOutput);
+        routed(3, pid()).writeDelimitedTo(sharedOutput);
+        PipedInputStream shellOutput = new PipedInputStream(65536);
+        PipedOutputStream shell = openShell(sharedOutput, shellOutput);
+
+        ProtoSerializer primary = new ProtoSerializer();
+        primary.initialize(new ByteArrayOutputStream(), shellOutput);
+        primary.connect(conf, topologyContext("mux-2-1", 2));
+        ByteArrayOutputStream ownOutput = new ByteArrayOutputStream();
+        pid().writeDelimitedTo(ownOutput);
+        ProtoSerializer secondary = new ProtoSerializer();
+        secondary.initialize(new ByteArrayOutputStream(), new ByteArrayInputStream(ownOutput.toByteArray()));
+        secondary.connect(conf, topologyContext("mux-2-1", 3));
+        TopologyContext context = topologyContext("mux-2-1", 2);
+        ShellRouter router = ShellRouter.forComponent(context, 4);
+
+        // Task 3 never reads, but the router keeps handing task 2 its messages
+        for (int i = 0; i < 10; i++) {
+            routed(3, emit("stuck")).writeDelimitedTo(shell);
+        }
+        routed(2, emit("two")).writeDelimitedTo(shell);
+        shell.flush();
+        assertEquals("two", primary.readShellMsg().getStream());
+        try {
+            secondary.readShellMsg();
+            fail("Task 3 fell behind");
+        } catch (IOException e) {
+        }
+
+        // Once the process is gone, the next task to connect starts afresh
+        shell.close();
+        while (ShellRouter.forComponent(context, 4) == router) {
+            Thread.sleep(10);
+        }
+        assertTrue(ShellRouter.forComponent(context, 4).claim());
+    }
+
+    @Test
+    public void testCapabilitiesNotOffered() throws Exception {
+        conf.put(ProtoShellConfig.BOLT_BATCH, false);
+        connect(pid(ShellMessages.Capability.BOLT_BATCH, ShellMessages.Capability.SHARED_MEMORY));
+
+        serializer.writeBoltMsg(boltMsg("1", new byte[0]));
+        assertEquals("1", ShellMessages.BoltMsgProto.parseDelimitedFrom(written()).getBoltMsgMeta().getId());
+    }
+
+    @Test
+    public void testReadShellMsg() throws Exception {
+        connect(pid(), emit("default", new byte[] {1, 2}));
+
+        ShellMsg msg = serializer.readShellMsg();
+        assertEquals("emit", msg.getCommand());
+        assertEquals("default", msg.getStream());
+        assertEquals(Arrays.asList("42"), msg.getAnchors());
+        assertArrayEquals(new byte[] {1, 2}, (byte[])msg.getTuple().get(0));
+    }
+
+    @Test
+    public void testReadShellMsgByteStrings() throws Exception {
+        conf.put(ProtoShellConfig.TUPLE_BYTESTRING, true);
+        connect(pid(), emit("default", new byte[] {1, 2}));
+
+        assertEquals(ByteString.copyFrom(new byte[] {1, 2}), serializer.readShellMsg().getTuple().get(0));
+    }
+
+    @Test
+    public void testReadShellMsgBatch() throws Exception {
+        connect(pid(ShellMessages.Capability.SHELL_BATCH),
+                ShellMessages.ShellMsgBatch.newBuilder()
+                        .addShellMsgs(emit("a"))
+                        .addShellMsgs(emit("b"))
+                        .build(),
+                ShellMessages.ShellMsgBatch.newBuilder().build(),
+                ShellMessages.ShellMsgBatch.newBuilder()
+                        .addShellMsgs(emit("c"))
+                        .build());
+
+        assertEquals("a", serializer.readShellMsg().getStream());
+        assertEquals("b", serializer.readShellMsg().getStream());
+        assertEquals("c", serializer.readShellMsg().getStream());
+    }
+
+    @Test
+    public void testWriteBoltMsg() throws Exception {
+        connect(pid());
+        serializer.writeBoltMsg(boltMsg("42", new byte[] {1, 2, 3}));
+
+        ShellMessages.BoltMsgProto proto = ShellMessages.BoltMsgProto.parseDelimitedFrom(written());
+        assertEquals("42", proto.getBoltMsgMeta().getId());
+        assertEquals("spout", proto.getBoltMsgMeta().getComp());
+        assertArrayEquals(new byte[] {1, 2, 3}, proto.getContents(0).toByteArray());
+    }
+
+    @Test
+    public void testWriteBoltMsgMatchesProtoEncoding() throws Exception {
+        connect(pid());
+        byte[] large = new byte[100000];
+        Arrays.fill(large, (byte)7);
+        serializer.writeBoltMsg(boltMsg("42", new byte[0], large, new byte[] {1}));
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ShellMessages.BoltMsgProto.newBuilder()
+                .setBoltMsgMeta(ShellMessages.BoltMsgMeta.newBuilder()
+                        .setId("42")
+                        .setComp("spout")
+                        .setStream("default")
+                        .setTask(1))
+                .addContents(ByteString.EMPTY)
+                .addContents(ByteString.copyFrom(large))
+                .addContents(ByteString.copyFrom(new byte[] {1}))
+                .build()
+                .writeDelimitedTo(expected);
+        assertArrayEquals(expected.toByteArray(), processIn.toByteArray());
+    }
+
+    @Test
+    public void testWriteBoltMsgBatch() throws Exception {
+        conf.put(ProtoShellConfig.BOLT_BATCH_MAX_TUPLES, 3);
+        conf.put(ProtoShellConfig.BOLT_BATCH_LINGER_MICROS, 60000000);
+        connect(pid(ShellMessages.Capability.BOLT_BATCH));
+
+        for (int i = 0; i < 4; i++) {
+            serializer.writeBoltMsg(boltMsg(Integer.toString(i), new byte[] {(byte)i}));
+        }
+        InputStream written = written();
+        ShellMessages.BoltMsgBatch batch = ShellMessages.BoltMsgBatch.parseDelimitedFrom(written);
+        assertEquals(3, batch.getBoltMsgsCount());
+        assertEquals("2", batch.getBoltMsgs(2).getBoltMsgMeta().getId());
+        assertNull(ShellMessages.BoltMsgBatch.parseDelimitedFrom(written));
+
+        serializer.writeTaskIds(Arrays.asList(7));
+        written = written();
+        ShellMessages.BoltMsgBatch.parseDelimitedFrom(written);
+        batch = ShellMessages.BoltMsgBatch.parseDelimitedFrom(written);
+        assertEquals(1, batch.getBoltMsgsCount());
+        assertEquals(7, ShellMessages.TaskIds.parseDelimitedFrom(written).getTaskIds(0));
+    }
+
+    @Test
+    public void testBoltMsgBatchLinger() throws Exception {
+        conf.put(ProtoShellConfig.BOLT_BATCH_LINGER_MICROS, 1000);
+        connect(pid(ShellMessages.Capability.BOLT_BATCH));
+
+        serializer.writeBoltMsg(boltMsg("1", new byte[0]));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (processIn.size() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        synchronized (serializer) {
+            assertEquals(1, ShellMessages.BoltMsgBatch.parseDelimitedFrom(written()).getBoltMsgsCount());
+        }
+    }
+
+    @Test
+    public void testReadShellMsgAliased() throws Exception {
+        conf.put(ProtoShellConfig.READ_ALIASED, true);
+        connect(pid(ShellMessages.Capability.SHELL_BATCH),
+                ShellMessages.ShellMsgBatch.newBuilder()
+                        .addShellMsgs(emit("a", new byte[] {1, 2}, new byte[0]))
+                        .addShellMsgs(emit("b", new byte[] {3}))
+                        .build());
+
+        ShellMsg msg = serializer.readShellMsg();
+        assertEquals("a", msg.getStream());
+        assertEquals(Arrays.asList("42"), msg.getAnchors());
+        assertEquals(Arrays.asList(ByteString.copyFrom(new byte[] {1, 2}), ByteString.EMPTY), msg.getTuple());
+        msg = serializer.readShellMsg();
+        assertEquals("b", msg.getStream());
+        assertEquals(Arrays.asList(ByteString.copyFrom(new byte[] {3})), msg.getTuple());
+
+        // Aliased fields can be passed straight on to another shell bolt
+        BoltMsg boltMsg = boltMsg("1");
+        boltMsg.setTuple(msg.getTuple());
+        serializer.writeBoltMsg(boltMsg);
+        ShellMessages.BoltMsgProto proto = ShellMessages.BoltMsgProto.parseDelimitedFrom(written());
+        assertEquals(ByteString.copyFrom(new byte[] {3}), proto.getContents(0));
+    }
+
+    @Test
+    public void testInternedStrings() throws Exception {
+        ShellMessages.ShellMsgProto interned = ShellMessages.ShellMsgProto.newBuilder()
+                .setShellMsgMeta(ShellMessages.ShellMsgMeta.newBuilder()
+                        .setCommandId(0)
+                        .setStreamId(8))
+                .build();
+        ShellMessages.Context context = connect(pid(ShellMessages.Capability.INTERNED_STRINGS),
+                interned, emit(new String("default")));
+        assertEquals("emit", context.getDictionary(0));
+        assertEquals("default", context.getDictionary(8));
+        assertTrue(context.getDictionaryList().contains("spout"));
+        assertTrue(context.getDictionaryList().contains("bolt"));
+
+        ShellMsg msg = serializer.readShellMsg();
+        assertEquals("emit", msg.getCommand());
+        assertEquals("default", msg.getStream());
+        // Names sent as strings are swapped for the dictionary's instances
+        assertSame(msg.getStream(), serializer.readShellMsg().getStream());
+
+        serializer.writeBoltMsg(boltMsg("1", new byte[0]));
+        ShellMessages.BoltMsgMeta meta = ShellMessages.BoltMsgProto.parseDelimitedFrom(written()).getBoltMsgMeta();
+        assertFalse(meta.hasComp());
+        assertEquals("spout", context.getDictionary(meta.getCompId()));
+        assertEquals(8, meta.getStreamId());
+    }
+
+    @Test
+    public void testInternedStringsDeclined() throws Exception {
+        connect(pid());
+        serializer.writeBoltMsg(boltMsg("1", new byte[0]));
+
+        ShellMessages.BoltMsgMeta meta = ShellMessages.BoltMsgProto.parseDelimitedFrom(written()).getBoltMsgMeta();
+        assertEquals("spout", meta.getComp());
+        assertFalse(meta.hasCompId());
+    }
+
+    @Test
+    public void testNumericIds() throws Exception {
+        ShellMessages.ShellMsgProto anchored = ShellMessages.ShellMsgProto.newBuilder()
+                .setShellMsgMeta(ShellMessages.ShellMsgMeta.newBuilder()
+                        .setCommand("emit")
+                        .addNumAnchors(-42)
+                        .addNumAnchors(7))
+                .build();
+        ShellMessages.ShellMsgProto ack = ShellMessages.ShellMsgProto.newBuilder()
+                .setShellMsgMeta(ShellMessages.ShellMsgMeta.newBuilder()
+                        .setCommand("ack")
+                        .setNumId(-42))
+                .build();
+        connect(pid(ShellMessages.Capability.NUMERIC_IDS), anchored, ack);
+
+        String id = new String("-42");
+        serializer.writeBoltMsg(boltMsg(id, new byte[0]));
+        ShellMessages.BoltMsgMeta meta = ShellMessages.BoltMsgProto.parseDelimitedFrom(written()).getBoltMsgMeta();
+        assertFalse(meta.hasId());
+        assertEquals(-42, meta.getNumId());
+
+        // ShellBolt looks its tuples up by the ids it generated
+        ShellMsg msg = serializer.readShellMsg();
+        assertSame(id, msg.getAnchors().get(0));
+        assertEquals("7", msg.getAnchors().get(1));
+        assertSame(id, serializer.readShellMsg().getId());
+    }
+
+    @Test
+    public void testNumericSpoutIds() throws Exception {
+        connect(pid(ShellMessages.Capability.NUMERIC_IDS), ShellMessages.ShellMsgProto.newBuilder()
+                .setShellMsgMeta(ShellMessages.ShellMsgMeta.newBuilder()
+                        .setCommand("emit")
+                        .setNumId(5))
+                .build());
+
+        SpoutMsg ack = new SpoutMsg();
+        ack.setCommand("ack");
+        ack.setId(serializer.readShellMsg().getId());
+        assertEquals(5L, ack.getId());
+        serializer.writeSpoutMsg(ack);
+        assertEquals(5, ShellMessages.SpoutMsg.parseDelimitedFrom(written()).getNumId());
+    }
+
+    @Test
+    public void testConstantFrames() throws Exception {
+        connect(pid());
+
+        // The command need not be the interned "next" literal
+        SpoutMsg next = new SpoutMsg();
+        next.setCommand(new String("next"));
+        serializer.writeSpoutMsg(next);
+        serializer.writeSpoutMsg(next);
+        serializer.writeTaskIds(new ArrayList<Integer>());
+        serializer.writeTaskIds(Arrays.asList(3));
+
+        InputStream written = written();
+        for (int i = 0; i < 2; i++) {
+            ShellMessages.SpoutMsg spoutMsg = ShellMessages.SpoutMsg.parseDelimitedFrom(written);
+            assertEquals("next", spoutMsg.getCommand());
+            assertFalse(spoutMsg.hasId());
+        }
+        assertEquals(0, ShellMessages.TaskIds.parseDelimitedFrom(written).getTaskIdsCount());
+        assertEquals(Arrays.asList(3), ShellMessages.TaskIds.parseDelimitedFrom(written).getTaskIdsList());
+        assertEquals(-1, written.read());
+    }
+
+    private ShellMessages.ShellMsgProto ackBatch() {
+        return ShellMessages.ShellMsgProto.newBuilder()
+                .setAckBatch(ShellMessages.AckBatch.newBuilder()
+                        .addAckIds("1")
+                        .addNumAckIds(-42)
+                        .addNumAckIds(3)
+                        .addNumFailIds(4))
+                .build();
+    }
+
+    private void assertAckBatch() throws Exception {
+        String id = new String("-42");
+        serializer.writeBoltMsg(boltMsg(id, new byte[0]));
+
+        ShellMsg msg = serializer.readShellMsg();
+        assertEquals("ack", msg.getCommand());
+        assertEquals("1", msg.getId());
+        msg = serializer.readShellMsg();
+        assertEquals("ack", msg.getCommand());
+        assertSame(id, msg.getId());
+        assertEquals("3", serializer.readShellMsg().getId());
+        msg = serializer.readShellMsg();
+        assertEquals("fail", msg.getCommand());
+        assertEquals("4", msg.getId());
+        assertEquals("after", serializer.readShellMsg().getStream());
+    }
+
+    @Test
+    public void testAckBatch() throws Exception {
+        connect(pid(ShellMessages.Capability.ACK_BATCH, ShellMessages.Capability.NUMERIC_IDS),
+                ackBatch(), emit("after"));
+        assertAckBatch();
+    }
+
+    @Test
+    public void testAckBatchAliased() throws Exception {
+        conf.put(ProtoShellConfig.READ_ALIASED, true);
+        connect(pid(ShellMessages.Capability.ACK_BATCH, ShellMessages.Capability.NUMERIC_IDS, ShellMessages.Capability.SHELL_BATCH),
+                ShellMessages.ShellMsgBatch.newBuilder()
+                        .addShellMsgs(ackBatch())
+                        .addShellMsgs(emit("after"))
+                        .build());
+        assertAckBatch();
+    }
+
+    @Test
+    public void testCompression() throws Exception {
+        conf.put(ProtoShellConfig.COMPRESSION, true);
+        conf.put(ProtoShellConfig.COMPRESSION_THRESHOLD, 100);
+        byte[] text = new byte[1000];
+        Arrays.fill(text, (byte)'a');
+
+        // The shell compresses its emit with the codec it chose
+        byte[] emit = emit("compressed", text).toByteArray();
+        byte[] data = new byte[1000];
+        int length = new Lz4Codec().compress(emit, 0, emit.length, data, 0);
+        ShellMessages.CompressedFrame frame = ShellMessages.CompressedFrame.newBuilder()
+                .setSize(emit.length)
+                .setData(ByteString.copyFrom(data, 0, length))
+                .build();
+        ShellMessages.Pid pid = pid(ShellMessages.Capability.COMPRESSION).toBuilder().setCodec("lz4").build();
+        ShellMessages.Context context = connect(pid, frame, emit("plain"));
+        assertEquals(Arrays.asList("lz4", "deflate"), context.getCodecsList());
+
+        ShellMsg msg = serializer.readShellMsg();
+        assertEquals("compressed", msg.getStream());
+        assertArrayEquals(text, (byte[])msg.getTuple().get(0));
+        assertEquals("plain", serializer.readShellMsg().getStream());
+
+        serializer.writeBoltMsg(boltMsg("1", text));
+        serializer.writeBoltMsg(boltMsg("2", new byte[] {1}));
+        InputStream written = written();
+        frame = ShellMessages.CompressedFrame.parseDelimitedFrom(written);
+        assertTrue(frame.getData().size() < 100);
+        byte[] decompressed = new byte[frame.getSize()];
+        new Lz4Codec().decompress(frame.getData().toByteArray(), 0, frame.getData().size(), decompressed, 0, frame.getSize());
+        assertArrayEquals(text, ShellMessages.BoltMsgProto.parseFrom(decompressed).getContents(0).toByteArray());
+        assertEquals("2", ShellMessages.BoltMsgProto.parseDelimitedFrom(written).getBoltMsgMeta().getId());
+    }
+
+    @Test
+    public void testCompressionWithoutCodec() throws Exception {
+        conf.put(ProtoShellConfig.COMPRESSION, true);
+        conf.put(ProtoShellConfig.COMPRESSION_THRESHOLD, 0);
+        connect(pid(ShellMessages.Capability.COMPRESSION));
+
+        serializer.writeBoltMsg(boltMsg("1", new byte[1000]));
+        assertEquals("1", ShellMessages.BoltMsgProto.parseDelimitedFrom(written()).getBoltMsgMeta().getId());
+    }
+
+    /**
+     * Waits for a concurrent writer to have written the given message last.
+     */
+    private void awaitWritten(Message last) throws Exception {
+        byte[] expected = last.toByteArray();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            byte[] written = processIn.toByteArray();
+            if (written.length >= expected.length && Arrays.equals(expected,
+                    Arrays.copyOfRange(written, written.length - expected.length, written.length))) {
+                return;
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    /**
+     * Fails its writes from the given write onwards.
+     */
+    private static class FailingOutputStream extends ByteArrayOutputStream {
+        private int writes;
+
+        FailingOutputStream(int writes) {
+            this.writes = writes;
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            if (writes-- <= 0) {
+                throw new IllegalStateException("Broken pipe");
+            }
+            super.write(b, off, len);
+        }
+    }
+
+    @Test
+    public void testAsyncWrite() throws Exception {
+        conf.put(ProtoShellConfig.ASYNC_WRITE, true);
+        connect(pid(ShellMessages.Capability.BOLT_BATCH));
+
+        for (int i = 0; i < 250; i++) {
+            serializer.writeBoltMsg(boltMsg(Integer.toString(i), new byte[] {(byte)i}));
+        }
+        serializer.writeTaskIds(Arrays.asList(4, 5));
+
+        awaitWritten(ShellMessages.TaskIds.newBuilder().addTaskIds(4).addTaskIds(5).build());
+        InputStream written = written();
+        int tuples = 0;
+        while (tuples < 250) {
+            for (ShellMessages.BoltMsgProto tuple : ShellMessages.BoltMsgBatch.parseDelimitedFrom(written).getBoltMsgsList()) {
+                assertEquals(Integer.toString(tuples++), tuple.getBoltMsgMeta().getId());
+            }
+        }
+        assertEquals(Arrays.asList(4, 5), ShellMessages.TaskIds.parseDelimitedFrom(written).getTaskIdsList());
+    }
+
+    @Test
+    public void testAsyncWriteBackpressure() throws Exception {
+        conf.put(ProtoShellConfig.ASYNC_WRITE, true);
+        conf.put(ProtoShellConfig.ASYNC_WRITE_MAX_MESSAGES, 2);
+        ByteArrayOutputStream shellOutput = new ByteArrayOutputStream();
+        pid().writeDelimitedTo(shellOutput);
+        final Object gate = new Object();
+        processIn = new ByteArrayOutputStream() {
+            @Override
+            public void write(byte[] b, int off, int len) {
+                synchronized (gate) {
+                    super.write(b, off, len);
+                }
+            }
+        };
+        serializer = new ProtoSerializer();
+        serializer.initialize(processIn, new ByteArrayInputStream(shellOutput.toByteArray()));
+        serializer.connect(conf, topologyContext());
+
+        final int[] written = new int[1];
+        Thread emitter = new Thread() {
+            public void run() {
+                try {
+                    for (int i = 0; i < 10; i++) {
+                        serializer.writeTaskIds(Arrays.asList(i));
+                        synchronized (written) {
+                            written[0]++;
+                        }
+                    }
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        };
+        synchronized (gate) {
+            emitter.start();
+            Thread.sleep(200);
+            // The writer thread is stuck on the first message and two more are queued
+            synchronized (written) {
+                assertTrue(written[0] <= 3);
+            }
+        }
+        emitter.join(5000);
+        assertEquals(10, written[0]);
+    }
+
+    @Test
+    public void testAsyncWriteError() throws Exception {
+        conf.put(ProtoShellConfig.ASYNC_WRITE, true);
+        ByteArrayOutputStream shellOutput = new ByteArrayOutputStream();
+        pid().writeDelimitedTo(shellOutput);
+        serializer = new ProtoSerializer();
+        serializer.initialize(new FailingOutputStream(1), new ByteArrayInputStream(shellOutput.toByteArray()));
+        serializer.connect(conf, topologyContext());
+
+        serializer.writeTaskIds(Arrays.asList(1));
+        try {
+            for (int i = 0; i < 1000; i++) {
+                serializer.writeTaskIds(Arrays.asList(1));
+                Thread.sleep(1);
+            }
+            fail("Expected the writer thread's error");
+        } catch (IOException e) {
+            assertEquals("Broken pipe", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testAsyncWriterStopsWithShell() throws Exception {
+        conf.put(ProtoShellConfig.ASYNC_WRITE, true);
+        connect(pid(), emit("default"));
+        Thread writer = serializer.getAsyncWriter().getThread();
+        serializer.writeTaskIds(Arrays.asList(1));
+
+        assertEquals("emit", serializer.readShellMsg().getCommand());
+        try {
+            serializer.readShellMsg();
+            fail("Expected the end of the shell's output");
+        } catch (RuntimeException e) {
+        }
+        writer.join(5000);
+        assertFalse(writer.isAlive());
+        try {
+            serializer.writeTaskIds(Arrays.asList(1));
+            fail("Expected the writer to be closed");
+        } catch (IOException e) {
+        }
+    }
+
+    @Test
+    public void testReadAhead() throws Exception {
+        conf.put(ProtoShellConfig.READ_AHEAD, true);
+        conf.put(ProtoShellConfig.READ_AHEAD_CAPACITY, 2);
+        connect(pid(ShellMessages.Capability.SHELL_BATCH),
+                ShellMessages.ShellMsgBatch.newBuilder()
+                        .addShellMsgs(emit("a"))
+                        .addShellMsgs(emit("b"))
+                        .addShellMsgs(emit("c"))
+                        .build(),
+                ShellMessages.ShellMsgBatch.newBuilder()
+                        .addShellMsgs(emit("d", new byte[] {4}))
+                        .build());
+
+        assertEquals("a", serializer.readShellMsg().getStream());
+        assertEquals("b", serializer.readShellMsg().getStream());
+        assertEquals("c", serializer.readShellMsg().getStream());
+        ShellMsg msg = serializer.readShellMsg();
+        assertEquals("d", msg.getStream());
+        assertArrayEquals(new byte[] {4}, (byte[])msg.getTuple().get(0));
+        for (int i = 0; i < 2; i++) {
+            try {
+                serializer.readShellMsg();
+                fail("Expected the end of the shell's output");
+            } catch (RuntimeException e) {
+                assertEquals("Shell process died", e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testMetrics() throws Exception {
+        conf.put(ProtoShellConfig.METRICS, true);
+        conf.put(ProtoShellConfig.METRICS_BUCKET_SECS, 10);
+        connect(pid(), emit("default", new byte[] {1}),
+                ShellMessages.ShellMsgProto.newBuilder()
+                        .setShellMsgMeta(ShellMessages.ShellMsgMeta.newBuilder().setCommand("ack").setId("42"))
+                        .build());
+
+        serializer.writeBoltMsg(boltMsg("42", new byte[100]));
+        serializer.writeTaskIds(Arrays.asList(2, 3));
+        serializer.readShellMsg();
+        serializer.readShellMsg();
+
+        IMetric metric = (IMetric)((Map)((Map)registeredMetrics.get(10)).get(2)).get(ProtoSerializer.METRIC_NAME);
+        Map<String, Object> values = (Map<String, Object>)metric.getValueAndReset();
+        int tupleSize = ShellMessages.BoltMsgProto.parseDelimitedFrom(written()).getSerializedSize();
+        assertEquals(1L, values.get("written.BoltMsgProto.messages"));
+        assertEquals((long)tupleSize, values.get("written.BoltMsgProto.bytes"));
+        assertEquals(1L, values.get("written.TaskIds.messages"));
+        assertEquals(2L, values.get("frames.written"));
+        assertEquals((long)processIn.size(), values.get("bytes.written"));
+        assertEquals(1L, values.get("read.emit.messages"));
+        assertEquals(1L, values.get("read.ack.messages"));
+        assertEquals(2L, values.get("frames.read"));
+        assertEquals(1L, ((Map)values.get("frame.sizes.written")).get("<128"));
+        assertTrue((Long)values.get("encode.nanos") > 0);
+        assertTrue((Long)values.get("decode.nanos") > 0);
+
+        values = (Map<String, Object>)metric.getValueAndReset();
+        assertEquals(0L, values.get("written.BoltMsgProto.messages"));
+        assertTrue(((Map)values.get("frame.sizes.written")).isEmpty());
+    }
+
+    @Test
+    public void testLatency() throws Exception {
+        conf.put(ProtoShellConfig.LATENCY, true);
+        ShellMessages.ShellMsgProto ack = ShellMessages.ShellMsgProto.newBuilder()
+                .setShellMsgMeta(ShellMessages.ShellMsgMeta.newBuilder().setCommand("ack").setId("42"))
+                .build();
+        ShellMessages.ShellMsgProto fail = ShellMessages.ShellMsgProto.newBuilder()
+                .setShellMsgMeta(ShellMessages.ShellMsgMeta.newBuilder().setCommand("fail").setId("43"))
+                .build();
+        connect(pid(), emit("default", new byte[] {1}), ack, fail);
+
+        BoltMsg tick = boltMsg("44");
+        tick.setStream("__tick");
+        serializer.writeBoltMsg(boltMsg("42", new byte[] {1}));
+        serializer.writeBoltMsg(boltMsg("43", new byte[] {1}));
+        serializer.writeBoltMsg(tick);
+        serializer.readShellMsg();
+        serializer.readShellMsg();
+        serializer.readShellMsg();
+
+        IMetric metric = (IMetric)((Map)((Map)registeredMetrics.get(60)).get(2)).get(ProtoSerializer.LATENCY_METRIC_NAME);
+        Map<String, Object> values = (Map<String, Object>)metric.getValueAndReset();
+        assertEquals(1, values.size());
+        // The emit answers 42, so its ack is not counted again
+        assertEquals(2L, ((Map)values.get("spout:default")).get("count"));
+        assertTrue(((Map<String, Object>)metric.getValueAndReset()).isEmpty());
+    }
+
+    @Test
+    public void testLatencyDropsUnansweredTuples() throws Exception {
+        ShellLatency latency = new ShellLatency(2, Long.MAX_VALUE);
+        ShellMsg ack = new ShellMsg();
+        ack.setCommand("ack");
+        ack.setId("3");
+
+        // Tuples 1 and 2 are never answered, but tuple 3 is still timed
+        latency.sent(boltMsg("1"));
+        latency.sent(boltMsg("2"));
+        latency.sent(boltMsg("3"));
+        assertEquals(2, latency.pendingCount());
+        latency.received(ack);
+        assertEquals(1L, ((Map)((Map<String, Object>)latency.getValueAndReset()).get("spout:default")).get("count"));
+
+        latency = new ShellLatency(100, 0);
+        latency.sent(boltMsg("1"));
+        Thread.sleep(1);
+        latency.sent(boltMsg("2"));
+        assertEquals(1, latency.pendingCount());
+    }
+
+    @Test
+    public void testSpoutCredits() throws Exception {
+        conf.put(ProtoShellConfig.SPOUT_CREDITS, true);
+        conf.put(ProtoShellConfig.SPOUT_CREDITS_WINDOW, 4);
+        ShellMessages.ShellMsgProto sync = ShellMessages.ShellMsgProto.newBuilder()
+                .setShellMsgMeta(ShellMessages.ShellMsgMeta.newBuilder().setCommand("sync"))
+                .build();
+        ByteArrayOutputStream replies = new ByteArrayOutputStream();
+        for (Message reply : new Message[] {pid(ShellMessages.Capability.SPOUT_CREDITS),
+                emit("a"), sync, emit("b"), emit("c"), sync}) {
+            reply.writeDelimitedTo(replies);
+        }
+        // The shell keeps running, so reading ahead waits rather than failing
+        PipedInputStream running = new PipedInputStream(new PipedOutputStream());
+        connect(new SequenceInputStream(new ByteArrayInputStream(replies.toByteArray()), running));
+
+        SpoutMsg next = new SpoutMsg();
+        next.setCommand("next");
+        List<String> emitted = new ArrayList<String>();
+        for (int i = 0; i < 1000 && emitted.size() < 3; i++) {
+            serializer.writeSpoutMsg(next);
+            ShellMsg msg;
+            while (!"sync".equals((msg = serializer.readShellMsg()).getCommand())) {
+                assertEquals("emit", msg.getCommand());
+                emitted.add(msg.getStream());
+            }
+            Thread.sleep(1);
+        }
+        assertEquals(Arrays.asList("a", "b", "c"), emitted);
+        serializer.writeSpoutMsg(next);
+        assertEquals("sync", serializer.readShellMsg().getCommand());
+
+        // The shell's syncs are dropped, and acks are answered at once
+        SpoutMsg ack = new SpoutMsg();
+        ack.setCommand("ack");
+        ack.setId("1");
+        serializer.writeSpoutMsg(ack);
+        assertEquals("sync", serializer.readShellMsg().getCommand());
+
+        // Credits are granted by the first poll, and the spent ones by later
+        // polls once half are spent. How many depends on how the emits were
+        // spread over the polls.
+        InputStream written = written();
+        ShellMessages.SpoutMsg grant = ShellMessages.SpoutMsg.parseDelimitedFrom(written);
+        assertEquals("next", grant.getCommand());
+        assertEquals(4, grant.getCredits());
+        while ((grant = ShellMessages.SpoutMsg.parseDelimitedFrom(written)).getCommand().equals("next")) {
+            assertTrue(grant.getCredits() >= 2);
+        }
+        assertEquals("ack", grant.getCommand());
+        assertEquals(-1, written.read());
+    }
+
+    @Test
+    public void testSpoutCreditsOnlyGrantedOnPolls() throws Exception {
+        conf.put(ProtoShellConfig.SPOUT_CREDITS, true);
+        conf.put(ProtoShellConfig.SPOUT_CREDITS_WINDOW, 4);
+        PipedOutputStream shell = new PipedOutputStream();
+        PipedInputStream shellOutput = new PipedInputStream(shell);
+        pid(ShellMessages.Capability.SPOUT_CREDITS).writeDelimitedTo(shell);
+        connect(shellOutput);
+
+        SpoutMsg next = new SpoutMsg();
+        next.setCommand("next");
+        serializer.writeSpoutMsg(next);
+        assertEquals("sync", serializer.readShellMsg().getCommand());
+
+        // Emits drained while Storm hands over acks spend credits, but Storm
+        // has not asked for more tuples, so none are granted
+        emit("a").writeDelimitedTo(shell);
+        emit("b").writeDelimitedTo(shell);
+        emit("c").writeDelimitedTo(shell);
+        shell.flush();
+        SpoutMsg ack = new SpoutMsg();
+        ack.setCommand("ack");
+        ack.setId("1");
+        int emits = 0;
+        for (int i = 0; i < 1000 && emits < 3; i++) {
+            serializer.writeSpoutMsg(ack);
+            while (!"sync".equals(serializer.readShellMsg().getCommand())) {
+                emits++;
+            }
+            Thread.sleep(1);
+        }
+        assertEquals(3, emits);
+
+        InputStream written = written();
+        assertEquals(4, ShellMessages.SpoutMsg.parseDelimitedFrom(written).getCredits());
+        ShellMessages.SpoutMsg msg;
+        while ((msg = ShellMessages.SpoutMsg.parseDelimitedFrom(written)) != null) {
+            assertEquals("ack", msg.getCommand());
+        }
+
+        // The next poll grants them
+        processIn.reset();
+        serializer.writeSpoutMsg(next);
+        assertEquals(3, ShellMessages.SpoutMsg.parseDelimitedFrom(written()).getCredits());
+    }
+
+    @Test
+    public void testSpoutCreditsOverspent() throws Exception {
+        conf.put(ProtoShellConfig.SPOUT_CREDITS, true);
+        conf.put(ProtoShellConfig.SPOUT_CREDITS_WINDOW, 2);
+        PipedOutputStream shell = new PipedOutputStream();
+        PipedInputStream shellOutput = new PipedInputStream(shell);
+        pid(ShellMessages.Capability.SPOUT_CREDITS).writeDelimitedTo(shell);
+        connect(shellOutput);
+
+        // The shell emits five tuples on two credits. They are drained while
+        // Storm hands over acks, so no credits are granted in the meantime.
+        for (int i = 0; i < 5; i++) {
+            emit("over").writeDelimitedTo(shell);
+        }
+        shell.flush();
+        SpoutMsg ack = new SpoutMsg();
+        ack.setCommand("ack");
+        ack.setId("1");
+        int emits = 0;
+        for (int i = 0; i < 1000 && emits < 5; i++) {
+            serializer.writeSpoutMsg(ack);
+            while (!"sync".equals(serializer.readShellMsg().getCommand())) {
+                emits++;
+            }
+            Thread.sleep(1);
+        }
+        assertEquals(5, emits);
+
+        // The overspent credits are not owed, so the shell is granted the
+        // window and nothing more
+        SpoutMsg next = new SpoutMsg();
+        next.setCommand("next");
+        processIn.reset();
+        serializer.writeSpoutMsg(next);
+        assertEquals(2, ShellMessages.SpoutMsg.parseDelimitedFrom(written()).getCredits());
+        processIn.reset();
+        serializer.writeSpoutMsg(next);
+        assertEquals(0, processIn.size());
+    }
+
+    @Test
+    public void testSharedMemory() throws Exception {
+        conf.put(ProtoShellConfig.SHARED_MEMORY, true);
+        ByteArrayOutputStream shellOutput = new ByteArrayOutputStream();
+        pid(ShellMessages.Capability.SHARED_MEMORY).writeDelimitedTo(shellOutput);
+        ShellMessages.SharedMemory sharedMemory = connect(shellOutput.toByteArray()).getSharedMemory();
+        assertEquals(2, pidDir.listFiles().length);
+
+        MappedRingBuffer fromShell = MappedRingBuffer.open(new File(sharedMemory.getFromShellPath()));
+        RingBufferOutputStream shellOut = new RingBufferOutputStream(fromShell, new ByteArrayOutputStream());
+        emit("ring", new byte[] {9}).writeDelimitedTo(shellOut);
+        shellOut.flush();
+        assertEquals("ring", serializer.readShellMsg().getStream());
+
+        serializer.writeBoltMsg(boltMsg("7", new byte[] {1}));
+        assertArrayEquals(new byte[] {0}, processIn.toByteArray());
+        MappedRingBuffer toShell = MappedRingBuffer.open(new File(sharedMemory.getToShellPath()));
+        InputStream shellIn = new RingBufferInputStream(toShell, written());
+        assertEquals("7", ShellMessages.BoltMsgProto.parseDelimitedFrom(shellIn).getBoltMsgMeta().getId());
+    }
+
+    @Test
+    public void testSharedMemoryDeclined() throws Exception {
+        conf.put(ProtoShellConfig.SHARED_MEMORY, true);
+        ShellMessages.Context context = connect(pid());
+
+        assertTrue(context.hasSharedMemory());
+        assertEquals(0, pidDir.listFiles().length);
+    }
+
+    @Test
+    public void testWriteSpoutMsg() throws Exception {
+        connect(pid());
+        SpoutMsg next = new SpoutMsg();
+        next.setCommand("next");
+        SpoutMsg ack = new SpoutMsg();
+        ack.setCommand("ack");
+        ack.setId("7");
+        serializer.writeSpoutMsg(next);
+        serializer.writeSpoutMsg(ack);
+        serializer.writeSpoutMsg(next);
+
+        // The pre-encoded "next" is the same frame the builder would write
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ShellMessages.SpoutMsg.newBuilder().setCommand("next").build().writeDelimitedTo(expected);
+        ShellMessages.SpoutMsg.newBuilder().setCommand("ack").setId("7").build().writeDelimitedTo(expected);
+        ShellMessages.SpoutMsg.newBuilder().setCommand("next").build().writeDelimitedTo(expected);
+        assertArrayEquals(expected.toByteArray(), processIn.toByteArray());
+    }
+
+    @Test
+    public void testWriteTaskIds() throws Exception {
+        connect(pid());
+        serializer.writeTaskIds(new ArrayList<Integer>());
+        serializer.writeTaskIds(Arrays.asList(3, 4));
+        serializer.writeTaskIds(new ArrayList<Integer>());
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ShellMessages.TaskIds.newBuilder().build().writeDelimitedTo(expected);
+        ShellMessages.TaskIds.newBuilder().addTaskIds(3).addTaskIds(4).build().writeDelimitedTo(expected);
+        ShellMessages.TaskIds.newBuilder().build().writeDelimitedTo(expected);
+        assertArrayEquals(expected.toByteArray(), processIn.toByteArray());
     }
 
 }
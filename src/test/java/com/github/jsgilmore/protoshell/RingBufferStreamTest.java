@@ -0,0 +1,94 @@
+package com.github.jsgilmore.protoshell;
+
+import static org.junit.Assert.*;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class RingBufferStreamTest {
+    File ringFile;
+
+    @Before
+    public void setUp() throws Exception {
+        ringFile = File.createTempFile("protoshell", ".ring");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        ringFile.delete();
+    }
+
+    @Test
+    public void testCapacityIsPowerOfTwo() throws Exception {
+        MappedRingBuffer ring = MappedRingBuffer.create(ringFile, 5000);
+        assertEquals(8192, ring.capacity());
+        assertEquals(8192 + MappedRingBuffer.HEADER_SIZE, ringFile.length());
+        assertEquals(8192, MappedRingBuffer.open(ringFile).capacity());
+    }
+
+    @Test
+    public void testStreamWrapsAround() throws Exception {
+        PipedInputStream wakeIn = new PipedInputStream();
+        PipedOutputStream wakeOut = new PipedOutputStream(wakeIn);
+        final RingBufferOutputStream out = new RingBufferOutputStream(MappedRingBuffer.create(ringFile, 4096), wakeOut);
+        DataInputStream in = new DataInputStream(new RingBufferInputStream(MappedRingBuffer.open(ringFile), wakeIn));
+
+        final byte[] expected = new byte[1 << 20];
+        new Random(1).nextBytes(expected);
+        Thread producer = new Thread() {
+            public void run() {
+                try {
+                    for (int offset = 0; offset < expected.length; offset += 1000) {
+                        out.write(expected, offset, Math.min(1000, expected.length - offset));
+                        out.flush();
+                    }
+                    out.close();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        };
+        producer.start();
+
+        byte[] actual = new byte[expected.length];
+        in.readFully(actual);
+        assertTrue(Arrays.equals(expected, actual));
+        assertEquals(-1, in.read());
+        producer.join();
+    }
+
+    @Test
+    public void testFullRingFailsOnceConsumerIsGone() throws Exception {
+        PipedInputStream wakeIn = new PipedInputStream();
+        PipedOutputStream wakeOut = new PipedOutputStream(wakeIn);
+        final RingBufferOutputStream out = new RingBufferOutputStream(MappedRingBuffer.create(ringFile, 4096), wakeOut);
+        final IOException[] error = new IOException[1];
+        Thread producer = new Thread() {
+            public void run() {
+                try {
+                    out.write(new byte[8192]);
+                } catch (IOException e) {
+                    error[0] = e;
+                }
+            }
+        };
+        producer.start();
+
+        // Nothing consumes the ring, so the producer is left waiting for space
+        Thread.sleep(50);
+        assertTrue(producer.isAlive());
+        wakeIn.close();
+        producer.join(5000);
+        assertFalse(producer.isAlive());
+        assertNotNull(error[0]);
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.jsgilmore.protoshell;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+
+import org.junit.Test;
+
+import backtype.storm.task.TopologyContext;
+import clojure.lang.Atom;
+
+import com.google.protobuf.ByteString;
+
+public class RoutedStreamTest {
+
+    @Test
+    public void testFallingBehindFailsTask() throws Exception {
+        RoutedInputStream in = new RoutedInputStream(3, 2);
+        assertTrue(in.add(ByteString.copyFromUtf8("ab")));
+        assertTrue(in.add(ByteString.copyFromUtf8("cd")));
+
+        // The third chunk is more than the task may have queued
+        assertFalse(in.add(ByteString.copyFromUtf8("ef")));
+        assertFalse(in.add(ByteString.copyFromUtf8("gh")));
+        try {
+            in.read();
+            fail("The task fell behind");
+        } catch (IOException e) {
+        }
+    }
+
+    @Test
+    public void testReadingMakesRoom() throws Exception {
+        RoutedInputStream in = new RoutedInputStream(3, 2);
+        assertTrue(in.add(ByteString.copyFromUtf8("ab")));
+        assertTrue(in.add(ByteString.copyFromUtf8("cd")));
+        assertEquals('a', in.read());
+        assertTrue(in.add(ByteString.copyFromUtf8("ef")));
+        byte[] bytes = new byte[5];
+        assertEquals(1, in.read(bytes, 0, 5));
+        assertEquals(2, in.read(bytes, 1, 4));
+        assertEquals(2, in.read(bytes, 3, 2));
+        assertEquals("bcdef", new String(bytes, "UTF-8"));
+    }
+
+    @Test
+    public void testEndAfterQueuedChunks() throws Exception {
+        RoutedInputStream in = new RoutedInputStream(3, 1);
+        in.add(ByteString.copyFromUtf8("ab"));
+        in.end();
+        assertEquals('a', in.read());
+        assertEquals('b', in.read());
+        assertEquals(-1, in.read());
+        assertEquals(-1, in.read(new byte[1], 0, 1));
+    }
+
+    @Test
+    public void testRoutedFrames() throws Exception {
+        TopologyContext context = new TopologyContext(null, new HashMap(), Collections.singletonMap(1, "bolt"),
+                null, null, "frames-1-1", null, null, 1, 6700, Arrays.asList(1), null, null, null,
+                new HashMap(), new Atom(false));
+        ShellRouter router = ShellRouter.forComponent(context, 16);
+        ByteArrayOutputStream shellInput = new ByteArrayOutputStream();
+        assertTrue(router.claim());
+        router.start(shellInput, new ByteArrayInputStream(new byte[0]), 1234);
+
+        // The hand encoded headers match what the builder writes, and writes
+        // longer than a chunk are split
+        byte[] data = new byte[RoutedOutputStream.MAX_CHUNK + 200];
+        Arrays.fill(data, (byte)7);
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (int task : new int[] {1, 300, -1}) {
+            OutputStream out = router.output(task);
+            for (int length : new int[] {3, 200}) {
+                out.write(data, 0, length);
+                out.flush();
+                routed(task, data, 0, length).writeDelimitedTo(expected);
+            }
+            out.write(data);
+            out.flush();
+            routed(task, data, 0, RoutedOutputStream.MAX_CHUNK).writeDelimitedTo(expected);
+            routed(task, data, RoutedOutputStream.MAX_CHUNK, 200).writeDelimitedTo(expected);
+        }
+        assertArrayEquals(expected.toByteArray(), shellInput.toByteArray());
+    }
+
+    private ShellMessages.RoutedData routed(int task, byte[] data, int offset, int length) {
+        return ShellMessages.RoutedData.newBuilder().setTask(task).setData(ByteString.copyFrom(data, offset, length)).build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.jsgilmore.protoshell;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public class TupleIdsTest {
+
+    @Test
+    public void testParse() {
+        assertEquals(0, TupleIds.parse("0"));
+        assertEquals(-42, TupleIds.parse("-42"));
+        assertEquals(Long.MAX_VALUE, TupleIds.parse(Long.toString(Long.MAX_VALUE)));
+        assertEquals(Long.MIN_VALUE + 1, TupleIds.parse(Long.toString(Long.MIN_VALUE + 1)));
+
+        // Only ids that format back to themselves are numeric
+        for (String id : new String[] {"", "-", "-0", "007", "+1", "1a", "9223372036854775808",
+                "-9223372036854775809", "12345678901234567890"}) {
+            assertEquals(id, TupleIds.NOT_NUMERIC, TupleIds.parse(id));
+        }
+    }
+
+    @Test
+    public void testTrackAndRelease() {
+        TupleIds ids = new TupleIds(16);
+        String id = new String("1234567890123");
+        assertEquals(1234567890123L, ids.track(id));
+        assertSame(id, ids.get(1234567890123L));
+        assertSame(id, ids.release(1234567890123L));
+        assertEquals(0, ids.size());
+        assertEquals("1234567890123", ids.release(1234567890123L));
+    }
+
+    @Test
+    public void testUnansweredIdsAreForgotten() {
+        TupleIds ids = new TupleIds(16);
+        for (long i = 0; i < 1000; i++) {
+            ids.track(Long.toString(i));
+        }
+        assertEquals(16, ids.size());
+
+        // An id that lost its slot is still resolved, just not to the same instance
+        String id = new String("1");
+        ids.track(id);
+        ids.track("17");
+        assertNotSame(id, ids.get(1));
+        assertEquals("1", ids.get(1));
+    }
+}